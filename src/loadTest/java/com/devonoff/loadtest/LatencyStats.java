@@ -0,0 +1,62 @@
+package com.devonoff.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+
+/**
+ * 메시지 종류별 전송/수신 수와 종단 간 지연 시간 분포
+ * <p>
+ * 지연 시간은 보낸 클라이언트의 System.nanoTime() 을 메시지에 담아 받은 시점과의 차이로 잽니다. 보내는 쪽과 받는 쪽이
+ * 같은 프로세스이므로 시계 차이가 없습니다.
+ */
+public class LatencyStats {
+
+  private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+  private final String name;
+  private final ConcurrentHistogram histogram = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+  private final LongAdder sent = new LongAdder();
+  private final LongAdder expected = new LongAdder();
+  private final LongAdder delivered = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+
+  public LatencyStats(String name) {
+    this.name = name;
+  }
+
+  /**
+   * 전송 1건 (recipients: 받아야 할 구독자 수)
+   */
+  public void sent(int recipients) {
+    sent.increment();
+    expected.add(recipients);
+  }
+
+  public void failed() {
+    failed.increment();
+  }
+
+  public void delivered(long sentAtNanos) {
+    delivered.increment();
+    long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sentAtNanos);
+    histogram.recordValue(Math.min(Math.max(micros, 0), MAX_TRACKABLE_MICROS));
+  }
+
+  public long getDelivered() {
+    return delivered.sum();
+  }
+
+  public String report(double elapsedSeconds) {
+    return String.format(
+        "%-10s sent %d (%.1f/s, failed %d) delivered %d/%d (%.1f/s) "
+            + "latency p50 %.2fms p90 %.2fms p99 %.2fms max %.2fms",
+        name, sent.sum(), sent.sum() / elapsedSeconds, failed.sum(), delivered.sum(),
+        expected.sum(), delivered.sum() / elapsedSeconds, percentileMillis(50),
+        percentileMillis(90), percentileMillis(99), histogram.getMaxValue() / 1000.0);
+  }
+
+  private double percentileMillis(double percentile) {
+    return histogram.getValueAtPercentile(percentile) / 1000.0;
+  }
+}
@@ -0,0 +1,154 @@
+package com.devonoff.loadtest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+/**
+ * WebSocket 부하 테스트 클라이언트 (./gradlew loadTest)
+ * <p>
+ * LoadTestServer 가 쓴 세션 파일의 사용자마다 /ws(채팅)와 /signaling(시그널링) STOMP 세션을 열고, 정해진 시간 동안
+ * 채팅 메시지와 offer/answer/ICE 시그널링을 보냅니다. 끝나면 메시지 종류별 처리량, 종단 간 지연 시간(p50/p90/p99)과
+ * 서버 큐 길이를 출력합니다.
+ * <p>
+ * 시스템 프로퍼티: loadtest.url, loadtest.sessions(사용자 수, 기본 세션 파일 전체), loadtest.duration-seconds,
+ * loadtest.connect-rate(초당 연결 수), loadtest.chat-rate / loadtest.call-rate(사용자당 초당 채팅/통화 시작 수),
+ * loadtest.signaling(시그널링 세션 사용 여부), loadtest.sessions-file
+ */
+@Slf4j
+public class LoadTestClient {
+
+  private static final long SETTLE_MILLIS = 1000L; // 구독이 처리될 때까지 대기
+  private static final long DRAIN_MILLIS = 2000L; // 전송 중인 메시지를 받을 때까지 대기
+  private static final long REPORT_INTERVAL_SECONDS = 5L;
+
+  public static void main(String[] args) throws Exception {
+    String baseUrl = System.getProperty("loadtest.url", "http://localhost:8080");
+    String wsBaseUrl = baseUrl.replaceFirst("^http", "ws");
+    int sessions = Integer.getInteger("loadtest.sessions", Integer.MAX_VALUE);
+    int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 60);
+    int connectRate = Integer.getInteger("loadtest.connect-rate", 200);
+    double chatRate = Double.parseDouble(System.getProperty("loadtest.chat-rate", "0.2"));
+    double callRate = Double.parseDouble(System.getProperty("loadtest.call-rate", "0.02"));
+    boolean signaling = Boolean.parseBoolean(System.getProperty("loadtest.signaling", "true"));
+    Path sessionsFile = Path.of(System.getProperty("loadtest.sessions-file",
+        LoadTestSeeder.DEFAULT_SESSIONS_FILE));
+
+    List<VirtualUser> users = Files.readAllLines(sessionsFile).stream()
+        .filter(line -> !line.isBlank())
+        .limit(sessions)
+        .map(VirtualUser::parse)
+        .collect(Collectors.toList());
+    if (users.isEmpty()) {
+      throw new IllegalStateException("세션 파일이 비어 있습니다: " + sessionsFile);
+    }
+
+    WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+    stompClient.setMessageConverter(new ByteArrayMessageConverter());
+    int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+    ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(threads);
+    LatencyStats chatStats = new LatencyStats("chat");
+    LatencyStats signalingStats = new LatencyStats("signaling");
+
+    // 1. 연결 (connect-rate 로 나눠서)
+    long connectStartedAt = System.nanoTime();
+    long connectIntervalNanos = TimeUnit.SECONDS.toNanos(1) / connectRate;
+    List<CompletableFuture<?>> connecting = new ArrayList<>();
+    for (int i = 0; i < users.size(); i++) {
+      LockSupport.parkNanos(connectStartedAt + i * connectIntervalNanos - System.nanoTime());
+      VirtualUser user = users.get(i);
+      connecting.add(user.connectChat(stompClient, wsBaseUrl, chatStats));
+      if (signaling) {
+        connecting.add(user.connectSignaling(stompClient, wsBaseUrl, signalingStats, scheduler));
+      }
+    }
+    int failedConnections = 0;
+    for (CompletableFuture<?> future : connecting) {
+      try {
+        future.get(30, TimeUnit.SECONDS);
+      } catch (Exception e) {
+        failedConnections++;
+      }
+    }
+    log.info("연결 완료 - 세션: {}, 실패: {}, 소요: {}ms", connecting.size(), failedConnections,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - connectStartedAt));
+    Thread.sleep(SETTLE_MILLIS);
+
+    // 2. 같은 스터디 사용자끼리 묶고 채팅방 구독자 수 계산
+    Map<Long, List<VirtualUser>> studies = users.stream()
+        .collect(Collectors.groupingBy(VirtualUser::getStudyId));
+    studies.values().forEach(members ->
+        members.forEach(user -> members.forEach(user::addStudyMate)));
+    Map<Long, Long> chatSubscribers = users.stream()
+        .filter(VirtualUser::isChatConnected)
+        .collect(Collectors.groupingBy(VirtualUser::getChatRoomId, Collectors.counting()));
+
+    // 3. 부하 발생 (사용자마다 시작 시점을 흩어서 일정한 속도로)
+    for (VirtualUser user : users) {
+      if (chatRate > 0 && user.isChatConnected()) {
+        int recipients = chatSubscribers.getOrDefault(user.getChatRoomId(), 0L).intValue();
+        schedule(scheduler, chatRate, () -> user.sendChat(chatStats, recipients));
+      }
+      if (signaling && callRate > 0 && user.isSignalingConnected()) {
+        schedule(scheduler, callRate, () -> user.startCall(signalingStats));
+      }
+    }
+
+    QueueDepthSampler queueDepthSampler = new QueueDepthSampler(baseUrl,
+        users.get(0).getAccessToken());
+    ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+    sampler.scheduleWithFixedDelay(queueDepthSampler::sample, 0, 1, TimeUnit.SECONDS);
+
+    long startedAt = System.nanoTime();
+    for (int elapsed = 0; elapsed < durationSeconds; elapsed += REPORT_INTERVAL_SECONDS) {
+      Thread.sleep(TimeUnit.SECONDS.toMillis(
+          Math.min(REPORT_INTERVAL_SECONDS, durationSeconds - elapsed)));
+      log.info("진행 중 - {}s, 채팅 수신: {}, 시그널링 수신: {}",
+          TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startedAt),
+          chatStats.getDelivered(), signalingStats.getDelivered());
+    }
+    double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+
+    // 4. 전송 중지 후 남은 메시지 수신 대기, 결과 출력
+    scheduler.shutdownNow();
+    Thread.sleep(DRAIN_MILLIS);
+    sampler.shutdownNow();
+    users.forEach(VirtualUser::disconnect);
+
+    System.out.printf("%n== WebSocket 부하 테스트 결과 (%.0fs, 사용자 %d, 스터디 %d, 세션 %d/%d)%n",
+        elapsedSeconds, users.size(), studies.size(), connecting.size() - failedConnections,
+        connecting.size());
+    System.out.println(chatStats.report(elapsedSeconds));
+    if (signaling) {
+      System.out.println(signalingStats.report(elapsedSeconds));
+    }
+    System.out.println("server queue depth" + queueDepthSampler.report());
+    System.exit(0); // WebSocket 클라이언트 스레드가 남아 있어도 종료
+  }
+
+  private static void schedule(ScheduledExecutorService scheduler, double ratePerSecond,
+      Runnable task) {
+    long periodMicros = (long) (TimeUnit.SECONDS.toMicros(1) / ratePerSecond);
+    long initialDelayMicros = ThreadLocalRandom.current().nextLong(periodMicros);
+    scheduler.scheduleAtFixedRate(() -> {
+      try {
+        task.run();
+      } catch (Exception e) {
+        log.debug("부하 발생 실패", e);
+      }
+    }, initialDelayMicros, periodMicros, TimeUnit.MICROSECONDS);
+  }
+}
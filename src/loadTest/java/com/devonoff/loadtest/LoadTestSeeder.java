@@ -0,0 +1,136 @@
+package com.devonoff.loadtest;
+
+import com.devonoff.domain.chat.entity.ChatRoom;
+import com.devonoff.domain.chat.repository.ChatRoomRepository;
+import com.devonoff.domain.student.entity.Student;
+import com.devonoff.domain.student.repository.StudentRepository;
+import com.devonoff.domain.study.entity.Study;
+import com.devonoff.domain.study.repository.StudyRepository;
+import com.devonoff.domain.studyPost.entity.StudyPost;
+import com.devonoff.domain.studyPost.repository.StudyPostRepository;
+import com.devonoff.domain.user.entity.User;
+import com.devonoff.domain.user.repository.UserRepository;
+import com.devonoff.type.LoginType;
+import com.devonoff.type.StudyDifficulty;
+import com.devonoff.type.StudyMeetingType;
+import com.devonoff.type.StudyPostStatus;
+import com.devonoff.type.StudyStatus;
+import com.devonoff.type.StudySubject;
+import com.devonoff.util.JwtProvider;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 부하 테스트 데이터 생성
+ * <p>
+ * 사용자를 스터디에 고르게 나눠 참여시키고(첫 번째 사용자가 스터디장), 스터디마다 채팅방을 만듭니다. 세션 파일에는 사용자마다
+ * "userId,nickname,studyId,chatRoomId,accessToken" 한 줄을 씁니다.
+ */
+@RequiredArgsConstructor
+public class LoadTestSeeder {
+
+  public static final String DEFAULT_SESSIONS_FILE = "build/loadtest/sessions.csv";
+
+  private final UserRepository userRepository;
+  private final StudyPostRepository studyPostRepository;
+  private final StudyRepository studyRepository;
+  private final StudentRepository studentRepository;
+  private final ChatRoomRepository chatRoomRepository;
+  private final JwtProvider jwtProvider;
+
+  public void seed(int userCount, int roomCount, Path sessionsFile) throws IOException {
+    List<User> users = new ArrayList<>();
+    for (int i = 0; i < userCount; i++) {
+      users.add(User.builder()
+          .nickname("loadtest" + i)
+          .email("loadtest" + i + "@devonoff.com")
+          .password("loadtest")
+          .isActive(true)
+          .loginType(LoginType.GENERAL)
+          .build());
+    }
+    users = userRepository.saveAll(users);
+
+    Files.createDirectories(sessionsFile.toAbsolutePath().getParent());
+    try (BufferedWriter writer = Files.newBufferedWriter(sessionsFile)) {
+      for (int room = 0; room < roomCount; room++) {
+        List<User> members = new ArrayList<>();
+        for (int i = room; i < users.size(); i += roomCount) {
+          members.add(users.get(i));
+        }
+        if (members.isEmpty()) {
+          continue;
+        }
+
+        Study study = createStudy(room, members);
+        ChatRoom chatRoom = chatRoomRepository.save(ChatRoom.builder()
+            .studyName(study.getStudyName())
+            .study(study)
+            .build());
+
+        for (User member : members) {
+          writer.write(member.getId() + "," + member.getNickname() + "," + study.getId() + ","
+              + chatRoom.getId() + "," + jwtProvider.createAccessToken(member.getId()));
+          writer.newLine();
+        }
+      }
+    }
+  }
+
+  private Study createStudy(int room, List<User> members) {
+    User leader = members.get(0);
+    LocalDate today = LocalDate.now();
+    StudyPost studyPost = studyPostRepository.save(StudyPost.builder()
+        .title("부하 테스트 " + room)
+        .studyName("loadtest-study-" + room)
+        .subject(StudySubject.PROJECT)
+        .difficulty(StudyDifficulty.MEDIUM)
+        .dayType(127)
+        .startDate(today)
+        .endDate(today.plusMonths(1))
+        .startTime(LocalTime.of(0, 0))
+        .endTime(LocalTime.of(23, 0))
+        .meetingType(StudyMeetingType.ONLINE)
+        .recruitmentPeriod(today)
+        .description("부하 테스트용 모집글")
+        .status(StudyPostStatus.CLOSED)
+        .maxParticipants(members.size())
+        .currentParticipants(members.size())
+        .user(leader)
+        .build());
+
+    Study study = studyRepository.save(Study.builder()
+        .studyName(studyPost.getStudyName())
+        .subject(studyPost.getSubject())
+        .difficulty(studyPost.getDifficulty())
+        .dayType(studyPost.getDayType())
+        .startDate(studyPost.getStartDate())
+        .endDate(studyPost.getEndDate())
+        .startTime(studyPost.getStartTime())
+        .endTime(studyPost.getEndTime())
+        .meetingType(studyPost.getMeetingType())
+        .status(StudyStatus.IN_PROGRESS)
+        .totalParticipants(members.size())
+        .studyPost(studyPost)
+        .studyLeader(leader)
+        .build());
+
+    List<Student> students = new ArrayList<>();
+    for (User member : members) {
+      students.add(Student.builder()
+          .study(study)
+          .user(member)
+          .isLeader(member == leader)
+          .build());
+    }
+    studentRepository.saveAll(students);
+    return study;
+  }
+}
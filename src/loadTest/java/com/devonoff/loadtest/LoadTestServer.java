@@ -0,0 +1,67 @@
+package com.devonoff.loadtest;
+
+import com.devonoff.DevOnOffApplication;
+import com.devonoff.domain.chat.repository.ChatRoomRepository;
+import com.devonoff.domain.student.repository.StudentRepository;
+import com.devonoff.domain.study.repository.StudyRepository;
+import com.devonoff.domain.studyPost.repository.StudyPostRepository;
+import com.devonoff.domain.user.repository.UserRepository;
+import com.devonoff.util.JwtProvider;
+import java.nio.file.Path;
+import java.util.TimeZone;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import redis.embedded.RedisServer;
+
+/**
+ * 부하 테스트용 서버 (./gradlew loadTestServer)
+ * <p>
+ * 내장 Redis 를 띄운 뒤 loadtest 프로필(H2 메모리 DB)로 애플리케이션을 실행하고, 스터디/채팅방/참여자를 만들어
+ * LoadTestClient 가 읽을 세션 파일을 씁니다. 종료(Ctrl+C) 시 내장 Redis 도 함께 내립니다.
+ * <p>
+ * 시스템 프로퍼티: loadtest.users(사용자 수), loadtest.rooms(스터디 수), loadtest.redis-port,
+ * loadtest.sessions-file
+ */
+@Slf4j
+public class LoadTestServer {
+
+  public static void main(String[] args) throws Exception {
+    TimeZone.setDefault(TimeZone.getTimeZone("Asia/Seoul"));
+
+    int users = Integer.getInteger("loadtest.users", 2000);
+    int rooms = Integer.getInteger("loadtest.rooms", 200);
+    int redisPort = Integer.getInteger("loadtest.redis-port", 6380);
+    Path sessionsFile = Path.of(System.getProperty("loadtest.sessions-file",
+        LoadTestSeeder.DEFAULT_SESSIONS_FILE));
+
+    RedisServer redisServer = new RedisServer(redisPort);
+    redisServer.start();
+
+    ConfigurableApplicationContext context = new SpringApplicationBuilder(
+        DevOnOffApplication.class)
+        .profiles("loadtest")
+        .properties("spring.data.redis.port=" + redisPort)
+        .run(args);
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+      context.close();
+      try {
+        redisServer.stop();
+      } catch (Exception e) {
+        log.warn("내장 Redis 종료 실패", e);
+      }
+    }));
+
+    LoadTestSeeder seeder = new LoadTestSeeder(
+        context.getBean(UserRepository.class),
+        context.getBean(StudyPostRepository.class),
+        context.getBean(StudyRepository.class),
+        context.getBean(StudentRepository.class),
+        context.getBean(ChatRoomRepository.class),
+        context.getBean(JwtProvider.class));
+    seeder.seed(users, rooms, sessionsFile);
+
+    log.info("부하 테스트 서버 준비 완료 - 사용자: {}, 스터디: {}, 세션 파일: {}",
+        users, rooms, sessionsFile.toAbsolutePath());
+  }
+}
@@ -0,0 +1,105 @@
+package com.devonoff.loadtest;
+
+import com.devonoff.util.JwtAuthenticationFilter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서버 큐 길이 수집 (/actuator/metrics)
+ * <p>
+ * 채팅 지연 저장 큐와 STOMP 채널 실행기(clientInbound/clientOutbound/broker)의 대기 작업 수를 주기적으로 읽어 최대/평균을
+ * 냅니다. 서버에 없는 메트릭은 건너뛰고, 인증 실패 등으로 읽지 못한 메트릭은 마지막 응답 상태를 함께 출력합니다.
+ */
+@Slf4j
+public class QueueDepthSampler {
+
+  private static final List<String> METRICS = List.of(
+      "chat.message.write_behind.queue.size",
+      "executor.queued?tag=name:clientInboundChannelExecutor",
+      "executor.queued?tag=name:clientOutboundChannelExecutor",
+      "executor.queued?tag=name:brokerChannelExecutor");
+
+  private final HttpClient httpClient = HttpClient.newBuilder()
+      .connectTimeout(Duration.ofSeconds(2))
+      .build();
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final String baseUrl;
+  private final String accessToken;
+  private final Map<String, Sample> samples = new LinkedHashMap<>();
+
+  public QueueDepthSampler(String baseUrl, String accessToken) {
+    this.baseUrl = baseUrl;
+    this.accessToken = accessToken;
+    METRICS.forEach(metric -> samples.put(metric, new Sample()));
+  }
+
+  public synchronized void sample() {
+    for (Map.Entry<String, Sample> entry : samples.entrySet()) {
+      Sample sample = entry.getValue();
+      if (sample.unavailable) {
+        continue;
+      }
+      try {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/actuator/metrics/" + entry.getKey()))
+                .header(JwtAuthenticationFilter.TOKEN_HEADER,
+                    JwtAuthenticationFilter.TOKEN_PREFIX + accessToken)
+                .timeout(Duration.ofSeconds(2))
+                .GET()
+                .build(),
+            HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() == 404) {
+          sample.unavailable = true;
+          continue;
+        }
+        if (response.statusCode() != 200) {
+          sample.failure = "HTTP " + response.statusCode();
+          continue;
+        }
+        JsonNode measurements = objectMapper.readTree(response.body()).path("measurements");
+        if (measurements.size() > 0) {
+          sample.add(measurements.get(0).path("value").asDouble());
+        }
+      } catch (Exception e) {
+        sample.failure = e.getClass().getSimpleName();
+        log.debug("큐 길이 수집 실패 - {}", entry.getKey(), e);
+      }
+    }
+  }
+
+  public synchronized String report() {
+    StringBuilder report = new StringBuilder();
+    samples.forEach((metric, sample) -> report.append(String.format("%n  %-55s %s", metric,
+        sample.unavailable ? "n/a"
+            : sample.count == 0 ? "failed (" + sample.failure + ")"
+            : String.format("max %.0f avg %.1f last %.0f", sample.max, sample.sum / sample.count,
+                sample.last))));
+    return report.toString();
+  }
+
+  private static class Sample {
+
+    private boolean unavailable;
+    private String failure = "no response";
+    private long count;
+    private double sum;
+    private double max;
+    private double last;
+
+    void add(double value) {
+      count++;
+      sum += value;
+      max = Math.max(max, value);
+      last = value;
+    }
+  }
+}
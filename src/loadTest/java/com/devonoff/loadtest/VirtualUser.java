@@ -0,0 +1,243 @@
+package com.devonoff.loadtest;
+
+import com.devonoff.util.JwtAuthenticationFilter;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+/**
+ * 가상 사용자 1명 (채팅 세션 /ws + 화상 채팅 시그널링 세션 /signaling)
+ * <p>
+ * 채팅은 채팅방 토픽을 구독하고 메시지를 보내며, 시그널링은 자신의 닉네임 앞으로 온 offer/answer/iceCandidate 를
+ * 구독합니다. 통화를 시작하면 같은 스터디의 다른 사용자에게 offer 를 보내고, offer 를 받은 쪽은 answer 와 ICE 후보를,
+ * answer 를 받은 쪽은 ICE 후보를 보냅니다.
+ */
+@Slf4j
+public class VirtualUser {
+
+  static final int ICE_CANDIDATES_PER_CALL = 5;
+
+  // ChatMessageDto 의 content 에 담은 전송 시각
+  private static final Pattern CHAT_SENT_AT = Pattern.compile("\"content\":\"lt (\\d+) ");
+  private static final String CHAT_FILLER = "안녕하세요, 오늘 스터디 자료 공유드립니다. 확인 부탁드려요!";
+  private static final String SDP = "v=0 o=- 4611731400430051336 2 IN IP4 127.0.0.1 s=- t=0 0 "
+      + "a=group:BUNDLE 0 1 a=msid-semantic: WMS ".repeat(30);
+  private static final String ICE_CANDIDATE = "candidate:842163049 1 udp 1677729535 "
+      + "203.0.113.7 54321 typ srflx raddr 192.168.0.2 rport 54321 generation 0";
+
+  @Getter
+  private final String nickname;
+  @Getter
+  private final Long studyId;
+  @Getter
+  private final Long chatRoomId;
+  @Getter
+  private final String accessToken;
+
+  private final List<VirtualUser> studyMates = new ArrayList<>();
+  private StompSession chatSession;
+  private StompSession signalingSession;
+
+  private VirtualUser(String nickname, Long studyId, Long chatRoomId, String accessToken) {
+    this.nickname = nickname;
+    this.studyId = studyId;
+    this.chatRoomId = chatRoomId;
+    this.accessToken = accessToken;
+  }
+
+  /**
+   * 세션 파일 한 줄 (userId,nickname,studyId,chatRoomId,accessToken)
+   */
+  public static VirtualUser parse(String line) {
+    String[] columns = line.split(",");
+    return new VirtualUser(columns[1], Long.valueOf(columns[2]), Long.valueOf(columns[3]),
+        columns[4]);
+  }
+
+  public CompletableFuture<StompSession> connectChat(WebSocketStompClient stompClient,
+      String wsBaseUrl, LatencyStats chatStats) {
+    StompHeaders connectHeaders = new StompHeaders();
+    connectHeaders.add(JwtAuthenticationFilter.TOKEN_HEADER,
+        JwtAuthenticationFilter.TOKEN_PREFIX + accessToken);
+    return stompClient.connectAsync(wsBaseUrl + "/ws/websocket", new WebSocketHttpHeaders(),
+            connectHeaders, new LoggingSessionHandler())
+        .thenApply(session -> {
+          session.subscribe("/topic/chat/" + chatRoomId, new BytesFrameHandler(body -> {
+            Matcher matcher = CHAT_SENT_AT.matcher(body);
+            if (matcher.find()) {
+              chatStats.delivered(Long.parseLong(matcher.group(1)));
+            }
+          }));
+          this.chatSession = session;
+          return session;
+        });
+  }
+
+  public CompletableFuture<StompSession> connectSignaling(WebSocketStompClient stompClient,
+      String wsBaseUrl, LatencyStats signalingStats, Executor replyExecutor) {
+    // 화상 채팅 참여 정보 (WebSocketEventListener 가 CONNECT 헤더로 등록)
+    StompHeaders connectHeaders = new StompHeaders();
+    connectHeaders.add("nickname", nickname);
+    connectHeaders.add("studyId", String.valueOf(studyId));
+    return stompClient.connectAsync(wsBaseUrl + "/signaling/websocket",
+            new WebSocketHttpHeaders(), connectHeaders, new LoggingSessionHandler())
+        .thenApply(session -> {
+          for (String kind : List.of("offer", "answer", "iceCandidate")) {
+            session.subscribe("/topic/peer/" + kind + "/" + nickname + "/" + studyId,
+                new BytesFrameHandler(body -> onSignal(body, signalingStats, replyExecutor)));
+          }
+          this.signalingSession = session;
+          return session;
+        });
+  }
+
+  public void addStudyMate(VirtualUser studyMate) {
+    if (studyMate != this) {
+      studyMates.add(studyMate);
+    }
+  }
+
+  public boolean isChatConnected() {
+    return chatSession != null && chatSession.isConnected();
+  }
+
+  public boolean isSignalingConnected() {
+    return signalingSession != null && signalingSession.isConnected();
+  }
+
+  /**
+   * 채팅 메시지 전송 (recipients: 채팅방 구독자 수)
+   */
+  public void sendChat(LatencyStats chatStats, int recipients) {
+    String body = "{\"content\":\"lt " + System.nanoTime() + " " + CHAT_FILLER + "\"}";
+    send(chatSession, "/app/chat/" + chatRoomId + "/send-messages",
+        MimeTypeUtils.APPLICATION_JSON, body, chatStats, recipients);
+  }
+
+  /**
+   * 같은 스터디의 다른 사용자에게 통화 요청 (offer)
+   */
+  public void startCall(LatencyStats signalingStats) {
+    List<VirtualUser> connected = studyMates.stream()
+        .filter(VirtualUser::isSignalingConnected)
+        .toList();
+    if (connected.isEmpty()) {
+      return;
+    }
+    VirtualUser callee = connected.get(ThreadLocalRandom.current().nextInt(connected.size()));
+    sendSignal("offer", callee.nickname, SDP, signalingStats);
+  }
+
+  public void disconnect() {
+    for (StompSession session : new StompSession[]{chatSession, signalingSession}) {
+      if (session != null && session.isConnected()) {
+        session.disconnect();
+      }
+    }
+  }
+
+  // 메시지 형식: 종류|보낸 닉네임|전송 시각|본문
+  private void onSignal(String body, LatencyStats signalingStats, Executor replyExecutor) {
+    String[] parts = body.split("\\|", 4);
+    if (parts.length < 4) {
+      return;
+    }
+    signalingStats.delivered(Long.parseLong(parts[2]));
+
+    String caller = parts[1];
+    try {
+      if ("offer".equals(parts[0])) {
+        replyExecutor.execute(() -> {
+          sendSignal("answer", caller, SDP, signalingStats);
+          sendIceCandidates(caller, signalingStats);
+        });
+      } else if ("answer".equals(parts[0])) {
+        replyExecutor.execute(() -> sendIceCandidates(caller, signalingStats));
+      }
+    } catch (RejectedExecutionException e) {
+      // 부하 발생을 멈춘 뒤에는 응답하지 않음
+    }
+  }
+
+  private void sendIceCandidates(String peer, LatencyStats signalingStats) {
+    for (int i = 0; i < ICE_CANDIDATES_PER_CALL; i++) {
+      sendSignal("iceCandidate", peer, ICE_CANDIDATE, signalingStats);
+    }
+  }
+
+  private void sendSignal(String kind, String peer, String payload, LatencyStats signalingStats) {
+    String body = kind + "|" + nickname + "|" + System.nanoTime() + "|" + payload;
+    send(signalingSession, "/app/peer/" + kind + "/" + peer + "/" + studyId,
+        MimeTypeUtils.TEXT_PLAIN, body, signalingStats, 1);
+  }
+
+  private static void send(StompSession session, String destination, MimeType contentType,
+      String body, LatencyStats stats, int recipients) {
+    if (session == null || !session.isConnected()) {
+      stats.failed();
+      return;
+    }
+    StompHeaders headers = new StompHeaders();
+    headers.setDestination(destination);
+    headers.setContentType(contentType);
+    try {
+      // 한 WebSocket 세션에 동시에 쓰지 않도록 세션 단위로 직렬화
+      synchronized (session) {
+        session.send(headers, body.getBytes(StandardCharsets.UTF_8));
+      }
+      stats.sent(recipients);
+    } catch (Exception e) {
+      stats.failed();
+    }
+  }
+
+  @RequiredArgsConstructor
+  private static class BytesFrameHandler implements StompFrameHandler {
+
+    private final Consumer<String> consumer;
+
+    @Override
+    public Type getPayloadType(StompHeaders headers) {
+      return byte[].class;
+    }
+
+    @Override
+    public void handleFrame(StompHeaders headers, Object payload) {
+      consumer.accept(new String((byte[]) payload, StandardCharsets.UTF_8));
+    }
+  }
+
+  private static class LoggingSessionHandler extends StompSessionHandlerAdapter {
+
+    @Override
+    public void handleException(StompSession session, StompCommand command, StompHeaders headers,
+        byte[] payload, Throwable exception) {
+      log.debug("STOMP 처리 실패 - sessionId: {}", session.getSessionId(), exception);
+    }
+
+    @Override
+    public void handleTransportError(StompSession session, Throwable exception) {
+      log.debug("STOMP 연결 오류 - sessionId: {}", session.getSessionId(), exception);
+    }
+  }
+}
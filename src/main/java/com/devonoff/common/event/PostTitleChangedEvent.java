@@ -0,0 +1,31 @@
+package com.devonoff.common.event;
+
+import com.devonoff.type.PostType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 제목 변경 이벤트 (생성/수정/삭제)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostTitleChangedEvent {
+
+  private PostType postType;
+  private Long postId;
+  private String title; // 삭제된 경우 null
+  @JsonIgnore
+  private boolean relayed; // 다른 서버에서 발생해 Redis 로 전달받은 이벤트 여부
+
+  public PostTitleChangedEvent(PostType postType, Long postId, String title) {
+    this(postType, postId, title, false);
+  }
+
+  @JsonIgnore
+  public boolean isRemoved() {
+    return title == null;
+  }
+}
@@ -0,0 +1,17 @@
+package com.devonoff.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스터디 참가자 제거 이벤트 (강퇴/탈퇴)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentRemovedEvent {
+
+  private Long userId;
+  private Long studyId;
+}
@@ -0,0 +1,16 @@
+package com.devonoff.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스터디 수정/삭제 이벤트 (총 인원, 진행 시간 등)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyChangedEvent {
+
+  private Long studyId;
+}
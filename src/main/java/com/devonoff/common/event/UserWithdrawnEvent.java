@@ -0,0 +1,16 @@
+package com.devonoff.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 탈퇴 이벤트
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserWithdrawnEvent {
+
+  private Long userId;
+}
@@ -0,0 +1,18 @@
+package com.devonoff.common.websocket;
+
+import java.util.function.Consumer;
+
+/**
+ * 서버 간 /topic 메시지 전달 채널 (운영: Redis pub/sub)
+ */
+public interface BrokerRelayTransport {
+
+  void publish(String channel, byte[] body);
+
+  /**
+   * 채널 구독 (채널당 한 번만 호출됨)
+   */
+  void subscribe(String channel, Consumer<byte[]> listener);
+
+  void unsubscribe(String channel);
+}
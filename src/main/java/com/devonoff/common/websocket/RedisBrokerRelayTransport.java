@@ -0,0 +1,49 @@
+package com.devonoff.common.websocket;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis pub/sub 기반 메시지 전달 (기존 RedisMessageListenerContainer 의 구독 연결을 함께 사용)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "websocket.broker.relay", havingValue = "redis")
+public class RedisBrokerRelayTransport implements BrokerRelayTransport {
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final RedisMessageListenerContainer redisContainer;
+
+  private final Map<String, MessageListener> listeners = new ConcurrentHashMap<>();
+
+  @Override
+  public void publish(String channel, byte[] body) {
+    byte[] rawChannel = channel.getBytes(StandardCharsets.UTF_8);
+    redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(rawChannel, body));
+  }
+
+  @Override
+  public void subscribe(String channel, Consumer<byte[]> listener) {
+    MessageListener messageListener = (message, pattern) -> listener.accept(message.getBody());
+    listeners.put(channel, messageListener);
+    redisContainer.addMessageListener(messageListener, new ChannelTopic(channel));
+  }
+
+  @Override
+  public void unsubscribe(String channel) {
+    MessageListener messageListener = listeners.remove(channel);
+    if (messageListener != null) {
+      redisContainer.removeMessageListener(messageListener, new ChannelTopic(channel));
+    }
+  }
+}
@@ -0,0 +1,239 @@
+package com.devonoff.common.websocket;
+
+import com.devonoff.domain.user.entity.User;
+import com.devonoff.exception.CustomException;
+import com.devonoff.type.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP SEND 프레임 전송 속도 제한 (세션/사용자/방 단위 토큰 버킷)
+ * <p>
+ * 컨트롤러에 도달하기 전에 세션, 인증 사용자, 방(채팅방 또는 화상 채팅 스터디) 버킷에서 차례로 토큰을 사용하며, 하나라도
+ * 모자라면 앞에서 사용한 토큰을 돌려주고 거절합니다. action 이 drop 이면 프레임을 조용히 버리고, error 이면 ERROR 프레임으로
+ * 응답합니다. 거절 수는 websocket.rate_limit.rejected 메트릭(type, scope 태그)으로 집계합니다.
+ * <p>
+ * WebRTC 시그널링(/app/peer/**)은 입장 시 참여자마다 offer/answer 와 ICE 후보 수십 개를 한꺼번에 보내므로 채팅과 따로,
+ * 더 큰 한도(websocket.rate-limit.signaling)를 사용합니다.
+ */
+@Slf4j
+@Component
+public class StompRateLimiter implements ChannelInterceptor {
+
+  // /app/chat/{chatRoomId}/..., /app/peer/{type}/{nickname}/{studyId}, /app/send/end/{studyId}/..,
+  // /app/call/key/{studyId}, /app/send/key/{studyId}
+  private static final Pattern CHAT_DESTINATION = Pattern.compile("^/app/chat/(\\d+)(?:/.*)?$");
+  private static final Pattern PEER_DESTINATION = Pattern.compile(
+      "^/app/peer/[^/]+/[^/]+/([^/]+)$");
+  private static final Pattern END_DESTINATION = Pattern.compile("^/app/send/end/([^/]+)/[^/]+$");
+  private static final Pattern KEY_DESTINATION = Pattern.compile(
+      "^/app/(?:call|send)/key/([^/]+)$");
+
+  private final boolean enabled;
+  private final boolean replyWithError;
+  private final Limits messageLimits;
+  private final Limits signalingLimits;
+
+  public StompRateLimiter(MeterRegistry meterRegistry,
+      @Value("${websocket.rate-limit.enabled:true}") boolean enabled,
+      @Value("${websocket.rate-limit.action:drop}") String action,
+      @Value("${websocket.rate-limit.session.rate:10}") double sessionRate,
+      @Value("${websocket.rate-limit.session.burst:20}") int sessionBurst,
+      @Value("${websocket.rate-limit.user.rate:20}") double userRate,
+      @Value("${websocket.rate-limit.user.burst:40}") int userBurst,
+      @Value("${websocket.rate-limit.room.rate:50}") double roomRate,
+      @Value("${websocket.rate-limit.room.burst:100}") int roomBurst,
+      @Value("${websocket.rate-limit.signaling.session.rate:50}") double signalingSessionRate,
+      @Value("${websocket.rate-limit.signaling.session.burst:300}") int signalingSessionBurst,
+      @Value("${websocket.rate-limit.signaling.user.rate:50}") double signalingUserRate,
+      @Value("${websocket.rate-limit.signaling.user.burst:300}") int signalingUserBurst,
+      @Value("${websocket.rate-limit.signaling.room.rate:200}") double signalingRoomRate,
+      @Value("${websocket.rate-limit.signaling.room.burst:3000}") int signalingRoomBurst) {
+    this.enabled = enabled;
+    this.replyWithError = "error".equalsIgnoreCase(action);
+    this.messageLimits = new Limits(
+        new Limit<>(sessionRate, sessionBurst,
+            rejectedCounter(meterRegistry, "message", "session")),
+        new Limit<>(userRate, userBurst, rejectedCounter(meterRegistry, "message", "user")),
+        new Limit<>(roomRate, roomBurst, rejectedCounter(meterRegistry, "message", "room")));
+    this.signalingLimits = new Limits(
+        new Limit<>(signalingSessionRate, signalingSessionBurst,
+            rejectedCounter(meterRegistry, "signaling", "session")),
+        new Limit<>(signalingUserRate, signalingUserBurst,
+            rejectedCounter(meterRegistry, "signaling", "user")),
+        new Limit<>(signalingRoomRate, signalingRoomBurst,
+            rejectedCounter(meterRegistry, "signaling", "room")));
+  }
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    StompHeaderAccessor accessor =
+        MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+    if (!enabled || accessor == null || accessor.getCommand() == null) {
+      return message;
+    }
+
+    if (accessor.getCommand() == StompCommand.DISCONNECT) {
+      messageLimits.session.buckets.remove(accessor.getSessionId());
+      signalingLimits.session.buckets.remove(accessor.getSessionId());
+      return message;
+    }
+    if (accessor.getCommand() != StompCommand.SEND) {
+      return message;
+    }
+
+    String destination = accessor.getDestination();
+    Limits limits = destination != null && PEER_DESTINATION.matcher(destination).matches()
+        ? signalingLimits : messageLimits;
+    Long userId = resolveUserId(accessor);
+    if (limits.tryAcquire(accessor.getSessionId(), userId, resolveRoomKey(destination),
+        System.nanoTime())) {
+      return message;
+    }
+
+    log.debug("STOMP 전송 제한 - sessionId: {}, userId: {}, destination: {}",
+        accessor.getSessionId(), userId, accessor.getDestination());
+    if (replyWithError) {
+      throw new CustomException(ErrorCode.MESSAGE_RATE_LIMITED);
+    }
+    return null; // 컨트롤러로 보내지 않고 버림
+  }
+
+  /**
+   * 가득 찬(한동안 사용하지 않은) 버킷 정리
+   */
+  @Scheduled(fixedDelay = 60_000L)
+  public void evictIdleBuckets() {
+    long now = System.nanoTime();
+    messageLimits.evictIdle(now);
+    signalingLimits.evictIdle(now);
+  }
+
+  int bucketCount() {
+    return messageLimits.bucketCount() + signalingLimits.bucketCount();
+  }
+
+  private static Long resolveUserId(StompHeaderAccessor accessor) {
+    if (accessor.getUser() instanceof Authentication authentication
+        && authentication.getPrincipal() instanceof User user) {
+      return user.getId();
+    }
+    return null;
+  }
+
+  private static String resolveRoomKey(String destination) {
+    if (destination == null) {
+      return null;
+    }
+    Matcher matcher = CHAT_DESTINATION.matcher(destination);
+    if (matcher.matches()) {
+      return "chat:" + matcher.group(1);
+    }
+    matcher = PEER_DESTINATION.matcher(destination);
+    if (matcher.matches()) {
+      return "study:" + matcher.group(1);
+    }
+    matcher = END_DESTINATION.matcher(destination);
+    if (matcher.matches()) {
+      return "study:" + matcher.group(1);
+    }
+    matcher = KEY_DESTINATION.matcher(destination);
+    return matcher.matches() ? "study:" + matcher.group(1) : null;
+  }
+
+  private static Counter rejectedCounter(MeterRegistry meterRegistry, String type,
+      String scope) {
+    return Counter.builder("websocket.rate_limit.rejected")
+        .description("전송 제한으로 거절된 STOMP 프레임 수")
+        .tag("type", type)
+        .tag("scope", scope)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 세션/사용자/방 한도 묶음
+   */
+  @RequiredArgsConstructor
+  private static class Limits {
+
+    private final Limit<String> session;
+    private final Limit<Long> user;
+    private final Limit<String> room;
+
+    /**
+     * 세 버킷 모두 토큰이 있을 때만 사용 (중간에 거절되면 앞에서 사용한 토큰을 돌려줌)
+     */
+    boolean tryAcquire(String sessionId, Long userId, String roomKey, long now) {
+      TokenBucket sessionBucket = session.bucketFor(sessionId);
+      TokenBucket userBucket = user.bucketFor(userId);
+      TokenBucket roomBucket = room.bucketFor(roomKey);
+      if (!session.tryAcquire(sessionBucket, now)) {
+        return false;
+      }
+      if (!user.tryAcquire(userBucket, now)) {
+        release(sessionBucket);
+        return false;
+      }
+      if (!room.tryAcquire(roomBucket, now)) {
+        release(sessionBucket);
+        release(userBucket);
+        return false;
+      }
+      return true;
+    }
+
+    void evictIdle(long now) {
+      session.buckets.values().removeIf(bucket -> bucket.isFull(now));
+      user.buckets.values().removeIf(bucket -> bucket.isFull(now));
+      room.buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    int bucketCount() {
+      return session.buckets.size() + user.buckets.size() + room.buckets.size();
+    }
+
+    private static void release(TokenBucket bucket) {
+      if (bucket != null) {
+        bucket.release();
+      }
+    }
+  }
+
+  @RequiredArgsConstructor
+  private static class Limit<K> {
+
+    private final double ratePerSecond;
+    private final int burst;
+    private final Counter rejected;
+    private final Map<K, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    TokenBucket bucketFor(K key) {
+      return key == null ? null
+          : buckets.computeIfAbsent(key, k -> new TokenBucket(ratePerSecond, burst));
+    }
+
+    boolean tryAcquire(TokenBucket bucket, long now) {
+      if (bucket == null || bucket.tryAcquire(now)) {
+        return true;
+      }
+      rejected.increment();
+      return false;
+    }
+  }
+}
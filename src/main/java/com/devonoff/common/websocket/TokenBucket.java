@@ -0,0 +1,54 @@
+package com.devonoff.common.websocket;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없는 토큰 버킷 (GCRA)
+ * <p>
+ * 토큰 수 대신 "버킷이 다시 가득 차는 시각" 하나를 AtomicLong 으로 두고 CAS 로 갱신합니다. 초당 rate 개씩 채워지고
+ * 최대 burst 개까지 연속으로 허용합니다.
+ */
+final class TokenBucket {
+
+  private final long intervalNanos; // 토큰 하나가 채워지는 시간
+  private final long toleranceNanos; // 연속 허용 여유 (burst - 1 개)
+  private final AtomicLong fullAt = new AtomicLong(Long.MIN_VALUE);
+
+  TokenBucket(double ratePerSecond, int burst) {
+    this.intervalNanos = Math.max((long) (1_000_000_000L / ratePerSecond), 1L);
+    this.toleranceNanos = intervalNanos * (Math.max(burst, 1) - 1);
+  }
+
+  /**
+   * 토큰 하나 사용
+   *
+   * @param nowNanos System.nanoTime 기준 현재 시각
+   * @return 토큰이 없으면 false
+   */
+  boolean tryAcquire(long nowNanos) {
+    while (true) {
+      long current = fullAt.get();
+      long base = Math.max(current, nowNanos);
+      if (base - nowNanos > toleranceNanos) {
+        return false;
+      }
+      if (fullAt.compareAndSet(current, base + intervalNanos)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * tryAcquire 로 사용한 토큰 하나를 돌려줌 (다른 버킷에서 거절되어 전송하지 않은 경우)
+   */
+  void release() {
+    fullAt.addAndGet(-intervalNanos);
+  }
+
+  /**
+   * 가득 찬 버킷인지 (새 버킷과 같으므로 버려도 됨)
+   */
+  boolean isFull(long nowNanos) {
+    return fullAt.get() <= nowNanos;
+  }
+}
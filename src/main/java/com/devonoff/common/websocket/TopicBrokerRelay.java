@@ -0,0 +1,281 @@
+package com.devonoff.common.websocket;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.core.MessagePostProcessor;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+/**
+ * /topic 메시지를 다른 서버의 구독자에게 전달 (여러 서버 운영 시 사용)
+ * <p>
+ * 이 서버의 브로커로 발행된 /topic 메시지는 로컬 구독자에게 바로 전달하면서 목적지별 채널로 함께 발행합니다. 구독은 목적지별
+ * 로컬 구독 수를 세어, 첫 구독자가 생길 때 채널을 한 번 구독하고 마지막 구독자가 나가면 해제합니다. 다른 서버에서 받은
+ * 메시지는 relayed 로 표시해 브로커에 넣으므로 다시 발행되지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "websocket.broker.relay", havingValue = "redis")
+public class TopicBrokerRelay {
+
+  public static final String RELAYED_HEADER = "relayed";
+  public static final String LOCAL_ONLY_HEADER = "relayLocalOnly";
+
+  private static final String TOPIC_PREFIX = "/topic/";
+  private static final String CHANNEL_PREFIX = "Broker:";
+
+  private final String nodeId = UUID.randomUUID().toString();
+
+  private final BrokerRelayTransport transport;
+  private final MessageChannel brokerChannel;
+
+  // 세션 ID -> (구독 ID -> 목적지)
+  private final Map<String, Map<String, String>> subscriptionsBySessionId =
+      new ConcurrentHashMap<>();
+  // 목적지 -> 로컬 구독 수 (subscriptionLock 으로 보호)
+  private final Map<String, Integer> subscriberCounts = new HashMap<>();
+  private final Object subscriptionLock = new Object();
+  // Redis 채널을 구독 중인 목적지 (channelLock 으로 보호)
+  // 구독 수는 subscriptionLock 안에서 바꾸고 Redis 구독/해제는 잠금을 푼 뒤 channelLock 안에서 구독 수에 맞춤
+  // (Redis 응답을 기다리는 동안 다른 세션의 SUBSCRIBE/DISCONNECT 처리가 막히지 않도록)
+  private final Set<String> subscribedChannels = new HashSet<>();
+  private final Object channelLock = new Object();
+
+  public TopicBrokerRelay(BrokerRelayTransport transport,
+      @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel) {
+    this.transport = transport;
+    this.brokerChannel = brokerChannel;
+  }
+
+  /**
+   * 다른 서버로 전달하지 않을 메시지 표시 (모든 서버가 각자 발행하는 알림 등)
+   */
+  public static MessagePostProcessor localOnly() {
+    return message -> MessageBuilder.fromMessage(message)
+        .setHeader(LOCAL_ONLY_HEADER, true)
+        .build();
+  }
+
+  /**
+   * 클라이언트 프레임 처리 (SUBSCRIBE/UNSUBSCRIBE/DISCONNECT 구독 수 관리, /topic 으로 직접 보낸 SEND 발행)
+   */
+  public ChannelInterceptor clientInboundInterceptor() {
+    return new ChannelInterceptor() {
+      @Override
+      public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(
+            message.getHeaders());
+        if (messageType == null) {
+          return message;
+        }
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        switch (messageType) {
+          case SUBSCRIBE -> addSubscription(sessionId,
+              SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders()),
+              SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+          case UNSUBSCRIBE -> removeSubscription(sessionId,
+              SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders()));
+          case DISCONNECT -> removeSession(sessionId);
+          case MESSAGE -> publish(message);
+          default -> {
+          }
+        }
+        return message;
+      }
+    };
+  }
+
+  /**
+   * 애플리케이션에서 브로커로 보낸 메시지(@SendTo, SimpMessagingTemplate) 발행
+   */
+  public ChannelInterceptor brokerChannelInterceptor() {
+    return new ChannelInterceptor() {
+      @Override
+      public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders())
+            == SimpMessageType.MESSAGE) {
+          publish(message);
+        }
+        return message;
+      }
+    };
+  }
+
+  public int subscribedChannelCount() {
+    synchronized (subscriptionLock) {
+      return subscriberCounts.size();
+    }
+  }
+
+  private void publish(Message<?> message) {
+    MessageHeaders headers = message.getHeaders();
+    String destination = SimpMessageHeaderAccessor.getDestination(headers);
+    if (destination == null || !destination.startsWith(TOPIC_PREFIX)
+        || headers.containsKey(RELAYED_HEADER) || headers.containsKey(LOCAL_ONLY_HEADER)) {
+      return;
+    }
+
+    byte[] payload;
+    if (message.getPayload() instanceof byte[] bytes) {
+      payload = bytes;
+    } else if (message.getPayload() instanceof String text) {
+      payload = text.getBytes(StandardCharsets.UTF_8);
+    } else {
+      log.warn("전달할 수 없는 메시지 형식 - destination: {}, payload: {}", destination,
+          message.getPayload().getClass().getName());
+      return;
+    }
+
+    try {
+      MimeType contentType = SimpMessageHeaderAccessor.getContentType(headers);
+      transport.publish(CHANNEL_PREFIX + destination,
+          encode(destination, contentType == null ? "" : contentType.toString(), payload));
+    } catch (Exception e) {
+      // 로컬 구독자에게는 전달되므로 다른 서버 전달 실패만 기록
+      log.warn("브로커 메시지 전달 실패 - destination: {}", destination, e);
+    }
+  }
+
+  private void onRelayedMessage(byte[] body) {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(body))) {
+      if (nodeId.equals(in.readUTF())) {
+        return; // 이 서버가 발행한 메시지는 이미 로컬에 전달됨
+      }
+      String destination = in.readUTF();
+      String contentType = in.readUTF();
+      byte[] payload = in.readNBytes(in.readInt());
+
+      SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(
+          SimpMessageType.MESSAGE);
+      accessor.setDestination(destination);
+      if (!contentType.isEmpty()) {
+        accessor.setContentType(MimeType.valueOf(contentType));
+      }
+      accessor.setHeader(RELAYED_HEADER, true);
+      brokerChannel.send(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+    } catch (IOException | RuntimeException e) {
+      log.warn("잘못된 브로커 메시지 수신", e);
+    }
+  }
+
+  private void addSubscription(String sessionId, String subscriptionId, String destination) {
+    if (sessionId == null || subscriptionId == null || destination == null
+        || !destination.startsWith(TOPIC_PREFIX)) {
+      return;
+    }
+    List<String> changed = new ArrayList<>(2);
+    synchronized (subscriptionLock) {
+      String previous = subscriptionsBySessionId
+          .computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+          .put(subscriptionId, destination);
+      if (previous != null && decrement(previous)) {
+        changed.add(previous);
+      }
+      if (increment(destination)) {
+        changed.add(destination);
+      }
+    }
+    changed.forEach(this::syncChannel);
+  }
+
+  private void removeSubscription(String sessionId, String subscriptionId) {
+    if (sessionId == null || subscriptionId == null) {
+      return;
+    }
+    String destination;
+    synchronized (subscriptionLock) {
+      Map<String, String> subscriptions = subscriptionsBySessionId.get(sessionId);
+      destination = subscriptions == null ? null : subscriptions.remove(subscriptionId);
+      if (destination == null || !decrement(destination)) {
+        return;
+      }
+    }
+    syncChannel(destination);
+  }
+
+  private void removeSession(String sessionId) {
+    if (sessionId == null) {
+      return;
+    }
+    List<String> changed = new ArrayList<>();
+    synchronized (subscriptionLock) {
+      Map<String, String> subscriptions = subscriptionsBySessionId.remove(sessionId);
+      if (subscriptions != null) {
+        subscriptions.values().stream().filter(this::decrement).forEach(changed::add);
+      }
+    }
+    changed.forEach(this::syncChannel);
+  }
+
+  /**
+   * @return 첫 구독자이면 true (Redis 채널 구독 필요)
+   */
+  private boolean increment(String destination) {
+    return subscriberCounts.merge(destination, 1, Integer::sum) == 1;
+  }
+
+  /**
+   * @return 마지막 구독자가 나갔으면 true (Redis 채널 해제 필요)
+   */
+  private boolean decrement(String destination) {
+    return subscriberCounts.computeIfPresent(destination,
+        (key, value) -> value > 1 ? value - 1 : null) == null;
+  }
+
+  /**
+   * Redis 채널 구독 상태를 현재 구독 수에 맞춤
+   * <p>
+   * 잠금 밖에서 호출하므로 구독 -> 해제 요청이 해제 -> 구독 순서로 도착할 수 있어, 바뀐 방향 대신 호출 시점의 구독 수를
+   * 기준으로 맞춥니다.
+   */
+  private void syncChannel(String destination) {
+    synchronized (channelLock) {
+      boolean wanted;
+      synchronized (subscriptionLock) {
+        wanted = subscriberCounts.containsKey(destination);
+      }
+      if (wanted && !subscribedChannels.contains(destination)) {
+        transport.subscribe(CHANNEL_PREFIX + destination, this::onRelayedMessage);
+        subscribedChannels.add(destination);
+      } else if (!wanted && subscribedChannels.remove(destination)) {
+        transport.unsubscribe(CHANNEL_PREFIX + destination);
+      }
+    }
+  }
+
+  private byte[] encode(String destination, String contentType, byte[] payload)
+      throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload.length + 128);
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeUTF(nodeId);
+      out.writeUTF(destination);
+      out.writeUTF(contentType);
+      out.writeInt(payload.length);
+      out.write(payload);
+    }
+    return bytes.toByteArray();
+  }
+}
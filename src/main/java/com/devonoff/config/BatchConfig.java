@@ -1,11 +1,13 @@
 package com.devonoff.config;
 
+import com.devonoff.domain.chat.service.ChatMessageArchiveService;
 import com.devonoff.domain.studyPost.entity.StudyPost;
 import com.devonoff.domain.studyPost.repository.StudyPostRepository;
 import com.devonoff.domain.studyPost.service.StudyPostService;
 import com.devonoff.type.StudyPostStatus;
 import com.devonoff.util.TimeProvider;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
@@ -25,6 +27,7 @@ public class BatchConfig {
 
   private final StudyPostRepository studyPostRepository;
   private final StudyPostService studyPostService;
+  private final ChatMessageArchiveService chatMessageArchiveService;
   private final TimeProvider timeProvider;
 
   @Bean
@@ -59,4 +62,52 @@ public class BatchConfig {
       return RepeatStatus.FINISHED;
     };
   }
-}
\ No newline at end of file
+
+  @Bean
+  public Job archiveChatMessagesJob(JobRepository jobRepository,
+      PlatformTransactionManager transactionManager) {
+    return new JobBuilder("archiveChatMessagesJob", jobRepository)
+        .start(archivePartitionStep(jobRepository, transactionManager))
+        .next(archiveStep(jobRepository, transactionManager))
+        .build();
+  }
+
+  @Bean
+  public Step archivePartitionStep(JobRepository jobRepository,
+      PlatformTransactionManager transactionManager) {
+    return new StepBuilder("archivePartitionStep", jobRepository)
+        .tasklet(archivePartitionTasklet(), transactionManager)
+        .build();
+  }
+
+  @Bean
+  public Step archiveStep(JobRepository jobRepository,
+      PlatformTransactionManager transactionManager) {
+    return new StepBuilder("archiveStep", jobRepository)
+        .tasklet(archiveTasklet(), transactionManager)
+        .build();
+  }
+
+  @Bean
+  public Tasklet archivePartitionTasklet() {
+    return (contribution, chunkContext) -> {
+      // 옮길 메시지가 들어갈 월별 파티션을 먼저 추가
+      chatMessageArchiveService.addPartitionsBefore(
+          chatMessageArchiveService.getCutoffMonth(timeProvider.now()));
+      return RepeatStatus.FINISHED;
+    };
+  }
+
+  @Bean
+  public Tasklet archiveTasklet() {
+    return (contribution, chunkContext) -> {
+      YearMonth cutoffMonth = chatMessageArchiveService.getCutoffMonth(timeProvider.now());
+
+      // 보관 기준 월 이전 메시지를 CHUNK_SIZE 개씩 옮기며, 반복마다 트랜잭션을 나눠 커밋
+      int archived = chatMessageArchiveService.archiveChunk(cutoffMonth);
+      contribution.incrementWriteCount(archived);
+
+      return RepeatStatus.continueIf(archived == ChatMessageArchiveService.CHUNK_SIZE);
+    };
+  }
+}
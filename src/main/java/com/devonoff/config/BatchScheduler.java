@@ -27,6 +27,7 @@ public class BatchScheduler {
   private final StudyService studyService;
   private final JobLauncher jobLauncher;
   private final Job deleteOldStudyPostsJob;
+  private final Job archiveChatMessagesJob;
 
   @Scheduled(cron = "0 0 1 * * *") // 매일 01시에 실행
   public void runDeleteOldStudyPostsJob() {
@@ -42,6 +43,22 @@ public class BatchScheduler {
     }
   }
 
+  @Scheduled(cron = "0 0 3 * * *") // 매일 03시에 실행
+  public void runArchiveChatMessagesJob() {
+    try {
+      JobParameters jobParameters = new JobParametersBuilder()
+          .addLong("timestamp", System.currentTimeMillis()) // 고유한 파라미터 추가
+          .toJobParameters();
+      jobLauncher.run(archiveChatMessagesJob, jobParameters);
+      log.info("배치 작업 성공: 오래된 채팅 메시지 보관 작업이 완료되었습니다. (실행 시간: {})",
+          LocalDateTime.now());
+    } catch (JobExecutionAlreadyRunningException | JobRestartException
+             | JobInstanceAlreadyCompleteException | JobParametersInvalidException e) {
+      log.error("배치 작업 실패: 오래된 채팅 메시지 보관 작업 중 오류 발생 (실행 시간: {}, 에러: {})",
+          LocalDateTime.now(), e.getMessage(), e);
+    }
+  }
+
   @Scheduled(cron = "0 0 0 * * *") // 매일 00시에 실행
   public void updateStudyStatuses() {
     try {
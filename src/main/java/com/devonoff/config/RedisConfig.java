@@ -1,15 +1,14 @@
 package com.devonoff.config;
 
-import com.devonoff.util.RedisKeyExpirationListener;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 public class RedisConfig {
@@ -39,15 +38,26 @@ public class RedisConfig {
 
   @Bean
   public RedisMessageListenerContainer redisContainer(RedisConnectionFactory connectionFactory,
-      MessageListenerAdapter listenerAdapter) {
+      @Qualifier("redisListenerExecutor") ThreadPoolTaskExecutor redisListenerExecutor) {
     RedisMessageListenerContainer container = new RedisMessageListenerContainer();
     container.setConnectionFactory(connectionFactory);
-    container.addMessageListener(listenerAdapter, new PatternTopic("__keyevent@0__:expired"));
+    // 수신 순서대로 처리 (기본 실행기는 메시지마다 새 스레드를 만들어 채팅 전달 순서가 섞일 수 있음)
+    container.setTaskExecutor(redisListenerExecutor);
     return container;
   }
 
-  @Bean
-  public MessageListenerAdapter listenerAdapter(RedisKeyExpirationListener listener) {
-    return new MessageListenerAdapter(listener);
+  /**
+   * Redis 구독 메시지 처리 실행기 (스레드 1개)
+   * <p>
+   * 빈으로 등록해 초기화와 종료를 스프링이 관리합니다 (이 실행기를 쓰는 redisContainer 가 먼저 멈춘 뒤 종료).
+   */
+  @Bean(destroyMethod = "shutdown")
+  public ThreadPoolTaskExecutor redisListenerExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setThreadNamePrefix("redis-listener-");
+    executor.setDaemon(true);
+    return executor;
   }
 }
@@ -1,6 +1,13 @@
 package com.devonoff.config;
 
+import com.devonoff.common.websocket.StompRateLimiter;
+import com.devonoff.common.websocket.TopicBrokerRelay;
+import com.devonoff.domain.chat.util.ChatChannelInterceptor;
+import com.devonoff.domain.faceCall.util.SignalingDestinationInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -8,8 +15,15 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfiguration implements WebSocketMessageBrokerConfigurer {
 
+  private final StompRateLimiter stompRateLimiter;
+  private final ChatChannelInterceptor chatChannelInterceptor;
+  private final SignalingDestinationInterceptor signalingDestinationInterceptor;
+  // websocket.broker.relay=redis 인 경우에만 등록 (여러 서버 간 /topic 메시지 전달)
+  private final ObjectProvider<TopicBrokerRelay> topicBrokerRelay;
+
   @Override
   public void configureMessageBroker(MessageBrokerRegistry config) {
     config.enableSimpleBroker("/topic");
@@ -33,4 +47,20 @@ public class WebSocketConfiguration implements WebSocketMessageBrokerConfigurer
         .withSockJS();
   }
 
+  @Override
+  public void configureClientInboundChannel(ChannelRegistration registration) {
+    // 이전 캠 키 목적지를 스터디 목적지로 바꾼 뒤, 권한 확인(DB 조회)보다 먼저 전송 속도 제한
+    registration.interceptors(signalingDestinationInterceptor, stompRateLimiter,
+        chatChannelInterceptor);
+    // 권한 확인을 통과한 구독만 집계하도록 뒤에 등록
+    topicBrokerRelay.ifAvailable(relay ->
+        registration.interceptors(relay.clientInboundInterceptor()));
+  }
+
+  @Override
+  public void configureBrokerChannel(ChannelRegistration registration) {
+    topicBrokerRelay.ifAvailable(relay ->
+        registration.interceptors(relay.brokerChannelInterceptor()));
+  }
+
 }
\ No newline at end of file
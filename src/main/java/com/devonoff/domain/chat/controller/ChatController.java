@@ -2,7 +2,10 @@ package com.devonoff.domain.chat.controller;
 
 import com.devonoff.domain.chat.dto.ChatMessageDto;
 import com.devonoff.domain.chat.dto.ChatMessageRequest;
+import com.devonoff.domain.chat.dto.ChatReadCursorRequest;
 import com.devonoff.domain.chat.service.ChatMessageService;
+import com.devonoff.domain.chat.util.ChatChannelInterceptor;
+import java.security.Principal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
@@ -20,9 +23,23 @@ public class ChatController {
   @SendTo("/topic/chat/{chatRoomId}")
   public ChatMessageDto sendMessage(
       @DestinationVariable Long chatRoomId,
-      @Payload ChatMessageRequest chatMessageRequest
+      @Payload ChatMessageRequest chatMessageRequest,
+      Principal principal
   ) {
-    return chatMessageService.createChatMessage(chatRoomId, chatMessageRequest);
+    // 발신자는 CONNECT 시 인증한 세션 사용자 (채팅방 참여 여부는 ChatChannelInterceptor 에서 확인)
+    return chatMessageService.createChatMessage(chatRoomId,
+        ChatChannelInterceptor.getUser(principal), chatMessageRequest);
+  }
+
+  @MessageMapping("/chat/{chatRoomId}/read")
+  public void markRead(
+      @DestinationVariable Long chatRoomId,
+      @Payload ChatReadCursorRequest chatReadCursorRequest,
+      Principal principal
+  ) {
+    // 읽는 중인 클라이언트가 자주 보내므로 저장은 ChatUnreadCounter 에서 모아서 처리
+    chatMessageService.markRead(chatRoomId, ChatChannelInterceptor.getUser(principal),
+        chatReadCursorRequest);
   }
 
 }
@@ -1,9 +1,14 @@
 package com.devonoff.domain.chat.controller;
 
+import com.devonoff.domain.chat.dto.ChatMessageCursorResponse;
 import com.devonoff.domain.chat.dto.ChatMessageDto;
+import com.devonoff.domain.chat.dto.ChatReadCursorRequest;
 import com.devonoff.domain.chat.dto.ChatRoomDto;
+import com.devonoff.domain.chat.dto.ChatUnreadCountDto;
 import com.devonoff.domain.chat.service.ChatMessageService;
 import com.devonoff.domain.chat.service.ChatRoomService;
+import jakarta.validation.Valid;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -11,6 +16,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -52,4 +59,45 @@ public class ChatRoomController {
     return ResponseEntity.ok(chatMessageService.getChatMessages(chatRoomId, page));
   }
 
+  /**
+   * 특정 채팅방의 채팅 메시지 커서 조회 (before 메시지 ID 이전 메시지)
+   *
+   * @param chatRoomId
+   * @param before
+   * @return ResponseEntity<ChatMessageCursorResponse>
+   */
+  @GetMapping(value = "/{chatRoomId}/messages", params = "before")
+  public ResponseEntity<ChatMessageCursorResponse> getChatMessagesBefore(
+      @PathVariable Long chatRoomId,
+      @RequestParam Long before
+  ) {
+    return ResponseEntity.ok(chatMessageService.getChatMessagesBefore(chatRoomId, before));
+  }
+
+  /**
+   * 채팅방 읽은 위치 변경
+   *
+   * @param chatRoomId
+   * @param chatReadCursorRequest
+   * @return ResponseEntity<Void>
+   */
+  @PutMapping("/{chatRoomId}/read-cursor")
+  public ResponseEntity<Void> updateReadCursor(
+      @PathVariable Long chatRoomId,
+      @RequestBody @Valid ChatReadCursorRequest chatReadCursorRequest
+  ) {
+    chatMessageService.updateReadCursor(chatRoomId, chatReadCursorRequest);
+    return ResponseEntity.ok().build();
+  }
+
+  /**
+   * 참여 중인 모든 채팅방의 안 읽은 메시지 수 조회
+   *
+   * @return ResponseEntity<List<ChatUnreadCountDto>>
+   */
+  @GetMapping("/unread-counts")
+  public ResponseEntity<List<ChatUnreadCountDto>> getUnreadCounts() {
+    return ResponseEntity.ok(chatMessageService.getUnreadCounts());
+  }
+
 }
@@ -0,0 +1,23 @@
+package com.devonoff.domain.chat.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageCursorResponse {
+
+  private List<ChatMessageDto> content; // 최신순
+  @JsonSerialize(using = ToStringSerializer.class)
+  private Long nextBefore; // 이전 메시지 요청 시 before 로 전달할 메시지 ID (마지막이면 null)
+  private boolean hasNext;
+}
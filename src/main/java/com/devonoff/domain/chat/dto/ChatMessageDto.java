@@ -2,6 +2,8 @@ package com.devonoff.domain.chat.dto;
 
 import com.devonoff.domain.chat.entity.ChatMessage;
 import com.devonoff.domain.user.dto.UserDto;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -14,6 +16,7 @@ import lombok.NoArgsConstructor;
 @Builder
 public class ChatMessageDto {
 
+  @JsonSerialize(using = ToStringSerializer.class) // 2^53 을 넘는 ID (ChatMessageIdGenerator)
   private Long id;
   private UserDto user;
   private String content;
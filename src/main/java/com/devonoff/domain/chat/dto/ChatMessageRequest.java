@@ -1,7 +1,6 @@
 package com.devonoff.domain.chat.dto;
 
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,7 +12,7 @@ import lombok.NoArgsConstructor;
 @Builder
 public class ChatMessageRequest {
 
-  @NotNull
+  // 하위 호환용 (발신자는 STOMP 세션의 인증 사용자로 결정)
   private Long senderId;
 
   @NotBlank
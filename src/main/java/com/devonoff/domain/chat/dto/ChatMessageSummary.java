@@ -0,0 +1,34 @@
+package com.devonoff.domain.chat.dto;
+
+import com.devonoff.domain.user.dto.UserDto;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 채팅 메시지 내역 조회용 프로젝션 (메시지 + 작성자 요약 컬럼만 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class ChatMessageSummary {
+
+  private Long id;
+  private String content;
+  private LocalDateTime createdAt;
+  private Long senderId;
+  private String senderNickname;
+  private String senderProfileImageUrl;
+
+  public ChatMessageDto toDto() {
+    return ChatMessageDto.builder()
+        .id(id)
+        .user(UserDto.builder()
+            .id(senderId)
+            .nickname(senderNickname)
+            .profileImageUrl(senderProfileImageUrl)
+            .build())
+        .content(content)
+        .createdAt(createdAt)
+        .build();
+  }
+}
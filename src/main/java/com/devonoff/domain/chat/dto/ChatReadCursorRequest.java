@@ -0,0 +1,20 @@
+package com.devonoff.domain.chat.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatReadCursorRequest {
+
+  @NotNull
+  @JsonFormat(shape = JsonFormat.Shape.STRING) // 문자열로 받음 (2^53 을 넘는 ID)
+  private Long lastReadMessageId;
+
+}
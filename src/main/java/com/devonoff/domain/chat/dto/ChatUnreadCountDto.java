@@ -0,0 +1,17 @@
+package com.devonoff.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatUnreadCountDto {
+
+  private Long chatRoomId;
+  private long unreadCount; // 최대 ChatUnreadCounter.MAX_TRACKED
+
+}
@@ -3,11 +3,11 @@ package com.devonoff.domain.chat.entity;
 import com.devonoff.domain.user.entity.User;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,21 +21,21 @@ import lombok.Setter;
 @AllArgsConstructor
 @Builder
 @Entity
+@Table(indexes = @Index(name = "idx_chat_message_chat_room_id_id", columnList = "chat_room_id, id"))
 public class ChatMessage {
 
-  @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Id // ChatMessageIdGenerator 로 저장 전에 발급 (시간순 증가)
   private Long id;
 
   private String content;
 
   private LocalDateTime createdAt;
 
-  @ManyToOne(fetch = FetchType.EAGER)
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id")
   private User sender;
 
-  @ManyToOne(fetch = FetchType.EAGER) // 즉시 로딩
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "chat_room_id")
   private ChatRoom chatRoom;
 
@@ -0,0 +1,42 @@
+package com.devonoff.domain.chat.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관 채팅 메시지 (오래된 메시지를 chat_message 에서 옮겨 두는 테이블)
+ * <p>
+ * 메시지 ID 가 시간순이므로 ID 범위로 월별 RANGE 파티션(p202401, p202402, ...)을 나눕니다. MySQL 파티션 테이블은 외래
+ * 키를 가질 수 없어 연관관계 없이 ID 컬럼만 둡니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "chat_message_archive", indexes = @Index(
+    name = "idx_chat_message_archive_chat_room_id_id", columnList = "chat_room_id, id"))
+public class ChatMessageArchive {
+
+  @Id
+  private Long id;
+
+  private String content;
+
+  private LocalDateTime createdAt;
+
+  @Column(name = "user_id")
+  private Long senderId;
+
+  @Column(name = "chat_room_id")
+  private Long chatRoomId;
+
+}
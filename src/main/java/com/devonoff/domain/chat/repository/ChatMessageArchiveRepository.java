@@ -0,0 +1,37 @@
+package com.devonoff.domain.chat.repository;
+
+import com.devonoff.domain.chat.dto.ChatMessageSummary;
+import com.devonoff.domain.chat.entity.ChatMessageArchive;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ChatMessageArchiveRepository extends JpaRepository<ChatMessageArchive, Long> {
+
+  /**
+   * beforeId 보다 이전 보관 메시지를 최신순으로 조회 ((chat_room_id, id) 인덱스 keyset 조회)
+   */
+  @Query("select new com.devonoff.domain.chat.dto.ChatMessageSummary("
+      + "a.id, a.content, a.createdAt, u.id, u.nickname, u.profileImage) "
+      + "from ChatMessageArchive a join User u on u.id = a.senderId "
+      + "where a.chatRoomId = :chatRoomId and a.id < :beforeId order by a.id desc")
+  List<ChatMessageSummary> findSummariesBefore(@Param("chatRoomId") Long chatRoomId,
+      @Param("beforeId") Long beforeId, Pageable pageable);
+
+  long countByChatRoomId(Long chatRoomId);
+
+  /**
+   * chat_message 의 ids 메시지를 INSERT ... SELECT 한 번으로 복사
+   */
+  @Modifying
+  @Query(value = "INSERT INTO chat_message_archive "
+      + "(id, content, created_at, user_id, chat_room_id) "
+      + "SELECT id, content, created_at, user_id, chat_room_id FROM chat_message "
+      + "WHERE id IN (:ids)", nativeQuery = true)
+  int copyFromChatMessage(@Param("ids") List<Long> ids);
+}
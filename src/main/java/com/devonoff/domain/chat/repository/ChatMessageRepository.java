@@ -1,10 +1,16 @@
 package com.devonoff.domain.chat.repository;
 
+import com.devonoff.domain.chat.dto.ChatMessageSummary;
 import com.devonoff.domain.chat.entity.ChatMessage;
 import com.devonoff.domain.chat.entity.ChatRoom;
+import java.time.LocalDateTime;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,4 +18,38 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
 
   Page<ChatMessage> findAllByChatRoom(ChatRoom chatRoom, Pageable pageable);
 
+  /**
+   * beforeId 보다 이전 메시지를 최신순으로 조회 ((chat_room_id, id) 인덱스 keyset 조회)
+   * <p>
+   * 엔티티 대신 메시지와 작성자 요약 컬럼만 조회합니다.
+   */
+  @Query("select new com.devonoff.domain.chat.dto.ChatMessageSummary("
+      + "m.id, m.content, m.createdAt, u.id, u.nickname, u.profileImage) "
+      + "from ChatMessage m join m.sender u "
+      + "where m.chatRoom.id = :chatRoomId and m.id < :beforeId order by m.id desc")
+  List<ChatMessageSummary> findSummariesBefore(@Param("chatRoomId") Long chatRoomId,
+      @Param("beforeId") Long beforeId, Pageable pageable);
+
+  long countByChatRoomId(Long chatRoomId);
+
+  long countByChatRoomIdAndIdLessThan(Long chatRoomId, Long id);
+
+  /**
+   * cutoffId 보다 작고 cutoffAt 이전에 작성된 메시지 ID 를 오래된 순으로 조회 (보관 테이블로 옮길 대상)
+   * <p>
+   * ChatMessageIdGenerator 도입 전의 자동 증가 ID 는 작성 시각과 관계없이 cutoffId 보다 작으므로 작성 시각도 함께
+   * 확인합니다.
+   */
+  @Query("select m.id from ChatMessage m "
+      + "where m.id < :cutoffId and m.createdAt < :cutoffAt order by m.id")
+  List<Long> findIdsBefore(@Param("cutoffId") Long cutoffId,
+      @Param("cutoffAt") LocalDateTime cutoffAt, Pageable pageable);
+
+  /**
+   * ids 메시지를 DELETE 한 번으로 삭제 (보관 테이블로 복사한 뒤 호출)
+   */
+  @Modifying
+  @Query("delete from ChatMessage m where m.id in :ids")
+  int bulkDeleteByIds(@Param("ids") List<Long> ids);
+
 }
@@ -1,8 +1,11 @@
 package com.devonoff.domain.chat.repository;
 
 import com.devonoff.domain.chat.entity.ChatRoom;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -10,4 +13,11 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
   Optional<ChatRoom> findByStudyId(Long studyId);
 
+  /**
+   * 사용자가 참여 중인 스터디의 채팅방 ID 목록
+   */
+  @Query("select r.id from ChatRoom r where r.study.id in "
+      + "(select s.study.id from Student s where s.user.id = :userId)")
+  List<Long> findAllIdsByStudentUserId(@Param("userId") Long userId);
+
 }
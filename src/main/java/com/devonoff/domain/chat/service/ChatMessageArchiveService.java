@@ -0,0 +1,112 @@
+package com.devonoff.domain.chat.service;
+
+import com.devonoff.domain.chat.repository.ChatMessageArchiveRepository;
+import com.devonoff.domain.chat.repository.ChatMessageRepository;
+import com.devonoff.domain.chat.util.ChatMessageIdGenerator;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 오래된 채팅 메시지 보관
+ * <p>
+ * 최근 hot-months 개월의 메시지는 chat_message 에 두고, 그 이전 메시지는 월별 파티션으로 나눈 chat_message_archive 로
+ * 옮깁니다. 메시지 ID 가 시간순이므로 오래된 ID 부터 옮기며, 보관 메시지의 ID 는 항상 chat_message 의 ID 보다 작습니다.
+ * (ChatMessageIdGenerator 도입 전의 자동 증가 ID 는 도입 후 ID 보다 작고 작성 시각도 앞서므로, 작성 시각 기준으로
+ * 옮겨도 먼저 옮겨집니다.)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatMessageArchiveService {
+
+  public static final int CHUNK_SIZE = 1000;
+
+  private static final String ARCHIVE_TABLE = "chat_message_archive";
+  private static final String PARTITION_PREFIX = "p";
+  private static final DateTimeFormatter PARTITION_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+  private final ChatMessageRepository chatMessageRepository;
+  private final ChatMessageArchiveRepository chatMessageArchiveRepository;
+  private final JdbcTemplate jdbcTemplate;
+
+  @Value("${chat.message.archive.hot-months:3}")
+  private int hotMonths;
+
+  /**
+   * 보관 기준 월 (이 달 이전 메시지를 보관)
+   */
+  public YearMonth getCutoffMonth(LocalDateTime now) {
+    return YearMonth.from(now).minusMonths(hotMonths);
+  }
+
+  /**
+   * cutoffMonth 이전 메시지를 오래된 순으로 최대 CHUNK_SIZE 개 보관 테이블로 이동
+   *
+   * @param cutoffMonth
+   * @return 옮긴 메시지 수 (CHUNK_SIZE 보다 작으면 더 옮길 메시지 없음)
+   */
+  @Transactional
+  public int archiveChunk(YearMonth cutoffMonth) {
+    List<Long> ids = chatMessageRepository.findIdsBefore(firstIdOf(cutoffMonth),
+        startOf(cutoffMonth), PageRequest.of(0, CHUNK_SIZE));
+    if (ids.isEmpty()) {
+      return 0;
+    }
+
+    // 아직 보관 기간이 지나지 않은 자동 증가 ID 가 사이에 있을 수 있으므로 ID 범위가 아닌 조회한 ID 만 옮김
+    chatMessageArchiveRepository.copyFromChatMessage(ids);
+    return chatMessageRepository.bulkDeleteByIds(ids);
+  }
+
+  /**
+   * cutoffMonth 이전 달까지 보관 테이블 월별 파티션 추가
+   * <p>
+   * 마지막 파티션 다음 달부터 차례로 추가합니다. 파티션이 없는 테이블이면 (schema-mysql.sql 적용 전에 만들어진 경우)
+   * 먼저 기준 월 전달까지를 첫 파티션으로 하는 RANGE 파티션 테이블로 바꿉니다.
+   */
+  public void addPartitionsBefore(YearMonth cutoffMonth) {
+    List<String> partitions = jdbcTemplate.queryForList(
+        "SELECT partition_name FROM information_schema.partitions "
+            + "WHERE table_schema = DATABASE() AND table_name = ? "
+            + "AND partition_name IS NOT NULL ORDER BY partition_ordinal_position",
+        String.class, ARCHIVE_TABLE);
+    if (partitions.isEmpty()) {
+      // 보관 메시지는 모두 기준 월 이전 메시지이므로 첫 파티션에 들어감
+      YearMonth firstMonth = cutoffMonth.minusMonths(1);
+      jdbcTemplate.execute("ALTER TABLE " + ARCHIVE_TABLE + " PARTITION BY RANGE (id) (PARTITION "
+          + PARTITION_PREFIX + firstMonth.format(PARTITION_FORMAT)
+          + " VALUES LESS THAN (" + firstIdOf(cutoffMonth) + "))");
+      log.info("채팅 메시지 보관 테이블 파티션 적용 - {}", firstMonth);
+      return;
+    }
+
+    String lastPartition = partitions.get(partitions.size() - 1);
+    YearMonth month = YearMonth.parse(lastPartition.substring(PARTITION_PREFIX.length()),
+        PARTITION_FORMAT).plusMonths(1);
+    for (; month.isBefore(cutoffMonth); month = month.plusMonths(1)) {
+      jdbcTemplate.execute("ALTER TABLE " + ARCHIVE_TABLE + " ADD PARTITION (PARTITION "
+          + PARTITION_PREFIX + month.format(PARTITION_FORMAT)
+          + " VALUES LESS THAN (" + firstIdOf(month.plusMonths(1)) + "))");
+      log.info("채팅 메시지 보관 파티션 추가 - {}", month);
+    }
+  }
+
+  private static long firstIdOf(YearMonth month) {
+    return ChatMessageIdGenerator.firstIdAt(startOf(month).atZone(ZoneId.systemDefault())
+        .toInstant().toEpochMilli());
+  }
+
+  private static LocalDateTime startOf(YearMonth month) {
+    return month.atDay(1).atStartOfDay();
+  }
+}
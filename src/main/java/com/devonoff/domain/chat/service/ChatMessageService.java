@@ -1,20 +1,32 @@
 package com.devonoff.domain.chat.service;
 
+import com.devonoff.domain.chat.dto.ChatMessageCursorResponse;
 import com.devonoff.domain.chat.dto.ChatMessageDto;
 import com.devonoff.domain.chat.dto.ChatMessageRequest;
+import com.devonoff.domain.chat.dto.ChatMessageSummary;
+import com.devonoff.domain.chat.dto.ChatReadCursorRequest;
+import com.devonoff.domain.chat.dto.ChatUnreadCountDto;
 import com.devonoff.domain.chat.entity.ChatMessage;
 import com.devonoff.domain.chat.entity.ChatRoom;
+import com.devonoff.domain.chat.repository.ChatMessageArchiveRepository;
 import com.devonoff.domain.chat.repository.ChatMessageRepository;
 import com.devonoff.domain.chat.repository.ChatRoomRepository;
+import com.devonoff.domain.chat.util.ChatMessageIdGenerator;
+import com.devonoff.domain.chat.util.ChatMessageRecentBuffer;
+import com.devonoff.domain.chat.util.ChatMessageRecentBuffer.RecentMessages;
+import com.devonoff.domain.chat.util.ChatMessageWriter;
+import com.devonoff.domain.chat.util.ChatUnreadCounter;
 import com.devonoff.domain.student.repository.StudentRepository;
 import com.devonoff.domain.user.entity.User;
-import com.devonoff.domain.user.repository.UserRepository;
 import com.devonoff.domain.user.service.AuthService;
 import com.devonoff.exception.CustomException;
 import com.devonoff.type.ErrorCode;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -24,53 +36,148 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ChatMessageService {
 
+  private static final int PAGE_SIZE = 20;
+
   private final ChatRoomRepository chatRoomRepository;
   private final ChatMessageRepository chatMessageRepository;
+  private final ChatMessageArchiveRepository chatMessageArchiveRepository;
   private final StudentRepository studentRepository;
-  private final UserRepository userRepository;
   private final AuthService authService;
+  private final ChatMessageIdGenerator chatMessageIdGenerator;
+  private final ChatMessageWriter chatMessageWriter;
+  private final ChatMessageRecentBuffer chatMessageRecentBuffer;
+  private final ChatUnreadCounter chatUnreadCounter;
 
   /**
    * 채팅 메시지 저장
+   * <p>
+   * ID 와 작성 시각을 정한 뒤 저장 큐에 넣고 바로 반환합니다. DB 저장은 ChatMessageWriter 가 배치로 처리합니다. 발신자
+   * 인증과 채팅방 존재/참여 여부는 ChatChannelInterceptor 에서 세션 단위로 확인하므로 메시지마다 조회하지 않습니다.
    *
    * @param chatRoomId
+   * @param sender
    * @param chatMessageRequest
    * @return ChatMessageDto
    */
-  public ChatMessageDto createChatMessage(Long chatRoomId, ChatMessageRequest chatMessageRequest) {
-    ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
-        .orElseThrow(() -> new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND));
+  public ChatMessageDto createChatMessage(Long chatRoomId, User sender,
+      ChatMessageRequest chatMessageRequest) {
+    ChatMessage chatMessage = ChatMessage.builder()
+        .id(chatMessageIdGenerator.nextId())
+        .chatRoom(chatRoomRepository.getReferenceById(chatRoomId)) // 저장에는 ID 만 사용
+        .sender(sender)
+        .content(chatMessageRequest.getContent())
+        .createdAt(LocalDateTime.now())
+        .build();
+    chatMessageWriter.enqueue(chatMessage);
 
-    Long senderId = chatMessageRequest.getSenderId();
+    ChatMessageDto chatMessageDto = ChatMessageDto.fromEntity(chatMessage);
+    chatMessageRecentBuffer.append(chatRoomId, chatMessageDto);
+    chatUnreadCounter.recordMessage(chatRoomId, chatMessage.getId());
+    chatUnreadCounter.markRead(sender.getId(), chatRoomId, chatMessage.getId()); // 보낸 메시지는 읽음
+    return chatMessageDto;
+  }
 
-    Boolean isExistsStudent = studentRepository.existsByUserIdAndStudyId(
-        senderId, chatRoom.getStudy().getId());
-    if (!isExistsStudent) {
-      throw new CustomException(ErrorCode.DOES_NOT_STUDENT_OF_STUDY);
-    }
+  /**
+   * 채팅방 읽은 위치 변경 (STOMP, 채팅방 참여 여부는 ChatChannelInterceptor 에서 확인)
+   *
+   * @param chatRoomId
+   * @param user
+   * @param chatReadCursorRequest
+   */
+  public void markRead(Long chatRoomId, User user, ChatReadCursorRequest chatReadCursorRequest) {
+    chatUnreadCounter.markRead(user.getId(), chatRoomId,
+        chatReadCursorRequest.getLastReadMessageId());
+  }
+
+  /**
+   * 채팅방 읽은 위치 변경 (REST)
+   *
+   * @param chatRoomId
+   * @param chatReadCursorRequest
+   */
+  public void updateReadCursor(Long chatRoomId, ChatReadCursorRequest chatReadCursorRequest) {
+    validateChatRoomAccess(chatRoomId);
 
-    User user = userRepository.findById(senderId)
-        .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-    return ChatMessageDto.fromEntity(
-        chatMessageRepository.save(
-            ChatMessage.builder()
-                .chatRoom(chatRoom)
-                .sender(user)
-                .content(chatMessageRequest.getContent())
-                .createdAt(LocalDateTime.now())
-                .build()
-        )
-    );
+    chatUnreadCounter.markRead(authService.getLoginUserId(), chatRoomId,
+        chatReadCursorRequest.getLastReadMessageId());
+  }
+
+  /**
+   * 로그인 사용자가 참여 중인 모든 채팅방의 안 읽은 메시지 수 조회
+   *
+   * @return List<ChatUnreadCountDto>
+   */
+  public List<ChatUnreadCountDto> getUnreadCounts() {
+    Long loginUserId = authService.getLoginUserId();
+
+    List<Long> chatRoomIds = chatRoomRepository.findAllIdsByStudentUserId(loginUserId);
+    return chatUnreadCounter.getUnreadCounts(loginUserId, chatRoomIds).entrySet().stream()
+        .map(entry -> ChatUnreadCountDto.builder()
+            .chatRoomId(entry.getKey())
+            .unreadCount(entry.getValue())
+            .build())
+        .toList();
   }
 
   /**
    * 특정 채팅방의 채팅 메시지 조회
+   * <p>
+   * 최근 메시지는 ChatMessageRecentBuffer 에서 조회하고, 버퍼보다 오래된 페이지는 버퍼의 가장 오래된 메시지 ID 를 기준으로
+   * keyset 조회합니다.
    *
    * @param chatRoomId
    * @return List<ChatMessageDto>
    */
   public Page<ChatMessageDto> getChatMessages(Long chatRoomId, Integer page) {
+    validateChatRoomAccess(chatRoomId);
+
+    Pageable pageable = PageRequest.of(page, PAGE_SIZE, Sort.by("createdAt").descending());
+
+    RecentMessages recentMessages = getRecentMessages(chatRoomId);
+    List<ChatMessageDto> recent = recentMessages.getMessages();
+    int from = (int) pageable.getOffset();
+    if (from < recent.size()) {
+      return new PageImpl<>(recent.subList(from, Math.min(from + PAGE_SIZE, recent.size())),
+          pageable, recentMessages.getTotal());
+    }
+
+    if (recent.size() < ChatMessageRecentBuffer.CAPACITY) {
+      return new PageImpl<>(List.of(), pageable, recentMessages.getTotal()); // 버퍼가 전체 내역
+    }
+
+    // 버퍼 크기는 페이지 크기의 배수이므로 버퍼 이후는 페이지 단위로 이어짐
+    Long beforeId = recent.isEmpty() ? Long.MAX_VALUE : recent.get(recent.size() - 1).getId();
+    Pageable olderPageable = PageRequest.of((from - recent.size()) / PAGE_SIZE, PAGE_SIZE);
+    return new PageImpl<>(findSummariesBefore(chatRoomId, beforeId, olderPageable), pageable,
+        recentMessages.getTotal());
+  }
+
+  /**
+   * 특정 채팅방의 채팅 메시지 커서 조회
+   * <p>
+   * before 보다 이전 메시지를 최신순으로 PAGE_SIZE 개 조회합니다. 최근 메시지 버퍼로 채울 수 있으면 버퍼에서, 아니면
+   * (chat_room_id, id) 인덱스로 필요한 컬럼만 조회하며 메시지 수는 세지 않습니다.
+   *
+   * @param chatRoomId
+   * @param before     이 메시지 ID 보다 이전 메시지 조회 (첫 페이지는 Long.MAX_VALUE)
+   * @return ChatMessageCursorResponse
+   */
+  public ChatMessageCursorResponse getChatMessagesBefore(Long chatRoomId, Long before) {
+    validateChatRoomAccess(chatRoomId);
+
+    // 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+    List<ChatMessageDto> messages = findBefore(chatRoomId, before, PAGE_SIZE + 1);
+    boolean hasNext = messages.size() > PAGE_SIZE;
+    List<ChatMessageDto> content = hasNext ? messages.subList(0, PAGE_SIZE) : messages;
+
+    return ChatMessageCursorResponse.builder()
+        .content(content)
+        .nextBefore(hasNext ? content.get(content.size() - 1).getId() : null)
+        .hasNext(hasNext)
+        .build();
+  }
+
+  private void validateChatRoomAccess(Long chatRoomId) {
     ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
         .orElseThrow(() -> new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND));
 
@@ -81,10 +188,76 @@ public class ChatMessageService {
     if (!isExistsStudent) {
       throw new CustomException(ErrorCode.DOES_NOT_STUDENT_OF_STUDY);
     }
+  }
 
-    Pageable pageable = PageRequest.of(page, 20, Sort.by("createdAt").descending());
+  // before 이전 메시지를 최신순으로 최대 limit 개 조회 (버퍼에 없는 부분만 DB 조회)
+  private List<ChatMessageDto> findBefore(Long chatRoomId, Long before, int limit) {
+    RecentMessages recentMessages = chatMessageRecentBuffer.get(chatRoomId);
+    if (recentMessages == null) {
+      return findSummariesBefore(chatRoomId, before, PageRequest.of(0, limit));
+    }
+
+    List<ChatMessageDto> recent = recentMessages.getMessages();
+    List<ChatMessageDto> buffered = recent.stream()
+        .filter(message -> message.getId() < before)
+        .limit(limit)
+        .toList();
+    if (buffered.size() == limit || recent.size() < ChatMessageRecentBuffer.CAPACITY) {
+      return buffered; // 버퍼가 전체 내역이면 더 오래된 메시지 없음
+    }
 
-    return chatMessageRepository.findAllByChatRoom(chatRoom, pageable)
-        .map(ChatMessageDto::fromEntity);
+    Long beforeId = buffered.isEmpty() ? before : buffered.get(buffered.size() - 1).getId();
+    List<ChatMessageDto> messages = new ArrayList<>(buffered);
+    messages.addAll(findSummariesBefore(chatRoomId, beforeId,
+        PageRequest.of(0, limit - buffered.size())));
+    return messages;
+  }
+
+  private RecentMessages getRecentMessages(Long chatRoomId) {
+    RecentMessages recentMessages = chatMessageRecentBuffer.get(chatRoomId);
+    if (recentMessages != null) {
+      return recentMessages;
+    }
+
+    List<ChatMessageDto> loaded = findSummariesBefore(chatRoomId, Long.MAX_VALUE,
+        PageRequest.of(0, ChatMessageRecentBuffer.CAPACITY));
+    long count = chatMessageRepository.countByChatRoomId(chatRoomId)
+        + chatMessageArchiveRepository.countByChatRoomId(chatRoomId);
+    return chatMessageRecentBuffer.fill(chatRoomId, loaded, count);
+  }
+
+  /**
+   * beforeId 이전 메시지를 chat_message 에서 조회하고, 모자라면 보관 테이블에서 이어서 조회
+   * <p>
+   * 보관 메시지의 ID 는 모두 chat_message 의 ID 보다 작으므로 최신순으로 chat_message 다음에 보관 메시지가 옵니다.
+   */
+  private List<ChatMessageDto> findSummariesBefore(Long chatRoomId, Long beforeId,
+      Pageable pageable) {
+    List<ChatMessageSummary> summaries = new ArrayList<>(
+        chatMessageRepository.findSummariesBefore(chatRoomId, beforeId, pageable));
+
+    int remaining = pageable.getPageSize() - summaries.size();
+    if (remaining > 0) {
+      // 페이지 중간부터 보관 메시지이면 처음부터, 페이지 전체가 보관 메시지이면 건너뛸 개수를 구함
+      long skip = summaries.isEmpty() && pageable.getOffset() > 0 ? pageable.getOffset()
+          - chatMessageRepository.countByChatRoomIdAndIdLessThan(chatRoomId, beforeId) : 0;
+      summaries.addAll(findArchivedSummariesBefore(chatRoomId, beforeId, Math.max(skip, 0),
+          remaining));
+    }
+
+    return summaries.stream()
+        .map(ChatMessageSummary::toDto)
+        .toList();
+  }
+
+  private List<ChatMessageSummary> findArchivedSummariesBefore(Long chatRoomId, Long beforeId,
+      long skip, int limit) {
+    if (skip % limit == 0) {
+      return chatMessageArchiveRepository.findSummariesBefore(chatRoomId, beforeId,
+          PageRequest.of((int) (skip / limit), limit));
+    }
+    List<ChatMessageSummary> summaries = chatMessageArchiveRepository.findSummariesBefore(
+        chatRoomId, beforeId, PageRequest.of(0, (int) skip + limit));
+    return summaries.subList(Math.min((int) skip, summaries.size()), summaries.size());
   }
 }
@@ -0,0 +1,145 @@
+package com.devonoff.domain.chat.util;
+
+import com.devonoff.domain.chat.entity.ChatRoom;
+import com.devonoff.domain.chat.repository.ChatRoomRepository;
+import com.devonoff.domain.chat.util.ChatSessionRegistry.ChatSession;
+import com.devonoff.domain.student.repository.StudentRepository;
+import com.devonoff.domain.user.entity.User;
+import com.devonoff.exception.CustomException;
+import com.devonoff.type.ErrorCode;
+import com.devonoff.util.JwtAuthenticationFilter;
+import com.devonoff.util.JwtProvider;
+import io.jsonwebtoken.JwtException;
+import java.security.Principal;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 채팅 STOMP 인증/권한 확인
+ * <p>
+ * CONNECT 시 JWT 를 한 번 검증해 세션 사용자로 등록하고, 채팅방 SEND/SUBSCRIBE 는 세션에 캐시된 참여 정보로
+ * 확인합니다. 캐시에 없는 채팅방만 DB 에서 참여 여부를 확인합니다. 채팅 이외의 목적지(화상 채팅 시그널링)는 그대로
+ * 통과합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatChannelInterceptor implements ChannelInterceptor {
+
+  // /app/chat/{chatRoomId}/send-messages, /topic/chat/{chatRoomId}
+  private static final Pattern CHAT_DESTINATION = Pattern.compile(
+      "^/(?:app|topic)/chat/(\\d+)(?:/.*)?$");
+
+  private final JwtProvider jwtProvider;
+  private final ChatSessionRegistry chatSessionRegistry;
+  private final ChatRoomRepository chatRoomRepository;
+  private final StudentRepository studentRepository;
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    StompHeaderAccessor accessor =
+        MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+    if (accessor == null || accessor.getCommand() == null) {
+      return message;
+    }
+
+    StompCommand command = accessor.getCommand();
+    if (command == StompCommand.CONNECT) {
+      authenticate(accessor);
+    } else if (command == StompCommand.SEND || command == StompCommand.SUBSCRIBE) {
+      Long chatRoomId = resolveChatRoomId(accessor.getDestination());
+      if (chatRoomId != null) {
+        checkMembership(accessor.getSessionId(), chatRoomId);
+      }
+    }
+    return message;
+  }
+
+  /**
+   * CONNECT 헤더의 토큰으로 사용자 인증 (토큰이 없으면 핸드셰이크 사용자 사용)
+   */
+  private void authenticate(StompHeaderAccessor accessor) {
+    String token = resolveToken(accessor);
+    Authentication authentication;
+    if (token != null) {
+      authentication = validateAndGetAuthentication(token);
+      accessor.setUser(authentication);
+    } else if (accessor.getUser() instanceof Authentication handshakeUser
+        && handshakeUser.getPrincipal() instanceof User) {
+      authentication = handshakeUser;
+    } else {
+      // 시그널링 등 인증 없이 연결하는 세션은 채팅 목적지를 사용할 수 없음
+      return;
+    }
+
+    User user = (User) authentication.getPrincipal();
+    chatSessionRegistry.register(accessor.getSessionId(), user.getId());
+  }
+
+  private Authentication validateAndGetAuthentication(String token) {
+    try {
+      if (!jwtProvider.validateToken(token)) {
+        throw new CustomException(ErrorCode.EXPIRED_TOKEN);
+      }
+    } catch (JwtException | IllegalArgumentException e) {
+      throw new CustomException(ErrorCode.INVALID_TOKEN);
+    }
+    return jwtProvider.getAuthentication(token);
+  }
+
+  private void checkMembership(String sessionId, Long chatRoomId) {
+    ChatSession session = chatSessionRegistry.getSession(sessionId);
+    if (session == null) {
+      throw new CustomException(ErrorCode.CHAT_ACCESS_DENIED);
+    }
+    if (session.isMemberOf(chatRoomId)) {
+      return;
+    }
+
+    long version = session.getVersion();
+    ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
+        .orElseThrow(() -> new CustomException(ErrorCode.CHAT_ROOM_NOT_FOUND));
+    Long studyId = chatRoom.getStudy().getId();
+    if (!studentRepository.existsByUserIdAndStudyId(session.getUserId(), studyId)) {
+      throw new CustomException(ErrorCode.DOES_NOT_STUDENT_OF_STUDY);
+    }
+    session.cacheMembership(chatRoomId, studyId, version);
+  }
+
+  private static String resolveToken(StompHeaderAccessor accessor) {
+    String header = accessor.getFirstNativeHeader(JwtAuthenticationFilter.TOKEN_HEADER);
+    if (!StringUtils.hasText(header)
+        || !header.startsWith(JwtAuthenticationFilter.TOKEN_PREFIX)) {
+      return null;
+    }
+    return header.substring(JwtAuthenticationFilter.TOKEN_PREFIX.length());
+  }
+
+  private static Long resolveChatRoomId(String destination) {
+    if (destination == null) {
+      return null;
+    }
+    Matcher matcher = CHAT_DESTINATION.matcher(destination);
+    return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+  }
+
+  /**
+   * 인증된 세션 사용자 (CONNECT 시 등록한 Authentication 의 User)
+   */
+  public static User getUser(Principal principal) {
+    if (principal instanceof Authentication authentication
+        && authentication.getPrincipal() instanceof User user) {
+      return user;
+    }
+    throw new CustomException(ErrorCode.CHAT_ACCESS_DENIED);
+  }
+}
@@ -0,0 +1,77 @@
+package com.devonoff.domain.chat.util;
+
+import jakarta.annotation.PostConstruct;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 ID 생성기 (시간 41비트 + 서버 번호 10비트 + 순번 12비트)
+ * <p>
+ * 메시지를 DB 에 저장하기 전에 ID 를 정하기 위해 사용합니다. 서버 번호는 시작 시 Redis INCR 로 받아 서버마다 다르게
+ * 하고, 한 서버 안에서는 항상 증가하므로 ID 순서가 곧 작성 순서입니다.
+ * <p>
+ * ID 가 2^53 보다 커서 JavaScript 숫자로는 정확히 표현할 수 없으므로, API 와 STOMP 메시지에서는 문자열로 주고받습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageIdGenerator {
+
+  private static final String WORKER_ID_KEY = "ChatMessage:workerId";
+  private static final long EPOCH = 1704067200000L; // 2024-01-01T00:00:00Z
+  private static final int WORKER_ID_BITS = 10;
+  private static final int SEQUENCE_BITS = 12;
+  private static final long MAX_WORKER_ID = (1L << WORKER_ID_BITS) - 1;
+  private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+  private final RedisTemplate<String, Object> redisTemplate;
+
+  private long workerId;
+  private long lastMillis = -1L;
+  private long sequence = 0L;
+
+  @PostConstruct
+  public void init() {
+    try {
+      Long issued = redisTemplate.opsForValue().increment(WORKER_ID_KEY);
+      workerId = issued & MAX_WORKER_ID;
+    } catch (Exception e) {
+      workerId = ThreadLocalRandom.current().nextLong(MAX_WORKER_ID + 1);
+      log.warn("채팅 메시지 ID 서버 번호 발급 실패 - 임의 번호 {} 를 사용합니다.", workerId, e);
+    }
+    log.info("채팅 메시지 ID 서버 번호 - {}", workerId);
+  }
+
+  public long nextId() {
+    return nextId(System.currentTimeMillis());
+  }
+
+  synchronized long nextId(long now) {
+    if (now <= lastMillis) {
+      // 같은 밀리초이거나 시계가 뒤로 간 경우 마지막 시각 기준으로 순번 증가
+      sequence = (sequence + 1) & MAX_SEQUENCE;
+      now = sequence == 0 ? lastMillis + 1 : lastMillis;
+    } else {
+      sequence = 0L;
+    }
+    lastMillis = now;
+
+    return ((now - EPOCH) << (WORKER_ID_BITS + SEQUENCE_BITS))
+        | (workerId << SEQUENCE_BITS)
+        | sequence;
+  }
+
+  /**
+   * 해당 시각 이후에 발급되는 가장 작은 ID (ID 범위로 시각을 나눌 때 사용)
+   */
+  public static long firstIdAt(long epochMillis) {
+    return Math.max(epochMillis - EPOCH, 0L) << (WORKER_ID_BITS + SEQUENCE_BITS);
+  }
+
+  public long getWorkerId() {
+    return workerId;
+  }
+}
@@ -0,0 +1,224 @@
+package com.devonoff.domain.chat.util;
+
+import com.devonoff.domain.chat.dto.ChatMessageDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방별 최근 메시지 버퍼 (Redis 리스트, 최신순 최대 CAPACITY 개)
+ * <p>
+ * 메시지를 보낼 때마다 리스트 앞에 추가하고, 채팅방 메시지 수는 별도 키로 함께 관리합니다. 메시지 수 키가 있으면 리스트가
+ * 최근 메시지를 빠짐없이 담고 있다는 뜻이며, 없으면(서버 재시작, 만료 등) DB 에서 다시 채웁니다. 다시 채울 때는 지연 저장
+ * 큐에 있어 아직 DB 에 없는 메시지도 리스트에서 가져와 합칩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageRecentBuffer {
+
+  // 페이지 크기(20)의 배수로 유지 (버퍼 이후 페이지를 페이지 단위 keyset 조회로 이어가기 위함)
+  public static final int CAPACITY = 100;
+
+  private static final String KEY_PREFIX = "ChatRoom:recent:";
+  private static final Duration TTL = Duration.ofDays(1);
+
+  // 리스트 앞에 추가 후 CAPACITY 개로 자르고, 채워진 버퍼인 경우에만 메시지 수 증가
+  private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>(
+      "redis.call('LPUSH', KEYS[1], ARGV[1]) "
+          + "redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[2]) - 1) "
+          + "redis.call('EXPIRE', KEYS[1], tonumber(ARGV[3])) "
+          + "if redis.call('EXISTS', KEYS[2]) == 1 then "
+          + "redis.call('INCR', KEYS[2]) "
+          + "redis.call('EXPIRE', KEYS[2], tonumber(ARGV[3])) "
+          + "end "
+          + "return 1", Long.class);
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 보낸 메시지 추가
+   */
+  public void append(Long chatRoomId, ChatMessageDto chatMessageDto) {
+    try {
+      redisTemplate.execute(APPEND_SCRIPT, List.of(listKey(chatRoomId), countKey(chatRoomId)),
+          objectMapper.writeValueAsString(chatMessageDto), CAPACITY, TTL.toSeconds());
+    } catch (Exception e) {
+      log.warn("최근 메시지 버퍼 추가 실패 - chatRoomId: {}", chatRoomId, e);
+      evict(chatRoomId); // 빠진 메시지가 있으므로 다음 조회에서 다시 채움
+    }
+  }
+
+  /**
+   * 버퍼의 최근 메시지 조회
+   *
+   * @return RecentMessages (버퍼가 채워져 있지 않으면 null)
+   */
+  public RecentMessages get(Long chatRoomId) {
+    try {
+      List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object execute(RedisOperations operations) throws DataAccessException {
+          operations.opsForValue().get(countKey(chatRoomId));
+          operations.opsForList().range(listKey(chatRoomId), 0, CAPACITY - 1);
+          return null;
+        }
+      });
+
+      if (!(results.get(0) instanceof Number total)) {
+        return null;
+      }
+      return new RecentMessages(parse(results.get(1)), total.longValue());
+    } catch (Exception e) {
+      log.warn("최근 메시지 버퍼 조회 실패 - chatRoomId: {}", chatRoomId, e);
+      return null;
+    }
+  }
+
+  /**
+   * DB 에서 조회한 최근 메시지로 버퍼 채우기
+   * <p>
+   * 버퍼에 먼저 들어와 있던 메시지(아직 DB 에 저장되지 않은 메시지)를 합치며, 채우는 도중 새 메시지가 추가되면 저장하지 않고
+   * 다음 조회에서 다시 채웁니다.
+   *
+   * @param loaded  DB 의 최근 메시지 (최신순, 최대 CAPACITY 개)
+   * @param dbCount DB 의 채팅방 메시지 수
+   * @return RecentMessages 합친 결과
+   */
+  public RecentMessages fill(Long chatRoomId, List<ChatMessageDto> loaded, long dbCount) {
+    String listKey = listKey(chatRoomId);
+    String countKey = countKey(chatRoomId);
+    RecentMessages[] merged = {new RecentMessages(loaded, dbCount)};
+
+    try {
+      List<Object> committed = redisTemplate.execute(new SessionCallback<List<Object>>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public List<Object> execute(RedisOperations operations) throws DataAccessException {
+          operations.watch(listKey);
+          merged[0] = merge(loaded, dbCount,
+              parse(operations.opsForList().range(listKey, 0, CAPACITY - 1)));
+
+          operations.multi();
+          operations.delete(List.of(listKey, countKey));
+          for (ChatMessageDto message : merged[0].getMessages()) {
+            operations.opsForList().rightPush(listKey, write(message));
+          }
+          operations.opsForValue().increment(countKey, merged[0].getTotal());
+          operations.expire(listKey, TTL);
+          operations.expire(countKey, TTL);
+          return operations.exec();
+        }
+      });
+
+      if (committed == null || committed.isEmpty()) {
+        log.debug("최근 메시지 버퍼 채우기 중 새 메시지 추가 - chatRoomId: {}", chatRoomId);
+      }
+    } catch (Exception e) {
+      log.warn("최근 메시지 버퍼 채우기 실패 - chatRoomId: {}", chatRoomId, e);
+    }
+    return merged[0];
+  }
+
+  public void evict(Long chatRoomId) {
+    try {
+      redisTemplate.delete(List.of(listKey(chatRoomId), countKey(chatRoomId)));
+    } catch (Exception e) {
+      log.warn("최근 메시지 버퍼 삭제 실패 - chatRoomId: {}", chatRoomId, e);
+    }
+  }
+
+  /**
+   * DB 조회 결과와 버퍼에 있던 메시지를 ID 최신순으로 합침
+   */
+  static RecentMessages merge(List<ChatMessageDto> loaded, long dbCount,
+      List<ChatMessageDto> buffered) {
+    Set<Long> loadedIds = new HashSet<>();
+    loaded.forEach(message -> loadedIds.add(message.getId()));
+    long oldestLoadedId = loaded.isEmpty() ? Long.MIN_VALUE
+        : loaded.get(loaded.size() - 1).getId();
+    boolean loadedAll = loaded.size() < CAPACITY;
+
+    Map<Long, ChatMessageDto> byId = new LinkedHashMap<>();
+    loaded.forEach(message -> byId.put(message.getId(), message));
+    long pending = 0;
+    for (ChatMessageDto message : buffered) {
+      if (loadedIds.contains(message.getId())) {
+        continue;
+      }
+      // DB 조회 범위 안인데 없는 메시지는 아직 저장 전
+      if (loadedAll || message.getId() > oldestLoadedId) {
+        pending++;
+      }
+      byId.putIfAbsent(message.getId(), message);
+    }
+
+    List<ChatMessageDto> messages = new ArrayList<>(byId.values());
+    messages.sort(Comparator.comparing(ChatMessageDto::getId).reversed());
+    if (messages.size() > CAPACITY) {
+      messages = new ArrayList<>(messages.subList(0, CAPACITY));
+    }
+    return new RecentMessages(messages, dbCount + pending);
+  }
+
+  private List<ChatMessageDto> parse(Object values) {
+    List<ChatMessageDto> messages = new ArrayList<>();
+    if (values instanceof List<?> list) {
+      for (Object value : list) {
+        try {
+          messages.add(objectMapper.readValue((String) value, ChatMessageDto.class));
+        } catch (JsonProcessingException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+    }
+    return messages;
+  }
+
+  private String write(ChatMessageDto message) {
+    try {
+      return objectMapper.writeValueAsString(message);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String listKey(Long chatRoomId) {
+    return KEY_PREFIX + chatRoomId;
+  }
+
+  private static String countKey(Long chatRoomId) {
+    return KEY_PREFIX + chatRoomId + ":count";
+  }
+
+  /**
+   * 최근 메시지 (최신순) 와 채팅방 전체 메시지 수
+   */
+  @Getter
+  @AllArgsConstructor
+  public static class RecentMessages {
+
+    private List<ChatMessageDto> messages;
+    private long total;
+  }
+}
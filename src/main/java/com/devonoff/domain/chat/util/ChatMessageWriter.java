@@ -0,0 +1,215 @@
+package com.devonoff.domain.chat.util;
+
+import com.devonoff.domain.chat.entity.ChatMessage;
+import com.devonoff.domain.chat.entity.ChatRoom;
+import com.devonoff.domain.user.entity.User;
+import com.devonoff.exception.CustomException;
+import com.devonoff.type.ErrorCode;
+import com.devonoff.util.WriteBehindWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 채팅 메시지 지연 저장 (write-behind)
+ * <p>
+ * 메시지를 큐에 넣고 바로 반환하며, 저장 스레드가 JDBC 배치 INSERT 로 저장합니다 (WriteBehindWriter). 큐가 가득
+ * 차면 offer-timeout 동안 기다린 뒤 거절합니다. 저장이 끝나기 전(최대 flush-interval)에는 메시지 목록 조회에 나타나지
+ * 않을 수 있습니다.
+ * <p>
+ * 재시도해도 저장하지 못한 배치는 이미 전송된 메시지이므로 버리지 않고 Redis 목록(FAILED_KEY)에 옮겨 두었다가
+ * retry-interval 마다 다시 저장합니다.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriter extends WriteBehindWriter<ChatMessage> {
+
+  private static final String INSERT_SQL = "INSERT INTO chat_message "
+      + "(id, content, created_at, user_id, chat_room_id) VALUES (?, ?, ?, ?, ?)";
+  static final String FAILED_KEY = "ChatMessage:failed";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ObjectMapper objectMapper;
+  private final long offerTimeoutMillis;
+  private final Counter rejected;
+
+  public ChatMessageWriter(JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager, StringRedisTemplate stringRedisTemplate,
+      ObjectMapper objectMapper, MeterRegistry meterRegistry,
+      @Value("${chat.message.write-behind.queue-capacity:10000}") int queueCapacity,
+      @Value("${chat.message.write-behind.flush-size:200}") int flushSize,
+      @Value("${chat.message.write-behind.flush-interval-ms:50}") long flushIntervalMillis,
+      @Value("${chat.message.write-behind.offer-timeout-ms:100}") long offerTimeoutMillis) {
+    super("chat-message-writer", queueCapacity, flushSize, flushIntervalMillis);
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.objectMapper = objectMapper;
+    this.offerTimeoutMillis = offerTimeoutMillis;
+    this.rejected = Counter.builder("chat.message.write_behind.rejected")
+        .description("큐가 가득 차 거절된 채팅 메시지 수")
+        .register(meterRegistry);
+    Gauge.builder("chat.message.write_behind.queue.size", this, ChatMessageWriter::pendingCount)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 저장할 메시지를 큐에 추가 (ID, 작성 시각이 정해진 메시지)
+   * <p>
+   * 저장 스레드가 동작하지 않는 동안(시작 전, 종료 후)에는 호출한 스레드에서 바로 저장합니다.
+   */
+  public void enqueue(ChatMessage chatMessage) {
+    OfferResult result;
+    try {
+      result = offer(chatMessage, offerTimeoutMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CustomException(ErrorCode.CHAT_MESSAGE_SEND_FAILED);
+    }
+    if (result == OfferResult.FULL) {
+      rejected.increment();
+      throw new CustomException(ErrorCode.CHAT_MESSAGE_QUEUE_FULL);
+    }
+    if (result == OfferResult.STOPPED) {
+      insertNow(chatMessage);
+    }
+  }
+
+  /**
+   * 저장하지 못해 Redis 에 옮겨 둔 메시지 다시 저장
+   */
+  @Scheduled(fixedDelayString = "${chat.message.write-behind.retry-interval-ms:30000}")
+  public void retryFailed() {
+    List<String> values;
+    try {
+      values = stringRedisTemplate.opsForList().leftPop(FAILED_KEY, getFlushSize());
+    } catch (Exception e) {
+      log.warn("저장 실패 채팅 메시지 조회 실패", e);
+      return;
+    }
+    if (values == null || values.isEmpty()) {
+      return;
+    }
+
+    List<ChatMessage> batch = new ArrayList<>(values.size());
+    for (String value : values) {
+      try {
+        batch.add(objectMapper.readValue(value, FailedMessage.class).toEntity());
+      } catch (Exception e) {
+        log.error("잘못된 저장 실패 채팅 메시지 - {}", value, e);
+      }
+    }
+    try {
+      insertSkippingDuplicates(batch);
+      log.info("저장 실패 채팅 메시지 {}건 저장", batch.size());
+    } catch (Exception e) {
+      log.warn("저장 실패 채팅 메시지 재저장 실패 - {}건", batch.size(), e);
+      stringRedisTemplate.opsForList().rightPushAll(FAILED_KEY, values);
+    }
+  }
+
+  @Override
+  protected void onFlushFailed(List<ChatMessage> batch, Exception e) {
+    log.error("채팅 메시지 저장 실패 - {}건, 나중에 다시 저장합니다.", batch.size(), e);
+    deferFailed(batch);
+  }
+
+  private void insertNow(ChatMessage chatMessage) {
+    try {
+      insert(List.of(chatMessage));
+    } catch (Exception e) {
+      log.error("채팅 메시지 저장 실패 - id: {}", chatMessage.getId(), e);
+      throw new CustomException(ErrorCode.CHAT_MESSAGE_SEND_FAILED);
+    }
+  }
+
+  private void deferFailed(List<ChatMessage> batch) {
+    List<String> values = new ArrayList<>(batch.size());
+    try {
+      for (ChatMessage chatMessage : batch) {
+        values.add(objectMapper.writeValueAsString(FailedMessage.of(chatMessage)));
+      }
+      stringRedisTemplate.opsForList().rightPushAll(FAILED_KEY, values);
+    } catch (Exception e) {
+      log.error("저장 실패 채팅 메시지 보관 실패 - messages: {}", values, e);
+    }
+  }
+
+  // 이미 저장된 메시지가 섞여 있으면 (저장 후 응답만 실패한 경우) 한 건씩 저장하며 건너뜀
+  private void insertSkippingDuplicates(List<ChatMessage> batch) {
+    try {
+      insert(batch);
+    } catch (DuplicateKeyException e) {
+      for (ChatMessage chatMessage : batch) {
+        try {
+          insert(List.of(chatMessage));
+        } catch (DuplicateKeyException duplicate) {
+          log.info("이미 저장된 채팅 메시지 - id: {}", chatMessage.getId());
+        }
+      }
+    }
+  }
+
+  // 배치 단위로 커밋 (재시도 시 일부만 저장된 상태가 남지 않도록)
+  @Override
+  protected void insert(List<ChatMessage> batch) {
+    transactionTemplate.executeWithoutResult(status ->
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, chatMessage) -> {
+          ps.setLong(1, chatMessage.getId());
+          ps.setString(2, chatMessage.getContent());
+          ps.setTimestamp(3, Timestamp.valueOf(chatMessage.getCreatedAt()));
+          ps.setLong(4, chatMessage.getSender().getId());
+          ps.setLong(5, chatMessage.getChatRoom().getId());
+        }));
+  }
+
+  /**
+   * 저장하지 못한 메시지 (INSERT 에 필요한 값만 보관)
+   */
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  static class FailedMessage {
+
+    private Long id;
+    private String content;
+    private LocalDateTime createdAt;
+    private Long userId;
+    private Long chatRoomId;
+
+    static FailedMessage of(ChatMessage chatMessage) {
+      return new FailedMessage(chatMessage.getId(), chatMessage.getContent(),
+          chatMessage.getCreatedAt(), chatMessage.getSender().getId(),
+          chatMessage.getChatRoom().getId());
+    }
+
+    ChatMessage toEntity() {
+      return ChatMessage.builder()
+          .id(id)
+          .content(content)
+          .createdAt(createdAt)
+          .sender(User.builder().id(userId).build())
+          .chatRoom(ChatRoom.builder().id(chatRoomId).build())
+          .build();
+    }
+  }
+}
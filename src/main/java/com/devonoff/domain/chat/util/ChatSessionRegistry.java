@@ -0,0 +1,133 @@
+package com.devonoff.domain.chat.util;
+
+import com.devonoff.common.event.StudentRemovedEvent;
+import com.devonoff.common.event.UserWithdrawnEvent;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+/**
+ * 채팅 STOMP 세션 정보 (인증된 사용자, 참여가 확인된 채팅방)
+ * <p>
+ * CONNECT 시 인증한 사용자와 한 번 확인한 채팅방 참여 여부를 세션에 보관해, SEND/SUBSCRIBE 마다 DB 를 조회하지 않도록
+ * 합니다. 스터디 참가자 제거, 회원 탈퇴 시 해당 사용자의 캐시를 무효화합니다.
+ */
+@Slf4j
+@Component
+public class ChatSessionRegistry {
+
+  // 세션 ID -> 세션 정보
+  private final Map<String, ChatSession> sessions = new ConcurrentHashMap<>();
+  // 사용자 ID -> 세션 ID 목록 (한 사용자가 여러 탭으로 접속 가능)
+  private final Map<Long, Set<String>> sessionIdsByUserId = new ConcurrentHashMap<>();
+
+  public void register(String sessionId, Long userId) {
+    sessions.put(sessionId, new ChatSession(userId));
+    sessionIdsByUserId.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet())
+        .add(sessionId);
+  }
+
+  public ChatSession getSession(String sessionId) {
+    return sessionId == null ? null : sessions.get(sessionId);
+  }
+
+  public void unregister(String sessionId) {
+    ChatSession session = sessions.remove(sessionId);
+    if (session == null) {
+      return;
+    }
+    sessionIdsByUserId.computeIfPresent(session.getUserId(), (userId, sessionIds) -> {
+      sessionIds.remove(sessionId);
+      return sessionIds.isEmpty() ? null : sessionIds;
+    });
+  }
+
+  public int sessionCount() {
+    return sessions.size();
+  }
+
+  @EventListener
+  public void handleSessionDisconnect(SessionDisconnectEvent event) {
+    unregister(event.getSessionId());
+  }
+
+  /**
+   * 스터디에서 제외된 사용자의 해당 스터디 채팅방 참여 정보 삭제
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void handleStudentRemoved(StudentRemovedEvent event) {
+    forEachSession(event.getUserId(), session -> session.evictStudy(event.getStudyId()));
+  }
+
+  /**
+   * 탈퇴한 사용자의 세션 정보 삭제 (이후 채팅 프레임은 거부)
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void handleUserWithdrawn(UserWithdrawnEvent event) {
+    Set<String> sessionIds = sessionIdsByUserId.remove(event.getUserId());
+    if (sessionIds == null) {
+      return;
+    }
+    sessionIds.forEach(sessions::remove);
+    log.info("탈퇴한 사용자의 채팅 세션 정보 삭제 - userId: {}, 세션 {}개",
+        event.getUserId(), sessionIds.size());
+  }
+
+  private void forEachSession(Long userId, Consumer<ChatSession> action) {
+    Set<String> sessionIds = sessionIdsByUserId.get(userId);
+    if (sessionIds == null) {
+      return;
+    }
+    for (String sessionId : sessionIds) {
+      ChatSession session = sessions.get(sessionId);
+      if (session != null) {
+        action.accept(session);
+      }
+    }
+  }
+
+  /**
+   * 세션별 인증 사용자와 참여가 확인된 채팅방 (채팅방 ID -> 스터디 ID)
+   */
+  public static class ChatSession {
+
+    @Getter
+    private final Long userId;
+    private final Map<Long, Long> studyIdByChatRoomId = new ConcurrentHashMap<>();
+    // 무효화 횟수 (DB 확인 중 무효화된 결과가 다시 캐시되지 않도록 비교)
+    private long version = 0L;
+
+    ChatSession(Long userId) {
+      this.userId = userId;
+    }
+
+    public boolean isMemberOf(Long chatRoomId) {
+      return studyIdByChatRoomId.containsKey(chatRoomId);
+    }
+
+    public synchronized long getVersion() {
+      return version;
+    }
+
+    /**
+     * 참여 확인 결과 저장 (확인을 시작한 뒤 무효화가 있었다면 저장하지 않음)
+     */
+    public synchronized void cacheMembership(Long chatRoomId, Long studyId, long checkedVersion) {
+      if (version == checkedVersion) {
+        studyIdByChatRoomId.put(chatRoomId, studyId);
+      }
+    }
+
+    synchronized void evictStudy(Long studyId) {
+      version++;
+      studyIdByChatRoomId.values().removeIf(studyId::equals);
+    }
+  }
+}
@@ -0,0 +1,194 @@
+package com.devonoff.domain.chat.util;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방별 안 읽은 메시지 수 (Redis)
+ * <p>
+ * 채팅방마다 최근 메시지 ID 를 정렬 집합에, 사용자마다 채팅방별 읽은 위치(마지막으로 읽은 메시지 ID)를 해시에 저장하고, 읽은
+ * 위치보다 뒤의 메시지 수를 셉니다. ID 는 19자리로 0 을 채워 같은 점수로 넣으므로 사전순이 곧 ID 순이며, ZLEXCOUNT 로
+ * 정확히 셉니다. 채팅방마다 최근 MAX_TRACKED 개만 두므로 그보다 많으면 MAX_TRACKED 로 셉니다.
+ * <p>
+ * 읽은 위치는 바로 저장하지 않고 사용자/채팅방별로 가장 뒤의 위치만 모아 두었다가 flush-interval 마다 저장합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatUnreadCounter {
+
+  public static final int MAX_TRACKED = 1000;
+
+  private static final String MESSAGES_KEY_PREFIX = "ChatRoom:messageIds:";
+  private static final String CURSOR_KEY_PREFIX = "ChatUser:readCursor:";
+  private static final Duration TTL = Duration.ofDays(30);
+
+  // 메시지 ID 추가 후 최근 MAX_TRACKED 개만 유지
+  private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>(
+      "redis.call('ZADD', KEYS[1], 0, ARGV[1]) "
+          + "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -tonumber(ARGV[2]) - 1) "
+          + "redis.call('EXPIRE', KEYS[1], tonumber(ARGV[3])) "
+          + "return 1", Long.class);
+
+  // 채팅방별 읽은 위치를 저장된 위치보다 뒤일 때만 저장 (ARGV: TTL, 채팅방 ID, 위치, 채팅방 ID, 위치, ...)
+  private static final RedisScript<Long> MOVE_CURSORS_SCRIPT = new DefaultRedisScript<>(
+      "local moved = 0 "
+          + "for i = 2, #ARGV, 2 do "
+          + "local current = redis.call('HGET', KEYS[1], ARGV[i]) "
+          + "if not current or current < ARGV[i + 1] then "
+          + "redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) "
+          + "moved = moved + 1 "
+          + "end "
+          + "end "
+          + "redis.call('EXPIRE', KEYS[1], tonumber(ARGV[1])) "
+          + "return moved", Long.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  // 사용자 ID -> (채팅방 ID -> 저장 전 읽은 위치)
+  private final Map<Long, Map<Long, Long>> pendingCursors = new ConcurrentHashMap<>();
+
+  /**
+   * 보낸 메시지 ID 기록
+   */
+  public void recordMessage(Long chatRoomId, Long messageId) {
+    try {
+      stringRedisTemplate.execute(RECORD_SCRIPT, List.of(messagesKey(chatRoomId)),
+          pad(messageId), String.valueOf(MAX_TRACKED), String.valueOf(TTL.toSeconds()));
+    } catch (Exception e) {
+      log.warn("안 읽은 메시지 기록 실패 - chatRoomId: {}", chatRoomId, e);
+    }
+  }
+
+  /**
+   * 읽은 위치 변경 (flush 때 저장, 그 전의 변경은 가장 뒤의 위치만 남음)
+   */
+  public void markRead(Long userId, Long chatRoomId, Long messageId) {
+    pendingCursors.compute(userId, (key, cursors) -> {
+      Map<Long, Long> merged = cursors == null ? new ConcurrentHashMap<>() : cursors;
+      merged.merge(chatRoomId, messageId, Math::max);
+      return merged;
+    });
+  }
+
+  /**
+   * 채팅방별 안 읽은 메시지 수 조회
+   *
+   * @return 채팅방 ID -> 안 읽은 메시지 수 (최대 MAX_TRACKED)
+   */
+  public Map<Long, Long> getUnreadCounts(Long userId, List<Long> chatRoomIds) {
+    Map<Long, Long> unreadCounts = new LinkedHashMap<>();
+    if (chatRoomIds.isEmpty()) {
+      return unreadCounts;
+    }
+
+    List<Object> fields = new ArrayList<>();
+    chatRoomIds.forEach(chatRoomId -> fields.add(String.valueOf(chatRoomId)));
+    List<Object> stored = stringRedisTemplate.opsForHash().multiGet(cursorKey(userId), fields);
+    Map<Long, Long> pending = pendingCursors.getOrDefault(userId, Map.of());
+
+    Map<Long, String> cursors = new HashMap<>();
+    for (int i = 0; i < chatRoomIds.size(); i++) {
+      Long chatRoomId = chatRoomIds.get(i);
+      String cursor = (String) stored.get(i);
+      Long pendingCursor = pending.get(chatRoomId);
+      if (pendingCursor != null && (cursor == null || cursor.compareTo(pad(pendingCursor)) < 0)) {
+        cursor = pad(pendingCursor);
+      }
+      cursors.put(chatRoomId, cursor);
+    }
+
+    List<Object> counts = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public Object execute(RedisOperations operations) throws DataAccessException {
+        for (Long chatRoomId : chatRoomIds) {
+          String cursor = cursors.get(chatRoomId);
+          operations.opsForZSet().lexCount(messagesKey(chatRoomId), cursor == null
+              ? Range.unbounded() : Range.rightUnbounded(Range.Bound.exclusive(cursor)));
+        }
+        return null;
+      }
+    });
+
+    for (int i = 0; i < chatRoomIds.size(); i++) {
+      unreadCounts.put(chatRoomIds.get(i), ((Number) counts.get(i)).longValue());
+    }
+    return unreadCounts;
+  }
+
+  /**
+   * 모아 둔 읽은 위치 저장 (사용자마다 스크립트 한 번)
+   */
+  @Scheduled(fixedDelayString = "${chat.read-cursor.flush-interval-ms:1000}")
+  public void flush() {
+    for (Long userId : pendingCursors.keySet()) {
+      Map<Long, Long> cursors = pendingCursors.get(userId);
+      if (cursors == null) {
+        continue;
+      }
+      Map<Long, Long> snapshot = new HashMap<>(cursors);
+      if (snapshot.isEmpty()) {
+        pendingCursors.computeIfPresent(userId, (key, value) -> value.isEmpty() ? null : value);
+        continue;
+      }
+
+      try {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(TTL.toSeconds()));
+        snapshot.forEach((chatRoomId, messageId) -> {
+          args.add(String.valueOf(chatRoomId));
+          args.add(pad(messageId));
+        });
+        stringRedisTemplate.execute(MOVE_CURSORS_SCRIPT, List.of(cursorKey(userId)),
+            args.toArray());
+      } catch (Exception e) {
+        log.warn("읽은 위치 저장 실패 - userId: {}", userId, e);
+        continue; // 다음 flush 에서 다시 저장
+      }
+
+      // 저장하는 동안 바뀐 위치는 남겨 두고 다음 flush 에서 저장
+      snapshot.forEach(cursors::remove);
+      pendingCursors.computeIfPresent(userId, (key, value) -> value.isEmpty() ? null : value);
+    }
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  int pendingUserCount() {
+    return pendingCursors.size();
+  }
+
+  // 사전순 비교가 ID 순이 되도록 19자리로 0 채움
+  static String pad(Long messageId) {
+    return String.format("%019d", messageId);
+  }
+
+  private static String messagesKey(Long chatRoomId) {
+    return MESSAGES_KEY_PREFIX + chatRoomId;
+  }
+
+  private static String cursorKey(Long userId) {
+    return CURSOR_KEY_PREFIX + userId;
+  }
+}
@@ -1,6 +1,6 @@
 package com.devonoff.domain.faceCall.controller;
 
-import com.devonoff.domain.faceCall.util.NicknameSessionManager;
+import com.devonoff.domain.faceCall.util.IceCandidateCoalescer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
@@ -14,7 +14,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class SignalingController {
 
-  private final NicknameSessionManager nicknameSessionManager;
+  private final IceCandidateCoalescer iceCandidateCoalescer;
 
   @MessageMapping("/peer/offer/{nickname}/{studyId}")
   @SendTo("/topic/peer/offer/{nickname}/{studyId}")
@@ -26,12 +26,13 @@ public class SignalingController {
 
   //iceCandidate 정보를 주고 받기 위한 webSocket
   //nickname : 각 요청하는 캠의 key , studyId : 룸 아이디
+  //묶어 보내기가 켜져 있으면 IceCandidateCoalescer 가 모아서 보냄 (null 반환 시 @SendTo 전송 안 함)
   @MessageMapping("/peer/iceCandidate/{nickname}/{studyId}")
   @SendTo("/topic/peer/iceCandidate/{nickname}/{studyId}")
   public String PeerHandleIceCandidate(@Payload String candidate,
       @DestinationVariable(value = "studyId") String studyId,
       @DestinationVariable(value = "nickname") String nickname) {
-    return candidate;
+    return iceCandidateCoalescer.offer(nickname, studyId, candidate) ? null : candidate;
   }
 
   @MessageMapping("/peer/answer/{nickname}/{studyId}")
@@ -42,17 +43,20 @@ public class SignalingController {
     return answer;
   }
 
-  //camKey 를 받기위해 신호를 보내는 webSocket
-  @MessageMapping("/call/key")
-  @SendTo("/topic/call/key")
-  public String callKey(@Payload String message) {
+  //camKey 를 받기위해 신호를 보내는 webSocket (같은 스터디 참여자에게만)
+  //스터디 ID 없는 이전 목적지(/call/key)는 SignalingDestinationInterceptor 에서 변환
+  @MessageMapping("/call/key/{studyId}")
+  @SendTo("/topic/call/key/{studyId}")
+  public String callKey(@Payload String message,
+      @DestinationVariable(value = "studyId") String studyId) {
     return message;
   }
 
-  //자신의 camKey 를 모든 연결된 세션에 보내는 webSocket
-  @MessageMapping("/send/key")
-  @SendTo("/topic/send/key")
-  public String sendKey(@Payload String message) {
+  //자신의 camKey 를 같은 스터디의 연결된 세션에 보내는 webSocket
+  @MessageMapping("/send/key/{studyId}")
+  @SendTo("/topic/send/key/{studyId}")
+  public String sendKey(@Payload String message,
+      @DestinationVariable(value = "studyId") String studyId) {
     return message;
   }
 
@@ -1,35 +1,24 @@
 package com.devonoff.domain.faceCall.service;
 
-import java.util.concurrent.TimeUnit;
+import com.devonoff.domain.faceCall.util.StudyAlarmScheduler;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class AlarmService {
 
-  private final StringRedisTemplate stringRedisTemplate;
+  private final StudyAlarmScheduler studyAlarmScheduler;
 
   public void setAlarm(String studyId, long durationSeconds) {
-    ValueOperations<String, String> valueOperations = stringRedisTemplate.opsForValue();
-    String key = "Alarm:" + studyId;
-
-    valueOperations.set(key, "faceCall ends after " + durationSeconds + " seconds", durationSeconds,
-        TimeUnit.SECONDS);
+    studyAlarmScheduler.schedule("Alarm:" + studyId, durationSeconds);
   }
 
   public void setEnd(String studyId, long durationSeconds) {
-    ValueOperations<String, String> valueOperations = stringRedisTemplate.opsForValue();
-    String key = "End:" + studyId;
-
-    valueOperations.set(key, "faceCall ends after " + durationSeconds + " seconds", durationSeconds,
-        TimeUnit.SECONDS);
+    studyAlarmScheduler.schedule("End:" + studyId, durationSeconds);
   }
 
   public boolean isAlarmPresent(String studyId) {
-    String key = "End:" + studyId;
-    return Boolean.TRUE.equals(stringRedisTemplate.hasKey(key));
+    return studyAlarmScheduler.isScheduled("End:" + studyId);
   }
 }
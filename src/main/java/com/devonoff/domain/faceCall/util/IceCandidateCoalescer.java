@@ -0,0 +1,141 @@
+package com.devonoff.domain.faceCall.util;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * ICE 후보 묶어 보내기 (websocket.signaling.ice-coalescing.enabled)
+ * <p>
+ * 통화 연결 시 짧은 시간에 몰려 오는 ICE 후보를 (닉네임, 스터디)별로 window 동안 또는 max-batch 개가 될 때까지 모아 한
+ * 번에 보냅니다. 2개 이상이면 후보 문자열의 JSON 배열로 보내고 ice-candidate-count 헤더에 개수를 담으며, 1개면 기존과
+ * 같은 형식으로 보냅니다. 배열을 처리할 수 있는 클라이언트에서만 켭니다.
+ */
+@Slf4j
+@Component
+public class IceCandidateCoalescer {
+
+  public static final String COUNT_HEADER = "ice-candidate-count";
+
+  private final SimpMessagingTemplate messagingTemplate;
+  private final boolean enabled;
+  private final long windowMillis;
+  private final int maxBatch;
+  private final DistributionSummary batchSize;
+  private final ScheduledExecutorService scheduler;
+
+  // 목적지(/topic/peer/iceCandidate/{nickname}/{studyId}) -> 보내기 전 후보
+  private final Map<String, Batch> batches = new ConcurrentHashMap<>();
+
+  public IceCandidateCoalescer(SimpMessagingTemplate messagingTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${websocket.signaling.ice-coalescing.enabled:false}") boolean enabled,
+      @Value("${websocket.signaling.ice-coalescing.window-ms:10}") long windowMillis,
+      @Value("${websocket.signaling.ice-coalescing.max-batch:16}") int maxBatch) {
+    this.messagingTemplate = messagingTemplate;
+    this.enabled = enabled;
+    this.windowMillis = windowMillis;
+    this.maxBatch = maxBatch;
+    this.batchSize = DistributionSummary.builder("signaling.ice.batch.size")
+        .description("한 번에 보낸 ICE 후보 수")
+        .register(meterRegistry);
+    this.scheduler = enabled ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "ice-candidate-coalescer");
+      thread.setDaemon(true);
+      return thread;
+    }) : null;
+  }
+
+  /**
+   * ICE 후보를 모아 두었다가 보냄
+   *
+   * @return 모아 두었으면 true (꺼져 있으면 false, 호출한 쪽에서 바로 보냄)
+   */
+  public boolean offer(String nickname, String studyId, String candidate) {
+    if (!enabled) {
+      return false;
+    }
+
+    String destination = "/topic/peer/iceCandidate/" + nickname + "/" + studyId;
+    while (true) {
+      Batch batch = batches.computeIfAbsent(destination, key -> new Batch());
+      List<String> full;
+      synchronized (batch) {
+        if (batch.sent) {
+          continue; // 방금 보낸 묶음이면 새 묶음으로 다시 시도
+        }
+        batch.candidates.add(candidate);
+        if (batch.candidates.size() == 1) {
+          scheduler.schedule(() -> flush(destination, batch), windowMillis,
+              TimeUnit.MILLISECONDS);
+        }
+        full = batch.candidates.size() >= maxBatch ? close(destination, batch) : null;
+      }
+      if (full != null) {
+        send(destination, full);
+      }
+      return true;
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (scheduler == null) {
+      return;
+    }
+    scheduler.shutdownNow();
+    batches.forEach(this::flush);
+  }
+
+  int pendingDestinationCount() {
+    return batches.size();
+  }
+
+  private void flush(String destination, Batch batch) {
+    List<String> candidates;
+    synchronized (batch) {
+      if (batch.sent) {
+        return; // max-batch 가 되어 이미 보냄
+      }
+      candidates = close(destination, batch);
+    }
+    send(destination, candidates);
+  }
+
+  private List<String> close(String destination, Batch batch) {
+    batch.sent = true;
+    batches.remove(destination, batch);
+    return batch.candidates;
+  }
+
+  private void send(String destination, List<String> candidates) {
+    batchSize.record(candidates.size());
+    try {
+      if (candidates.size() == 1) {
+        messagingTemplate.convertAndSend(destination, candidates.get(0));
+      } else {
+        messagingTemplate.convertAndSend(destination, candidates,
+            Map.of(COUNT_HEADER, String.valueOf(candidates.size())));
+      }
+    } catch (Exception e) {
+      log.warn("ICE 후보 전송 실패 - destination: {}", destination, e);
+    }
+  }
+
+  private static class Batch {
+
+    private final List<String> candidates = new ArrayList<>();
+    private boolean sent;
+  }
+}
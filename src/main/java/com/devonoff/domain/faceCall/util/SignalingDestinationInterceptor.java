@@ -0,0 +1,62 @@
+package com.devonoff.domain.faceCall.util;
+
+import com.devonoff.domain.faceCall.util.StudySessionRegistry.StudySession;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이전 클라이언트의 전체 캠 키 목적지를 스터디 목적지로 변환
+ * <p>
+ * 캠 키는 같은 스터디 참여자에게만 보내도록 /call/key/{studyId}, /send/key/{studyId} 로 바뀌었습니다. 스터디 ID 없이
+ * /app/call/key, /topic/call/key 등으로 보내거나 구독하는 클라이언트는 CONNECT 헤더로 등록된 세션의 스터디 ID 를
+ * 붙여 같은 스터디 목적지로 바꿉니다. 스터디를 모르는 세션은 바꾸지 않으므로 다른 스터디의 메시지를 받지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SignalingDestinationInterceptor implements ChannelInterceptor {
+
+  // 이전 목적지 -> 스터디 목적지 (뒤에 스터디 ID)
+  private static final Map<String, String> LEGACY_DESTINATIONS = Map.of(
+      "/app/call/key", "/app/call/key/",
+      "/app/send/key", "/app/send/key/",
+      "/topic/call/key", "/topic/call/key/",
+      "/topic/send/key", "/topic/send/key/");
+
+  private final StudySessionRegistry studySessionRegistry;
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    StompHeaderAccessor accessor =
+        MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+    if (accessor == null || (accessor.getCommand() != StompCommand.SEND
+        && accessor.getCommand() != StompCommand.SUBSCRIBE)) {
+      return message;
+    }
+
+    String studyDestinationPrefix = LEGACY_DESTINATIONS.get(accessor.getDestination());
+    if (studyDestinationPrefix == null) {
+      return message;
+    }
+    StudySession session = studySessionRegistry.getSession(accessor.getSessionId());
+    if (session == null) {
+      log.debug("스터디를 알 수 없는 세션의 캠 키 목적지 - sessionId: {}, destination: {}",
+          accessor.getSessionId(), accessor.getDestination());
+      return message;
+    }
+
+    StompHeaderAccessor rewritten = StompHeaderAccessor.wrap(message);
+    rewritten.setDestination(studyDestinationPrefix + session.getStudyId());
+    rewritten.setLeaveMutable(true);
+    return MessageBuilder.createMessage(message.getPayload(), rewritten.getMessageHeaders());
+  }
+}
@@ -0,0 +1,255 @@
+package com.devonoff.domain.faceCall.util;
+
+import com.devonoff.common.websocket.TopicBrokerRelay;
+import com.devonoff.util.TimingWheel;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 화상 채팅 종료 알림 예약 (10분 전 알림 Alarm:{studyId}, 종료 알림 End:{studyId})
+ * <p>
+ * 예약은 Redis 정렬 집합(점수: 실행할 epoch 초)에 저장해 서버가 재시작되어도 남고, 서버마다 곧 실행할 예약을 타이밍 휠에
+ * 올려 1초마다 실행합니다. 여러 서버가 같은 예약을 실행하려 해도 정렬 집합에서 지우는 데 성공한 한 서버만 알림 채널로
+ * 발행하며, 모든 서버가 채널을 받아 각자 로컬 참여자에게 보냅니다.
+ * <p>
+ * 시작 시 배포 전 방식(만료되는 Alarm:{studyId}/End:{studyId} 키)으로 남아 있는 예약을 정렬 집합으로 옮깁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyAlarmScheduler implements MessageListener {
+
+  public static final String SCHEDULE_KEY = "StudyAlarm:schedule";
+  public static final String CHANNEL = "StudyAlarm";
+
+  private static final int WHEEL_SIZE = 60;
+  // 다른 서버가 예약했거나 재시작 전에 예약된 항목을 읽어 오는 주기와 범위
+  private static final long SYNC_INTERVAL_SECONDS = 10L;
+  private static final long LOOKAHEAD_SECONDS = 60L;
+
+  // 예약 시간이 그대로일 때만 지움 (다시 예약되었거나 다른 서버가 먼저 실행했으면 0)
+  private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+      "local score = redis.call('ZSCORE', KEYS[1], ARGV[1]) "
+          + "if score and tonumber(score) == tonumber(ARGV[2]) then "
+          + "return redis.call('ZREM', KEYS[1], ARGV[1]) "
+          + "end "
+          + "return 0", Long.class);
+
+  // 배포 전 방식(만료되는 Alarm:{studyId}/End:{studyId} 키)의 예약을 남은 TTL 그대로 정렬 집합으로 옮김
+  // (만료 시간이 없거나 이미 만료된 키는 그대로 두고 0)
+  private static final RedisScript<Long> MIGRATE_SCRIPT = new DefaultRedisScript<>(
+      "local ttl = redis.call('TTL', KEYS[1]) "
+          + "if ttl < 0 then "
+          + "return 0 "
+          + "end "
+          + "redis.call('ZADD', KEYS[2], 'NX', tonumber(ARGV[1]) + ttl, KEYS[1]) "
+          + "redis.call('DEL', KEYS[1]) "
+          + "return 1", Long.class);
+  private static final List<String> LEGACY_PATTERNS = List.of("Alarm:*", "End:*");
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final SimpMessagingTemplate messagingTemplate;
+  private final StudySessionRegistry studySessionRegistry;
+  private final RedisMessageListenerContainer redisContainer;
+
+  // 배치 작업이 도는 @Scheduled 스레드와 나누어 알림이 밀리지 않도록 전용 스레드 사용
+  private final ScheduledExecutorService scheduler =
+      Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "study-alarm-scheduler");
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  // 아래 필드는 scheduler 스레드(tick)에서만 사용
+  private final TimingWheel<Alarm> wheel = new TimingWheel<>(WHEEL_SIZE, nowSeconds());
+  // 예약 -> 휠에 올린 실행 시간
+  private final Map<String, Long> scheduled = new HashMap<>();
+  private final Queue<Alarm> added = new ConcurrentLinkedQueue<>();
+  private long lastSyncedAt = Long.MIN_VALUE;
+
+  @PostConstruct
+  public void start() {
+    migrateLegacyAlarms(nowSeconds());
+    redisContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    // 초가 바뀌는 시점에 맞춰 실행
+    long initialDelay = 1000L - System.currentTimeMillis() % 1000L;
+    scheduler.scheduleAtFixedRate(() -> tick(nowSeconds()), initialDelay, 1000L,
+        TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    scheduler.shutdownNow();
+  }
+
+  /**
+   * delaySeconds 뒤에 실행하도록 예약 (이미 예약되어 있으면 그대로 둠)
+   *
+   * @return 새로 예약했으면 true
+   */
+  public boolean schedule(String alarm, long delaySeconds) {
+    long dueAt = nowSeconds() + delaySeconds;
+    boolean scheduledNow = Boolean.TRUE.equals(
+        stringRedisTemplate.opsForZSet().addIfAbsent(SCHEDULE_KEY, alarm, dueAt));
+    if (scheduledNow) {
+      added.add(new Alarm(alarm, dueAt));
+    }
+    return scheduledNow;
+  }
+
+  public boolean isScheduled(String alarm) {
+    return stringRedisTemplate.opsForZSet().score(SCHEDULE_KEY, alarm) != null;
+  }
+
+  /**
+   * 알림 채널 수신 - 이 서버의 참여자에게 알림 전송
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String alarm = new String(message.getBody(), StandardCharsets.UTF_8);
+    if (alarm.startsWith("Alarm:")) {
+      String studyId = alarm.split(":")[1];
+      String alarmMessage =
+          "{\"type\": \"ALARM\", \"message\": \"스터디룸이 10분뒤 종료됩니다.\"}";
+      studySessionRegistry.forEachMember(studyId,
+          nickname -> sendAlarm(studyId, nickname, alarmMessage));
+    } else if (alarm.startsWith("End:")) {
+      String studyId = alarm.split(":")[1];
+      String alarmMessage =
+          "{\"type\": \"END\", \"message\": \"스터디룸의 종료 시간이 되었습니다.\"}";
+      studySessionRegistry.forEachMember(studyId,
+          nickname -> sendAlarm(studyId, nickname, alarmMessage));
+    }
+  }
+
+  /**
+   * 배포 전에 예약된 알림 키를 정렬 집합으로 옮김 (키 만료 알림은 더 이상 받지 않으므로)
+   * <p>
+   * 여러 서버가 동시에 시작해도 키마다 한 번만 옮겨지며, 옮긴 알림은 다음 sync 에서 휠에 올라갑니다.
+   */
+  int migrateLegacyAlarms(long now) {
+    int migrated = 0;
+    try {
+      for (String pattern : LEGACY_PATTERNS) {
+        try (Cursor<String> keys = stringRedisTemplate.scan(
+            ScanOptions.scanOptions().match(pattern).count(1000).build())) {
+          while (keys.hasNext()) {
+            Long moved = stringRedisTemplate.execute(MIGRATE_SCRIPT,
+                List.of(keys.next(), SCHEDULE_KEY), String.valueOf(now));
+            if (moved != null && moved == 1L) {
+              migrated++;
+            }
+          }
+        }
+      }
+    } catch (Exception e) {
+      log.warn("이전 방식 스터디 알림 예약 이전 실패", e);
+    }
+    if (migrated > 0) {
+      log.info("이전 방식 스터디 알림 예약 {}건을 정렬 집합으로 옮김", migrated);
+    }
+    return migrated;
+  }
+
+  void tick(long now) {
+    try {
+      for (Alarm alarm = added.poll(); alarm != null; alarm = added.poll()) {
+        add(alarm);
+      }
+      if (now - lastSyncedAt >= SYNC_INTERVAL_SECONDS) {
+        sync(now);
+      }
+      wheel.advance(now, this::fire);
+    } catch (Exception e) {
+      log.warn("스터디 알림 예약 처리 실패", e);
+    }
+  }
+
+  int pendingCount() {
+    return wheel.size();
+  }
+
+  private void sync(long now) {
+    Set<TypedTuple<String>> entries = stringRedisTemplate.opsForZSet()
+        .rangeByScoreWithScores(SCHEDULE_KEY, 0, now + LOOKAHEAD_SECONDS);
+    lastSyncedAt = now;
+    if (entries == null) {
+      return;
+    }
+    for (TypedTuple<String> entry : entries) {
+      if (entry.getValue() != null && entry.getScore() != null) {
+        add(new Alarm(entry.getValue(), entry.getScore().longValue()));
+      }
+    }
+  }
+
+  private void add(Alarm alarm) {
+    Long dueAt = scheduled.get(alarm.name);
+    if (dueAt != null && dueAt == alarm.dueAt) {
+      return; // 이미 휠에 있음
+    }
+    scheduled.put(alarm.name, alarm.dueAt);
+    if (!wheel.add(alarm.dueAt, alarm)) {
+      fire(alarm); // 실행 시간이 지난 예약 (재시작 중 지난 알림 등)
+    }
+  }
+
+  private void fire(Alarm alarm) {
+    // 실패하면 다음 sync 에서 다시 읽어 실행하도록 휠 기록부터 지움
+    scheduled.remove(alarm.name, alarm.dueAt);
+    try {
+      Long claimed = stringRedisTemplate.execute(CLAIM_SCRIPT, List.of(SCHEDULE_KEY),
+          alarm.name, String.valueOf(alarm.dueAt));
+      if (claimed != null && claimed == 1L) {
+        stringRedisTemplate.convertAndSend(CHANNEL, alarm.name);
+      }
+    } catch (Exception e) {
+      log.warn("스터디 알림 실행 실패 - alarm: {}", alarm.name, e);
+    }
+  }
+
+  // 알림 채널은 모든 서버가 받아 각자 로컬 참여자에게 보내므로 다른 서버로 전달하지 않음
+  private void sendAlarm(String studyId, String nickname, String alarmMessage) {
+    messagingTemplate.convertAndSend("/topic/alarm/" + studyId + "/" + nickname, alarmMessage,
+        TopicBrokerRelay.localOnly());
+  }
+
+  private static long nowSeconds() {
+    return System.currentTimeMillis() / 1000L;
+  }
+
+  private static class Alarm {
+
+    private final String name;
+    private final long dueAt;
+
+    private Alarm(String name, long dueAt) {
+      this.name = name;
+      this.dueAt = dueAt;
+    }
+  }
+}
@@ -1,8 +1,6 @@
 package com.devonoff.domain.faceCall.util;
 
-import com.devonoff.domain.study.repository.StudyRepository;
-import java.util.ArrayList;
-import java.util.concurrent.ConcurrentHashMap;
+import com.devonoff.domain.faceCall.util.StudySessionRegistry.StudySession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -12,51 +10,31 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class StudyManager {
 
-  private static final ConcurrentHashMap<String, ConcurrentHashMap<String, ConcurrentHashMap<String, String>>> studySessions = new ConcurrentHashMap<>();
-  private final StudyRepository studyRepository;
+  private final StudySessionRegistry studySessionRegistry;
+  private final StudyRoomMetadataCache studyRoomMetadataCache;
   private final TimeManager timeManager;
 
-  public static ArrayList<String> getStudyMembers(String studyId) {
-    return new ArrayList<>(studySessions.get(studyId).keySet());
-  }
-
-  // 방마다 사용자 세션 추가
-  public void addUser(String roomId, String userId, String sessionId) {
-    if (studySessions.containsKey(roomId)) {
-      manageRoom(roomId, userId, sessionId);
-    } else {
-      studySessions.put(roomId, new ConcurrentHashMap<>());
-      manageRoom(roomId, userId, sessionId);
+  // 방마다 사용자 세션 추가 (스터디 전원이 모이면 타이머 시작)
+  public void addUser(String studyId, String nickname, String sessionId) {
+    int memberCount = studySessionRegistry.join(sessionId, studyId, nickname);
+    if (memberCount > 0 && memberCount == getTotalParticipants(studyId)) {
+      timeManager.startTimer(studyId);
     }
   }
 
-  // 사용자 세션 제거
-  public void removeUser(String roomId, String userId, String sessionId) {
-    if (studyRepository.findById(Long.valueOf(roomId)).get().getTotalParticipants()
-        == studySessions.get(roomId).size()) {
-      timeManager.endTimer(roomId);
-    }
-    studySessions.get(roomId).get(userId).remove(sessionId);
-
-    if (studySessions.get(roomId).get(userId).isEmpty()) {
-      studySessions.remove(userId);
+  // 사용자 세션 제거 (전원이 모여 있던 방에서 한 명이라도 나가면 타이머 종료)
+  public void removeUser(String sessionId) {
+    StudySession session = studySessionRegistry.getSession(sessionId);
+    if (session == null) {
+      return;
     }
-    if (studySessions.get(roomId).isEmpty()) {
-      studySessions.remove(roomId);
+    int memberCount = studySessionRegistry.leave(sessionId);
+    if (memberCount > 0 && memberCount == getTotalParticipants(session.getStudyId())) {
+      timeManager.endTimer(session.getStudyId());
     }
-
   }
 
-  private void manageRoom(String roomId, String userId, String sessionId) {
-    if (studySessions.get(roomId).containsKey(userId)) {
-      studySessions.get(roomId).get(userId).put(sessionId, "test");
-    } else {
-      studySessions.get(roomId).put(userId, new ConcurrentHashMap<>());
-      studySessions.get(roomId).get(userId).put(sessionId, "test");
-      if (studyRepository.findById(Long.valueOf(roomId)).get().getTotalParticipants()
-          == studySessions.get(roomId).size()) {
-        timeManager.startTimer(roomId);
-      }
-    }
+  private int getTotalParticipants(String studyId) {
+    return studyRoomMetadataCache.get(studyId).getTotalParticipants();
   }
-}
\ No newline at end of file
+}
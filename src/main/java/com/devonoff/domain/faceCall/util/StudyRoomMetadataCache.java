@@ -0,0 +1,73 @@
+package com.devonoff.domain.faceCall.util;
+
+import com.devonoff.common.event.StudyChangedEvent;
+import com.devonoff.domain.study.entity.Study;
+import com.devonoff.domain.study.repository.StudyRepository;
+import com.devonoff.exception.CustomException;
+import com.devonoff.type.ErrorCode;
+import com.devonoff.util.LruCache;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 화상 채팅 방 정보 캐시 (스터디 총 인원, 종료 시간)
+ * <p>
+ * 연결/해제 때마다 스터디를 조회하지 않도록 처음 참여할 때 읽어 두고, 스터디가 수정/삭제되어 StudyChangedEvent 가
+ * 커밋되면 지웁니다. 다른 서버에서의 변경은 이벤트를 받지 못하므로 TTL 이 지나면 다시 읽습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StudyRoomMetadataCache {
+
+  private static final int MAX_ENTRIES = 10_000;
+  private static final Duration TTL = Duration.ofMinutes(5);
+
+  private final StudyRepository studyRepository;
+
+  private final LruCache<Long, StudyRoomMetadata> cache =
+      new LruCache<>(MAX_ENTRIES, TTL.toMillis());
+  // 변경 이벤트마다 증가 (조회 도중 변경된 스터디를 캐시에 남기지 않기 위함)
+  private final AtomicLong version = new AtomicLong();
+
+  public StudyRoomMetadata get(String studyId) {
+    Long id = Long.valueOf(studyId);
+    StudyRoomMetadata cached = cache.get(id);
+    if (cached != null) {
+      return cached;
+    }
+
+    long loadedVersion = version.get();
+    Study study = studyRepository.findById(id)
+        .orElseThrow(() -> new CustomException(ErrorCode.STUDY_NOT_FOUND));
+    StudyRoomMetadata metadata =
+        new StudyRoomMetadata(study.getTotalParticipants(), study.getEndTime());
+    cache.put(id, metadata);
+    if (version.get() != loadedVersion) {
+      cache.remove(id);
+    }
+    return metadata;
+  }
+
+  /**
+   * 커밋된 스터디 변경 시 해당 스터디 정보 삭제
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStudyChanged(StudyChangedEvent event) {
+    version.incrementAndGet();
+    cache.remove(event.getStudyId());
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class StudyRoomMetadata {
+
+    private final int totalParticipants;
+    private final LocalTime endTime;
+  }
+}
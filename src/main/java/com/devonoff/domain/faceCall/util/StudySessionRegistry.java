@@ -0,0 +1,123 @@
+package com.devonoff.domain.faceCall.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 화상 채팅 세션 정보 (세션 ID -> 스터디, 닉네임)
+ * <p>
+ * 세션마다 참여한 스터디와 닉네임을 한 번만 저장하고, 스터디 방에는 참여 중인 닉네임별 세션 수를 둡니다. 참여/퇴장은 세션
+ * 조회와 방 하나의 갱신만 하며, 방의 마지막 참여자가 나가면 방도 지웁니다. 참여자 목록은 복사하지 않고 순회합니다.
+ */
+@Component
+public class StudySessionRegistry {
+
+  // 세션 ID -> 세션 정보
+  private final Map<String, StudySession> sessions = new ConcurrentHashMap<>();
+  // 스터디 ID -> 방
+  private final Map<String, StudyRoom> rooms = new ConcurrentHashMap<>();
+
+  /**
+   * 화상 채팅 참여
+   *
+   * @return 처음 참여한 닉네임이면 참여 후 인원, 이미 참여 중인 닉네임의 세션이거나 등록된 세션이면 0
+   */
+  public int join(String sessionId, String studyId, String nickname) {
+    if (sessions.putIfAbsent(sessionId, new StudySession(studyId, nickname)) != null) {
+      return 0;
+    }
+
+    while (true) {
+      StudyRoom room = rooms.computeIfAbsent(studyId, key -> new StudyRoom());
+      synchronized (room) {
+        if (room.closed) {
+          continue; // 마지막 참여자가 나가며 지운 방이면 새 방으로 다시 시도
+        }
+        Integer sessionCount = room.members.get(nickname);
+        room.members.put(nickname, sessionCount == null ? 1 : sessionCount + 1);
+        return sessionCount == null ? room.members.size() : 0;
+      }
+    }
+  }
+
+  /**
+   * 화상 채팅 퇴장 (같은 세션으로 여러 번 호출해도 한 번만 처리)
+   *
+   * @return 닉네임의 마지막 세션이었으면 퇴장 전 인원, 같은 닉네임의 세션이 남아 있거나 모르는 세션이면 0
+   */
+  public int leave(String sessionId) {
+    StudySession session = sessions.remove(sessionId);
+    if (session == null) {
+      return 0;
+    }
+    StudyRoom room = rooms.get(session.studyId);
+    if (room == null) {
+      return 0;
+    }
+
+    synchronized (room) {
+      Integer sessionCount = room.members.get(session.nickname);
+      if (sessionCount == null) {
+        return 0;
+      }
+      if (sessionCount > 1) {
+        room.members.put(session.nickname, sessionCount - 1);
+        return 0;
+      }
+
+      int memberCount = room.members.size();
+      room.members.remove(session.nickname);
+      if (room.members.isEmpty()) {
+        room.closed = true;
+        rooms.remove(session.studyId, room);
+      }
+      return memberCount;
+    }
+  }
+
+  public StudySession getSession(String sessionId) {
+    return sessionId == null ? null : sessions.get(sessionId);
+  }
+
+  /**
+   * 스터디 참여자 닉네임 순회 (복사하지 않으며, 순회 중 참여/퇴장은 반영될 수도 있음)
+   */
+  public void forEachMember(String studyId, Consumer<String> action) {
+    StudyRoom room = rooms.get(studyId);
+    if (room != null) {
+      room.members.keySet().forEach(action);
+    }
+  }
+
+  public int memberCount(String studyId) {
+    StudyRoom room = rooms.get(studyId);
+    return room == null ? 0 : room.members.size();
+  }
+
+  public int sessionCount() {
+    return sessions.size();
+  }
+
+  public int roomCount() {
+    return rooms.size();
+  }
+
+  @Getter
+  @RequiredArgsConstructor
+  public static class StudySession {
+
+    private final String studyId;
+    private final String nickname;
+  }
+
+  private static class StudyRoom {
+
+    // 닉네임 -> 세션 수 (한 사용자가 여러 탭으로 접속 가능), 변경은 방 잠금 안에서만
+    private final Map<String, Integer> members = new ConcurrentHashMap<>();
+    private boolean closed;
+  }
+}
@@ -1,28 +1,166 @@
 package com.devonoff.domain.faceCall.util;
 
-import com.devonoff.domain.studyTimeline.service.StudyTimelineService;
+import com.devonoff.domain.studyTimeline.util.StudyTimelineWriter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+/**
+ * 스터디 진행 시간 측정 (전원이 모인 시점부터 한 명이라도 나갈 때까지)
+ * <p>
+ * 시작 시각은 Redis 해시(StudyTimer:startedAt)에 저장하고, 진행 중인 스터디마다 HEARTBEAT_INTERVAL 마다 마지막 확인
+ * 시각(StudyTimer:heartbeat)을 갱신합니다. 서버가 재시작된 뒤 곧 다시 전원이 모이면 저장된 시작 시각부터 이어서 재고,
+ * STALE_AFTER 동안 갱신되지 않은 기록은 마지막 확인 시각에 끝난 구간으로 저장합니다. 끝난 구간은 StudyTimelineWriter 가
+ * 모아서 저장합니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class TimeManager {
 
+  public static final String STARTED_AT_KEY = "StudyTimer:startedAt";
+  public static final String HEARTBEAT_KEY = "StudyTimer:heartbeat";
+
+  private static final long HEARTBEAT_INTERVAL_MILLIS = 30_000L;
+  private static final long STALE_AFTER_MILLIS = 120_000L;
+
+  // 저장된 시작 시각이 있으면 이어서 사용하고 없으면 새로 저장 (반환: 시작 시각)
+  private static final RedisScript<String> START_SCRIPT = new DefaultRedisScript<>(
+      "local startedAt = redis.call('HGET', KEYS[1], ARGV[1]) "
+          + "if not startedAt then "
+          + "startedAt = ARGV[2] "
+          + "redis.call('HSET', KEYS[1], ARGV[1], startedAt) "
+          + "end "
+          + "redis.call('HSET', KEYS[2], ARGV[1], ARGV[2]) "
+          + "return startedAt", String.class);
+
+  // 시작 시각을 지우고 반환 (저장하지 못했던 기록이면 nil)
+  private static final RedisScript<String> END_SCRIPT = new DefaultRedisScript<>(
+      "local startedAt = redis.call('HGET', KEYS[1], ARGV[1]) "
+          + "redis.call('HDEL', KEYS[1], ARGV[1]) "
+          + "redis.call('HDEL', KEYS[2], ARGV[1]) "
+          + "return startedAt", String.class);
+
+  // 마지막 확인 시각이 읽은 값 그대로일 때만 지우고 시작 시각 반환 (그 사이 이어서 시작했으면 nil)
+  private static final RedisScript<String> EXPIRE_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('HGET', KEYS[2], ARGV[1]) ~= ARGV[2] then "
+          + "return false "
+          + "end "
+          + "local startedAt = redis.call('HGET', KEYS[1], ARGV[1]) "
+          + "redis.call('HDEL', KEYS[1], ARGV[1]) "
+          + "redis.call('HDEL', KEYS[2], ARGV[1]) "
+          + "return startedAt", String.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final StudyTimelineWriter studyTimelineWriter;
+
   private final ConcurrentHashMap<String, LocalDateTime> timer = new ConcurrentHashMap<>();
-  private final StudyTimelineService studyTimelineService;
+  private final ScheduledExecutorService scheduler =
+      Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "study-timer-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  /**
+   * 시작 시 바로 한 번 정리해 재시작 전에 끝나지 못한 오래된 기록부터 저장
+   */
+  @PostConstruct
+  public void start() {
+    scheduler.scheduleWithFixedDelay(this::heartbeat, 0L, HEARTBEAT_INTERVAL_MILLIS,
+        TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    scheduler.shutdownNow();
+  }
 
   public void startTimer(String studyId) {
-    timer.put(studyId, LocalDateTime.now());
+    long now = System.currentTimeMillis();
+    LocalDateTime startedAt = toLocalDateTime(now);
+    try {
+      String stored = stringRedisTemplate.execute(START_SCRIPT,
+          List.of(STARTED_AT_KEY, HEARTBEAT_KEY), studyId, String.valueOf(now));
+      if (stored != null) {
+        startedAt = toLocalDateTime(Long.parseLong(stored));
+      }
+    } catch (Exception e) {
+      log.warn("스터디 시작 시각 저장 실패 - studyId: {}", studyId, e);
+    }
+    timer.put(studyId, startedAt);
   }
 
   public void endTimer(String studyId) {
-    studyTimelineService.saveStudyTimeline(Long.valueOf(studyId), timer.get(studyId),
-        LocalDateTime.now());
-    timer.remove(studyId);
+    LocalDateTime endedAt = LocalDateTime.now();
+    LocalDateTime startedAt = timer.remove(studyId);
+    try {
+      String stored = stringRedisTemplate.execute(END_SCRIPT,
+          List.of(STARTED_AT_KEY, HEARTBEAT_KEY), studyId);
+      if (stored != null) {
+        startedAt = toLocalDateTime(Long.parseLong(stored));
+      }
+    } catch (Exception e) {
+      log.warn("스터디 시작 시각 삭제 실패 - studyId: {}", studyId, e);
+    }
+    if (startedAt != null) {
+      studyTimelineWriter.enqueue(Long.valueOf(studyId), startedAt, endedAt);
+    }
+  }
+
+  int activeCount() {
+    return timer.size();
+  }
+
+  void heartbeat() {
+    long now = System.currentTimeMillis();
+    try {
+      if (!timer.isEmpty()) {
+        Map<String, String> heartbeats = new HashMap<>();
+        timer.keySet().forEach(studyId -> heartbeats.put(studyId, String.valueOf(now)));
+        stringRedisTemplate.opsForHash().putAll(HEARTBEAT_KEY, heartbeats);
+      }
+      expireStale(now);
+    } catch (Exception e) {
+      log.warn("스터디 진행 시각 갱신 실패", e);
+    }
+  }
+
+  // 어느 서버도 갱신하지 않는 기록을 마지막 확인 시각에 끝난 구간으로 저장
+  private void expireStale(long now) {
+    Map<Object, Object> heartbeats = stringRedisTemplate.opsForHash().entries(HEARTBEAT_KEY);
+    heartbeats.forEach((field, value) -> {
+      String studyId = (String) field;
+      long heartbeatAt = Long.parseLong((String) value);
+      if (timer.containsKey(studyId) || now - heartbeatAt < STALE_AFTER_MILLIS) {
+        return;
+      }
+      String stored = stringRedisTemplate.execute(EXPIRE_SCRIPT,
+          List.of(STARTED_AT_KEY, HEARTBEAT_KEY), studyId, (String) value);
+      if (stored != null) {
+        log.info("끝나지 않은 스터디 진행 기록 저장 - studyId: {}", studyId);
+        studyTimelineWriter.enqueue(Long.valueOf(studyId),
+            toLocalDateTime(Long.parseLong(stored)), toLocalDateTime(heartbeatAt));
+      }
+    });
   }
 
+  private static LocalDateTime toLocalDateTime(long epochMillis) {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+  }
 }
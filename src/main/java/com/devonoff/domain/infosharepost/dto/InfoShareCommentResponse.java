@@ -25,6 +25,15 @@ public class InfoShareCommentResponse {
   private List<InfoShareReplyDto> replies;
 
   public static InfoShareCommentResponse fromEntity(InfoShareComment infoShareComment) {
+    return fromEntity(infoShareComment,
+        infoShareComment.getReplies().stream().map(InfoShareReplyDto::fromEntity).toList());
+  }
+
+  /**
+   * 따로 조회한 답글 목록으로 응답 생성 (답글 지연 로딩 없음)
+   */
+  public static InfoShareCommentResponse fromEntity(InfoShareComment infoShareComment,
+      List<InfoShareReplyDto> replies) {
     return InfoShareCommentResponse.builder()
         .id(infoShareComment.getId())
         .postId(infoShareComment.getInfoSharePost().getId())
@@ -33,7 +42,7 @@ public class InfoShareCommentResponse {
         .user(UserDto.fromEntity(infoShareComment.getUser()))
         .createdAt(infoShareComment.getCreatedAt())
         .updatedAt(infoShareComment.getUpdatedAt())
-        .replies(infoShareComment.getReplies().stream().map(InfoShareReplyDto::fromEntity).toList())
+        .replies(replies)
         .build();
   }
 }
@@ -0,0 +1,31 @@
+package com.devonoff.domain.infosharepost.entity;
+
+import com.devonoff.common.event.PostTitleChangedEvent;
+import com.devonoff.type.PostType;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 정보 공유 게시글의 제목 변경을 PostTitleChangedEvent 로 발행하는 엔티티 리스너
+ */
+@RequiredArgsConstructor
+public class InfoSharePostEntityListener {
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  @PostPersist
+  @PostUpdate
+  public void onSave(InfoSharePost infoSharePost) {
+    eventPublisher.publishEvent(new PostTitleChangedEvent(
+        PostType.INFO, infoSharePost.getId(), infoSharePost.getTitle()));
+  }
+
+  @PostRemove
+  public void onRemove(InfoSharePost infoSharePost) {
+    eventPublisher.publishEvent(
+        new PostTitleChangedEvent(PostType.INFO, infoSharePost.getId(), null));
+  }
+}
@@ -5,7 +5,11 @@ import com.devonoff.domain.infosharepost.entity.InfoSharePost;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -13,7 +17,15 @@ public interface InfoShareCommentRepository extends JpaRepository<InfoShareComme
 
   List<InfoShareComment> findAllByInfoSharePost(InfoSharePost infoSharePost);
 
+  @EntityGraph(attributePaths = "user")
   Page<InfoShareComment> findAllByInfoSharePost(InfoSharePost infoSharePost, Pageable pageable);
 
   void deleteAllByInfoSharePost(InfoSharePost infoSharePost);
+
+  /**
+   * 게시글의 모든 댓글을 DELETE 한 번으로 삭제 (답글을 먼저 삭제해야 함)
+   */
+  @Modifying
+  @Query("delete from InfoShareComment c where c.infoSharePost.id = :infoSharePostId")
+  int bulkDeleteByInfoSharePostId(@Param("infoSharePostId") Long infoSharePostId);
 }
@@ -1,6 +1,7 @@
 package com.devonoff.domain.infosharepost.repository;
 
 import com.devonoff.domain.infosharepost.entity.InfoSharePost;
+import java.util.Collection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -13,4 +14,8 @@ public interface InfoSharePostRepository extends JpaRepository<InfoSharePost, Lo
 
   Page<InfoSharePost> findAllByUserIdAndTitleContaining(Long userId, String search,
       Pageable pageable);
+
+  Page<InfoSharePost> findAllByIdIn(Collection<Long> ids, Pageable pageable);
+
+  Page<InfoSharePost> findAllByUserIdAndIdIn(Long userId, Collection<Long> ids, Pageable pageable);
 }
@@ -2,7 +2,13 @@ package com.devonoff.domain.infosharepost.repository;
 
 import com.devonoff.domain.infosharepost.entity.InfoShareComment;
 import com.devonoff.domain.infosharepost.entity.InfoShareReply;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -10,4 +16,18 @@ public interface InfoShareReplyRepository extends JpaRepository<InfoShareReply,
 
   void deleteAllByComment(InfoShareComment comment);
 
+  /**
+   * 댓글 목록의 답글을 작성자와 함께 한 번에 조회
+   */
+  @EntityGraph(attributePaths = "user")
+  List<InfoShareReply> findAllByCommentInOrderByIdAsc(Collection<InfoShareComment> comments);
+
+  /**
+   * 게시글의 모든 답글을 DELETE 한 번으로 삭제 (엔티티를 조회하지 않음)
+   */
+  @Modifying
+  @Query("delete from InfoShareReply r where r.comment.id in "
+      + "(select c.id from InfoShareComment c where c.infoSharePost.id = :infoSharePostId)")
+  int bulkDeleteByInfoSharePostId(@Param("infoSharePostId") Long infoSharePostId);
+
 }
@@ -16,6 +16,7 @@ import com.devonoff.domain.infosharepost.entity.InfoShareReply;
 import com.devonoff.domain.infosharepost.repository.InfoShareCommentRepository;
 import com.devonoff.domain.infosharepost.repository.InfoShareReplyRepository;
 import com.devonoff.domain.infosharepost.repository.InfoSharePostRepository;
+import com.devonoff.domain.infosharepost.util.InfoSharePostTitleIndex;
 import com.devonoff.domain.photo.service.PhotoService;
 import com.devonoff.domain.user.dto.UserDto;
 import com.devonoff.domain.user.entity.User;
@@ -23,8 +24,11 @@ import com.devonoff.domain.user.repository.UserRepository;
 import com.devonoff.domain.user.service.AuthService;
 import com.devonoff.exception.CustomException;
 import com.devonoff.type.ErrorCode;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -47,6 +51,7 @@ public class InfoSharePostService {
   private final InfoShareReplyRepository infoShareReplyRepository;
   private final PhotoService photoService;
   private final AuthService authService;
+  private final InfoSharePostTitleIndex infoSharePostTitleIndex;
 
   @Value("${spring.data.web.pageable.default-page-size}")
   private Integer defaultPageSize;
@@ -72,14 +77,24 @@ public class InfoSharePostService {
 
   public Page<InfoSharePostDto> getInfoSharePosts(Integer page, String search) {
     Pageable pageable = PageRequest.of(page, defaultPageSize, Sort.by("createdAt").descending());
-    return this.infoSharePostRepository.findAllByTitleContaining(search,
-        pageable).map(InfoSharePostDto::fromEntity);
+    // 제목 인덱스 후보가 있으면 해당 게시글만 조회, 없으면 LIKE 검색
+    return infoSharePostTitleIndex.findCandidateIds(search)
+        .map(ids -> ids.isEmpty()
+            ? Page.<InfoSharePost>empty(pageable)
+            : this.infoSharePostRepository.findAllByIdIn(ids, pageable))
+        .orElseGet(() -> this.infoSharePostRepository.findAllByTitleContaining(search, pageable))
+        .map(InfoSharePostDto::fromEntity);
   }
 
   public Page<InfoSharePostDto> getInfoSharePostsByUserId(Long userId, Integer page,
       String search) {
     Pageable pageable = PageRequest.of(page, defaultPageSize, Sort.by("createdAt").descending());
-    return this.infoSharePostRepository.findAllByUserIdAndTitleContaining(userId, search, pageable)
+    return infoSharePostTitleIndex.findCandidateIds(search)
+        .map(ids -> ids.isEmpty()
+            ? Page.<InfoSharePost>empty(pageable)
+            : this.infoSharePostRepository.findAllByUserIdAndIdIn(userId, ids, pageable))
+        .orElseGet(() -> this.infoSharePostRepository
+            .findAllByUserIdAndTitleContaining(userId, search, pageable))
         .map(InfoSharePostDto::fromEntity);
   }
 
@@ -123,16 +138,10 @@ public class InfoSharePostService {
     if (!Objects.equals(authService.getLoginUserId(), infoSharePost.getUser().getId())) {
       throw new CustomException(UNAUTHORIZED_ACCESS);
     }
-    photoService.delete(infoSharePost.getThumbnailImgUrl());
-    List<InfoShareComment> commentList =
-        infoShareCommentRepository.findAllByInfoSharePost(infoSharePost);
-
-    for (InfoShareComment comment : commentList) {
-      infoShareReplyRepository.deleteAllByComment(comment);
-    }
-
-    infoShareCommentRepository.deleteAllByInfoSharePost(infoSharePost);
+    infoShareReplyRepository.bulkDeleteByInfoSharePostId(infoPostId);
+    infoShareCommentRepository.bulkDeleteByInfoSharePostId(infoPostId);
     this.infoSharePostRepository.deleteById(infoPostId);
+    photoService.deleteAfterCommit(infoSharePost.getThumbnailImgUrl());
   }
 
   // 댓글
@@ -172,8 +181,26 @@ public class InfoSharePostService {
 
     Pageable pageable = PageRequest.of(page, 12, Sort.by("createdAt").ascending());
 
-    return infoShareCommentRepository.findAllByInfoSharePost(infoSharePost, pageable)
-        .map(InfoShareCommentResponse::fromEntity);
+    Page<InfoShareComment> comments =
+        infoShareCommentRepository.findAllByInfoSharePost(infoSharePost, pageable);
+    Map<Long, List<InfoShareReplyDto>> repliesByCommentId = getRepliesByCommentId(comments);
+
+    return comments.map(comment -> InfoShareCommentResponse.fromEntity(comment,
+        repliesByCommentId.getOrDefault(comment.getId(), Collections.emptyList())));
+  }
+
+  /**
+   * 댓글 페이지의 답글을 한 번에 조회해 댓글 ID 별로 묶음 (댓글마다 답글을 지연 로딩하지 않기 위함)
+   */
+  private Map<Long, List<InfoShareReplyDto>> getRepliesByCommentId(
+      Page<InfoShareComment> comments) {
+    if (comments.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    return infoShareReplyRepository.findAllByCommentInOrderByIdAsc(comments.getContent()).stream()
+        .map(InfoShareReplyDto::fromEntity)
+        .collect(Collectors.groupingBy(InfoShareReplyDto::getCommentId));
   }
 
   /**
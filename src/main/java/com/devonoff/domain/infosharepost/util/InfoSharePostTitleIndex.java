@@ -0,0 +1,49 @@
+package com.devonoff.domain.infosharepost.util;
+
+import com.devonoff.common.event.PostTitleChangedEvent;
+import com.devonoff.domain.infosharepost.entity.QInfoSharePost;
+import com.devonoff.type.PostType;
+import com.devonoff.util.AbstractPostTitleIndex;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 정보 공유 게시글 제목 검색 인덱스
+ */
+@Component
+@RequiredArgsConstructor
+public class InfoSharePostTitleIndex extends AbstractPostTitleIndex {
+
+  private final JPAQueryFactory queryFactory;
+
+  @Override
+  protected Map<Long, String> loadTitles(long afterId, int limit) {
+    QInfoSharePost infoSharePost = QInfoSharePost.infoSharePost;
+    Map<Long, String> titles = new LinkedHashMap<>();
+    for (Tuple row : queryFactory
+        .select(infoSharePost.id, infoSharePost.title)
+        .from(infoSharePost)
+        .where(infoSharePost.id.gt(afterId))
+        .orderBy(infoSharePost.id.asc())
+        .limit(limit)
+        .fetch()) {
+      titles.put(row.get(infoSharePost.id), row.get(infoSharePost.title));
+    }
+    return titles;
+  }
+
+  /**
+   * 커밋된 게시글 제목 변경 반영
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPostTitleChanged(PostTitleChangedEvent event) {
+    if (event.getPostType() == PostType.INFO) {
+      apply(event.getPostId(), event.getTitle());
+    }
+  }
+}
@@ -5,12 +5,16 @@ import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.devonoff.domain.user.service.AuthService;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PhotoService {
@@ -62,4 +66,27 @@ public class PhotoService {
       throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * 진행 중인 트랜잭션이 커밋된 뒤 파일 삭제 (롤백되면 파일을 남김)
+   * <p>
+   * 트랜잭션 밖에서 호출하면 바로 삭제합니다. 커밋 이후의 삭제 실패는 되돌릴 수 없으므로 로그만 남깁니다.
+   */
+  public void deleteAfterCommit(String fileUrl) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      delete(fileUrl);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        try {
+          delete(fileUrl);
+        } catch (Exception e) {
+          log.warn("커밋 후 파일 삭제 실패 - {}", fileUrl, e);
+        }
+      }
+    });
+  }
+}
@@ -25,6 +25,14 @@ public class QnaCommentResponse {
   private List<QnaReplyDto> replies;
 
   public static QnaCommentResponse fromEntity(QnaComment qnaComment) {
+    return fromEntity(qnaComment,
+        qnaComment.getReplies().stream().map(QnaReplyDto::fromEntity).toList());
+  }
+
+  /**
+   * 따로 조회한 답글 목록으로 응답 생성 (답글 지연 로딩 없음)
+   */
+  public static QnaCommentResponse fromEntity(QnaComment qnaComment, List<QnaReplyDto> replies) {
     return QnaCommentResponse.builder()
         .id(qnaComment.getId())
         .postId(qnaComment.getQnaPost().getId())
@@ -33,7 +41,7 @@ public class QnaCommentResponse {
         .user(UserDto.fromEntity(qnaComment.getUser()))
         .createdAt(qnaComment.getCreatedAt())
         .updatedAt(qnaComment.getUpdatedAt())
-        .replies(qnaComment.getReplies().stream().map(QnaReplyDto::fromEntity).toList())
+        .replies(replies)
         .build();
   }
 }
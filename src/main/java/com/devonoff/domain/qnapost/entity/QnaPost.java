@@ -5,6 +5,7 @@ import com.devonoff.domain.user.entity.User;
 import com.devonoff.type.PostType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
@@ -26,6 +27,7 @@ import lombok.Setter;
 @AllArgsConstructor
 @Builder
 @Entity
+@EntityListeners(QnaPostEntityListener.class)
 @Table(name = "qna_post")
 public class QnaPost extends BaseTimeEntity {
 
@@ -0,0 +1,30 @@
+package com.devonoff.domain.qnapost.entity;
+
+import com.devonoff.common.event.PostTitleChangedEvent;
+import com.devonoff.type.PostType;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 질의 응답 게시글의 제목 변경을 PostTitleChangedEvent 로 발행하는 엔티티 리스너
+ */
+@RequiredArgsConstructor
+public class QnaPostEntityListener {
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  @PostPersist
+  @PostUpdate
+  public void onSave(QnaPost qnaPost) {
+    eventPublisher.publishEvent(
+        new PostTitleChangedEvent(PostType.QNA, qnaPost.getId(), qnaPost.getTitle()));
+  }
+
+  @PostRemove
+  public void onRemove(QnaPost qnaPost) {
+    eventPublisher.publishEvent(new PostTitleChangedEvent(PostType.QNA, qnaPost.getId(), null));
+  }
+}
@@ -5,7 +5,11 @@ import com.devonoff.domain.qnapost.entity.QnaPost;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -13,7 +17,15 @@ public interface QnaCommentRepository extends JpaRepository<QnaComment, Long> {
 
   List<QnaComment> findAllByQnaPost(QnaPost qnaPost);
 
+  @EntityGraph(attributePaths = "user")
   Page<QnaComment> findAllByQnaPost(QnaPost qnaPost, Pageable pageable);
 
   void deleteAllByQnaPost(QnaPost qnaPost);
+
+  /**
+   * 게시글의 모든 댓글을 DELETE 한 번으로 삭제 (답글을 먼저 삭제해야 함)
+   */
+  @Modifying
+  @Query("delete from QnaComment c where c.qnaPost.id = :qnaPostId")
+  int bulkDeleteByQnaPostId(@Param("qnaPostId") Long qnaPostId);
 }
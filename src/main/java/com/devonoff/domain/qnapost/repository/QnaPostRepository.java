@@ -2,6 +2,7 @@ package com.devonoff.domain.qnapost.repository;
 
 import com.devonoff.domain.user.entity.User;
 import com.devonoff.domain.qnapost.entity.QnaPost;
+import java.util.Collection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -17,4 +18,8 @@ public interface QnaPostRepository extends JpaRepository<QnaPost, Long> {
   Page<QnaPost> findByUserAndTitleContainingOrderByCreatedAtDesc(User user, String title, Pageable pageable);
 
   Page<QnaPost> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
+
+  Page<QnaPost> findByIdInOrderByCreatedAtDesc(Collection<Long> ids, Pageable pageable);
+
+  Page<QnaPost> findByUserAndIdInOrderByCreatedAtDesc(User user, Collection<Long> ids, Pageable pageable);
 }
@@ -2,7 +2,13 @@ package com.devonoff.domain.qnapost.repository;
 
 import com.devonoff.domain.qnapost.entity.QnaComment;
 import com.devonoff.domain.qnapost.entity.QnaReply;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -10,4 +16,18 @@ public interface QnaReplyRepository extends JpaRepository<QnaReply, Long> {
 
   void deleteAllByComment(QnaComment comment);
 
+  /**
+   * 댓글 목록의 답글을 작성자와 함께 한 번에 조회
+   */
+  @EntityGraph(attributePaths = "user")
+  List<QnaReply> findAllByCommentInOrderByIdAsc(Collection<QnaComment> comments);
+
+  /**
+   * 게시글의 모든 답글을 DELETE 한 번으로 삭제 (엔티티를 조회하지 않음)
+   */
+  @Modifying
+  @Query("delete from QnaReply r where r.comment.id in "
+      + "(select c.id from QnaComment c where c.qnaPost.id = :qnaPostId)")
+  int bulkDeleteByQnaPostId(@Param("qnaPostId") Long qnaPostId);
+
 }
@@ -18,6 +18,7 @@ import com.devonoff.domain.qnapost.entity.QnaReply;
 import com.devonoff.domain.qnapost.repository.QnaCommentRepository;
 import com.devonoff.domain.qnapost.repository.QnaReplyRepository;
 import com.devonoff.domain.qnapost.repository.QnaPostRepository;
+import com.devonoff.domain.qnapost.util.QnaPostTitleIndex;
 import com.devonoff.domain.user.entity.User;
 import com.devonoff.domain.user.repository.UserRepository;
 import com.devonoff.domain.user.service.AuthService;
@@ -25,7 +26,9 @@ import com.devonoff.exception.CustomException;
 import com.devonoff.type.ErrorCode;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -50,6 +53,7 @@ public class QnaPostService {
   private final QnaReplyRepository qnaReplyRepository;
   private final PhotoService photoService;
   private final AuthService authService;
+  private final QnaPostTitleIndex qnaPostTitleIndex;
   @Value("${cloud.aws.s3.default-thumbnail-image-url}")
   private String defaultThumbnailImageUrl;
 
@@ -99,7 +103,13 @@ public class QnaPostService {
           .map(QnaPostDto::fromEntity);
     }
 
-    return qnaPostRepository.findByTitleContainingOrderByCreatedAtDesc(search.trim(), pageable)
+    // 제목 인덱스 후보가 있으면 해당 게시글만 조회, 없으면 LIKE 검색
+    String keyword = search.trim();
+    return qnaPostTitleIndex.findCandidateIds(keyword)
+        .map(ids -> ids.isEmpty()
+            ? Page.<QnaPost>empty(pageable)
+            : qnaPostRepository.findByIdInOrderByCreatedAtDesc(ids, pageable))
+        .orElseGet(() -> qnaPostRepository.findByTitleContainingOrderByCreatedAtDesc(keyword, pageable))
         .map(QnaPostDto::fromEntity);
   }
 
@@ -117,7 +127,12 @@ public class QnaPostService {
 
     // 검색어가 없을 경우와 있을 경우 구분
     Page<QnaPost> posts = (search != null && !search.isBlank())
-        ? qnaPostRepository.findByUserAndTitleContainingOrderByCreatedAtDesc(user, search, pageable)
+        ? qnaPostTitleIndex.findCandidateIds(search)
+            .map(ids -> ids.isEmpty()
+                ? Page.<QnaPost>empty(pageable)
+                : qnaPostRepository.findByUserAndIdInOrderByCreatedAtDesc(user, ids, pageable))
+            .orElseGet(() -> qnaPostRepository
+                .findByUserAndTitleContainingOrderByCreatedAtDesc(user, search, pageable))
         : qnaPostRepository.findByUserOrderByCreatedAtDesc(user, pageable);
 
     // posts가 null인 경우 처리
@@ -208,20 +223,15 @@ public class QnaPostService {
       throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS, "작성자만 게시글을 삭제할 수 있습니다.");
     }
 
-    // 썸네일 파일 삭제
-    photoService.delete(qnaPost.getThumbnailUrl());
+    // 관련된 대댓글, 댓글 삭제 (엔티티를 조회하지 않고 게시글 단위로 일괄 삭제)
+    qnaReplyRepository.bulkDeleteByQnaPostId(qnaPost.getId());
+    qnaCommentRepository.bulkDeleteByQnaPostId(qnaPost.getId());
 
-    // 관련된 댓글, 대댓글 삭제
-    List<QnaComment> commentList = qnaCommentRepository.findAllByQnaPost(qnaPost);
-
-    for (QnaComment comment : commentList) {
-      qnaReplyRepository.deleteAllByComment(comment);
-    }
-
-    qnaCommentRepository.deleteAllByQnaPost(qnaPost);
-
-    // 게시글 삭제
+    // 게시글 삭제 (엔티티 리스너로 제목 인덱스에 반영)
     qnaPostRepository.delete(qnaPost);
+
+    // 썸네일 파일은 커밋 후 삭제
+    photoService.deleteAfterCommit(qnaPost.getThumbnailUrl());
   }
 
   // 댓글
@@ -262,8 +272,24 @@ public class QnaPostService {
 
     Pageable pageable = PageRequest.of(page, 12, Sort.by("createdAt").ascending());
 
-    return qnaCommentRepository.findAllByQnaPost(qnaPost, pageable)
-        .map(QnaCommentResponse::fromEntity);
+    Page<QnaComment> comments = qnaCommentRepository.findAllByQnaPost(qnaPost, pageable);
+    Map<Long, List<QnaReplyDto>> repliesByCommentId = getRepliesByCommentId(comments);
+
+    return comments.map(comment -> QnaCommentResponse.fromEntity(comment,
+        repliesByCommentId.getOrDefault(comment.getId(), Collections.emptyList())));
+  }
+
+  /**
+   * 댓글 페이지의 답글을 한 번에 조회해 댓글 ID 별로 묶음 (댓글마다 답글을 지연 로딩하지 않기 위함)
+   */
+  private Map<Long, List<QnaReplyDto>> getRepliesByCommentId(Page<QnaComment> comments) {
+    if (comments.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    return qnaReplyRepository.findAllByCommentInOrderByIdAsc(comments.getContent()).stream()
+        .map(QnaReplyDto::fromEntity)
+        .collect(Collectors.groupingBy(QnaReplyDto::getCommentId));
   }
 
   /**
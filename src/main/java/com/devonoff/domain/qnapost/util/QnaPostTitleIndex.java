@@ -0,0 +1,49 @@
+package com.devonoff.domain.qnapost.util;
+
+import com.devonoff.common.event.PostTitleChangedEvent;
+import com.devonoff.domain.qnapost.entity.QQnaPost;
+import com.devonoff.type.PostType;
+import com.devonoff.util.AbstractPostTitleIndex;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 질의 응답 게시글 제목 검색 인덱스
+ */
+@Component
+@RequiredArgsConstructor
+public class QnaPostTitleIndex extends AbstractPostTitleIndex {
+
+  private final JPAQueryFactory queryFactory;
+
+  @Override
+  protected Map<Long, String> loadTitles(long afterId, int limit) {
+    QQnaPost qnaPost = QQnaPost.qnaPost;
+    Map<Long, String> titles = new LinkedHashMap<>();
+    for (Tuple row : queryFactory
+        .select(qnaPost.id, qnaPost.title)
+        .from(qnaPost)
+        .where(qnaPost.id.gt(afterId))
+        .orderBy(qnaPost.id.asc())
+        .limit(limit)
+        .fetch()) {
+      titles.put(row.get(qnaPost.id), row.get(qnaPost.title));
+    }
+    return titles;
+  }
+
+  /**
+   * 커밋된 게시글 제목 변경 반영
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPostTitleChanged(PostTitleChangedEvent event) {
+    if (event.getPostType() == PostType.QNA) {
+      apply(event.getPostId(), event.getTitle());
+    }
+  }
+}
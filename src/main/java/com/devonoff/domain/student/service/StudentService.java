@@ -1,5 +1,6 @@
 package com.devonoff.domain.student.service;
 
+import com.devonoff.common.event.StudentRemovedEvent;
 import com.devonoff.domain.student.entity.Student;
 import com.devonoff.domain.student.repository.StudentRepository;
 import com.devonoff.domain.study.entity.Study;
@@ -7,6 +8,7 @@ import com.devonoff.domain.study.repository.StudyRepository;
 import com.devonoff.exception.CustomException;
 import com.devonoff.type.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -15,6 +17,7 @@ public class StudentService {
 
   private final StudentRepository studentRepository;
   private final StudyRepository studyRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   // 스터디에서 특정 참가자 삭제
   public void removeStudent(Long studentId) {
@@ -26,6 +29,9 @@ public class StudentService {
     studentRepository.delete(student);
 
     updateTotalParticipants(study);
+
+    // 채팅 세션에 캐시된 참여 정보 무효화
+    eventPublisher.publishEvent(new StudentRemovedEvent(student.getUser().getId(), study.getId()));
   }
 
   // totalParticipants 업데이트
@@ -0,0 +1,29 @@
+package com.devonoff.domain.study.entity;
+
+import com.devonoff.common.event.StudyChangedEvent;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 스터디 수정/삭제를 StudyChangedEvent 로 발행하는 엔티티 리스너
+ * <p>
+ * 참가자 제거로 총 인원이 바뀌거나 배치가 상태를 바꾸는 등 어느 경로로 변경되더라도 화상 채팅 방 정보 캐시가 같은
+ * 이벤트를 받게 됩니다.
+ */
+@RequiredArgsConstructor
+public class StudyEntityListener {
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  @PostUpdate
+  public void onUpdate(Study study) {
+    eventPublisher.publishEvent(new StudyChangedEvent(study.getId()));
+  }
+
+  @PostRemove
+  public void onRemove(Study study) {
+    eventPublisher.publishEvent(new StudyChangedEvent(study.getId()));
+  }
+}
@@ -4,7 +4,10 @@ import com.devonoff.domain.studyPost.dto.StudyCommentDto;
 import com.devonoff.domain.studyPost.dto.StudyCommentRequest;
 import com.devonoff.domain.studyPost.dto.StudyCommentResponse;
 import com.devonoff.domain.studyPost.dto.StudyPostCreateRequest;
+import com.devonoff.domain.studyPost.dto.StudyPostCursorResponse;
 import com.devonoff.domain.studyPost.dto.StudyPostDto;
+import com.devonoff.domain.studyPost.dto.StudyPostFacetResponse;
+import com.devonoff.domain.studyPost.dto.StudyPostSearchCondition;
 import com.devonoff.domain.studyPost.dto.StudyPostUpdateRequest;
 import com.devonoff.domain.studyPost.dto.StudyReplyDto;
 import com.devonoff.domain.studyPost.dto.StudyReplyRequest;
@@ -72,6 +75,59 @@ public class StudyPostController {
     return ResponseEntity.ok(studyPosts);
   }
 
+  // 스터디 모집글 검색 (커서 기반 페이지네이션)
+  @GetMapping("/search/cursor")
+  public ResponseEntity<StudyPostCursorResponse> searchStudyPostsByCursor(
+      @RequestParam(required = false) StudyMeetingType meetingType,
+      @RequestParam(required = false) String title,
+      @RequestParam(required = false) StudySubject subject,
+      @RequestParam(required = false) StudyDifficulty difficulty,
+      @RequestParam(required = false, defaultValue = "0") int dayType,
+      @RequestParam(required = false) StudyPostStatus status,
+      @RequestParam(required = false) Double latitude,
+      @RequestParam(required = false) Double longitude,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false, defaultValue = "12") int size,
+      @RequestParam(required = false, defaultValue = "false") boolean withCount) {
+
+    StudyPostSearchCondition condition = StudyPostSearchCondition.builder()
+        .meetingType(meetingType)
+        .title(title)
+        .subject(subject)
+        .difficulty(difficulty)
+        .dayType(dayType)
+        .status(status)
+        .latitude(latitude)
+        .longitude(longitude)
+        .build();
+
+    StudyPostCursorResponse response =
+        studyPostService.searchStudyPostsByCursor(condition, cursor, size, withCount);
+    return ResponseEntity.ok(response);
+  }
+
+  // 스터디 모집글 검색 패싯 개수
+  @GetMapping("/search/facets")
+  public ResponseEntity<StudyPostFacetResponse> getStudyPostFacets(
+      @RequestParam(required = false) StudyMeetingType meetingType,
+      @RequestParam(required = false) String title,
+      @RequestParam(required = false) StudySubject subject,
+      @RequestParam(required = false) StudyDifficulty difficulty,
+      @RequestParam(required = false, defaultValue = "0") int dayType,
+      @RequestParam(required = false) StudyPostStatus status) {
+
+    StudyPostSearchCondition condition = StudyPostSearchCondition.builder()
+        .meetingType(meetingType)
+        .title(title)
+        .subject(subject)
+        .difficulty(difficulty)
+        .dayType(dayType)
+        .status(status)
+        .build();
+
+    return ResponseEntity.ok(studyPostService.getStudyPostFacets(condition));
+  }
+
   // 스터디 모집글 생성
   @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
   public ResponseEntity<StudyPostDto> createStudyPost(
@@ -25,6 +25,15 @@ public class StudyCommentResponse {
   private List<StudyReplyDto> replies;
 
   public static StudyCommentResponse fromEntity(StudyComment studyComment) {
+    return fromEntity(studyComment,
+        studyComment.getReplies().stream().map(StudyReplyDto::fromEntity).toList());
+  }
+
+  /**
+   * 따로 조회한 답글 목록으로 응답 생성 (답글 지연 로딩 없음)
+   */
+  public static StudyCommentResponse fromEntity(StudyComment studyComment,
+      List<StudyReplyDto> replies) {
     return StudyCommentResponse.builder()
         .id(studyComment.getId())
         .postId(studyComment.getStudyPost().getId())
@@ -33,7 +42,7 @@ public class StudyCommentResponse {
         .user(UserDto.fromEntity(studyComment.getUser()))
         .createdAt(studyComment.getCreatedAt())
         .updatedAt(studyComment.getUpdatedAt())
-        .replies(studyComment.getReplies().stream().map(StudyReplyDto::fromEntity).toList())
+        .replies(replies)
         .build();
   }
 }
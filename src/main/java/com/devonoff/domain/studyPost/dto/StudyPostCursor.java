@@ -0,0 +1,81 @@
+package com.devonoff.domain.studyPost.dto;
+
+import com.devonoff.exception.CustomException;
+import com.devonoff.type.ErrorCode;
+import com.devonoff.util.GeoGridIndex;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 스터디 모집글 커서 (최신순: createdAt, id / 거리순: distance, id)
+ * <p>
+ * 클라이언트에는 Base64 로 인코딩한 불투명한 문자열로 전달합니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class StudyPostCursor {
+
+  private static final String CREATED_AT_TYPE = "c";
+  private static final String DISTANCE_TYPE = "d";
+  private static final String DELIMITER = "|";
+
+  private final boolean distanceSort;
+  private final LocalDateTime createdAt;
+  private final Double distanceKm;
+  private final Long id;
+
+  public static StudyPostCursor ofCreatedAt(LocalDateTime createdAt, Long id) {
+    return new StudyPostCursor(false, createdAt, null, id);
+  }
+
+  public static StudyPostCursor ofDistance(double distanceKm, Long id) {
+    return new StudyPostCursor(true, null, distanceKm, id);
+  }
+
+  /**
+   * 마지막으로 조회한 모집글 기준의 다음 커서
+   *
+   * @param condition 검색 조건
+   * @param last      마지막 모집글
+   * @return StudyPostCursor
+   */
+  public static StudyPostCursor next(StudyPostSearchCondition condition, StudyPostDto last) {
+    if (condition.isDistanceSort()) {
+      return ofDistance(GeoGridIndex.distanceKm(condition.getLatitude(), condition.getLongitude(),
+          last.getLatitude(), last.getLongitude()), last.getId());
+    }
+    return ofCreatedAt(last.getCreatedAt(), last.getId());
+  }
+
+  public String encode() {
+    String raw = distanceSort
+        ? DISTANCE_TYPE + DELIMITER + distanceKm + DELIMITER + id
+        : CREATED_AT_TYPE + DELIMITER + createdAt + DELIMITER + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static StudyPostCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\|");
+      if (parts.length == 3) {
+        Long id = Long.parseLong(parts[2]);
+        if (CREATED_AT_TYPE.equals(parts[0])) {
+          return ofCreatedAt(LocalDateTime.parse(parts[1]), id);
+        }
+        if (DISTANCE_TYPE.equals(parts[0])) {
+          return ofDistance(Double.parseDouble(parts[1]), id);
+        }
+      }
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      // 아래에서 공통 처리
+    }
+    throw new CustomException(ErrorCode.INVALID_CURSOR);
+  }
+}
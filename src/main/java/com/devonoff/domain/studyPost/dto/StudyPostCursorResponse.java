@@ -0,0 +1,21 @@
+package com.devonoff.domain.studyPost.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyPostCursorResponse {
+
+  private List<StudyPostDto> content;
+  private String nextCursor; // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+  private boolean hasNext;
+  private Long totalCount; // withCount=true 로 요청한 경우에만 포함
+}
@@ -49,6 +49,20 @@ public class StudyPostDto {
   private LocalDateTime createdAt;
   private LocalDateTime updatedAt;
 
+  // QueryDSL 프로젝션용 생성자 (작성자를 조인해 한 번의 쿼리로 조회)
+  public StudyPostDto(Long id, String title, String studyName, StudySubject subject,
+      StudyDifficulty difficulty, Integer dayType, LocalDate startDate, LocalDate endDate,
+      LocalTime startTime, LocalTime endTime, StudyMeetingType meetingType,
+      LocalDate recruitmentPeriod, String description, Double latitude, Double longitude,
+      String address, StudyPostStatus status, String thumbnailImgUrl, Integer maxParticipants,
+      Integer currentParticipants, UserDto user, LocalDateTime createdAt,
+      LocalDateTime updatedAt) {
+    this(id, title, studyName, subject, difficulty, DayTypeUtils.decodeDays(dayType), startDate,
+        endDate, startTime, endTime, meetingType, recruitmentPeriod, description, latitude,
+        longitude, address, status, thumbnailImgUrl, maxParticipants, currentParticipants, user,
+        createdAt, updatedAt);
+  }
+
   public static StudyPostDto fromEntity(StudyPost studyPost) {
     return StudyPostDto.builder()
         .id(studyPost.getId())
@@ -0,0 +1,58 @@
+package com.devonoff.domain.studyPost.dto;
+
+import com.devonoff.type.StudyDifficulty;
+import com.devonoff.type.StudyMeetingType;
+import com.devonoff.type.StudySubject;
+import com.devonoff.util.DayTypeUtils;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 검색 조건별 스터디 모집글 패싯 개수
+ * <p>
+ * 주제/난이도/모임 방식 개수는 해당 항목의 필터만 제외하고 나머지 필터를 모두 적용한 값이라, 화면에서 다른 값으로 바꿨을 때의
+ * 결과 수를 그대로 보여줄 수 있습니다. 요일 개수는 현재 필터를 모두 적용한 상태에서 해당 요일을 추가로 선택했을 때의 결과 수입니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyPostFacetResponse {
+
+  private long totalCount;
+  private Map<StudySubject, Long> subjects;
+  private Map<StudyDifficulty, Long> difficulties;
+  private Map<StudyMeetingType, Long> meetingTypes;
+  private Map<String, Long> days; // 월 ~ 일
+
+  /**
+   * 모든 항목이 0 으로 채워진 패싯
+   */
+  public static StudyPostFacetResponse empty() {
+    Map<String, Long> days = new LinkedHashMap<>();
+    DayTypeUtils.decodeDays(DayTypeUtils.ALL_DAYS).forEach(day -> days.put(day, 0L));
+
+    return StudyPostFacetResponse.builder()
+        .totalCount(0L)
+        .subjects(zeroCounts(StudySubject.class))
+        .difficulties(zeroCounts(StudyDifficulty.class))
+        .meetingTypes(zeroCounts(StudyMeetingType.class))
+        .days(days)
+        .build();
+  }
+
+  private static <E extends Enum<E>> Map<E, Long> zeroCounts(Class<E> type) {
+    Map<E, Long> counts = new EnumMap<>(type);
+    for (E value : type.getEnumConstants()) {
+      counts.put(value, 0L);
+    }
+    return counts;
+  }
+}
@@ -0,0 +1,58 @@
+package com.devonoff.domain.studyPost.dto;
+
+import com.devonoff.type.StudyDifficulty;
+import com.devonoff.type.StudyMeetingType;
+import com.devonoff.type.StudyPostStatus;
+import com.devonoff.type.StudySubject;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.Locale;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyPostSearchCondition {
+
+  private StudyMeetingType meetingType;
+  private String title;
+  private StudySubject subject;
+  private StudyDifficulty difficulty;
+  private int dayType; // 요일 (비트 플래그 방식, 0 이면 전체)
+  private StudyPostStatus status;
+  private Double latitude;
+  private Double longitude;
+
+  /**
+   * 같은 결과를 내는 조건이 같은 값이 되도록 정리 (제목 앞뒤 공백/대소문자, 빈 제목, 거리순이 아닐 때의 좌표)
+   */
+  public StudyPostSearchCondition normalize() {
+    String normalizedTitle = title == null || title.isBlank()
+        ? null : title.strip().toLowerCase(Locale.ROOT);
+    boolean distanceSort = isDistanceSort();
+
+    return StudyPostSearchCondition.builder()
+        .meetingType(meetingType)
+        .title(normalizedTitle)
+        .subject(subject)
+        .difficulty(difficulty)
+        .dayType(dayType)
+        .status(status)
+        .latitude(distanceSort ? latitude : null)
+        .longitude(distanceSort ? longitude : null)
+        .build();
+  }
+
+  // 온/오프라인 병행 스터디를 좌표와 함께 검색하면 거리순, 그 외에는 최신순
+  @JsonIgnore
+  public boolean isDistanceSort() {
+    return StudyMeetingType.HYBRID.equals(meetingType) && latitude != null && longitude != null;
+  }
+}
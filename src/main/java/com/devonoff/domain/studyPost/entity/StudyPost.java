@@ -3,6 +3,7 @@ package com.devonoff.domain.studyPost.entity;
 import com.devonoff.common.entity.BaseTimeEntity;
 import com.devonoff.domain.study.entity.Study;
 import com.devonoff.domain.studyPost.dto.StudyPostUpdateRequest;
+import com.devonoff.domain.studyPost.event.StudyPostSnapshot;
 import com.devonoff.domain.studySignup.entity.StudySignup;
 import com.devonoff.domain.user.entity.User;
 import com.devonoff.exception.CustomException;
@@ -15,15 +16,19 @@ import com.devonoff.util.DayTypeUtils;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -35,6 +40,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@EntityListeners(StudyPostEntityListener.class)
+@Table(indexes = @Index(name = "idx_study_post_created_at_id", columnList = "created_at, id"))
 @Getter
 @Setter
 @Builder
@@ -117,6 +124,9 @@ public class StudyPost extends BaseTimeEntity {
   @OneToMany(mappedBy = "studyPost", cascade = CascadeType.REMOVE, orphanRemoval = true)
   private List<Study> studies;
 
+  @Transient
+  private StudyPostSnapshot loadedSnapshot; // 조회/저장 시점의 상태 (변경 이벤트의 before)
+
   public void cancelRecruitment() {
     this.status = StudyPostStatus.CANCELED;
     this.setUpdatedAt(LocalDateTime.now()); // 수동으로 updatedAt 갱신
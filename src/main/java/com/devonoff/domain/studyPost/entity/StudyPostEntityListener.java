@@ -0,0 +1,49 @@
+package com.devonoff.domain.studyPost.entity;
+
+import com.devonoff.domain.studyPost.event.StudyPostChangedEvent;
+import com.devonoff.domain.studyPost.event.StudyPostSnapshot;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 스터디 모집글의 생성/수정/삭제를 StudyPostChangedEvent 로 발행하는 엔티티 리스너
+ * <p>
+ * Hibernate 가 스프링 빈 컨테이너를 통해 생성하므로 생성자 주입을 사용할 수 있습니다. 서비스, 배치, 회원 탈퇴 등 어느
+ * 경로로 변경되더라도 인메모리 인덱스가 같은 이벤트를 받게 됩니다.
+ */
+@RequiredArgsConstructor
+public class StudyPostEntityListener {
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  @PostLoad
+  public void onLoad(StudyPost studyPost) {
+    studyPost.setLoadedSnapshot(StudyPostSnapshot.from(studyPost));
+  }
+
+  @PostPersist
+  public void onPersist(StudyPost studyPost) {
+    StudyPostSnapshot after = StudyPostSnapshot.from(studyPost);
+    studyPost.setLoadedSnapshot(after);
+    eventPublisher.publishEvent(new StudyPostChangedEvent(null, after));
+  }
+
+  @PostUpdate
+  public void onUpdate(StudyPost studyPost) {
+    StudyPostSnapshot after = StudyPostSnapshot.from(studyPost);
+    StudyPostSnapshot before = studyPost.getLoadedSnapshot();
+    studyPost.setLoadedSnapshot(after);
+    eventPublisher.publishEvent(new StudyPostChangedEvent(before, after));
+  }
+
+  @PostRemove
+  public void onRemove(StudyPost studyPost) {
+    StudyPostSnapshot before = studyPost.getLoadedSnapshot() != null
+        ? studyPost.getLoadedSnapshot() : StudyPostSnapshot.from(studyPost);
+    eventPublisher.publishEvent(new StudyPostChangedEvent(before, null));
+  }
+}
@@ -0,0 +1,34 @@
+package com.devonoff.domain.studyPost.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스터디 모집글 생성/수정/삭제 이벤트
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyPostChangedEvent {
+
+  private StudyPostSnapshot before; // 변경 전 상태 (생성 시 null)
+  private StudyPostSnapshot after; // 변경 후 상태 (삭제 시 null)
+  @JsonIgnore
+  private boolean relayed; // 다른 서버에서 발생해 Redis 로 전달받은 이벤트 여부
+
+  public StudyPostChangedEvent(StudyPostSnapshot before, StudyPostSnapshot after) {
+    this(before, after, false);
+  }
+
+  @JsonIgnore
+  public Long getStudyPostId() {
+    return after != null ? after.getId() : before.getId();
+  }
+
+  @JsonIgnore
+  public boolean isRemoved() {
+    return after == null;
+  }
+}
@@ -0,0 +1,88 @@
+package com.devonoff.domain.studyPost.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 StudyPostChangedEvent 를 Redis pub/sub 으로 다른 서버에 전달
+ * <p>
+ * 서버마다 인메모리 인덱스와 캐시를 가지고 있으므로, 다른 서버에서 발생한 변경도 같은 이벤트로 다시 발행해 반영합니다. 전달받은
+ * 이벤트는 relayed 로 표시되어 다시 전달되지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyPostChangedRelay implements MessageListener {
+
+  public static final String CHANNEL = "StudyPostChanged";
+
+  private final String nodeId = UUID.randomUUID().toString();
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final RedisMessageListenerContainer redisContainer;
+  private final ApplicationEventPublisher eventPublisher;
+  private final ObjectMapper objectMapper;
+
+  @PostConstruct
+  public void subscribe() {
+    redisContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+  }
+
+  /**
+   * 이 서버에서 커밋된 변경을 다른 서버로 전달
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void relay(StudyPostChangedEvent event) {
+    if (event.isRelayed()) {
+      return;
+    }
+
+    try {
+      redisTemplate.convertAndSend(CHANNEL,
+          objectMapper.writeValueAsString(new RelayMessage(nodeId, event)));
+    } catch (Exception e) {
+      log.warn("스터디 모집글 변경 이벤트 전달 실패 - studyPostId: {}", event.getStudyPostId(), e);
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    try {
+      String payload = (String) redisTemplate.getValueSerializer().deserialize(message.getBody());
+      RelayMessage relayMessage = objectMapper.readValue(payload, RelayMessage.class);
+      if (nodeId.equals(relayMessage.getOrigin())) {
+        return;
+      }
+
+      StudyPostChangedEvent event = relayMessage.getEvent();
+      eventPublisher.publishEvent(
+          new StudyPostChangedEvent(event.getBefore(), event.getAfter(), true));
+    } catch (JsonProcessingException | ClassCastException e) {
+      log.warn("잘못된 스터디 모집글 변경 이벤트 수신 - {}", message, e);
+    }
+  }
+
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  static class RelayMessage {
+
+    private String origin; // 이벤트를 발행한 서버
+    private StudyPostChangedEvent event;
+  }
+}
@@ -0,0 +1,52 @@
+package com.devonoff.domain.studyPost.event;
+
+import com.devonoff.domain.studyPost.entity.StudyPost;
+import com.devonoff.type.StudyDifficulty;
+import com.devonoff.type.StudyMeetingType;
+import com.devonoff.type.StudyPostStatus;
+import com.devonoff.type.StudySubject;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색/인덱스에 필요한 스터디 모집글 속성의 특정 시점 스냅샷
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyPostSnapshot {
+
+  private Long id;
+  private String title;
+  private StudySubject subject;
+  private StudyDifficulty difficulty;
+  private Integer dayType;
+  private StudyMeetingType meetingType;
+  private StudyPostStatus status;
+  private Double latitude;
+  private Double longitude;
+  private LocalDateTime createdAt;
+
+  public static StudyPostSnapshot from(StudyPost studyPost) {
+    return StudyPostSnapshot.builder()
+        .id(studyPost.getId())
+        .title(studyPost.getTitle())
+        .subject(studyPost.getSubject())
+        .difficulty(studyPost.getDifficulty())
+        .dayType(studyPost.getDayType())
+        .meetingType(studyPost.getMeetingType())
+        .status(studyPost.getStatus())
+        .latitude(studyPost.getLatitude())
+        .longitude(studyPost.getLongitude())
+        .createdAt(studyPost.getCreatedAt())
+        .build();
+  }
+
+  public boolean hasLocation() {
+    return latitude != null && longitude != null;
+  }
+}
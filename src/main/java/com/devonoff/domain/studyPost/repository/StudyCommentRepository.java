@@ -5,6 +5,7 @@ import com.devonoff.domain.studyPost.entity.StudyPost;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -13,6 +14,7 @@ public interface StudyCommentRepository extends JpaRepository<StudyComment, Long
 
   List<StudyComment> findAllByStudyPost(StudyPost studyPost);
 
+  @EntityGraph(attributePaths = "user")
   Page<StudyComment> findAllByStudyPost(StudyPost studyPost, Pageable pageable);
 
   void deleteAllByStudyPost(StudyPost studyPost);
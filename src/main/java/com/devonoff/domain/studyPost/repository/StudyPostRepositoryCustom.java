@@ -1,10 +1,14 @@
 package com.devonoff.domain.studyPost.repository;
 
+import com.devonoff.domain.studyPost.dto.StudyPostCursor;
 import com.devonoff.domain.studyPost.dto.StudyPostDto;
+import com.devonoff.domain.studyPost.dto.StudyPostFacetResponse;
+import com.devonoff.domain.studyPost.dto.StudyPostSearchCondition;
 import com.devonoff.type.StudyDifficulty;
 import com.devonoff.type.StudyMeetingType;
 import com.devonoff.type.StudyPostStatus;
 import com.devonoff.type.StudySubject;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -14,4 +18,13 @@ public interface StudyPostRepositoryCustom {
       StudyMeetingType meetingType, String title, StudySubject subject,
       StudyDifficulty difficulty, int dayType, StudyPostStatus status,
       Double latitude, Double longitude, Pageable pageable);
-}
\ No newline at end of file
+
+  Page<StudyPostDto> findStudyPostDtosByUserId(Long userId, Pageable pageable);
+
+  List<StudyPostDto> findStudyPostsByCursor(
+      StudyPostSearchCondition condition, StudyPostCursor cursor, int limit);
+
+  long countStudyPostsByFilters(StudyPostSearchCondition condition);
+
+  StudyPostFacetResponse countStudyPostFacets(StudyPostSearchCondition condition);
+}
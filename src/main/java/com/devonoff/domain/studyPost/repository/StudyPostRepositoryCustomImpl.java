@@ -1,29 +1,57 @@
 package com.devonoff.domain.studyPost.repository;
 
+import com.devonoff.domain.studyPost.dto.StudyPostCursor;
 import com.devonoff.domain.studyPost.dto.StudyPostDto;
+import com.devonoff.domain.studyPost.dto.StudyPostFacetResponse;
+import com.devonoff.domain.studyPost.dto.StudyPostSearchCondition;
 import com.devonoff.domain.studyPost.entity.QStudyPost;
-import com.devonoff.domain.studyPost.entity.StudyPost;
+import com.devonoff.domain.studyPost.util.StudyPostBitmapIndex;
+import com.devonoff.domain.studyPost.util.StudyPostGeoIndex;
+import com.devonoff.domain.studyPost.util.StudyPostTitleIndex;
+import com.devonoff.domain.user.dto.UserDto;
+import com.devonoff.domain.user.entity.QUser;
 import com.devonoff.type.StudyDifficulty;
 import com.devonoff.type.StudyMeetingType;
 import com.devonoff.type.StudyPostStatus;
 import com.devonoff.type.StudySubject;
+import com.devonoff.util.DayTypeUtils;
+import com.devonoff.util.GeoGridIndex.Neighbor;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 @Repository
 @RequiredArgsConstructor
 public class StudyPostRepositoryCustomImpl implements StudyPostRepositoryCustom {
 
+  private static final int NEAREST_MIN_BATCH = 64;
+  private static final int NEAREST_MAX_CANDIDATES = 4_096; // 초과 시 DB 거리 정렬로 대체
+  private static final double DISTANCE_EPSILON_KM = 1e-9;
+
   private final JPAQueryFactory queryFactory;
+  private final StudyPostGeoIndex studyPostGeoIndex;
+  private final StudyPostBitmapIndex studyPostBitmapIndex;
+  private final StudyPostTitleIndex studyPostTitleIndex;
 
   @Override
   public Page<StudyPostDto> findStudyPostsByFilters(
@@ -31,37 +59,422 @@ public class StudyPostRepositoryCustomImpl implements StudyPostRepositoryCustom
       StudyDifficulty difficulty, int dayType, StudyPostStatus status,
       Double latitude, Double longitude, Pageable pageable) {
 
+    StudyPostSearchCondition condition = StudyPostSearchCondition.builder()
+        .meetingType(meetingType)
+        .title(searchTitle(title))
+        .subject(subject)
+        .difficulty(difficulty)
+        .dayType(dayType)
+        .status(status)
+        .latitude(latitude)
+        .longitude(longitude)
+        .build();
+
     QStudyPost studyPost = QStudyPost.studyPost;
 
-    BooleanBuilder builder = new BooleanBuilder();
-    builder.and(equalsMeetingType(meetingType));
-    builder.and(containsTitle(title));
-    builder.and(equalsSubject(subject));
-    builder.and(equalsDifficulty(difficulty));
-    builder.and(equalsStatus(status));
-    builder.and(equalsDayType(dayType));
-
-    JPAQuery<StudyPost> query = queryFactory
-        .selectFrom(studyPost)
+    // 제목 인덱스 후보가 있으면 LIKE 대신 ID 조건으로 조회
+    Optional<List<Long>> titleCandidateIds = findTitleCandidateIds(condition.getTitle());
+    if (titleCandidateIds.isPresent() && titleCandidateIds.get().isEmpty()) {
+      return new PageImpl<>(List.of(), pageable, 0);
+    }
+
+    BooleanBuilder builder = buildFilters(condition, titleCandidateIds);
+    BitSet matchedIds = findMatchedIds(condition, titleCandidateIds).orElse(null);
+
+    // 비트맵 인덱스로 필터링한 경우 DB 는 해당 페이지의 모집글만 조회
+    if (matchedIds != null && !condition.isDistanceSort()) {
+      List<Long> pageIds = collectIdsDesc(matchedIds, matchedIds.length() - 1,
+          pageable.getOffset(), pageable.getPageSize());
+      return new PageImpl<>(findStudyPostDtosByIds(pageIds), pageable,
+          matchedIds.cardinality());
+    }
+
+    if (condition.isDistanceSort() && studyPostGeoIndex.isReady()) {
+      long needed = pageable.getOffset() + pageable.getPageSize();
+      List<Long> nearestIds =
+          findNearestIds(builder, matchedIds, latitude, longitude, needed, null);
+      if (nearestIds != null) {
+        int fromIndex = (int) Math.min(pageable.getOffset(), nearestIds.size());
+        List<Long> pageIds = nearestIds.subList(fromIndex, nearestIds.size());
+        long total = matchedIds != null ? matchedIds.cardinality() : countByFilters(builder);
+        return new PageImpl<>(findStudyPostDtosByIds(pageIds), pageable, total);
+      }
+    }
+
+    JPAQuery<StudyPostDto> query = selectStudyPostDto()
         .where(builder)
         .offset(pageable.getOffset())
         .limit(pageable.getPageSize());
 
-    query = applySorting(query, meetingType, latitude, longitude, studyPost);
+    List<StudyPostDto> results = applySorting(query, condition, studyPost).fetch();
+
+    // 마지막 페이지처럼 개수를 알 수 있으면 count 쿼리 생략
+    return PageableExecutionUtils.getPage(results, pageable, () -> countByFilters(builder));
+  }
+
+  @Override
+  public Page<StudyPostDto> findStudyPostDtosByUserId(Long userId, Pageable pageable) {
+    QStudyPost studyPost = QStudyPost.studyPost;
+
+    List<StudyPostDto> results = selectStudyPostDto()
+        .where(studyPost.user.id.eq(userId))
+        .orderBy(studyPost.createdAt.desc())
+        .offset(pageable.getOffset())
+        .limit(pageable.getPageSize())
+        .fetch();
+
+    return PageableExecutionUtils.getPage(results, pageable, () -> Optional.ofNullable(
+            queryFactory
+                .select(studyPost.count())
+                .from(studyPost)
+                .where(studyPost.user.id.eq(userId))
+                .fetchOne())
+        .orElse(0L));
+  }
+
+  @Override
+  public List<StudyPostDto> findStudyPostsByCursor(
+      StudyPostSearchCondition condition, StudyPostCursor cursor, int limit) {
+
+    QStudyPost studyPost = QStudyPost.studyPost;
+
+    Optional<List<Long>> titleCandidateIds = findTitleCandidateIds(condition.getTitle());
+    if (titleCandidateIds.isPresent() && titleCandidateIds.get().isEmpty()) {
+      return List.of();
+    }
+
+    BooleanBuilder builder = buildFilters(condition, titleCandidateIds);
+    BitSet matchedIds = findMatchedIds(condition, titleCandidateIds).orElse(null);
+
+    if (!condition.isDistanceSort()) {
+      if (matchedIds != null) {
+        int fromId = cursor == null ? matchedIds.length() - 1
+            : (int) Math.max(Math.min(cursor.getId() - 1, Integer.MAX_VALUE), -1);
+        return findStudyPostDtosByIds(collectIdsDesc(matchedIds, fromId, 0, limit));
+      }
+
+      // 최신순: (createdAt, id) < (커서 createdAt, 커서 id)
+      if (cursor != null) {
+        builder.and(studyPost.createdAt.lt(cursor.getCreatedAt())
+            .or(studyPost.createdAt.eq(cursor.getCreatedAt())
+                .and(studyPost.id.lt(cursor.getId()))));
+      }
+      return selectStudyPostDto()
+          .where(builder)
+          .orderBy(studyPost.createdAt.desc(), studyPost.id.desc())
+          .limit(limit)
+          .fetch();
+    }
+
+    double latitude = condition.getLatitude();
+    double longitude = condition.getLongitude();
+
+    if (studyPostGeoIndex.isReady()) {
+      Neighbor after = cursor == null ? null
+          : new Neighbor(cursor.getId(), cursor.getDistanceKm());
+      List<Long> nearestIds =
+          findNearestIds(builder, matchedIds, latitude, longitude, limit, after);
+      if (nearestIds != null) {
+        return findStudyPostDtosByIds(nearestIds);
+      }
+    }
+
+    // 거리순: (distance, id) > (커서 distance, 커서 id)
+    // 커서의 거리는 애플리케이션에서 계산한 값이라 DB 계산값과 미세한 오차가 있을 수 있어 허용 오차 내는 같은 거리로 취급
+    NumberExpression<Double> distance = distanceExpression(latitude, longitude);
+    if (cursor != null) {
+      double cursorDistance = cursor.getDistanceKm();
+      builder.and(distance.gt(cursorDistance + DISTANCE_EPSILON_KM)
+          .or(distance.between(cursorDistance - DISTANCE_EPSILON_KM,
+                  cursorDistance + DISTANCE_EPSILON_KM)
+              .and(studyPost.id.gt(cursor.getId()))));
+    }
+    return selectStudyPostDto()
+        .where(builder)
+        .orderBy(distance.asc(), studyPost.id.asc())
+        .limit(limit)
+        .fetch();
+  }
+
+  @Override
+  public long countStudyPostsByFilters(StudyPostSearchCondition condition) {
+    Optional<List<Long>> titleCandidateIds = findTitleCandidateIds(condition.getTitle());
+    if (titleCandidateIds.isPresent() && titleCandidateIds.get().isEmpty()) {
+      return 0L;
+    }
+    return findMatchedIds(condition, titleCandidateIds)
+        .map(matchedIds -> (long) matchedIds.cardinality())
+        .orElseGet(() -> countByFilters(buildFilters(condition, titleCandidateIds)));
+  }
+
+  @Override
+  public StudyPostFacetResponse countStudyPostFacets(StudyPostSearchCondition condition) {
+    Optional<List<Long>> titleCandidateIds = findTitleCandidateIds(condition.getTitle());
+    if (titleCandidateIds.isPresent() && titleCandidateIds.get().isEmpty()) {
+      return StudyPostFacetResponse.empty();
+    }
+
+    if (searchTitle(condition.getTitle()) == null || titleCandidateIds.isPresent()) {
+      Optional<StudyPostFacetResponse> facets = studyPostBitmapIndex.countFacets(
+          condition, titleCandidateIds.map(this::toBitSet).orElse(null));
+      if (facets.isPresent()) {
+        return facets.get();
+      }
+    }
+
+    // 비트맵 인덱스를 사용할 수 없으면 패싯 항목 조합별 개수를 한 번의 GROUP BY 로 조회해 집계
+    QStudyPost studyPost = QStudyPost.studyPost;
+    BooleanBuilder builder = new BooleanBuilder();
+    builder.and(containsTitle(condition.getTitle(), titleCandidateIds));
+    builder.and(equalsStatus(condition.getStatus()));
+    builder.and(equalsDayType(condition.getDayType()));
+
+    NumberExpression<Long> count = studyPost.id.count();
+    List<Tuple> rows = queryFactory
+        .select(studyPost.meetingType, studyPost.subject, studyPost.difficulty,
+            studyPost.dayType, count)
+        .from(studyPost)
+        .where(builder)
+        .groupBy(studyPost.meetingType, studyPost.subject, studyPost.difficulty,
+            studyPost.dayType)
+        .fetch();
+
+    StudyPostFacetResponse facets = StudyPostFacetResponse.empty();
+    for (Tuple row : rows) {
+      StudyMeetingType meetingType = row.get(studyPost.meetingType);
+      StudySubject subject = row.get(studyPost.subject);
+      StudyDifficulty difficulty = row.get(studyPost.difficulty);
+      Integer dayType = row.get(studyPost.dayType);
+      long rowCount = Optional.ofNullable(row.get(count)).orElse(0L);
+
+      boolean meetingTypeMatched =
+          condition.getMeetingType() == null || condition.getMeetingType() == meetingType;
+      boolean subjectMatched = condition.getSubject() == null || condition.getSubject() == subject;
+      boolean difficultyMatched =
+          condition.getDifficulty() == null || condition.getDifficulty() == difficulty;
+
+      // 주제/난이도/모임 방식은 자기 항목의 필터만 제외하고 집계
+      if (subject != null && meetingTypeMatched && difficultyMatched) {
+        facets.getSubjects().merge(subject, rowCount, Long::sum);
+      }
+      if (difficulty != null && meetingTypeMatched && subjectMatched) {
+        facets.getDifficulties().merge(difficulty, rowCount, Long::sum);
+      }
+      if (meetingType != null && subjectMatched && difficultyMatched) {
+        facets.getMeetingTypes().merge(meetingType, rowCount, Long::sum);
+      }
+      if (meetingTypeMatched && subjectMatched && difficultyMatched) {
+        facets.setTotalCount(facets.getTotalCount() + rowCount);
+        if (dayType != null) {
+          DayTypeUtils.decodeDays(dayType)
+              .forEach(day -> facets.getDays().merge(day, rowCount, Long::sum));
+        }
+      }
+    }
+    return facets;
+  }
+
+  /**
+   * 공간 인덱스로 가까운 모집글 ID 를 순서대로 꺼내 필터 조건을 확인
+   *
+   * @param matchedIds 비트맵 인덱스로 필터링한 모집글 ID (없으면 null, DB 에서 필터 확인)
+   * @param needed     필요한 모집글 수
+   * @param after      커서 (이 위치 이후부터 조회, 없으면 null)
+   * @return 가까운 순서의 모집글 ID 최대 needed 개 (후보가 너무 많아 DB 정렬이 나은 경우 null)
+   */
+  private List<Long> findNearestIds(BooleanBuilder builder, BitSet matchedIds,
+      double latitude, double longitude, long needed, Neighbor after) {
+
+    QStudyPost studyPost = QStudyPost.studyPost;
+    List<Long> nearestIds = new ArrayList<>();
+    Set<Long> checkedIds = new HashSet<>();
+    long limit = Math.max(needed * 2, NEAREST_MIN_BATCH);
+
+    while (nearestIds.size() < needed) {
+      if (limit > NEAREST_MAX_CANDIDATES) {
+        return null;
+      }
+
+      List<Neighbor> nearest = studyPostGeoIndex.nearest(latitude, longitude, (int) limit, after);
+      List<Long> candidateIds = nearest.stream()
+          .map(Neighbor::getId)
+          .filter(checkedIds::add)
+          .toList();
+
+      if (matchedIds != null) {
+        candidateIds.stream()
+            .filter(id -> id <= Integer.MAX_VALUE && matchedIds.get(id.intValue()))
+            .forEach(nearestIds::add);
+      } else if (!candidateIds.isEmpty()) {
+        Set<Long> acceptedIds = new HashSet<>(queryFactory
+            .select(studyPost.id)
+            .from(studyPost)
+            .where(builder, studyPost.id.in(candidateIds))
+            .fetch());
+        candidateIds.stream()
+            .filter(acceptedIds::contains)
+            .forEach(nearestIds::add);
+      }
 
-    List<StudyPostDto> results = query.fetch()
+      if (nearest.size() < limit) {
+        break; // 인덱스의 모든 좌표를 확인함
+      }
+      limit *= 4;
+    }
+
+    return nearestIds.subList(0, (int) Math.min(needed, nearestIds.size()));
+  }
+
+  /**
+   * ID 목록 순서를 유지한 채 모집글 조회
+   */
+  private List<StudyPostDto> findStudyPostDtosByIds(List<Long> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+
+    QStudyPost studyPost = QStudyPost.studyPost;
+    Map<Long, StudyPostDto> studyPostMap = selectStudyPostDto()
+        .where(studyPost.id.in(ids))
+        .fetch()
         .stream()
-        .map(StudyPostDto::fromEntity)
+        .collect(Collectors.toMap(StudyPostDto::getId, Function.identity()));
+
+    return ids.stream()
+        .map(studyPostMap::get)
+        .filter(Objects::nonNull)
         .toList();
+  }
 
-    long total = Optional.ofNullable(queryFactory
+  /**
+   * 작성자를 조인해 StudyPostDto 로 바로 조회하는 쿼리 (작성자 지연 로딩으로 인한 N+1 방지)
+   */
+  private JPAQuery<StudyPostDto> selectStudyPostDto() {
+    QStudyPost studyPost = QStudyPost.studyPost;
+    QUser user = QUser.user;
+
+    return queryFactory
+        .select(Projections.constructor(StudyPostDto.class,
+            studyPost.id,
+            studyPost.title,
+            studyPost.studyName,
+            studyPost.subject,
+            studyPost.difficulty,
+            studyPost.dayType,
+            studyPost.startDate,
+            studyPost.endDate,
+            studyPost.startTime,
+            studyPost.endTime,
+            studyPost.meetingType,
+            studyPost.recruitmentPeriod,
+            studyPost.description,
+            studyPost.latitude,
+            studyPost.longitude,
+            studyPost.address,
+            studyPost.status,
+            studyPost.thumbnailImgUrl,
+            studyPost.maxParticipants,
+            studyPost.currentParticipants,
+            Projections.constructor(UserDto.class,
+                user.id,
+                user.nickname,
+                user.email,
+                user.profileImage,
+                user.isActive,
+                user.loginType,
+                user.createdAt,
+                user.updatedAt),
+            studyPost.createdAt,
+            studyPost.updatedAt))
+        .from(studyPost)
+        .join(studyPost.user, user);
+  }
+
+  private long countByFilters(BooleanBuilder builder) {
+    QStudyPost studyPost = QStudyPost.studyPost;
+    return Optional.ofNullable(queryFactory
             .select(studyPost.count())
             .from(studyPost)
             .where(builder)
             .fetchOne())
         .orElse(0L);
+  }
+
+  /**
+   * 비트맵 인덱스로 검색 조건에 맞는 모집글 ID 계산
+   *
+   * @return Optional<BitSet> (인덱스가 준비되지 않았거나 제목 LIKE 조회가 필요하면 empty)
+   */
+  private Optional<BitSet> findMatchedIds(
+      StudyPostSearchCondition condition, Optional<List<Long>> titleCandidateIds) {
+
+    if (searchTitle(condition.getTitle()) != null && titleCandidateIds.isEmpty()) {
+      return Optional.empty();
+    }
+    return studyPostBitmapIndex.filter(condition)
+        .map(matchedIds -> {
+          titleCandidateIds.map(this::toBitSet).ifPresent(matchedIds::and);
+          return matchedIds;
+        });
+  }
+
+  private BitSet toBitSet(List<Long> ids) {
+    BitSet bitSet = new BitSet();
+    ids.stream()
+        .filter(id -> id <= Integer.MAX_VALUE)
+        .forEach(id -> bitSet.set(id.intValue()));
+    return bitSet;
+  }
+
+  /**
+   * 비트맵의 ID 를 내림차순으로 순회하며 offset 만큼 건너뛴 뒤 최대 limit 개 조회
+   * <p>
+   * ID 는 등록 순서대로 증가하고 createdAt 은 등록 이후 바뀌지 않으므로 ID 내림차순은 최신순과 같습니다.
+   *
+   * @param fromId 순회를 시작할 ID (포함)
+   */
+  private List<Long> collectIdsDesc(BitSet matchedIds, int fromId, long offset, int limit) {
+    List<Long> ids = new ArrayList<>();
+    long skipped = 0;
+    for (int id = matchedIds.previousSetBit(fromId); id >= 0 && ids.size() < limit;
+        id = matchedIds.previousSetBit(id - 1)) {
+      if (skipped < offset) {
+        skipped++;
+        continue;
+      }
+      ids.add((long) id);
+    }
+    return ids;
+  }
 
-    return new PageImpl<>(results, pageable, total);
+  private Optional<List<Long>> findTitleCandidateIds(String title) {
+    return Optional.ofNullable(searchTitle(title))
+        .flatMap(studyPostTitleIndex::findCandidateIds);
+  }
+
+  /**
+   * 검색할 제목 (앞뒤 공백 제거, 빈 제목은 조건 없음으로 보고 null)
+   */
+  private static String searchTitle(String title) {
+    return title == null || title.isBlank() ? null : title.strip();
+  }
+
+  private BooleanBuilder buildFilters(
+      StudyPostSearchCondition condition, Optional<List<Long>> titleCandidateIds) {
+
+    BooleanBuilder builder = new BooleanBuilder();
+    builder.and(equalsMeetingType(condition.getMeetingType()));
+    builder.and(containsTitle(condition.getTitle(), titleCandidateIds));
+    builder.and(equalsSubject(condition.getSubject()));
+    builder.and(equalsDifficulty(condition.getDifficulty()));
+    builder.and(equalsStatus(condition.getStatus()));
+    builder.and(equalsDayType(condition.getDayType()));
+
+    if (condition.isDistanceSort()) {
+      QStudyPost studyPost = QStudyPost.studyPost;
+      builder.and(studyPost.latitude.isNotNull().and(studyPost.longitude.isNotNull()));
+    }
+    return builder;
   }
 
   private BooleanBuilder equalsMeetingType(StudyMeetingType meetingType) {
@@ -70,8 +483,11 @@ public class StudyPostRepositoryCustomImpl implements StudyPostRepositoryCustom
         .orElseGet(BooleanBuilder::new);
   }
 
-  private BooleanBuilder containsTitle(String title) {
-    return Optional.ofNullable(title)
+  private BooleanBuilder containsTitle(String title, Optional<List<Long>> titleCandidateIds) {
+    if (titleCandidateIds.isPresent()) {
+      return new BooleanBuilder(QStudyPost.studyPost.id.in(titleCandidateIds.get()));
+    }
+    return Optional.ofNullable(searchTitle(title))
         .map(t -> new BooleanBuilder(QStudyPost.studyPost.title.contains(t)))
         .orElseGet(BooleanBuilder::new);
   }
@@ -105,22 +521,25 @@ public class StudyPostRepositoryCustomImpl implements StudyPostRepositoryCustom
             QStudyPost.studyPost.dayType, filterDayType));
   }
 
-  private JPAQuery<StudyPost> applySorting(
-      JPAQuery<StudyPost> query,
-      StudyMeetingType meetingType,
-      Double latitude,
-      Double longitude,
+  private <T> JPAQuery<T> applySorting(
+      JPAQuery<T> query,
+      StudyPostSearchCondition condition,
       QStudyPost studyPost) {
 
-    if (StudyMeetingType.HYBRID.equals(meetingType) && latitude != null && longitude != null) {
-      var distanceExpression = Expressions.numberTemplate(
-          Double.class,
-          "6371 * acos(cos(radians({0})) * cos(radians({1})) * cos(radians({2}) - radians({3})) + sin(radians({4})) * sin(radians({5})))",
-          latitude, studyPost.latitude, studyPost.longitude, longitude, latitude, studyPost.latitude
-      );
-      return query.orderBy(distanceExpression.asc());
+    if (condition.isDistanceSort()) {
+      return query.orderBy(
+          distanceExpression(condition.getLatitude(), condition.getLongitude()).asc());
     } else {
       return query.orderBy(studyPost.createdAt.desc());
     }
   }
-}
\ No newline at end of file
+
+  private NumberExpression<Double> distanceExpression(double latitude, double longitude) {
+    QStudyPost studyPost = QStudyPost.studyPost;
+    return Expressions.numberTemplate(
+        Double.class,
+        "6371 * acos(cos(radians({0})) * cos(radians({1})) * cos(radians({2}) - radians({3})) + sin(radians({4})) * sin(radians({5})))",
+        latitude, studyPost.latitude, studyPost.longitude, longitude, latitude, studyPost.latitude
+    );
+  }
+}
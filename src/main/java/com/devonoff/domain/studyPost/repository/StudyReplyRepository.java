@@ -2,6 +2,9 @@ package com.devonoff.domain.studyPost.repository;
 
 import com.devonoff.domain.studyPost.entity.StudyComment;
 import com.devonoff.domain.studyPost.entity.StudyReply;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,4 +13,10 @@ public interface StudyReplyRepository extends JpaRepository<StudyReply, Long> {
 
   void deleteAllByComment(StudyComment comment);
 
+  /**
+   * 댓글 목록의 답글을 작성자와 함께 한 번에 조회
+   */
+  @EntityGraph(attributePaths = "user")
+  List<StudyReply> findAllByCommentInOrderByIdAsc(Collection<StudyComment> comments);
+
 }
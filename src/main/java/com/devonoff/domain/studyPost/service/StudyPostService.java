@@ -12,7 +12,11 @@ import com.devonoff.domain.studyPost.dto.StudyCommentDto;
 import com.devonoff.domain.studyPost.dto.StudyCommentRequest;
 import com.devonoff.domain.studyPost.dto.StudyCommentResponse;
 import com.devonoff.domain.studyPost.dto.StudyPostCreateRequest;
+import com.devonoff.domain.studyPost.dto.StudyPostCursor;
+import com.devonoff.domain.studyPost.dto.StudyPostCursorResponse;
 import com.devonoff.domain.studyPost.dto.StudyPostDto;
+import com.devonoff.domain.studyPost.dto.StudyPostFacetResponse;
+import com.devonoff.domain.studyPost.dto.StudyPostSearchCondition;
 import com.devonoff.domain.studyPost.dto.StudyPostUpdateRequest;
 import com.devonoff.domain.studyPost.dto.StudyReplyDto;
 import com.devonoff.domain.studyPost.dto.StudyReplyRequest;
@@ -22,6 +26,8 @@ import com.devonoff.domain.studyPost.entity.StudyReply;
 import com.devonoff.domain.studyPost.repository.StudyCommentRepository;
 import com.devonoff.domain.studyPost.repository.StudyPostRepository;
 import com.devonoff.domain.studyPost.repository.StudyReplyRepository;
+import com.devonoff.domain.studyPost.util.StudyPostFacetCache;
+import com.devonoff.domain.studyPost.util.StudyPostSearchCache;
 import com.devonoff.domain.studySignup.entity.StudySignup;
 import com.devonoff.domain.studySignup.repository.StudySignupRepository;
 import com.devonoff.domain.user.entity.User;
@@ -37,8 +43,12 @@ import com.devonoff.type.StudySubject;
 import com.devonoff.util.DayTypeUtils;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
@@ -62,6 +72,10 @@ public class StudyPostService {
   private final PhotoService photoService;
   private final StudyCommentRepository studyCommentRepository;
   private final StudyReplyRepository studyReplyRepository;
+  private final StudyPostFacetCache studyPostFacetCache;
+  private final StudyPostSearchCache studyPostSearchCache;
+
+  private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
   @Value("${cloud.aws.s3.default-thumbnail-image-url}")
   private String defaultThumbnailImageUrl;
@@ -89,9 +103,7 @@ public class StudyPostService {
   // 상세 조회(userId)
   public Page<StudyPostDto> getStudyPostsByUserId(Long userId, Pageable pageable) {
     validateOwnership(userId);
-    Page<StudyPost> studyPosts = studyPostRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
-
-    return studyPosts.map(StudyPostDto::fromEntity);
+    return studyPostRepository.findStudyPostDtosByUserId(userId, pageable);
   }
 
   // 조회 (검색리스트)
@@ -99,8 +111,66 @@ public class StudyPostService {
       StudySubject subject, StudyDifficulty difficulty, int dayType, StudyPostStatus status,
       Double latitude, Double longitude, Pageable pageable) {
 
-    return studyPostRepository.findStudyPostsByFilters(meetingType, title, subject, difficulty,
-        dayType, status, latitude, longitude, pageable);
+    StudyPostSearchCondition condition = StudyPostSearchCondition.builder()
+        .meetingType(meetingType)
+        .title(title)
+        .subject(subject)
+        .difficulty(difficulty)
+        .dayType(dayType)
+        .status(status)
+        .latitude(latitude)
+        .longitude(longitude)
+        .build()
+        .normalize();
+
+    // 캐시 키와 같은 정규화한 조건으로 조회 (제목 LIKE 와 제목 인덱스는 대소문자를 구분하지 않음)
+    Supplier<Page<StudyPostDto>> loader = () -> studyPostRepository.findStudyPostsByFilters(
+        condition.getMeetingType(), condition.getTitle(), condition.getSubject(),
+        condition.getDifficulty(), condition.getDayType(), condition.getStatus(),
+        condition.getLatitude(), condition.getLongitude(), pageable);
+
+    if (!StudyPostSearchCache.isCacheable(condition)) {
+      return loader.get();
+    }
+    return studyPostSearchCache.get(condition, pageable, loader);
+  }
+
+  // 조회 (검색리스트 - 커서 기반)
+  public StudyPostCursorResponse searchStudyPostsByCursor(StudyPostSearchCondition condition,
+      String cursor, int size, boolean withCount) {
+
+    StudyPostCursor after = null;
+    if (cursor != null && !cursor.isBlank()) {
+      after = StudyPostCursor.decode(cursor);
+      // 정렬 기준이 다른 검색 조건으로 발급된 커서는 사용할 수 없음
+      if (after.isDistanceSort() != condition.isDistanceSort()) {
+        throw new CustomException(ErrorCode.INVALID_CURSOR);
+      }
+    }
+
+    int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+    // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+    List<StudyPostDto> studyPosts =
+        studyPostRepository.findStudyPostsByCursor(condition, after, pageSize + 1);
+
+    boolean hasNext = studyPosts.size() > pageSize;
+    List<StudyPostDto> content = hasNext ? studyPosts.subList(0, pageSize) : studyPosts;
+    String nextCursor = hasNext
+        ? StudyPostCursor.next(condition, content.get(content.size() - 1)).encode()
+        : null;
+
+    return StudyPostCursorResponse.builder()
+        .content(content)
+        .nextCursor(nextCursor)
+        .hasNext(hasNext)
+        .totalCount(withCount ? studyPostRepository.countStudyPostsByFilters(condition) : null)
+        .build();
+  }
+
+  // 조회 (검색 패싯 개수)
+  public StudyPostFacetResponse getStudyPostFacets(StudyPostSearchCondition condition) {
+    return studyPostFacetCache.get(condition,
+        () -> studyPostRepository.countStudyPostFacets(condition));
   }
 
   // 수정
@@ -227,8 +297,24 @@ public class StudyPostService {
 
     Pageable pageable = PageRequest.of(page, 12, Sort.by("createdAt").ascending());
 
-    return studyCommentRepository.findAllByStudyPost(studyPost, pageable)
-        .map(StudyCommentResponse::fromEntity);
+    Page<StudyComment> comments = studyCommentRepository.findAllByStudyPost(studyPost, pageable);
+    Map<Long, List<StudyReplyDto>> repliesByCommentId = getRepliesByCommentId(comments);
+
+    return comments.map(comment -> StudyCommentResponse.fromEntity(comment,
+        repliesByCommentId.getOrDefault(comment.getId(), Collections.emptyList())));
+  }
+
+  /**
+   * 댓글 페이지의 답글을 한 번에 조회해 댓글 ID 별로 묶음 (댓글마다 답글을 지연 로딩하지 않기 위함)
+   */
+  private Map<Long, List<StudyReplyDto>> getRepliesByCommentId(Page<StudyComment> comments) {
+    if (comments.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    return studyReplyRepository.findAllByCommentInOrderByIdAsc(comments.getContent()).stream()
+        .map(StudyReplyDto::fromEntity)
+        .collect(Collectors.groupingBy(StudyReplyDto::getCommentId));
   }
 
   /**
@@ -0,0 +1,361 @@
+package com.devonoff.domain.studyPost.util;
+
+import com.devonoff.domain.studyPost.dto.StudyPostFacetResponse;
+import com.devonoff.domain.studyPost.dto.StudyPostSearchCondition;
+import com.devonoff.domain.studyPost.entity.QStudyPost;
+import com.devonoff.domain.studyPost.event.StudyPostChangedEvent;
+import com.devonoff.domain.studyPost.event.StudyPostSnapshot;
+import com.devonoff.type.StudyDifficulty;
+import com.devonoff.type.StudyMeetingType;
+import com.devonoff.type.StudyPostStatus;
+import com.devonoff.type.StudySubject;
+import com.devonoff.util.DayTypeUtils;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 스터디 모집글 필터 조건(모임 방식/주제/난이도/요일/상태)의 비트맵 인덱스
+ * <p>
+ * 모집글 ID 를 비트 위치로 사용해 속성 값마다 비트맵을 두고, 검색 조건은 비트맵 간 워드 단위 AND 로 계산합니다. 요일은
+ * 요일별 비트맵을 두어 {@code bitand(dayType, mask) = mask} 조건을 mask 의 각 요일 비트맵 AND 로 처리합니다.
+ * 인덱스는 조건에 맞는 ID 집합만 제공하며, DB 는 최종 페이지의 모집글을 조회할 때만 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyPostBitmapIndex {
+
+  private static final int LOAD_CHUNK_SIZE = 10_000;
+  private static final int DAY_COUNT = 7; // 월(1) ~ 일(64)
+
+  private final JPAQueryFactory queryFactory;
+
+  private final BitSet all = new BitSet();
+  private final BitSet withLocation = new BitSet();
+  private final Map<StudyMeetingType, BitSet> meetingTypes = newEnumBitmaps(StudyMeetingType.class);
+  private final Map<StudySubject, BitSet> subjects = newEnumBitmaps(StudySubject.class);
+  private final Map<StudyDifficulty, BitSet> difficulties = newEnumBitmaps(StudyDifficulty.class);
+  private final Map<StudyPostStatus, BitSet> statuses = newEnumBitmaps(StudyPostStatus.class);
+  private final BitSet[] days = newDayBitmaps();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  // 초기 적재 도중 이벤트로 먼저 반영된 ID (오래된 조회 결과로 덮어쓰지 않기 위함)
+  private final Set<Long> touchedWhileLoading = ConcurrentHashMap.newKeySet();
+  private volatile boolean loading = false;
+  private volatile boolean ready = false;
+  private volatile boolean overflowed = false; // int 범위를 벗어난 ID 발견 여부
+
+  /**
+   * 초기 인덱스 구성
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    QStudyPost studyPost = QStudyPost.studyPost;
+    loading = true;
+    long lastId = 0L;
+    try {
+      while (true) {
+        List<Tuple> rows = queryFactory
+            .select(studyPost.id, studyPost.meetingType, studyPost.subject, studyPost.difficulty,
+                studyPost.dayType, studyPost.status, studyPost.latitude, studyPost.longitude)
+            .from(studyPost)
+            .where(studyPost.id.gt(lastId))
+            .orderBy(studyPost.id.asc())
+            .limit(LOAD_CHUNK_SIZE)
+            .fetch();
+
+        for (Tuple row : rows) {
+          Long id = row.get(studyPost.id);
+          if (!touchedWhileLoading.contains(id)) {
+            put(StudyPostSnapshot.builder()
+                .id(id)
+                .meetingType(row.get(studyPost.meetingType))
+                .subject(row.get(studyPost.subject))
+                .difficulty(row.get(studyPost.difficulty))
+                .dayType(row.get(studyPost.dayType))
+                .status(row.get(studyPost.status))
+                .latitude(row.get(studyPost.latitude))
+                .longitude(row.get(studyPost.longitude))
+                .build());
+          }
+          lastId = id;
+        }
+
+        if (rows.size() < LOAD_CHUNK_SIZE) {
+          break;
+        }
+      }
+      ready = !overflowed;
+      log.info("스터디 모집글 비트맵 인덱스 구성 완료 - {}건", size());
+    } catch (Exception e) {
+      log.error("스터디 모집글 비트맵 인덱스 구성 실패 - DB 조회로 대체합니다.", e);
+    } finally {
+      loading = false;
+      touchedWhileLoading.clear();
+    }
+  }
+
+  /**
+   * 커밋된 모집글 변경 반영
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStudyPostChanged(StudyPostChangedEvent event) {
+    Long studyPostId = event.getStudyPostId();
+    if (loading) {
+      touchedWhileLoading.add(studyPostId);
+    }
+
+    if (event.isRemoved()) {
+      remove(studyPostId);
+    } else {
+      put(event.getAfter());
+    }
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return all.cardinality();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 검색 조건(제목 제외)에 맞는 모집글 ID 비트맵 조회
+   * <p>
+   * 거리순 검색이면 좌표가 있는 모집글로 한정합니다. 반환된 비트맵은 호출 측 소유의 복사본입니다.
+   *
+   * @param condition 검색 조건
+   * @return Optional<BitSet> (인덱스가 준비되지 않았으면 empty)
+   */
+  public Optional<BitSet> filter(StudyPostSearchCondition condition) {
+    if (!ready) {
+      return Optional.empty();
+    }
+
+    lock.readLock().lock();
+    try {
+      BitSet matched = (BitSet) all.clone();
+      if (condition.getMeetingType() != null) {
+        matched.and(meetingTypes.get(condition.getMeetingType()));
+      }
+      if (condition.getSubject() != null) {
+        matched.and(subjects.get(condition.getSubject()));
+      }
+      if (condition.getDifficulty() != null) {
+        matched.and(difficulties.get(condition.getDifficulty()));
+      }
+      if (condition.getStatus() != null) {
+        matched.and(statuses.get(condition.getStatus()));
+      }
+      andDays(matched, condition.getDayType());
+      if (condition.isDistanceSort()) {
+        matched.and(withLocation);
+      }
+      return Optional.of(matched);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 검색 조건에 대한 패싯 개수 계산
+   * <p>
+   * 주제/난이도/모임 방식은 자기 항목의 필터만 제외하고 계산합니다. 위치 조건은 적용하지 않습니다.
+   *
+   * @param condition 검색 조건
+   * @param titleIds  제목 검색 후보 ID (제목 조건이 없으면 null)
+   * @return Optional<StudyPostFacetResponse> (인덱스가 준비되지 않았으면 empty)
+   */
+  public Optional<StudyPostFacetResponse> countFacets(
+      StudyPostSearchCondition condition, BitSet titleIds) {
+
+    if (!ready) {
+      return Optional.empty();
+    }
+
+    StudyPostFacetResponse facets = StudyPostFacetResponse.empty();
+    lock.readLock().lock();
+    try {
+      BitSet base = (BitSet) all.clone();
+      if (titleIds != null) {
+        base.and(titleIds);
+      }
+      if (condition.getStatus() != null) {
+        base.and(statuses.get(condition.getStatus()));
+      }
+      andDays(base, condition.getDayType());
+
+      BitSet meetingTypeFilter = bitmapOf(meetingTypes, condition.getMeetingType());
+      BitSet subjectFilter = bitmapOf(subjects, condition.getSubject());
+      BitSet difficultyFilter = bitmapOf(difficulties, condition.getDifficulty());
+
+      countEach(facets.getSubjects(), subjects,
+          intersect(base, meetingTypeFilter, difficultyFilter));
+      countEach(facets.getDifficulties(), difficulties,
+          intersect(base, meetingTypeFilter, subjectFilter));
+      countEach(facets.getMeetingTypes(), meetingTypes,
+          intersect(base, subjectFilter, difficultyFilter));
+
+      BitSet matched = intersect(base, meetingTypeFilter, subjectFilter, difficultyFilter);
+      facets.setTotalCount(matched.cardinality());
+      for (int bit = 0; bit < DAY_COUNT; bit++) {
+        BitSet dayMatched = (BitSet) matched.clone();
+        dayMatched.and(days[bit]);
+        facets.getDays().put(DayTypeUtils.decodeDays(1 << bit).get(0),
+            (long) dayMatched.cardinality());
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    return Optional.of(facets);
+  }
+
+  private static <E extends Enum<E>> BitSet bitmapOf(Map<E, BitSet> bitmaps, E value) {
+    return value == null ? null : bitmaps.get(value);
+  }
+
+  private static BitSet intersect(BitSet base, BitSet... filters) {
+    BitSet result = (BitSet) base.clone();
+    for (BitSet filter : filters) {
+      if (filter != null) {
+        result.and(filter);
+      }
+    }
+    return result;
+  }
+
+  private static <E extends Enum<E>> void countEach(Map<E, Long> counts, Map<E, BitSet> bitmaps,
+      BitSet scope) {
+    bitmaps.forEach((value, bitmap) -> {
+      BitSet matched = (BitSet) scope.clone();
+      matched.and(bitmap);
+      counts.put(value, (long) matched.cardinality());
+    });
+  }
+
+  private void andDays(BitSet matched, int dayMask) {
+    for (int bit = 0; bit < Integer.SIZE; bit++) {
+      if ((dayMask & (1 << bit)) == 0) {
+        continue;
+      }
+      if (bit >= DAY_COUNT) {
+        matched.clear(); // 존재하지 않는 요일 비트는 어떤 모집글과도 일치하지 않음
+        return;
+      }
+      matched.and(days[bit]);
+    }
+  }
+
+  private void put(StudyPostSnapshot snapshot) {
+    int position = toPosition(snapshot.getId());
+    if (position < 0) {
+      return;
+    }
+
+    lock.writeLock().lock();
+    try {
+      clear(position);
+      all.set(position);
+      if (snapshot.hasLocation()) {
+        withLocation.set(position);
+      }
+      setIfPresent(meetingTypes, snapshot.getMeetingType(), position);
+      setIfPresent(subjects, snapshot.getSubject(), position);
+      setIfPresent(difficulties, snapshot.getDifficulty(), position);
+      setIfPresent(statuses, snapshot.getStatus(), position);
+      int dayType = snapshot.getDayType() == null ? 0 : snapshot.getDayType();
+      for (int bit = 0; bit < DAY_COUNT; bit++) {
+        if ((dayType & (1 << bit)) != 0) {
+          days[bit].set(position);
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void remove(Long studyPostId) {
+    int position = toPosition(studyPostId);
+    if (position < 0) {
+      return;
+    }
+
+    lock.writeLock().lock();
+    try {
+      clear(position);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void clear(int position) {
+    all.clear(position);
+    withLocation.clear(position);
+    meetingTypes.values().forEach(bitmap -> bitmap.clear(position));
+    subjects.values().forEach(bitmap -> bitmap.clear(position));
+    difficulties.values().forEach(bitmap -> bitmap.clear(position));
+    statuses.values().forEach(bitmap -> bitmap.clear(position));
+    for (BitSet day : days) {
+      day.clear(position);
+    }
+  }
+
+  /**
+   * 모집글 ID 를 비트 위치로 변환 (int 범위를 벗어나면 인덱스를 더 이상 사용하지 않음)
+   */
+  private int toPosition(Long studyPostId) {
+    if (studyPostId == null || studyPostId < 0 || studyPostId > Integer.MAX_VALUE - 1) {
+      if (!overflowed) {
+        log.warn("비트맵 인덱스로 표현할 수 없는 모집글 ID({}) - DB 조회로 대체합니다.", studyPostId);
+      }
+      overflowed = true;
+      ready = false;
+      return -1;
+    }
+    return studyPostId.intValue();
+  }
+
+  private static <E extends Enum<E>> void setIfPresent(Map<E, BitSet> bitmaps, E value,
+      int position) {
+    if (value != null) {
+      bitmaps.get(value).set(position);
+    }
+  }
+
+  private static <E extends Enum<E>> Map<E, BitSet> newEnumBitmaps(Class<E> type) {
+    Map<E, BitSet> bitmaps = new EnumMap<>(type);
+    for (E value : type.getEnumConstants()) {
+      bitmaps.put(value, new BitSet());
+    }
+    return bitmaps;
+  }
+
+  private static BitSet[] newDayBitmaps() {
+    BitSet[] bitmaps = new BitSet[DAY_COUNT];
+    for (int i = 0; i < DAY_COUNT; i++) {
+      bitmaps[i] = new BitSet();
+    }
+    return bitmaps;
+  }
+}
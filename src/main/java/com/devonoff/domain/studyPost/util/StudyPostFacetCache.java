@@ -0,0 +1,60 @@
+package com.devonoff.domain.studyPost.util;
+
+import com.devonoff.domain.studyPost.dto.StudyPostFacetResponse;
+import com.devonoff.domain.studyPost.dto.StudyPostSearchCondition;
+import com.devonoff.domain.studyPost.event.StudyPostChangedEvent;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 검색 조건별 패싯 개수 캐시
+ * <p>
+ * 모집글이 생성/수정/삭제되면 모든 패싯 개수가 바뀔 수 있으므로 다음 변경이 커밋될 때까지만 보관합니다.
+ */
+@Component
+public class StudyPostFacetCache {
+
+  private static final int MAX_ENTRIES = 1_000;
+
+  private final Map<StudyPostSearchCondition, StudyPostFacetResponse> cache =
+      new ConcurrentHashMap<>();
+  // 변경 이벤트마다 증가 (계산 도중 변경된 결과를 캐시에 남기지 않기 위함)
+  private final AtomicLong version = new AtomicLong();
+
+  /**
+   * 캐시된 패싯 개수 조회 (없으면 loader 로 계산 후 저장)
+   */
+  public StudyPostFacetResponse get(StudyPostSearchCondition condition,
+      Supplier<StudyPostFacetResponse> loader) {
+
+    StudyPostFacetResponse cached = cache.get(condition);
+    if (cached != null) {
+      return cached;
+    }
+
+    long loadedVersion = version.get();
+    StudyPostFacetResponse facets = loader.get();
+
+    if (cache.size() >= MAX_ENTRIES) {
+      cache.clear();
+    }
+    cache.put(condition, facets);
+    if (version.get() != loadedVersion) {
+      cache.remove(condition, facets);
+    }
+    return facets;
+  }
+
+  /**
+   * 커밋된 모집글 변경 시 캐시 초기화
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStudyPostChanged(StudyPostChangedEvent event) {
+    version.incrementAndGet();
+    cache.clear();
+  }
+}
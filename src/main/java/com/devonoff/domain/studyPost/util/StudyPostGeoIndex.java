@@ -0,0 +1,130 @@
+package com.devonoff.domain.studyPost.util;
+
+import com.devonoff.domain.studyPost.entity.QStudyPost;
+import com.devonoff.domain.studyPost.event.StudyPostChangedEvent;
+import com.devonoff.domain.studyPost.event.StudyPostSnapshot;
+import com.devonoff.util.GeoGridIndex;
+import com.devonoff.util.GeoGridIndex.Neighbor;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 위치 정보가 있는 스터디 모집글의 공간 인덱스
+ * <p>
+ * 애플리케이션 시작 시 DB 에서 좌표를 읽어 구성하고, 이후에는 StudyPostChangedEvent 로 커밋된 변경을 반영합니다.
+ * 인덱스는 후보 ID 만 제공하며 상태/주제 등의 필터는 DB 에서 다시 확인합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyPostGeoIndex {
+
+  private static final double CELL_SIZE_DEGREE = 0.01; // 위도 기준 약 1.1km
+  private static final int LOAD_CHUNK_SIZE = 10_000;
+
+  private final JPAQueryFactory queryFactory;
+
+  private final GeoGridIndex index = new GeoGridIndex(CELL_SIZE_DEGREE);
+  // 초기 적재 도중 이벤트로 먼저 반영된 ID (오래된 조회 결과로 덮어쓰지 않기 위함)
+  private final Set<Long> touchedWhileLoading = ConcurrentHashMap.newKeySet();
+  private volatile boolean loading = false;
+  private volatile boolean ready = false;
+
+  /**
+   * 초기 인덱스 구성
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    QStudyPost studyPost = QStudyPost.studyPost;
+    loading = true;
+    long lastId = 0L;
+    try {
+      while (true) {
+        List<Tuple> rows = queryFactory
+            .select(studyPost.id, studyPost.latitude, studyPost.longitude)
+            .from(studyPost)
+            .where(studyPost.id.gt(lastId),
+                studyPost.latitude.isNotNull(),
+                studyPost.longitude.isNotNull())
+            .orderBy(studyPost.id.asc())
+            .limit(LOAD_CHUNK_SIZE)
+            .fetch();
+
+        for (Tuple row : rows) {
+          Long id = row.get(studyPost.id);
+          if (!touchedWhileLoading.contains(id)) {
+            index.put(id, row.get(studyPost.latitude), row.get(studyPost.longitude));
+          }
+          lastId = id;
+        }
+
+        if (rows.size() < LOAD_CHUNK_SIZE) {
+          break;
+        }
+      }
+      ready = true;
+      log.info("스터디 모집글 공간 인덱스 구성 완료 - {}건", index.size());
+    } catch (Exception e) {
+      log.error("스터디 모집글 공간 인덱스 구성 실패 - DB 정렬로 대체합니다.", e);
+    } finally {
+      loading = false;
+      touchedWhileLoading.clear();
+    }
+  }
+
+  /**
+   * 커밋된 모집글 변경 반영
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStudyPostChanged(StudyPostChangedEvent event) {
+    Long studyPostId = event.getStudyPostId();
+    if (loading) {
+      touchedWhileLoading.add(studyPostId);
+    }
+
+    StudyPostSnapshot after = event.getAfter();
+    if (after == null || !after.hasLocation()) {
+      index.remove(studyPostId);
+    } else {
+      index.put(studyPostId, after.getLatitude(), after.getLongitude());
+    }
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  public int size() {
+    return index.size();
+  }
+
+  /**
+   * 가까운 순서대로 최대 k 개의 모집글 ID 조회
+   */
+  public List<Neighbor> nearest(double latitude, double longitude, int k) {
+    return index.nearest(latitude, longitude, k);
+  }
+
+  /**
+   * after 이후(거리, ID 순)의 가까운 모집글 ID 를 최대 k 개 조회 (커서 페이지네이션)
+   */
+  public List<Neighbor> nearest(double latitude, double longitude, int k, Neighbor after) {
+    return index.nearest(latitude, longitude, k, after);
+  }
+
+  /**
+   * 반경 내 모집글 ID 를 가까운 순서대로 조회
+   */
+  public List<Neighbor> withinRadius(double latitude, double longitude, double radiusKm) {
+    return index.withinRadius(latitude, longitude, radiusKm);
+  }
+}
@@ -0,0 +1,307 @@
+package com.devonoff.domain.studyPost.util;
+
+import com.devonoff.domain.studyPost.dto.StudyPostDto;
+import com.devonoff.domain.studyPost.dto.StudyPostSearchCondition;
+import com.devonoff.domain.studyPost.event.StudyPostChangedEvent;
+import com.devonoff.domain.studyPost.event.StudyPostSnapshot;
+import com.devonoff.util.LruCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 스터디 모집글 검색 결과 페이지 캐시 (L1: 서버 내 LRU, L2: Redis)
+ * <p>
+ * 정규화한 검색 조건과 페이지 번호/크기를 키로 사용합니다. 모집글이 변경되면 L1 은 변경 전/후 상태 중 하나라도 조건에 맞는
+ * 검색 결과만 무효화하며, 제목 조건은 일치 여부를 판단하지 않고 무효화 대상에 포함합니다. L2 는 모든 서버가 공유하는 버전
+ * 키를 페이지 키에 포함합니다. 버전 키는 주제 -> 진행 방식 -> 난이도 -> 모집 상태 중 검색 조건에 처음 지정된 값의 키이고
+ * (모두 없으면 전체 버전 키), 변경 시에는 변경 전/후 상태의 각 조건 값과 전체 버전만 올립니다. 조건에 맞는 모집글은 그 값을
+ * 가지므로 무효화가 빠지지 않고, 다른 값으로 검색한 결과는 유지됩니다. 다른 서버가 변경 전에 조회한 결과를 늦게 저장해도
+ * 이전 버전 키에 저장되므로 읽히지 않습니다. 작성자 정보 변경 등 이벤트로 알 수 없는 변경은 만료 시간으로 반영합니다. 좌표마다
+ * 키가 달라지는 거리순 검색은 캐시하지 않습니다.
+ */
+@Slf4j
+@Component
+public class StudyPostSearchCache {
+
+  private static final String KEY_PREFIX = "StudyPostSearch:";
+  private static final String VERSION_KEY = KEY_PREFIX + "version"; // 모집글 변경마다 증가
+  private static final int L1_MAX_ENTRIES = 1_000;
+  private static final Duration TTL = Duration.ofMinutes(10);
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final LruCache<CacheKey, CachedPage> localCache =
+      new LruCache<>(L1_MAX_ENTRIES, TTL.toMillis());
+  // 변경 이벤트마다 증가 (조회 도중 무효화된 결과를 캐시에 남기지 않기 위함)
+  private final AtomicLong version = new AtomicLong();
+
+  private final Counter l1Hit;
+  private final Counter l1Miss;
+  private final Counter l2Hit;
+  private final Counter l2Miss;
+  private final Counter evictions;
+
+  public StudyPostSearchCache(RedisTemplate<String, Object> redisTemplate,
+      ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    this.l1Hit = requestCounter(meterRegistry, "l1", "hit");
+    this.l1Miss = requestCounter(meterRegistry, "l1", "miss");
+    this.l2Hit = requestCounter(meterRegistry, "l2", "hit");
+    this.l2Miss = requestCounter(meterRegistry, "l2", "miss");
+    this.evictions = Counter.builder("study_post.search.cache.evictions")
+        .description("모집글 변경으로 무효화된 L1 검색 결과 수")
+        .register(meterRegistry);
+    Gauge.builder("study_post.search.cache.size", localCache, LruCache::size)
+        .tag("tier", "l1")
+        .register(meterRegistry);
+  }
+
+  public static boolean isCacheable(StudyPostSearchCondition condition) {
+    return !condition.isDistanceSort();
+  }
+
+  /**
+   * 캐시된 검색 결과 조회 (L1 -> L2 -> loader 순서)
+   *
+   * @param condition 정규화된 검색 조건
+   * @param pageable  페이지 정보
+   * @param loader    캐시에 없을 때 DB 에서 조회
+   * @return Page<StudyPostDto>
+   */
+  public Page<StudyPostDto> get(StudyPostSearchCondition condition, Pageable pageable,
+      Supplier<Page<StudyPostDto>> loader) {
+
+    CacheKey key = new CacheKey(condition, pageable.getPageNumber(), pageable.getPageSize());
+    CachedPage cached = localCache.get(key);
+    if (cached != null) {
+      l1Hit.increment();
+      return cached.toPage(pageable);
+    }
+    l1Miss.increment();
+
+    long loadedVersion = version.get();
+    // DB 조회보다 먼저 읽어야 조회 도중 변경된 결과가 새 버전 키에 저장되지 않음
+    Long remoteVersion = readRemoteVersion(versionKey(condition));
+    cached = remoteVersion == null ? null : readRemote(pageKey(key, remoteVersion));
+    if (cached != null) {
+      l2Hit.increment();
+      putLocal(key, cached, loadedVersion);
+      return cached.toPage(pageable);
+    }
+    l2Miss.increment();
+
+    Page<StudyPostDto> page = loader.get();
+    cached = new CachedPage(page.getContent(), page.getTotalElements());
+    putLocal(key, cached, loadedVersion);
+    if (remoteVersion != null) {
+      writeRemote(pageKey(key, remoteVersion), cached);
+    }
+    return page;
+  }
+
+  /**
+   * 커밋된 모집글 변경 시 영향을 받는 검색 결과 무효화
+   * <p>
+   * L2 버전은 변경이 발생한 서버에서만 올리고, 다른 서버는 전달받은 이벤트로 자신의 L1 만 지웁니다.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStudyPostChanged(StudyPostChangedEvent event) {
+    version.incrementAndGet();
+
+    int evicted = localCache.removeIf(key -> isAffected(key.getCondition(), event));
+    evictions.increment(evicted);
+
+    if (!event.isRelayed()) {
+      evictRemote(event);
+    }
+  }
+
+  private void putLocal(CacheKey key, CachedPage cached, long loadedVersion) {
+    localCache.put(key, cached);
+    if (version.get() != loadedVersion) {
+      localCache.remove(key);
+    }
+  }
+
+  /**
+   * @return L2 버전 (Redis 를 사용할 수 없으면 null)
+   */
+  private Long readRemoteVersion(String versionKey) {
+    try {
+      Object value = redisTemplate.opsForValue().get(versionKey);
+      return value == null ? 0L : Long.parseLong(value.toString());
+    } catch (Exception e) {
+      log.warn("검색 결과 캐시(Redis) 버전 조회 실패", e);
+      return null;
+    }
+  }
+
+  private CachedPage readRemote(String pageKey) {
+    try {
+      Object value = redisTemplate.opsForValue().get(pageKey);
+      return value == null ? null : objectMapper.readValue((String) value, CachedPage.class);
+    } catch (Exception e) {
+      log.warn("검색 결과 캐시(Redis) 조회 실패 - {}", pageKey, e);
+      return null;
+    }
+  }
+
+  private void writeRemote(String pageKey, CachedPage cached) {
+    try {
+      redisTemplate.opsForValue().set(pageKey, objectMapper.writeValueAsString(cached), TTL);
+    } catch (Exception e) {
+      log.warn("검색 결과 캐시(Redis) 저장 실패 - {}", pageKey, e);
+    }
+  }
+
+  private void evictRemote(StudyPostChangedEvent event) {
+    try {
+      for (String versionKey : affectedVersionKeys(event)) {
+        redisTemplate.opsForValue().increment(versionKey);
+      }
+    } catch (Exception e) {
+      log.warn("검색 결과 캐시(Redis) 무효화 실패 - studyPostId: {}", event.getStudyPostId(), e);
+    }
+  }
+
+  /**
+   * 검색 결과 페이지 키에 포함할 L2 버전 키
+   */
+  private static String versionKey(StudyPostSearchCondition condition) {
+    if (condition.getSubject() != null) {
+      return valueVersionKey("subject", condition.getSubject());
+    }
+    if (condition.getMeetingType() != null) {
+      return valueVersionKey("meetingType", condition.getMeetingType());
+    }
+    if (condition.getDifficulty() != null) {
+      return valueVersionKey("difficulty", condition.getDifficulty());
+    }
+    if (condition.getStatus() != null) {
+      return valueVersionKey("status", condition.getStatus());
+    }
+    return VERSION_KEY;
+  }
+
+  /**
+   * 모집글 변경 시 올릴 L2 버전 키 (전체 버전과 변경 전/후 상태의 각 조건 값)
+   */
+  private static Set<String> affectedVersionKeys(StudyPostChangedEvent event) {
+    Set<String> versionKeys = new LinkedHashSet<>();
+    versionKeys.add(VERSION_KEY);
+    addValueVersionKeys(versionKeys, event.getBefore());
+    addValueVersionKeys(versionKeys, event.getAfter());
+    return versionKeys;
+  }
+
+  private static void addValueVersionKeys(Set<String> versionKeys, StudyPostSnapshot snapshot) {
+    if (snapshot == null) {
+      return;
+    }
+    addValueVersionKey(versionKeys, "subject", snapshot.getSubject());
+    addValueVersionKey(versionKeys, "meetingType", snapshot.getMeetingType());
+    addValueVersionKey(versionKeys, "difficulty", snapshot.getDifficulty());
+    addValueVersionKey(versionKeys, "status", snapshot.getStatus());
+  }
+
+  private static void addValueVersionKey(Set<String> versionKeys, String field, Enum<?> value) {
+    if (value != null) {
+      versionKeys.add(valueVersionKey(field, value));
+    }
+  }
+
+  private static String valueVersionKey(String field, Enum<?> value) {
+    return VERSION_KEY + ":" + field + ":" + value.name();
+  }
+
+  private static boolean isAffected(StudyPostSearchCondition condition,
+      StudyPostChangedEvent event) {
+    return matches(condition, event.getBefore()) || matches(condition, event.getAfter());
+  }
+
+  /**
+   * 모집글 상태가 검색 조건에 해당하는지 확인 (제목 조건은 무시)
+   */
+  private static boolean matches(StudyPostSearchCondition condition, StudyPostSnapshot snapshot) {
+    if (snapshot == null) {
+      return false;
+    }
+    int dayType = snapshot.getDayType() == null ? 0 : snapshot.getDayType();
+    return (condition.getMeetingType() == null
+        || condition.getMeetingType() == snapshot.getMeetingType())
+        && (condition.getSubject() == null || condition.getSubject() == snapshot.getSubject())
+        && (condition.getDifficulty() == null
+        || condition.getDifficulty() == snapshot.getDifficulty())
+        && (condition.getStatus() == null || condition.getStatus() == snapshot.getStatus())
+        && (dayType & condition.getDayType()) == condition.getDayType();
+  }
+
+  private static String conditionToken(StudyPostSearchCondition condition) {
+    return String.join("|",
+        Objects.toString(condition.getMeetingType(), "-"),
+        Objects.toString(condition.getSubject(), "-"),
+        Objects.toString(condition.getDifficulty(), "-"),
+        Objects.toString(condition.getStatus(), "-"),
+        String.valueOf(condition.getDayType()),
+        condition.getTitle() == null ? "-"
+            : URLEncoder.encode(condition.getTitle(), StandardCharsets.UTF_8));
+  }
+
+  private static String pageKey(CacheKey key, long remoteVersion) {
+    return KEY_PREFIX + "page:" + remoteVersion + ":" + conditionToken(key.getCondition())
+        + ":" + key.getPage() + ":" + key.getSize();
+  }
+
+  private static Counter requestCounter(MeterRegistry meterRegistry, String tier, String result) {
+    return Counter.builder("study_post.search.cache.requests")
+        .tag("tier", tier)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  @Getter
+  @EqualsAndHashCode
+  @AllArgsConstructor
+  private static class CacheKey {
+
+    private final StudyPostSearchCondition condition;
+    private final int page;
+    private final int size;
+  }
+
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  static class CachedPage {
+
+    private List<StudyPostDto> content;
+    private long totalElements;
+
+    Page<StudyPostDto> toPage(Pageable pageable) {
+      return new PageImpl<>(content, pageable, totalElements);
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package com.devonoff.domain.studyPost.util;
+
+import com.devonoff.domain.studyPost.entity.QStudyPost;
+import com.devonoff.domain.studyPost.event.StudyPostChangedEvent;
+import com.devonoff.util.AbstractPostTitleIndex;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 스터디 모집글 제목 검색 인덱스
+ */
+@Component
+@RequiredArgsConstructor
+public class StudyPostTitleIndex extends AbstractPostTitleIndex {
+
+  private final JPAQueryFactory queryFactory;
+
+  @Override
+  protected Map<Long, String> loadTitles(long afterId, int limit) {
+    QStudyPost studyPost = QStudyPost.studyPost;
+    Map<Long, String> titles = new LinkedHashMap<>();
+    for (Tuple row : queryFactory
+        .select(studyPost.id, studyPost.title)
+        .from(studyPost)
+        .where(studyPost.id.gt(afterId))
+        .orderBy(studyPost.id.asc())
+        .limit(limit)
+        .fetch()) {
+      titles.put(row.get(studyPost.id), row.get(studyPost.title));
+    }
+    return titles;
+  }
+
+  /**
+   * 커밋된 모집글 변경 반영 (제목이 바뀐 경우만)
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStudyPostChanged(StudyPostChangedEvent event) {
+    if (event.isRemoved()) {
+      apply(event.getStudyPostId(), null);
+    } else if (event.getBefore() == null
+        || !Objects.equals(event.getBefore().getTitle(), event.getAfter().getTitle())) {
+      apply(event.getStudyPostId(), event.getAfter().getTitle());
+    }
+  }
+}
@@ -6,15 +6,9 @@ import static com.devonoff.type.ErrorCode.UNAUTHORIZED_ACCESS;
 import com.devonoff.domain.student.repository.StudentRepository;
 import com.devonoff.domain.study.repository.StudyRepository;
 import com.devonoff.domain.studyTimeline.dto.StudyTimelineDto;
-import com.devonoff.domain.studyTimeline.entity.StudyTimeline;
 import com.devonoff.domain.studyTimeline.repository.StudyTimelineRepository;
-import com.devonoff.domain.totalstudytime.entity.TotalStudyTime;
-import com.devonoff.domain.totalstudytime.repository.TotalStudyTimeRepository;
 import com.devonoff.domain.user.service.AuthService;
 import com.devonoff.exception.CustomException;
-import jakarta.transaction.Transactional;
-import java.time.Duration;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -25,7 +19,6 @@ import org.springframework.stereotype.Service;
 public class StudyTimelineService {
 
   private final StudyTimelineRepository studyTimelineRepository;
-  private final TotalStudyTimeRepository totalStudyTimeRepository;
   private final StudyRepository studyRepository;
   private final StudentRepository studentRepository;
   private final AuthService authService;
@@ -43,18 +36,4 @@ public class StudyTimelineService {
         .collect(
             Collectors.toList());
   }
-
-  @Transactional
-  public StudyTimeline saveStudyTimeline(Long studyId, LocalDateTime startedAt,
-      LocalDateTime endedAt) {
-    TotalStudyTime totalStudyTime = this.totalStudyTimeRepository.findById(studyId)
-        .orElseThrow(() -> new CustomException(STUDY_NOT_FOUND));
-    Long totalSeconds = totalStudyTime.getTotalStudyTime();
-    totalSeconds += Duration.between(startedAt, endedAt).toSeconds();
-    totalStudyTime.setTotalStudyTime(totalSeconds);
-    this.totalStudyTimeRepository.save(totalStudyTime);
-    return this.studyTimelineRepository.save(
-        StudyTimeline.builder().studyId(studyId).startedAt(startedAt).endedAt(endedAt)
-            .build());
-  }
 }
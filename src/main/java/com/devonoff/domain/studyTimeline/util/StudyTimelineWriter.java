@@ -0,0 +1,138 @@
+package com.devonoff.domain.studyTimeline.util;
+
+import com.devonoff.util.WriteBehindWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 스터디 진행 기록 지연 저장 (write-behind)
+ * <p>
+ * 끝난 진행 구간을 큐에 넣고 바로 반환하며, 저장 스레드가 study_timeline 배치 INSERT 와 스터디별로 합친
+ * total_study_time 증가를 한 트랜잭션으로 저장합니다 (WriteBehindWriter). 웹소켓 연결 해제 처리에서 DB 를 기다리지
+ * 않기 위함이며, 큐가 가득 찼거나 저장 스레드가 동작하지 않으면 호출한 스레드에서 바로 저장합니다.
+ */
+@Slf4j
+@Component
+public class StudyTimelineWriter extends WriteBehindWriter<StudyTimelineWriter.StudyInterval> {
+
+  private static final String INSERT_SQL =
+      "INSERT INTO study_timeline (study_id, started_at, ended_at) VALUES (?, ?, ?)";
+  private static final String INCREMENT_SQL = "UPDATE total_study_time "
+      + "SET total_study_time = total_study_time + ? WHERE study_id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final Counter overflowed;
+  private final Counter missingTotal;
+
+  public StudyTimelineWriter(JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+      @Value("${study.timeline.write-behind.queue-capacity:1000}") int queueCapacity,
+      @Value("${study.timeline.write-behind.flush-size:100}") int flushSize,
+      @Value("${study.timeline.write-behind.flush-interval-ms:1000}") long flushIntervalMillis) {
+    super("study-timeline-writer", queueCapacity, flushSize, flushIntervalMillis);
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.overflowed = Counter.builder("study.timeline.write_behind.overflowed")
+        .description("큐가 가득 차 바로 저장한 스터디 진행 기록 수")
+        .register(meterRegistry);
+    this.missingTotal = Counter.builder("study.timeline.write_behind.missing_total")
+        .description("total_study_time 행이 없어 총 시간을 늘리지 못한 스터디 수")
+        .register(meterRegistry);
+    Gauge.builder("study.timeline.write_behind.queue.size", this,
+        StudyTimelineWriter::pendingCount).register(meterRegistry);
+  }
+
+  /**
+   * 끝난 진행 구간 저장 요청
+   */
+  public void enqueue(Long studyId, LocalDateTime startedAt, LocalDateTime endedAt) {
+    StudyInterval interval = new StudyInterval(studyId, startedAt, endedAt);
+    OfferResult result;
+    try {
+      result = offer(interval, 0L);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      result = OfferResult.STOPPED;
+    }
+    if (result == OfferResult.QUEUED) {
+      return;
+    }
+    if (result == OfferResult.FULL) {
+      overflowed.increment();
+    }
+    flush(List.of(interval));
+  }
+
+  @Override
+  protected void onFlushFailed(List<StudyInterval> batch, Exception e) {
+    log.error("스터디 진행 기록 저장 실패 - {}건, studyIds: {}", batch.size(),
+        batch.stream().map(StudyInterval::getStudyId).toList(), e);
+  }
+
+  // 배치 단위로 커밋 (재시도 시 진행 기록과 총 시간 중 한쪽만 저장된 상태가 남지 않도록)
+  @Override
+  protected void insert(List<StudyInterval> batch) {
+    Map<Long, Long> secondsByStudyId = new LinkedHashMap<>();
+    for (StudyInterval interval : batch) {
+      secondsByStudyId.merge(interval.getStudyId(),
+          Duration.between(interval.getStartedAt(), interval.getEndedAt()).toSeconds(),
+          Long::sum);
+    }
+    List<Object[]> increments = new ArrayList<>(secondsByStudyId.size());
+    secondsByStudyId.forEach((studyId, seconds) -> increments.add(new Object[]{seconds, studyId}));
+
+    int[] counts = transactionTemplate.execute(status -> {
+      jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, interval) -> {
+        ps.setLong(1, interval.getStudyId());
+        ps.setTimestamp(2, Timestamp.valueOf(interval.getStartedAt()));
+        ps.setTimestamp(3, Timestamp.valueOf(interval.getEndedAt()));
+      });
+      return jdbcTemplate.batchUpdate(INCREMENT_SQL, increments);
+    });
+    warnMissingTotals(increments, counts);
+  }
+
+  // total_study_time 행이 없는 스터디(삭제된 스터디 등)는 UPDATE 가 0건이므로 진행 기록만 남음
+  // (다시 시도해도 같은 결과이므로 재시도하지 않고 기록만 남김)
+  private void warnMissingTotals(List<Object[]> increments, int[] counts) {
+    if (counts == null) {
+      return;
+    }
+    List<Long> missingStudyIds = new ArrayList<>();
+    for (int i = 0; i < counts.length && i < increments.size(); i++) {
+      if (counts[i] == 0) {
+        missingStudyIds.add((Long) increments.get(i)[1]);
+      }
+    }
+    if (!missingStudyIds.isEmpty()) {
+      missingTotal.increment(missingStudyIds.size());
+      log.warn("총 공부 시간이 없어 늘리지 못한 스터디 - studyIds: {}", missingStudyIds);
+    }
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class StudyInterval {
+
+    private final Long studyId;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime endedAt;
+  }
+}
@@ -1,5 +1,6 @@
 package com.devonoff.domain.user.service;
 
+import com.devonoff.common.event.UserWithdrawnEvent;
 import com.devonoff.domain.redis.repository.AuthRedisRepository;
 import com.devonoff.domain.student.entity.Student;
 import com.devonoff.domain.student.repository.StudentRepository;
@@ -33,6 +34,7 @@ import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -52,6 +54,7 @@ public class AuthService {
   private final StudentService studentService;
   private final StudySignupRepository studySignupRepository;
   private final StudyPostRepository studyPostRepository;
+  private final ApplicationEventPublisher eventPublisher;
   @Value("${cloud.aws.s3.default-profile-image-url}")
   private String defaultProfileImageUrl;
 
@@ -293,6 +296,9 @@ public class AuthService {
     user.setIsActive(false);
 
     userRepository.save(user);
+
+    // 연결 중인 채팅 세션의 인증 정보 무효화
+    eventPublisher.publishEvent(new UserWithdrawnEvent(user.getId()));
   }
 
   /**
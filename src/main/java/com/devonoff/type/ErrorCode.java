@@ -68,6 +68,10 @@ public enum ErrorCode {
   CHAT_MESSAGE_SEND_FAILED(HttpStatus.INTERNAL_SERVER_ERROR.value(), "채팅 메시지 송신에 실패했습니다."), // 500
   CHAT_ROOM_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "채팅방을 찾을 수 없습니다."), // 404
   CHAT_ACCESS_DENIED(HttpStatus.FORBIDDEN.value(), "채팅방에 접근할 권한이 없습니다."), // 403
+  CHAT_MESSAGE_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE.value(),
+      "메시지가 많아 전송하지 못했습니다. 잠시 후 다시 시도해주세요."), // 503
+  MESSAGE_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS.value(),
+      "메시지를 너무 자주 보내고 있습니다. 잠시 후 다시 시도해주세요."), // 429
   // 화상채팅
   VIDEO_CHATROOM_CREATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR.value(),
       "화상 채팅방 생성에 실패했습니다."), // 500
@@ -82,6 +86,7 @@ public enum ErrorCode {
       "서버에 오류가 발생했습니다. 잠시 후 다시 시도해주세요."), // 500
   BAD_REQUEST(HttpStatus.BAD_REQUEST.value(), "잘못된 요청입니다."), // 400
   VALIDATION_FAILED(HttpStatus.BAD_REQUEST.value(), "입력값 검증에 실패했습니다."), // 400
+  INVALID_CURSOR(HttpStatus.BAD_REQUEST.value(), "유효하지 않은 커서입니다."), // 400
   // 보안 관련 예외
   UNAUTHORIZED_ACCESS(HttpStatus.FORBIDDEN.value(), "접근 권한이 없습니다."), // 403
   // 토큰 관련 예외
@@ -0,0 +1,98 @@
+package com.devonoff.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+/**
+ * 게시판별 제목 검색 인덱스의 공통 구현
+ * <p>
+ * 애플리케이션 시작 시 제목을 ID 순으로 나누어 적재하고, 이후에는 하위 클래스가 받은 변경 이벤트를 반영합니다. 인덱스가
+ * 준비되지 않았거나 후보가 너무 많으면 Optional.empty() 를 반환하므로 호출 측은 기존 LIKE 조회로 대체합니다.
+ */
+@Slf4j
+public abstract class AbstractPostTitleIndex {
+
+  private static final int LOAD_CHUNK_SIZE = 10_000;
+  private static final int MAX_CANDIDATES = 1_000; // 초과 시 LIKE 조회가 더 효율적
+
+  private final NgramTitleIndex index = new NgramTitleIndex();
+  // 초기 적재 도중 이벤트로 먼저 반영된 ID (오래된 조회 결과로 덮어쓰지 않기 위함)
+  private final Set<Long> touchedWhileLoading = ConcurrentHashMap.newKeySet();
+  private volatile boolean loading = false;
+  private volatile boolean ready = false;
+
+  /**
+   * afterId 보다 큰 ID 의 제목을 ID 오름차순으로 최대 limit 개 조회
+   *
+   * @return Map<Long, String> (ID -> 제목, ID 오름차순)
+   */
+  protected abstract Map<Long, String> loadTitles(long afterId, int limit);
+
+  /**
+   * 초기 인덱스 구성
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    loading = true;
+    long lastId = 0L;
+    try {
+      while (true) {
+        Map<Long, String> titles = loadTitles(lastId, LOAD_CHUNK_SIZE);
+        for (Map.Entry<Long, String> entry : titles.entrySet()) {
+          if (!touchedWhileLoading.contains(entry.getKey())) {
+            index.put(entry.getKey(), entry.getValue());
+          }
+          lastId = entry.getKey();
+        }
+
+        if (titles.size() < LOAD_CHUNK_SIZE) {
+          break;
+        }
+      }
+      ready = true;
+      log.info("{} 구성 완료 - {}건", getClass().getSimpleName(), index.size());
+    } catch (Exception e) {
+      log.error("{} 구성 실패 - LIKE 검색으로 대체합니다.", getClass().getSimpleName(), e);
+    } finally {
+      loading = false;
+      touchedWhileLoading.clear();
+    }
+  }
+
+  /**
+   * 제목 변경 반영
+   *
+   * @param postId 게시글 ID
+   * @param title  제목 (삭제된 경우 null)
+   */
+  protected void apply(Long postId, String title) {
+    if (loading) {
+      touchedWhileLoading.add(postId);
+    }
+
+    if (title == null) {
+      index.remove(postId);
+    } else {
+      index.put(postId, title);
+    }
+  }
+
+  /**
+   * 검색어와 일치하는 게시글 ID 를 최신순으로 조회
+   *
+   * @param search 검색어
+   * @return Optional<List<Long>> (인덱스를 사용할 수 없으면 empty)
+   */
+  public Optional<List<Long>> findCandidateIds(String search) {
+    if (!ready || search == null || search.isBlank()) {
+      return Optional.empty();
+    }
+    return index.search(search, MAX_CANDIDATES);
+  }
+}
@@ -1,30 +1,123 @@
 package com.devonoff.util;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
+/**
+ * 요일 비트 플래그 변환 유틸 (월 = 1, 화 = 2, ..., 일 = 64)
+ * <p>
+ * 7개 요일 조합(128가지)의 요일 목록을 미리 만들어 두고 공유하므로, 변환/계산 과정에서 객체를 새로 만들지 않습니다. 반환되는
+ * 요일 목록은 수정할 수 없습니다.
+ */
 public class DayTypeUtils {
 
-  // 요일 비트 값 매핑
-  private static final Map<String, Integer> DAY_MAP = Map.of(
-      "월", 1, "화", 2, "수", 4, "목", 8, "금", 16, "토", 32, "일", 64);
+  public static final int ALL_DAYS = 127; // 월 ~ 일
 
-  private static final List<String> WEEK = List.of("월", "화", "수", "목", "금", "토", "일");
+  private static final String[] WEEK = {"월", "화", "수", "목", "금", "토", "일"};
+
+  // 비트 조합 -> 요일 목록
+  private static final List<String>[] DECODED_DAYS = buildDecodedDays();
 
   public static int encodeDaysFromRequest(List<String> dayType) {
     if (dayType == null || dayType.isEmpty()) {
       return 0;
     }
-    return dayType.stream()
-        .filter(DAY_MAP::containsKey)
-        .mapToInt(DAY_MAP::get)
-        .reduce(0, (a, b) -> a | b);
+
+    int encoded = 0;
+    for (int i = 0, size = dayType.size(); i < size; i++) {
+      encoded |= dayBit(dayType.get(i));
+    }
+    return encoded;
   }
 
+  /**
+   * 요일 비트 플래그를 요일 목록으로 변환
+   * <p>
+   * 미리 만들어 둔 목록을 그대로 반환하므로 수정할 수 없고 (UnsupportedOperationException), 같은 값이면 같은 인스턴스를
+   * 반환합니다. 수정이 필요하면 복사해서 사용해야 합니다.
+   */
   public static List<String> decodeDays(int dayType) {
-    return WEEK.stream()
-        .filter(day -> (dayType & DAY_MAP.get(day)) != 0)
-        .collect(Collectors.toList());
+    return DECODED_DAYS[dayType & ALL_DAYS];
+  }
+
+  /**
+   * 요일 이름의 비트 값 (알 수 없는 요일이면 0)
+   */
+  public static int dayBit(String day) {
+    if (day == null) {
+      return 0;
+    }
+    return switch (day) {
+      case "월" -> 1;
+      case "화" -> 2;
+      case "수" -> 4;
+      case "목" -> 8;
+      case "금" -> 16;
+      case "토" -> 32;
+      case "일" -> 64;
+      default -> 0;
+    };
+  }
+
+  public static int dayBit(DayOfWeek dayOfWeek) {
+    return 1 << (dayOfWeek.getValue() - 1);
+  }
+
+  /**
+   * 선택된 요일 수
+   */
+  public static int countDays(int dayType) {
+    return Integer.bitCount(dayType & ALL_DAYS);
+  }
+
+  /**
+   * 해당 요일이 포함되어 있는지 확인
+   */
+  public static boolean contains(int dayType, DayOfWeek dayOfWeek) {
+    return (dayType & dayBit(dayOfWeek)) != 0;
+  }
+
+  /**
+   * 두 요일 조합에 겹치는 요일이 있는지 확인
+   */
+  public static boolean overlaps(int dayTypeA, int dayTypeB) {
+    return (dayTypeA & dayTypeB & ALL_DAYS) != 0;
+  }
+
+  /**
+   * from 을 포함해 가장 가까운 진행 요일의 날짜
+   *
+   * @param dayType 요일 비트 플래그
+   * @param from    기준 날짜
+   * @return LocalDate (선택된 요일이 없으면 null)
+   */
+  public static LocalDate nextOccurrence(int dayType, LocalDate from) {
+    int days = dayType & ALL_DAYS;
+    if (days == 0) {
+      return null;
+    }
+
+    int start = from.getDayOfWeek().getValue() - 1;
+    // 기준 요일부터 시작하도록 비트를 회전한 뒤 가장 낮은 비트까지의 거리 계산
+    int rotated = ((days >>> start) | (days << (7 - start))) & ALL_DAYS;
+    return from.plusDays(Integer.numberOfTrailingZeros(rotated));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<String>[] buildDecodedDays() {
+    List<String>[] table = new List[ALL_DAYS + 1];
+    for (int dayType = 0; dayType <= ALL_DAYS; dayType++) {
+      List<String> days = new ArrayList<>(Integer.bitCount(dayType));
+      for (int bit = 0; bit < WEEK.length; bit++) {
+        if ((dayType & (1 << bit)) != 0) {
+          days.add(WEEK[bit]);
+        }
+      }
+      table[dayType] = Collections.unmodifiableList(days);
+    }
+    return table;
   }
 }
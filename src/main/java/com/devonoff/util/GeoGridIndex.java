@@ -0,0 +1,406 @@
+package com.devonoff.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 위도/경도 격자(grid) 기반 공간 인덱스
+ * <p>
+ * 좌표를 일정 크기의 셀로 나누어 보관하고, 질의 좌표의 셀에서부터 바깥쪽 링(ring)으로 확장하며 탐색하므로 전체
+ * 데이터를 훑지 않고 k-최근접 / 반경 검색을 수행합니다. 거리 계산은 기존 SQL 정렬식과 동일한 구면 코사인 법칙을
+ * 사용합니다.
+ * <p>
+ * 격자는 경도 ±180 도(날짜 변경선)와 극점에서 이어지지 않으므로, 탐색 범위가 날짜 변경선이나 극점에 닿으면 건너편
+ * 좌표를 놓치지 않도록 경도 방향 가지치기를 하지 않습니다 (해당 지역의 질의만 느려짐).
+ */
+public class GeoGridIndex {
+
+  public static final double EARTH_RADIUS_KM = 6371;
+
+  private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+  // 평면 근사로 구한 셀 간 최소 거리가 실제 대권 거리보다 커지지 않도록 두는 여유 비율
+  private static final double LOWER_BOUND_SAFETY = 0.995;
+
+  private static final Comparator<Neighbor> NEAREST_ORDER =
+      Comparator.comparingDouble(Neighbor::getDistanceKm).thenComparingLong(Neighbor::getId);
+
+  private final double cellSizeDegree;
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<Long, Point> points = new HashMap<>();
+  private final Map<Long, List<Point>> cells = new HashMap<>();
+
+  // 셀 좌표의 범위 (삭제 시에는 줄이지 않으므로 항상 실제 범위 이상)
+  private int minLatCell = Integer.MAX_VALUE;
+  private int maxLatCell = Integer.MIN_VALUE;
+  private int minLonCell = Integer.MAX_VALUE;
+  private int maxLonCell = Integer.MIN_VALUE;
+
+  public GeoGridIndex(double cellSizeDegree) {
+    if (cellSizeDegree <= 0) {
+      throw new IllegalArgumentException("cellSizeDegree must be positive");
+    }
+    this.cellSizeDegree = cellSizeDegree;
+  }
+
+  /**
+   * 좌표 등록 (이미 등록된 ID 라면 위치를 갱신)
+   *
+   * @param id        대상 ID
+   * @param latitude  위도
+   * @param longitude 경도
+   */
+  public void put(long id, double latitude, double longitude) {
+    lock.writeLock().lock();
+    try {
+      removeInternal(id);
+
+      int latCell = cellIndex(latitude);
+      int lonCell = cellIndex(longitude);
+      Point point = new Point(id, latitude, longitude, latCell, lonCell);
+      points.put(id, point);
+      cells.computeIfAbsent(cellKey(latCell, lonCell), key -> new ArrayList<>()).add(point);
+
+      minLatCell = Math.min(minLatCell, latCell);
+      maxLatCell = Math.max(maxLatCell, latCell);
+      minLonCell = Math.min(minLonCell, lonCell);
+      maxLonCell = Math.max(maxLonCell, lonCell);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 좌표 삭제
+   *
+   * @param id 대상 ID
+   */
+  public void remove(long id) {
+    lock.writeLock().lock();
+    try {
+      removeInternal(id);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 전체 삭제
+   */
+  public void clear() {
+    lock.writeLock().lock();
+    try {
+      points.clear();
+      cells.clear();
+      minLatCell = Integer.MAX_VALUE;
+      maxLatCell = Integer.MIN_VALUE;
+      minLonCell = Integer.MAX_VALUE;
+      maxLonCell = Integer.MIN_VALUE;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public boolean contains(long id) {
+    lock.readLock().lock();
+    try {
+      return points.containsKey(id);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return points.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 가까운 순서대로 최대 k 개 조회 (거리가 같으면 ID 오름차순)
+   *
+   * @param latitude  기준 위도
+   * @param longitude 기준 경도
+   * @param k         조회 개수
+   * @return List<Neighbor>
+   */
+  public List<Neighbor> nearest(double latitude, double longitude, int k) {
+    return nearest(latitude, longitude, k, null);
+  }
+
+  /**
+   * after 이후(거리, ID 순)의 좌표를 가까운 순서대로 최대 k 개 조회 - 커서 기반 페이지 조회용
+   *
+   * @param latitude  기준 위도
+   * @param longitude 기준 경도
+   * @param k         조회 개수
+   * @param after     직전 페이지의 마지막 좌표 (null 이면 처음부터)
+   * @return List<Neighbor>
+   */
+  public List<Neighbor> nearest(double latitude, double longitude, int k, Neighbor after) {
+    if (k <= 0) {
+      return List.of();
+    }
+
+    lock.readLock().lock();
+    try {
+      if (points.isEmpty()) {
+        return List.of();
+      }
+
+      int centerLat = cellIndex(latitude);
+      int centerLon = cellIndex(longitude);
+      int maxRing = Math.max(
+          Math.max(Math.abs(centerLat - minLatCell), Math.abs(maxLatCell - centerLat)),
+          Math.max(Math.abs(centerLon - minLonCell), Math.abs(maxLonCell - centerLon)));
+
+      // 날짜 변경선 건너편 좌표는 링 번호가 커도 가까울 수 있으므로 링 하한을 이 거리로 제한
+      double antimeridianKm = antimeridianDistanceKm(latitude, longitude) * LOWER_BOUND_SAFETY;
+      // 가장 먼 후보가 맨 앞에 오는 최대 힙
+      PriorityQueue<Neighbor> heap = new PriorityQueue<>(k + 1, NEAREST_ORDER.reversed());
+
+      for (int ring = 0; ring <= maxRing; ring++) {
+        if (heap.size() == k && heap.peek().getDistanceKm()
+            <= Math.min(ringLowerBoundKm(latitude, ring), antimeridianKm)) {
+          break;
+        }
+
+        // 링이 넓어져 빈 셀이 대부분이라면 점유된 셀만 직접 훑는 편이 빠르다
+        if (ringCellCount(ring) > cells.size()) {
+          for (List<Point> cell : cells.values()) {
+            Point first = cell.get(0);
+            if (chebyshev(first.latCell, first.lonCell, centerLat, centerLon) >= ring) {
+              collect(cell, latitude, longitude, k, after, heap);
+            }
+          }
+          break;
+        }
+
+        // 링 전체가 커서보다 가까우면 건너뛴다
+        if (after != null && ringUpperBoundKm(ring) < after.getDistanceKm()) {
+          continue;
+        }
+
+        visitRing(centerLat, centerLon, ring, latitude, longitude, k, after, heap);
+      }
+
+      List<Neighbor> result = new ArrayList<>(heap);
+      result.sort(NEAREST_ORDER);
+      return result;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 반경 내 좌표를 가까운 순서대로 조회
+   *
+   * @param latitude  기준 위도
+   * @param longitude 기준 경도
+   * @param radiusKm  반경 (km)
+   * @return List<Neighbor>
+   */
+  public List<Neighbor> withinRadius(double latitude, double longitude, double radiusKm) {
+    lock.readLock().lock();
+    try {
+      List<Neighbor> result = new ArrayList<>();
+      if (points.isEmpty() || radiusKm < 0) {
+        return result;
+      }
+
+      double latDelta = radiusKm / KM_PER_DEGREE;
+      double edgeLatitude = Math.abs(latitude) + latDelta;
+      int fromLat = Math.max(cellIndex(latitude - latDelta), minLatCell);
+      int toLat = Math.min(cellIndex(latitude + latDelta), maxLatCell);
+      int fromLon = minLonCell;
+      int toLon = maxLonCell;
+      // 반경이 극점이나 날짜 변경선에 닿으면 경도 범위 전체 탐색
+      if (edgeLatitude < 90) {
+        double lonDelta = radiusKm / (KM_PER_DEGREE * Math.cos(Math.toRadians(edgeLatitude)));
+        if (longitude - lonDelta >= -180 && longitude + lonDelta < 180) {
+          fromLon = Math.max(cellIndex(longitude - lonDelta), minLonCell);
+          toLon = Math.min(cellIndex(longitude + lonDelta), maxLonCell);
+        }
+      }
+
+      long boxCellCount = (long) Math.max(0, toLat - fromLat + 1) * Math.max(0, toLon - fromLon + 1);
+      if (boxCellCount > cells.size()) {
+        for (List<Point> cell : cells.values()) {
+          Point first = cell.get(0);
+          if (first.latCell >= fromLat && first.latCell <= toLat
+              && first.lonCell >= fromLon && first.lonCell <= toLon) {
+            collectWithin(cell, latitude, longitude, radiusKm, result);
+          }
+        }
+      } else {
+        for (int latCell = fromLat; latCell <= toLat; latCell++) {
+          for (int lonCell = fromLon; lonCell <= toLon; lonCell++) {
+            List<Point> cell = cells.get(cellKey(latCell, lonCell));
+            if (cell != null) {
+              collectWithin(cell, latitude, longitude, radiusKm, result);
+            }
+          }
+        }
+      }
+
+      result.sort(NEAREST_ORDER);
+      return result;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 두 좌표 사이의 대권 거리 (km) - 기존 SQL 정렬식과 동일한 구면 코사인 법칙
+   */
+  public static double distanceKm(
+      double latitude1, double longitude1, double latitude2, double longitude2) {
+    double lat1 = Math.toRadians(latitude1);
+    double lat2 = Math.toRadians(latitude2);
+    double cosine = Math.cos(lat1) * Math.cos(lat2)
+        * Math.cos(Math.toRadians(longitude2) - Math.toRadians(longitude1))
+        + Math.sin(lat1) * Math.sin(lat2);
+    return EARTH_RADIUS_KM * Math.acos(Math.max(-1, Math.min(1, cosine)));
+  }
+
+  private void removeInternal(long id) {
+    Point point = points.remove(id);
+    if (point == null) {
+      return;
+    }
+    long key = cellKey(point.latCell, point.lonCell);
+    List<Point> cell = cells.get(key);
+    cell.remove(point);
+    if (cell.isEmpty()) {
+      cells.remove(key);
+    }
+  }
+
+  private void visitRing(int centerLat, int centerLon, int ring, double latitude,
+      double longitude, int k, Neighbor after, PriorityQueue<Neighbor> heap) {
+    if (ring == 0) {
+      visitCell(centerLat, centerLon, latitude, longitude, k, after, heap);
+      return;
+    }
+    for (int offset = -ring; offset <= ring; offset++) {
+      visitCell(centerLat - ring, centerLon + offset, latitude, longitude, k, after, heap);
+      visitCell(centerLat + ring, centerLon + offset, latitude, longitude, k, after, heap);
+    }
+    for (int offset = -ring + 1; offset <= ring - 1; offset++) {
+      visitCell(centerLat + offset, centerLon - ring, latitude, longitude, k, after, heap);
+      visitCell(centerLat + offset, centerLon + ring, latitude, longitude, k, after, heap);
+    }
+  }
+
+  private void visitCell(int latCell, int lonCell, double latitude, double longitude,
+      int k, Neighbor after, PriorityQueue<Neighbor> heap) {
+    List<Point> cell = cells.get(cellKey(latCell, lonCell));
+    if (cell != null) {
+      collect(cell, latitude, longitude, k, after, heap);
+    }
+  }
+
+  private void collect(List<Point> cell, double latitude, double longitude,
+      int k, Neighbor after, PriorityQueue<Neighbor> heap) {
+    for (Point point : cell) {
+      Neighbor neighbor = new Neighbor(point.id,
+          distanceKm(latitude, longitude, point.latitude, point.longitude));
+      if (after != null && NEAREST_ORDER.compare(neighbor, after) <= 0) {
+        continue;
+      }
+      if (heap.size() < k) {
+        heap.add(neighbor);
+      } else if (NEAREST_ORDER.compare(neighbor, heap.peek()) < 0) {
+        heap.poll();
+        heap.add(neighbor);
+      }
+    }
+  }
+
+  private void collectWithin(List<Point> cell,
+      double latitude, double longitude, double radiusKm, List<Neighbor> result) {
+    for (Point point : cell) {
+      double distance = distanceKm(latitude, longitude, point.latitude, point.longitude);
+      if (distance <= radiusKm) {
+        result.add(new Neighbor(point.id, distance));
+      }
+    }
+  }
+
+  /**
+   * ring 번째 링에 속한 좌표까지의 최소 거리 하한 (질의 좌표는 중심 셀 내부 어디든 있을 수 있으므로 ring - 1 칸)
+   * <p>
+   * 링이 극점에 닿으면 극점 건너편 좌표가 링 번호와 관계없이 가까울 수 있으므로 0 입니다.
+   */
+  private double ringLowerBoundKm(double latitude, int ring) {
+    double edgeLatitude = Math.abs(latitude) + ring * cellSizeDegree;
+    if (ring <= 1 || edgeLatitude >= 90) {
+      return 0;
+    }
+    double latCellKm = cellSizeDegree * KM_PER_DEGREE;
+    double lonCellKm = latCellKm * Math.cos(Math.toRadians(edgeLatitude));
+    return (ring - 1) * Math.min(latCellKm, lonCellKm) * LOWER_BOUND_SAFETY;
+  }
+
+  /**
+   * ring 번째 링에 속한 좌표까지의 최대 거리 상한 (경도 방향 셀은 위도 방향 셀보다 넓지 않음)
+   */
+  private double ringUpperBoundKm(int ring) {
+    return (ring + 1) * cellSizeDegree * KM_PER_DEGREE * Math.sqrt(2) / LOWER_BOUND_SAFETY;
+  }
+
+  /**
+   * 경도 ±180 도 자오선(날짜 변경선)까지의 최소 거리 (km)
+   */
+  private static double antimeridianDistanceKm(double latitude, double longitude) {
+    double delta = Math.toRadians(180 - Math.abs(longitude));
+    if (delta >= Math.PI / 2) {
+      return (90 - Math.abs(latitude)) * KM_PER_DEGREE; // 가장 가까운 지점이 극점
+    }
+    return EARTH_RADIUS_KM * Math.asin(Math.sin(delta) * Math.cos(Math.toRadians(latitude)));
+  }
+
+  private static long ringCellCount(int ring) {
+    return ring == 0 ? 1 : 8L * ring;
+  }
+
+  private static int chebyshev(int latCell1, int lonCell1, int latCell2, int lonCell2) {
+    return Math.max(Math.abs(latCell1 - latCell2), Math.abs(lonCell1 - lonCell2));
+  }
+
+  private int cellIndex(double degree) {
+    return (int) Math.floor(degree / cellSizeDegree);
+  }
+
+  private static long cellKey(int latCell, int lonCell) {
+    return ((long) latCell << 32) | (lonCell & 0xffffffffL);
+  }
+
+  @AllArgsConstructor
+  private static class Point {
+
+    private final long id;
+    private final double latitude;
+    private final double longitude;
+    private final int latCell;
+    private final int lonCell;
+  }
+
+  @Getter
+  @AllArgsConstructor
+  public static class Neighbor {
+
+    private final long id;
+    private final double distanceKm;
+  }
+}
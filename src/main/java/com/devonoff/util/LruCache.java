@@ -0,0 +1,78 @@
+package com.devonoff.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import lombok.AllArgsConstructor;
+
+/**
+ * 크기 제한과 만료 시간이 있는 LRU 캐시 (서버 내 1차 캐시용)
+ * <p>
+ * 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거합니다. 모든 연산은 동기화되어 있습니다.
+ */
+public class LruCache<K, V> {
+
+  private final int maxSize;
+  private final long ttlMillis;
+  private final LinkedHashMap<K, Entry<V>> entries;
+
+  public LruCache(int maxSize, long ttlMillis) {
+    this.maxSize = maxSize;
+    this.ttlMillis = ttlMillis;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+        return size() > LruCache.this.maxSize;
+      }
+    };
+  }
+
+  /**
+   * @return 캐시된 값 (없거나 만료되었으면 null)
+   */
+  public synchronized V get(K key) {
+    Entry<V> entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.expiresAt < System.currentTimeMillis()) {
+      entries.remove(key);
+      return null;
+    }
+    return entry.value;
+  }
+
+  public synchronized void put(K key, V value) {
+    entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+  }
+
+  public synchronized void remove(K key) {
+    entries.remove(key);
+  }
+
+  /**
+   * 조건에 맞는 키의 항목 제거
+   *
+   * @return 제거된 항목 수
+   */
+  public synchronized int removeIf(Predicate<K> predicate) {
+    int before = entries.size();
+    entries.keySet().removeIf(predicate);
+    return before - entries.size();
+  }
+
+  public synchronized void clear() {
+    entries.clear();
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  @AllArgsConstructor
+  private static class Entry<V> {
+
+    private final V value;
+    private final long expiresAt;
+  }
+}
@@ -0,0 +1,346 @@
+package com.devonoff.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 제목 n-gram(1~3글자) 역색인
+ * <p>
+ * LIKE '%검색어%' 와 같은 부분 일치 결과를 전체 스캔 없이 찾습니다. 부분 일치 결과가 없을 때만 한글 입력 도중의 마지막
+ * 글자(예: "스터" 입력 중의 "슽", "자바ㅅ")를 완성될 글자의 접두어로 취급해 찾으므로, 결과가 있는 검색어는 LIKE 조회와
+ * 같은 결과를 냅니다. 결과는 게시판 목록과 같이 최신 ID 순으로 정렬됩니다.
+ */
+public class NgramTitleIndex {
+
+  private static final int MAX_GRAM = 3;
+
+  private static final char HANGUL_BASE = 0xAC00;
+  private static final char HANGUL_LAST = 0xD7A3;
+  private static final int MEDIAL_COUNT = 21;
+  private static final int FINAL_COUNT = 28;
+  private static final int SYLLABLES_PER_INITIAL = MEDIAL_COUNT * FINAL_COUNT;
+
+  // 호환용 자모 초성 (ㄱ, ㄲ, ㄴ ... ㅎ) - 인덱스는 유니코드 초성 순서
+  private static final String INITIAL_JAMO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+  // 받침이 다음 글자의 초성으로 넘어갈 때 남는 받침 / 넘어가는 초성 (인덱스 = 종성 번호)
+  private static final int[] FINAL_REMAIN =
+      {0, 0, 0, 1, 0, 4, 4, 0, 0, 8, 8, 8, 8, 8, 8, 8, 0, 0, 17, 0, 0, 0, 0, 0, 0, 0, 0, 0};
+  private static final int[] FINAL_TO_INITIAL =
+      {-1, 0, 1, 9, 2, 12, 18, 3, 5, 0, 6, 7, 9, 16, 17, 18, 6, 7, 9, 9, 10, 11, 12, 14, 15, 16,
+          17, 18};
+
+  // 이어서 입력하면 만들어지는 겹모음 / 겹받침
+  private static final Map<Integer, int[]> MEDIAL_EXTENSIONS = Map.of(
+      8, new int[]{9, 10, 11}, // ㅗ -> ㅘ ㅙ ㅚ
+      13, new int[]{14, 15, 16}, // ㅜ -> ㅝ ㅞ ㅟ
+      18, new int[]{19}); // ㅡ -> ㅢ
+  private static final Map<Integer, int[]> FINAL_EXTENSIONS = Map.of(
+      1, new int[]{3}, // ㄱ -> ㄳ
+      4, new int[]{5, 6}, // ㄴ -> ㄵ ㄶ
+      8, new int[]{9, 10, 11, 12, 13, 14, 15}, // ㄹ -> ㄺ ~ ㅀ
+      17, new int[]{18}); // ㅂ -> ㅄ
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<Long, String> titles = new HashMap<>();
+  private final Map<String, Set<Long>> postings = new HashMap<>();
+
+  /**
+   * 제목 등록 (이미 등록된 ID 라면 갱신)
+   *
+   * @param id    게시글 ID
+   * @param title 제목
+   */
+  public void put(long id, String title) {
+    String normalized = normalize(title);
+    lock.writeLock().lock();
+    try {
+      removeInternal(id);
+      if (normalized.isEmpty()) {
+        return;
+      }
+      titles.put(id, normalized);
+      for (String gram : grams(normalized)) {
+        postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 제목 삭제
+   *
+   * @param id 게시글 ID
+   */
+  public void remove(long id) {
+    lock.writeLock().lock();
+    try {
+      removeInternal(id);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return titles.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 검색어를 포함하는 게시글 ID 를 최신순으로 조회 (없으면 마지막 글자를 접두어로 일치)
+   *
+   * @param query      검색어
+   * @param maxResults 최대 결과 수
+   * @return Optional<List<Long>> (포함하는 게시글이 maxResults 를 넘으면 empty)
+   */
+  public Optional<List<Long>> search(String query, int maxResults) {
+    String normalized = normalize(query);
+    if (normalized.isEmpty()) {
+      return Optional.empty();
+    }
+
+    lock.readLock().lock();
+    try {
+      Optional<List<Long>> contained = collect(containsCandidates(normalized),
+          title -> title.contains(normalized), maxResults);
+      String prefix = normalized.substring(0, normalized.length() - 1);
+      char last = normalized.charAt(normalized.length() - 1);
+      boolean partialLast = isHangulSyllable(last) || INITIAL_JAMO.indexOf(last) >= 0;
+      if (!partialLast || contained.isEmpty() || !contained.get().isEmpty()) {
+        return contained;
+      }
+
+      Collection<Long> candidates =
+          prefix.isEmpty() ? lastCharCandidates(last) : containsCandidates(prefix);
+      // 입력 중인 글자로 찾은 결과가 너무 많으면 LIKE 조회와 같은 빈 결과 반환
+      return Optional.of(collect(candidates,
+          title -> partialMatchPosition(title, prefix, last) >= 0, maxResults)
+          .orElse(contained.get()));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+    return Normalizer.normalize(text, Normalizer.Form.NFC).trim().toLowerCase(Locale.ROOT);
+  }
+
+  private void removeInternal(long id) {
+    String title = titles.remove(id);
+    if (title == null) {
+      return;
+    }
+    for (String gram : grams(title)) {
+      Set<Long> ids = postings.get(gram);
+      if (ids != null) {
+        ids.remove(id);
+        if (ids.isEmpty()) {
+          postings.remove(gram);
+        }
+      }
+    }
+  }
+
+  private static Set<String> grams(String text) {
+    Set<String> grams = new HashSet<>();
+    for (int size = 1; size <= MAX_GRAM; size++) {
+      for (int i = 0; i + size <= text.length(); i++) {
+        grams.add(text.substring(i, i + size));
+      }
+    }
+    return grams;
+  }
+
+  /**
+   * 문자열을 포함할 수 있는 후보 (가장 긴 n-gram 들의 교집합)
+   */
+  private Collection<Long> containsCandidates(String text) {
+    int size = Math.min(MAX_GRAM, text.length());
+    List<Set<Long>> postingLists = new ArrayList<>();
+    for (int i = 0; i + size <= text.length(); i++) {
+      Set<Long> ids = postings.get(text.substring(i, i + size));
+      if (ids == null) {
+        return List.of();
+      }
+      postingLists.add(ids);
+    }
+
+    postingLists.sort(Comparator.comparingInt(Set::size));
+    Set<Long> result = new HashSet<>(postingLists.get(0));
+    for (int i = 1; i < postingLists.size() && !result.isEmpty(); i++) {
+      result.retainAll(postingLists.get(i));
+    }
+    return result;
+  }
+
+  /**
+   * 한 글자 검색어의 후보 (해당 글자로 시작할 수 있는 모든 완성형 글자의 1-gram 합집합)
+   */
+  private Collection<Long> lastCharCandidates(char last) {
+    Set<Long> result = new HashSet<>();
+    int initial = INITIAL_JAMO.indexOf(last);
+    if (initial >= 0) {
+      addPostings(String.valueOf(last), result);
+      char first = (char) (HANGUL_BASE + initial * SYLLABLES_PER_INITIAL);
+      for (int offset = 0; offset < SYLLABLES_PER_INITIAL; offset++) {
+        addPostings(String.valueOf((char) (first + offset)), result);
+      }
+      return result;
+    }
+
+    int syllable = last - HANGUL_BASE;
+    int medial = (syllable % SYLLABLES_PER_INITIAL) / FINAL_COUNT;
+    int finalIndex = syllable % FINAL_COUNT;
+    char base = (char) (last - finalIndex);
+    if (finalIndex == 0) {
+      for (int extended : medialsOf(medial)) {
+        char extendedBase = (char) (base + (extended - medial) * FINAL_COUNT);
+        for (int f = 0; f < FINAL_COUNT; f++) {
+          addPostings(String.valueOf((char) (extendedBase + f)), result);
+        }
+      }
+    } else {
+      for (int extended : finalsOf(finalIndex)) {
+        addPostings(String.valueOf((char) (base + extended)), result);
+      }
+      addPostings(String.valueOf((char) (base + FINAL_REMAIN[finalIndex])), result);
+    }
+    return result;
+  }
+
+  private void addPostings(String gram, Set<Long> result) {
+    Set<Long> ids = postings.get(gram);
+    if (ids != null) {
+      result.addAll(ids);
+    }
+  }
+
+  /**
+   * 후보 중 제목이 matcher 와 일치하는 ID (maxResults 를 넘으면 empty)
+   */
+  private Optional<List<Long>> collect(
+      Collection<Long> candidates, Predicate<String> matcher, int maxResults) {
+    List<Long> matches = new ArrayList<>();
+    for (Long id : candidates) {
+      if (matcher.test(titles.get(id))) {
+        if (matches.size() >= maxResults) {
+          return Optional.empty();
+        }
+        matches.add(id);
+      }
+    }
+    matches.sort(Comparator.reverseOrder());
+    return Optional.of(matches);
+  }
+
+  private static int partialMatchPosition(String title, String prefix, char last) {
+    // prefix 가 빈 문자열이면 indexOf 가 제목 끝에서 계속 같은 위치를 반환하므로 마지막 글자 자리까지만 확인
+    for (int position = title.indexOf(prefix);
+        position >= 0 && position + prefix.length() < title.length();
+        position = title.indexOf(prefix, position + 1)) {
+      if (matchesPartial(title, position + prefix.length(), last)) {
+        return position;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * 입력 중인 마지막 글자가 title 의 index 위치에서 완성될 수 있는지 확인
+   */
+  private static boolean matchesPartial(String title, int index, char last) {
+    if (index >= title.length()) {
+      return false;
+    }
+    char target = title.charAt(index);
+
+    int initial = INITIAL_JAMO.indexOf(last);
+    if (initial >= 0) {
+      return target == last || (isHangulSyllable(target) && initialOf(target) == initial);
+    }
+    if (!isHangulSyllable(target) || initialOf(target) != initialOf(last)) {
+      return false;
+    }
+
+    int medial = medialOf(last);
+    int finalIndex = finalOf(last);
+    int targetMedial = medialOf(target);
+    int targetFinal = finalOf(target);
+
+    if (finalIndex == 0) {
+      return contains(medialsOf(medial), targetMedial);
+    }
+    if (targetMedial != medial) {
+      return false;
+    }
+    if (contains(finalsOf(finalIndex), targetFinal)) {
+      return true;
+    }
+    // 받침이 다음 글자의 초성으로 넘어가는 경우 (예: "슽" -> "스터")
+    return targetFinal == FINAL_REMAIN[finalIndex]
+        && index + 1 < title.length()
+        && isHangulSyllable(title.charAt(index + 1))
+        && initialOf(title.charAt(index + 1)) == FINAL_TO_INITIAL[finalIndex];
+  }
+
+  private static int[] medialsOf(int medial) {
+    int[] extensions = MEDIAL_EXTENSIONS.getOrDefault(medial, new int[0]);
+    int[] result = new int[extensions.length + 1];
+    result[0] = medial;
+    System.arraycopy(extensions, 0, result, 1, extensions.length);
+    return result;
+  }
+
+  private static int[] finalsOf(int finalIndex) {
+    int[] extensions = FINAL_EXTENSIONS.getOrDefault(finalIndex, new int[0]);
+    int[] result = new int[extensions.length + 1];
+    result[0] = finalIndex;
+    System.arraycopy(extensions, 0, result, 1, extensions.length);
+    return result;
+  }
+
+  private static boolean contains(int[] values, int value) {
+    for (int v : values) {
+      if (v == value) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isHangulSyllable(char c) {
+    return c >= HANGUL_BASE && c <= HANGUL_LAST;
+  }
+
+  private static int initialOf(char syllable) {
+    return (syllable - HANGUL_BASE) / SYLLABLES_PER_INITIAL;
+  }
+
+  private static int medialOf(char syllable) {
+    return ((syllable - HANGUL_BASE) % SYLLABLES_PER_INITIAL) / FINAL_COUNT;
+  }
+
+  private static int finalOf(char syllable) {
+    return (syllable - HANGUL_BASE) % FINAL_COUNT;
+  }
+}
@@ -0,0 +1,116 @@
+package com.devonoff.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠 (스레드 안전하지 않음, 한 스레드에서만 사용)
+ * <p>
+ * 시간은 호출하는 쪽이 정한 정수 단위(예: epoch 초)이며, 가장 아래 휠의 칸 하나가 한 단위입니다. 휠 범위를 넘는 작업은 칸
+ * 크기가 아래 휠 전체 범위인 상위 휠에 넣었다가, 그 칸의 시간이 되면 아래 휠로 옮겨 단위 시간 정확도로 실행합니다. 추가와
+ * 만료 모두 작업 수와 관계없이 칸 단위로 처리합니다.
+ */
+public class TimingWheel<T> {
+
+  private final long tick;
+  private final int wheelSize;
+  private final long interval;
+  private final List<List<Entry<T>>> buckets;
+  private long currentTime;
+  private TimingWheel<T> overflowWheel;
+  private int size;
+
+  public TimingWheel(int wheelSize, long startTime) {
+    this(1L, wheelSize, startTime);
+  }
+
+  private TimingWheel(long tick, int wheelSize, long startTime) {
+    this.tick = tick;
+    this.wheelSize = wheelSize;
+    this.interval = tick * wheelSize;
+    this.currentTime = startTime - (startTime % tick);
+    this.buckets = new ArrayList<>(wheelSize);
+    for (int i = 0; i < wheelSize; i++) {
+      buckets.add(new ArrayList<>());
+    }
+  }
+
+  /**
+   * 작업 추가
+   *
+   * @return 이미 실행할 시간이면 false (넣지 않음, 호출한 쪽에서 바로 실행)
+   */
+  public boolean add(long expiration, T task) {
+    if (!put(new Entry<>(expiration, task))) {
+      return false;
+    }
+    size++;
+    return true;
+  }
+
+  /**
+   * now 까지 시간을 진행하며 만료된 작업 실행
+   */
+  public void advance(long now, Consumer<T> expired) {
+    Consumer<Entry<T>> fire = entry -> {
+      size--;
+      expired.accept(entry.task);
+    };
+    // 상위 휠 칸의 시간이 되면 아래 휠로 옮김 (이미 실행할 시간이면 바로 실행)
+    Consumer<Entry<T>> cascade = entry -> {
+      if (!put(entry)) {
+        fire.accept(entry);
+      }
+    };
+    advance(now, fire, cascade);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  private void advance(long now, Consumer<Entry<T>> flushed, Consumer<Entry<T>> cascade) {
+    while (currentTime + tick <= now) {
+      currentTime += tick;
+      int index = index(currentTime);
+      List<Entry<T>> bucket = buckets.get(index);
+      if (!bucket.isEmpty()) {
+        buckets.set(index, new ArrayList<>());
+        bucket.forEach(flushed);
+      }
+      if (overflowWheel != null) {
+        overflowWheel.advance(currentTime, cascade, cascade);
+      }
+    }
+  }
+
+  private boolean put(Entry<T> entry) {
+    if (entry.expiration < currentTime + tick) {
+      return false;
+    }
+    if (entry.expiration < currentTime + interval) {
+      buckets.get(index(entry.expiration)).add(entry);
+      return true;
+    }
+    if (overflowWheel == null) {
+      overflowWheel = new TimingWheel<>(interval, wheelSize, currentTime);
+    }
+    return overflowWheel.put(entry);
+  }
+
+  private int index(long time) {
+    return (int) ((time / tick) % wheelSize);
+  }
+
+  private static class Entry<T> {
+
+    private final long expiration;
+    private final T task;
+
+    private Entry(long expiration, T task) {
+      this.expiration = expiration;
+      this.task = task;
+    }
+  }
+}
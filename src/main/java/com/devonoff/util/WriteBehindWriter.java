@@ -0,0 +1,220 @@
+package com.devonoff.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * 지연 저장(write-behind) 공통 구현
+ * <p>
+ * 제한된 크기의 큐에 넣은 항목을 별도 스레드가 flush-size 개 또는 flush-interval 마다 모아 insert 로 저장하고,
+ * 실패하면 MAX_FLUSH_ATTEMPTS 번까지 재시도한 뒤 onFlushFailed 로 넘깁니다. 애플리케이션 종료 시에는 새 항목을 받지
+ * 않고 큐를 모두 비운 뒤 멈춥니다. 큐가 가득 찼거나 저장 스레드가 동작하지 않을 때의 처리는 하위 클래스가 정합니다.
+ *
+ * @param <T> 저장할 항목
+ */
+@Slf4j
+public abstract class WriteBehindWriter<T> implements SmartLifecycle {
+
+  private static final int MAX_FLUSH_ATTEMPTS = 3;
+  private static final long RETRY_BACKOFF_MILLIS = 200L;
+  private static final long SHUTDOWN_TIMEOUT_MILLIS = 30_000L;
+  // 웹 서버 종료(graceful shutdown) 이후에 멈추도록 낮은 phase 사용
+  private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+  private final String name;
+  private final BlockingQueue<T> queue;
+  private final int flushSize;
+  private final long flushIntervalMillis;
+  // offer 는 읽기 잠금으로 running 확인과 큐 추가를 함께 하고, stop 은 쓰기 잠금으로 running 을 바꿈
+  // (stop 이 큐를 비운 뒤에 큐에 들어가 유실되는 항목이 없도록)
+  private final ReadWriteLock runningLock = new ReentrantReadWriteLock();
+
+  private volatile boolean running = false;
+  private Thread writerThread;
+
+  /**
+   * @param name 저장 스레드 이름 (로그에도 사용)
+   */
+  protected WriteBehindWriter(String name, int queueCapacity, int flushSize,
+      long flushIntervalMillis) {
+    this.name = name;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.flushSize = flushSize;
+    this.flushIntervalMillis = flushIntervalMillis;
+  }
+
+  /**
+   * 배치 하나를 한 트랜잭션으로 저장 (실패하면 예외)
+   */
+  protected abstract void insert(List<T> batch);
+
+  /**
+   * 재시도해도 저장하지 못한 배치 처리
+   */
+  protected abstract void onFlushFailed(List<T> batch, Exception e);
+
+  /**
+   * 저장 스레드가 동작 중이면 큐에 추가
+   *
+   * @param timeoutMillis 큐가 가득 찼을 때 기다릴 시간 (0 이면 기다리지 않음)
+   */
+  protected final OfferResult offer(T item, long timeoutMillis) throws InterruptedException {
+    runningLock.readLock().lock();
+    try {
+      if (!running) {
+        return OfferResult.STOPPED;
+      }
+      return queue.offer(item, timeoutMillis, TimeUnit.MILLISECONDS)
+          ? OfferResult.QUEUED : OfferResult.FULL;
+    } finally {
+      runningLock.readLock().unlock();
+    }
+  }
+
+  public int pendingCount() {
+    return queue.size();
+  }
+
+  @Override
+  public synchronized void start() {
+    if (writerThread != null) {
+      return;
+    }
+    running = true;
+    writerThread = new Thread(this::runWriter, name);
+    writerThread.start();
+  }
+
+  /**
+   * 새 항목을 받지 않고 큐에 남은 항목을 모두 저장한 뒤 종료
+   */
+  @Override
+  public synchronized void stop() {
+    if (writerThread == null) {
+      return;
+    }
+    runningLock.writeLock().lock();
+    try {
+      running = false;
+    } finally {
+      runningLock.writeLock().unlock();
+    }
+    try {
+      writerThread.join(SHUTDOWN_TIMEOUT_MILLIS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    // 종료 직전에 들어온 항목이나 저장 스레드가 끝내지 못한 항목 저장
+    List<T> remaining = new ArrayList<>();
+    queue.drainTo(remaining);
+    for (int from = 0; from < remaining.size(); from += flushSize) {
+      flush(remaining.subList(from, Math.min(from + flushSize, remaining.size())));
+    }
+    writerThread = null;
+    log.info("{} 종료", name);
+  }
+
+  @Override
+  public synchronized boolean isRunning() {
+    return writerThread != null;
+  }
+
+  @Override
+  public int getPhase() {
+    return PHASE;
+  }
+
+  /**
+   * 재시도하며 저장하고, 끝내 실패하면 onFlushFailed 로 넘김
+   */
+  protected final void flush(List<T> batch) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        insert(batch);
+        return;
+      } catch (Exception e) {
+        if (attempt >= MAX_FLUSH_ATTEMPTS) {
+          onFlushFailed(batch, e);
+          return;
+        }
+        log.warn("{} 저장 재시도 - {}번째 실패, {}건", name, attempt, batch.size(), e);
+        sleepQuietly(RETRY_BACKOFF_MILLIS * attempt);
+      }
+    }
+  }
+
+  protected int getFlushSize() {
+    return flushSize;
+  }
+
+  private void runWriter() {
+    List<T> batch = new ArrayList<>(flushSize);
+    while (running || !queue.isEmpty()) {
+      boolean interrupted = false;
+      try {
+        collect(batch);
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+
+      if (!batch.isEmpty()) {
+        flush(batch);
+        batch.clear();
+      }
+
+      if (interrupted) {
+        // 이후 항목은 하위 클래스가 호출한 스레드에서 처리하고, 큐에 남은 항목은 stop() 에서 저장
+        log.error("{} 가 중단되었습니다.", name);
+        running = false;
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  /**
+   * 첫 항목을 받은 뒤 flush-size 개가 모이거나 flush-interval 이 지날 때까지 모음
+   */
+  private void collect(List<T> batch) throws InterruptedException {
+    T first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+    if (first == null) {
+      return;
+    }
+    batch.add(first);
+
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+    while (batch.size() < flushSize) {
+      queue.drainTo(batch, flushSize - batch.size());
+      long remainingNanos = deadline - System.nanoTime();
+      if (batch.size() >= flushSize || !running || remainingNanos <= 0) {
+        return;
+      }
+
+      T next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+      if (next == null) {
+        return;
+      }
+      batch.add(next);
+    }
+  }
+
+  private static void sleepQuietly(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  protected enum OfferResult {
+    QUEUED, FULL, STOPPED
+  }
+}
@@ -0,0 +1,39 @@
+-- 애플리케이션 시작 시 실행 (spring.sql.init), 이미 있으면 건너뜀
+
+-- 보관 채팅 메시지 (ChatMessageArchive)
+-- 메시지 ID 범위로 나눈 월별 RANGE 파티션. 첫 파티션 p202401 에는 2024년 1월까지의 메시지
+-- (ChatMessageIdGenerator 이전의 자동 증가 ID 포함)가 들어가며, 다음 달 파티션부터는
+-- ChatMessageArchiveService.addPartitionsBefore 가 매달 추가합니다.
+-- 11098128384000000 = ChatMessageIdGenerator.firstIdAt(2024-02-01T00:00+09:00)
+CREATE TABLE IF NOT EXISTS chat_message_archive
+(
+    id           BIGINT       NOT NULL,
+    content      VARCHAR(255) NULL,
+    created_at   DATETIME(6)  NULL,
+    user_id      BIGINT       NULL,
+    chat_room_id BIGINT       NULL,
+    PRIMARY KEY (id),
+    KEY idx_chat_message_archive_chat_room_id_id (chat_room_id, id)
+)
+    PARTITION BY RANGE (id) (
+        PARTITION p202401 VALUES LESS THAN (11098128384000000)
+        );
+
+-- 채팅방별 이전 메시지 조회 (ChatMessageRepository.findSummariesBefore) 인덱스
+-- ChatMessage 의 @Table(indexes) 는 ddl-auto: validate 에서 만들어지지 않으므로 여기서 생성합니다.
+-- MySQL 에는 CREATE INDEX IF NOT EXISTS 가 없어 테이블이 있고 인덱스가 없을 때만 실행합니다.
+SET @chat_message_index_ddl = IF(
+        EXISTS(SELECT 1
+               FROM information_schema.tables
+               WHERE table_schema = DATABASE()
+                 AND table_name = 'chat_message')
+            AND NOT EXISTS(SELECT 1
+                           FROM information_schema.statistics
+                           WHERE table_schema = DATABASE()
+                             AND table_name = 'chat_message'
+                             AND index_name = 'idx_chat_message_chat_room_id_id'),
+        'CREATE INDEX idx_chat_message_chat_room_id_id ON chat_message (chat_room_id, id)',
+        'DO 0');
+PREPARE chat_message_index_stmt FROM @chat_message_index_ddl;
+EXECUTE chat_message_index_stmt;
+DEALLOCATE PREPARE chat_message_index_stmt;
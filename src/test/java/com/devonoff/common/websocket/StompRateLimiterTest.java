@@ -0,0 +1,234 @@
+package com.devonoff.common.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import com.devonoff.domain.user.entity.User;
+import com.devonoff.exception.CustomException;
+import com.devonoff.type.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collections;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+class StompRateLimiterTest {
+
+  private final MessageChannel channel = mock(MessageChannel.class);
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @DisplayName("세션 한도를 넘은 SEND 프레임은 버리고 거절 수를 집계한다")
+  @Test
+  void send_OverSessionLimit_Dropped() {
+    // Given
+    StompRateLimiter limiter = limiter("drop", 2, 100, 100);
+
+    // When
+    Message<?> first = limiter.preSend(send("s-1", 1L, "/app/chat/1/send-messages"), channel);
+    Message<?> second = limiter.preSend(send("s-1", 1L, "/app/chat/1/send-messages"), channel);
+    Message<?> third = limiter.preSend(send("s-1", 1L, "/app/chat/1/send-messages"), channel);
+    Message<?> otherSession =
+        limiter.preSend(send("s-2", 2L, "/app/chat/1/send-messages"), channel);
+
+    // Then
+    assertThat(first).isNotNull();
+    assertThat(second).isNotNull();
+    assertThat(third).isNull();
+    assertThat(otherSession).isNotNull();
+    assertThat(rejected("session")).isEqualTo(1.0);
+  }
+
+  @DisplayName("같은 사용자는 세션이 달라도 사용자 한도를 함께 사용한다")
+  @Test
+  void send_OverUserLimitAcrossSessions_Rejected() {
+    // Given
+    StompRateLimiter limiter = limiter("drop", 100, 2, 100);
+
+    // When
+    limiter.preSend(send("s-1", 1L, "/app/chat/1/send-messages"), channel);
+    limiter.preSend(send("s-2", 1L, "/app/chat/2/send-messages"), channel);
+    Message<?> third = limiter.preSend(send("s-3", 1L, "/app/chat/3/send-messages"), channel);
+
+    // Then
+    assertThat(third).isNull();
+    assertThat(rejected("user")).isEqualTo(1.0);
+  }
+
+  @DisplayName("방 한도는 채팅방과 화상 채팅 스터디 단위로 적용하고, error 설정이면 예외로 ERROR 프레임을 보낸다")
+  @Test
+  void send_OverRoomLimit_ErrorFrame() {
+    // Given
+    StompRateLimiter limiter = limiter("error", 100, 100, 1);
+    limiter.preSend(send("s-1", null, "/app/call/key/7"), channel);
+    limiter.preSend(send("s-1", null, "/app/chat/7/send-messages"), channel); // 다른 방
+
+    // When
+    CustomException customException = assertThrows(CustomException.class,
+        () -> limiter.preSend(send("s-2", null, "/app/send/end/7/nick"), channel));
+
+    // Then
+    assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.MESSAGE_RATE_LIMITED);
+    assertThat(rejected("room")).isEqualTo(1.0);
+  }
+
+  @DisplayName("스터디 캠 키와 종료 목적지는 화상 채팅 스터디 방 한도를 함께 사용한다")
+  @Test
+  void send_KeyDestinations_ShareStudyRoomLimit() {
+    // Given
+    StompRateLimiter limiter = limiter("drop", 100, 100, 2);
+
+    // When
+    limiter.preSend(send("s-1", null, "/app/call/key/7"), channel);
+    limiter.preSend(send("s-2", null, "/app/send/key/7"), channel);
+    Message<?> third = limiter.preSend(send("s-3", null, "/app/send/end/7/nick"), channel);
+    Message<?> otherStudy = limiter.preSend(send("s-3", null, "/app/call/key/8"), channel);
+
+    // Then
+    assertThat(third).isNull();
+    assertThat(otherStudy).isNotNull();
+    assertThat(rejected("room")).isEqualTo(1.0);
+  }
+
+  @DisplayName("SEND 이외의 프레임은 제한하지 않고, DISCONNECT 시 세션 버킷을 정리한다")
+  @Test
+  void nonSendFrames_NotLimited() {
+    // Given
+    StompRateLimiter limiter = limiter("drop", 1, 100, 100);
+    limiter.preSend(send("s-1", 1L, "/app/call/key"), channel);
+
+    // When
+    Message<?> subscribe = limiter.preSend(frame(StompCommand.SUBSCRIBE, "s-1", 1L,
+        "/topic/chat/1"), channel);
+    limiter.preSend(frame(StompCommand.DISCONNECT, "s-1", 1L, null), channel);
+    Message<?> afterReconnect = limiter.preSend(send("s-1", 1L, "/app/call/key"), channel);
+
+    // Then
+    assertThat(subscribe).isNotNull();
+    assertThat(afterReconnect).isNotNull();
+  }
+
+  @DisplayName("10명 방에서 모두 동시에 입장해도 offer/answer 와 ICE 후보는 기본 한도 안에서 모두 전달된다")
+  @Test
+  void send_RealisticIceBurst_NotLimited() {
+    // Given
+    // application.yml 기본값 (채우는 rate 는 테스트 동안 거의 채워지지 않도록 낮춤)
+    StompRateLimiter limiter = new StompRateLimiter(meterRegistry, true, "drop",
+        0.001, 20, 0.001, 40, 0.001, 100,
+        0.001, 300, 0.001, 300, 0.001, 3000);
+    int participants = 10;
+    int candidatesPerPeer = 30;
+
+    // When
+    int delivered = 0;
+    int sent = 0;
+    for (long user = 1; user <= participants; user++) {
+      for (int peer = 1; peer < participants; peer++) {
+        String type = peer % 2 == 0 ? "offer" : "answer";
+        sent++;
+        if (limiter.preSend(send("s-" + user, user, "/app/peer/" + type + "/nick/7"),
+            channel) != null) {
+          delivered++;
+        }
+        for (int i = 0; i < candidatesPerPeer; i++) {
+          sent++;
+          if (limiter.preSend(send("s-" + user, user, "/app/peer/iceCandidate/nick/7"),
+              channel) != null) {
+            delivered++;
+          }
+        }
+      }
+    }
+    Message<?> chat = limiter.preSend(send("s-1", 1L, "/app/chat/1/send-messages"), channel);
+
+    // Then
+    assertThat(delivered).isEqualTo(sent);
+    assertThat(chat).isNotNull();
+  }
+
+  @DisplayName("시그널링은 채팅과 다른 한도를 사용하고 시그널링 한도를 넘으면 버린다")
+  @Test
+  void send_SignalingSeparateLimit() {
+    // Given
+    StompRateLimiter limiter = new StompRateLimiter(meterRegistry, true, "drop",
+        0.001, 1, 0.001, 100, 0.001, 100,
+        0.001, 2, 0.001, 100, 0.001, 100);
+
+    // When
+    Message<?> chat = limiter.preSend(send("s-1", 1L, "/app/chat/1/send-messages"), channel);
+    Message<?> first = limiter.preSend(send("s-1", 1L, "/app/peer/iceCandidate/n/7"), channel);
+    Message<?> second = limiter.preSend(send("s-1", 1L, "/app/peer/iceCandidate/n/7"), channel);
+    Message<?> third = limiter.preSend(send("s-1", 1L, "/app/peer/iceCandidate/n/7"), channel);
+
+    // Then
+    assertThat(chat).isNotNull();
+    assertThat(first).isNotNull();
+    assertThat(second).isNotNull();
+    assertThat(third).isNull();
+    assertThat(rejected("signaling", "session")).isEqualTo(1.0);
+    assertThat(rejected("session")).isZero();
+  }
+
+  @DisplayName("뒤의 버킷에서 거절되면 앞의 버킷에서 사용한 토큰을 돌려준다")
+  @Test
+  void send_RejectedByRoom_RefundsSessionAndUserTokens() {
+    // Given
+    StompRateLimiter limiter = limiter("drop", 2, 2, 1);
+    limiter.preSend(send("s-1", 1L, "/app/chat/1/send-messages"), channel);
+
+    // When
+    // 방 1 한도 초과로 거절된 프레임은 세션과 사용자 토큰을 쓰지 않음
+    Message<?> rejectedByRoom =
+        limiter.preSend(send("s-1", 1L, "/app/chat/1/send-messages"), channel);
+    Message<?> otherRoom = limiter.preSend(send("s-1", 1L, "/app/chat/2/send-messages"), channel);
+
+    // Then
+    assertThat(rejectedByRoom).isNull();
+    assertThat(otherRoom).isNotNull();
+    assertThat(rejected("room")).isEqualTo(1.0);
+    assertThat(rejected("session")).isZero();
+    assertThat(rejected("user")).isZero();
+  }
+
+  private StompRateLimiter limiter(String action, int sessionBurst, int userBurst,
+      int roomBurst) {
+    // 테스트 동안 거의 채워지지 않도록 낮은 rate 사용
+    return new StompRateLimiter(meterRegistry, true, action, 0.001, sessionBurst, 0.001,
+        userBurst, 0.001, roomBurst, 0.001, sessionBurst, 0.001, userBurst, 0.001, roomBurst);
+  }
+
+  private double rejected(String scope) {
+    return rejected("message", scope);
+  }
+
+  private double rejected(String type, String scope) {
+    return meterRegistry.get("websocket.rate_limit.rejected").tag("type", type)
+        .tag("scope", scope).counter().count();
+  }
+
+  private static Message<byte[]> send(String sessionId, Long userId, String destination) {
+    return frame(StompCommand.SEND, sessionId, userId, destination);
+  }
+
+  private static Message<byte[]> frame(StompCommand command, String sessionId, Long userId,
+      String destination) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+    accessor.setSessionId(sessionId);
+    if (destination != null) {
+      accessor.setDestination(destination);
+    }
+    if (userId != null) {
+      User user = User.builder().id(userId).build();
+      accessor.setUser(new UsernamePasswordAuthenticationToken(user, null,
+          Collections.emptyList()));
+    }
+    accessor.setLeaveMutable(true);
+    return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+  }
+}
@@ -0,0 +1,83 @@
+package com.devonoff.common.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+  private static final long SECOND = 1_000_000_000L;
+
+  @DisplayName("burst 개까지 연속으로 허용하고 이후에는 rate 에 맞춰 채워진 만큼 허용한다")
+  @Test
+  void tryAcquire_AllowsBurstThenRate() {
+    // Given
+    TokenBucket bucket = new TokenBucket(10, 3); // 초당 10 개, 최대 3 개 연속
+    long now = 0L;
+
+    // When & Then
+    assertThat(bucket.tryAcquire(now)).isTrue();
+    assertThat(bucket.tryAcquire(now)).isTrue();
+    assertThat(bucket.tryAcquire(now)).isTrue();
+    assertThat(bucket.tryAcquire(now)).isFalse();
+
+    assertThat(bucket.tryAcquire(now + SECOND / 10)).isTrue(); // 0.1 초 뒤 하나 채워짐
+    assertThat(bucket.tryAcquire(now + SECOND / 10)).isFalse();
+
+    assertThat(bucket.isFull(now + SECOND / 10)).isFalse();
+    assertThat(bucket.isFull(now + SECOND)).isTrue();
+  }
+
+  @DisplayName("돌려준 토큰은 바로 다시 사용할 수 있다")
+  @Test
+  void release_ReturnsToken() {
+    // Given
+    TokenBucket bucket = new TokenBucket(10, 2);
+    bucket.tryAcquire(0L);
+    bucket.tryAcquire(0L);
+
+    // When
+    bucket.release();
+
+    // Then
+    assertThat(bucket.tryAcquire(0L)).isTrue();
+    assertThat(bucket.tryAcquire(0L)).isFalse();
+  }
+
+  @DisplayName("여러 스레드가 동시에 사용해도 burst 개보다 많이 허용하지 않는다")
+  @Test
+  void tryAcquire_Concurrent_NeverExceedsBurst() throws Exception {
+    // Given
+    TokenBucket bucket = new TokenBucket(0.001, 50); // 테스트 동안 거의 채워지지 않음
+    long now = System.nanoTime();
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicInteger acquired = new AtomicInteger();
+
+    // When
+    for (int i = 0; i < threads; i++) {
+      executor.submit(() -> {
+        start.await();
+        for (int j = 0; j < 100; j++) {
+          if (bucket.tryAcquire(now)) {
+            acquired.incrementAndGet();
+          }
+        }
+        return null;
+      });
+    }
+    start.countDown();
+    executor.shutdown();
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+    // Then
+    assertThat(acquired.get()).isEqualTo(50);
+  }
+}
@@ -0,0 +1,314 @@
+package com.devonoff.common.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+/**
+ * 두 서버(브로커 2개)가 메모리 기반 pub/sub 으로 /topic 메시지를 주고받는지 검증
+ */
+class TopicBrokerRelayTest {
+
+  private InMemoryTransport transport;
+  private Node nodeA;
+  private Node nodeB;
+
+  @BeforeEach
+  void setUp() {
+    transport = new InMemoryTransport();
+    nodeA = new Node(transport);
+    nodeB = new Node(transport);
+  }
+
+  @AfterEach
+  void tearDown() {
+    nodeA.stop();
+    nodeB.stop();
+  }
+
+  @DisplayName("다른 서버의 구독자에게 전달하고, 발행한 서버의 구독자에게는 한 번만 전달한다")
+  @Test
+  void relay_DeliversToSubscribersOnBothNodes() {
+    // Given
+    nodeA.subscribe("a-1", "sub-1", "/topic/chat/1");
+    nodeB.subscribe("b-1", "sub-1", "/topic/chat/1");
+    nodeB.subscribe("b-2", "sub-1", "/topic/chat/2");
+
+    // When
+    nodeA.messagingTemplate.convertAndSend("/topic/chat/1", "hello");
+
+    // Then
+    assertThat(nodeA.received("/topic/chat/1")).containsExactly("a-1:hello");
+    assertThat(nodeB.received("/topic/chat/1")).containsExactly("b-1:hello");
+    assertThat(nodeB.received("/topic/chat/2")).isEmpty();
+  }
+
+  @DisplayName("클라이언트가 /topic 으로 직접 보낸 메시지도 다른 서버에 전달한다")
+  @Test
+  void relay_ClientSendToTopic() {
+    // Given
+    nodeB.subscribe("b-1", "sub-1", "/topic/send/key");
+
+    // When
+    nodeA.clientSend("a-1", "/topic/send/key", "camKey");
+
+    // Then
+    assertThat(nodeB.received("/topic/send/key")).containsExactly("b-1:camKey");
+  }
+
+  @DisplayName("목적지별 구독은 로컬 구독 수에 따라 한 번만 구독하고 마지막 구독자가 나가면 해제한다")
+  @Test
+  void subscriptions_AreReferenceCounted() {
+    // Given
+    nodeA.subscribe("a-1", "sub-1", "/topic/chat/1");
+    nodeA.subscribe("a-2", "sub-1", "/topic/chat/1");
+    nodeA.subscribe("a-2", "sub-2", "/topic/chat/2");
+    nodeA.subscribe("a-3", "sub-1", "/app/chat/1/send-messages"); // /topic 이 아니면 제외
+
+    assertThat(transport.subscribeCalls).containsExactly("Broker:/topic/chat/1",
+        "Broker:/topic/chat/2");
+    assertThat(nodeA.relay.subscribedChannelCount()).isEqualTo(2);
+
+    // When
+    nodeA.unsubscribe("a-1", "sub-1");
+
+    // Then
+    assertThat(transport.unsubscribeCalls).isEmpty();
+
+    // When
+    nodeA.disconnect("a-2");
+
+    // Then
+    assertThat(transport.unsubscribeCalls).containsExactlyInAnyOrder("Broker:/topic/chat/1",
+        "Broker:/topic/chat/2");
+    assertThat(nodeA.relay.subscribedChannelCount()).isZero();
+  }
+
+  @DisplayName("Redis 채널 구독을 기다리는 동안에도 다른 세션의 구독과 연결 종료는 막히지 않는다")
+  @Test
+  void subscribe_RedisCallOutsideSubscriptionLock() throws Exception {
+    // Given
+    CountDownLatch subscribing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    transport.blockSubscribe(subscribing, release);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<?> first = executor.submit(() -> nodeA.subscribe("a-1", "sub-1", "/topic/chat/1"));
+      assertThat(subscribing.await(1, TimeUnit.SECONDS)).isTrue();
+
+      // When
+      assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+        nodeA.subscribe("a-2", "sub-1", "/topic/chat/1");
+        nodeA.disconnect("a-3");
+      });
+      release.countDown();
+      first.get(1, TimeUnit.SECONDS);
+
+      // Then
+      assertThat(transport.subscribeCalls).containsExactly("Broker:/topic/chat/1");
+      assertThat(nodeA.relay.subscribedChannelCount()).isEqualTo(1);
+    } finally {
+      release.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @DisplayName("구독 중에 마지막 구독자가 나가면 구독이 끝난 뒤 채널을 해제한다")
+  @Test
+  void unsubscribe_WhileSubscribing_ChannelReleased() throws Exception {
+    // Given
+    CountDownLatch subscribing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    transport.blockSubscribe(subscribing, release);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<?> subscribe = executor.submit(
+          () -> nodeA.subscribe("a-1", "sub-1", "/topic/chat/1"));
+      assertThat(subscribing.await(1, TimeUnit.SECONDS)).isTrue();
+
+      // When
+      Future<?> unsubscribe = executor.submit(() -> nodeA.unsubscribe("a-1", "sub-1"));
+      // 구독 수가 0 이 된 뒤(해제 요청이 구독 완료를 기다리는 중) 구독 응답
+      assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+        while (nodeA.relay.subscribedChannelCount() > 0) {
+          Thread.sleep(1);
+        }
+      });
+      release.countDown();
+      subscribe.get(1, TimeUnit.SECONDS);
+      unsubscribe.get(1, TimeUnit.SECONDS);
+
+      // Then
+      assertThat(transport.subscribeCalls).containsExactly("Broker:/topic/chat/1");
+      assertThat(transport.unsubscribeCalls).containsExactly("Broker:/topic/chat/1");
+      assertThat(nodeA.relay.subscribedChannelCount()).isZero();
+    } finally {
+      release.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @DisplayName("localOnly 로 표시한 메시지는 다른 서버에 전달하지 않는다")
+  @Test
+  void relay_LocalOnlyMessage_NotPublished() {
+    // Given
+    nodeA.subscribe("a-1", "sub-1", "/topic/alarm/1/nick");
+    nodeB.subscribe("b-1", "sub-1", "/topic/alarm/1/nick");
+
+    // When
+    nodeA.messagingTemplate.convertAndSend("/topic/alarm/1/nick", "alarm",
+        TopicBrokerRelay.localOnly());
+
+    // Then
+    assertThat(nodeA.received("/topic/alarm/1/nick")).containsExactly("a-1:alarm");
+    assertThat(nodeB.received("/topic/alarm/1/nick")).isEmpty();
+    assertThat(transport.publishCount).isZero();
+  }
+
+  /**
+   * 서버 하나의 브로커 구성 (WebSocketConfiguration 과 같은 채널/인터셉터 배치)
+   */
+  private static class Node {
+
+    private final ExecutorSubscribableChannel clientInboundChannel =
+        new ExecutorSubscribableChannel();
+    private final ExecutorSubscribableChannel clientOutboundChannel =
+        new ExecutorSubscribableChannel();
+    private final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+    private final SimpleBrokerMessageHandler broker;
+    private final TopicBrokerRelay relay;
+    private final SimpMessagingTemplate messagingTemplate;
+    // 목적지 -> "세션ID:내용"
+    private final Map<String, List<String>> delivered = new ConcurrentHashMap<>();
+
+    Node(BrokerRelayTransport transport) {
+      relay = new TopicBrokerRelay(transport, brokerChannel);
+      clientInboundChannel.addInterceptor(relay.clientInboundInterceptor());
+      brokerChannel.addInterceptor(relay.brokerChannelInterceptor());
+      clientOutboundChannel.subscribe(message -> {
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination == null) {
+          return; // DISCONNECT_ACK 등
+        }
+        delivered.computeIfAbsent(destination, key -> new CopyOnWriteArrayList<>())
+            .add(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()) + ":"
+                + new String((byte[]) message.getPayload(), StandardCharsets.UTF_8));
+      });
+
+      broker = new SimpleBrokerMessageHandler(clientInboundChannel, clientOutboundChannel,
+          brokerChannel, List.of("/topic"));
+      broker.start();
+      messagingTemplate = new SimpMessagingTemplate(brokerChannel);
+    }
+
+    void subscribe(String sessionId, String subscriptionId, String destination) {
+      SimpMessageHeaderAccessor accessor = accessor(SimpMessageType.SUBSCRIBE, sessionId);
+      accessor.setSubscriptionId(subscriptionId);
+      accessor.setDestination(destination);
+      clientInboundChannel.send(message(new byte[0], accessor));
+    }
+
+    void unsubscribe(String sessionId, String subscriptionId) {
+      SimpMessageHeaderAccessor accessor = accessor(SimpMessageType.UNSUBSCRIBE, sessionId);
+      accessor.setSubscriptionId(subscriptionId);
+      clientInboundChannel.send(message(new byte[0], accessor));
+    }
+
+    void disconnect(String sessionId) {
+      clientInboundChannel.send(
+          message(new byte[0], accessor(SimpMessageType.DISCONNECT, sessionId)));
+    }
+
+    void clientSend(String sessionId, String destination, String payload) {
+      SimpMessageHeaderAccessor accessor = accessor(SimpMessageType.MESSAGE, sessionId);
+      accessor.setDestination(destination);
+      clientInboundChannel.send(message(payload.getBytes(StandardCharsets.UTF_8), accessor));
+    }
+
+    List<String> received(String destination) {
+      return delivered.getOrDefault(destination, List.of());
+    }
+
+    void stop() {
+      broker.stop();
+    }
+
+    private static SimpMessageHeaderAccessor accessor(SimpMessageType type, String sessionId) {
+      SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+      accessor.setSessionId(sessionId);
+      return accessor;
+    }
+
+    private static Message<byte[]> message(byte[] payload, SimpMessageHeaderAccessor accessor) {
+      return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+  }
+
+  /**
+   * Redis pub/sub 대역 (같은 스레드에서 구독자에게 바로 전달)
+   */
+  private static class InMemoryTransport implements BrokerRelayTransport {
+
+    private final Map<String, List<Consumer<byte[]>>> listeners = new ConcurrentHashMap<>();
+    private final List<String> subscribeCalls = new CopyOnWriteArrayList<>();
+    private final List<String> unsubscribeCalls = new CopyOnWriteArrayList<>();
+    private int publishCount = 0;
+    // 설정하면 구독 요청이 release 될 때까지 기다림 (느린 Redis 응답)
+    private CountDownLatch subscribing;
+    private CountDownLatch release;
+
+    void blockSubscribe(CountDownLatch subscribing, CountDownLatch release) {
+      this.subscribing = subscribing;
+      this.release = release;
+    }
+
+    @Override
+    public void publish(String channel, byte[] body) {
+      publishCount++;
+      listeners.getOrDefault(channel, List.of()).forEach(listener -> listener.accept(body));
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<byte[]> listener) {
+      if (release != null) {
+        subscribing.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      subscribeCalls.add(channel);
+      listeners.computeIfAbsent(channel, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    @Override
+    public void unsubscribe(String channel) {
+      unsubscribeCalls.add(channel);
+      // 노드마다 구독 정보를 따로 가지므로 테스트에서는 해제 호출만 기록
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.devonoff.config;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
@@ -8,6 +9,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.devonoff.domain.chat.service.ChatMessageArchiveService;
 import com.devonoff.domain.studyPost.entity.StudyComment;
 import com.devonoff.domain.studyPost.entity.StudyPost;
 import com.devonoff.domain.studyPost.repository.StudyCommentRepository;
@@ -17,6 +19,7 @@ import com.devonoff.domain.studyPost.service.StudyPostService;
 import com.devonoff.type.StudyPostStatus;
 import com.devonoff.util.TimeProvider;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,6 +28,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.repeat.RepeatStatus;
 
@@ -42,6 +46,9 @@ class BatchConfigTest {
   @Mock
   private StudyPostService studyPostService;
 
+  @Mock
+  private ChatMessageArchiveService chatMessageArchiveService;
+
   @Mock
   private TimeProvider timeProvider;
 
@@ -112,4 +119,47 @@ class BatchConfigTest {
     verify(studyPostRepository, times(1)).deleteAll(any());
     assert status == RepeatStatus.FINISHED;
   }
-}
\ No newline at end of file
+
+  @DisplayName("채팅 메시지 보관 - 옮긴 메시지가 CHUNK_SIZE 개이면 다음 반복에서 이어서 옮김")
+  @Test
+  void archiveTasklet_ContinuesWhileChunkIsFull() throws Exception {
+    // Given
+    LocalDateTime fixedNow = LocalDateTime.of(2024, 12, 12, 3, 0, 0);
+    YearMonth cutoffMonth = YearMonth.of(2024, 9);
+    when(timeProvider.now()).thenReturn(fixedNow);
+    when(chatMessageArchiveService.getCutoffMonth(fixedNow)).thenReturn(cutoffMonth);
+    when(chatMessageArchiveService.archiveChunk(cutoffMonth))
+        .thenReturn(ChatMessageArchiveService.CHUNK_SIZE, 10);
+    StepContribution contribution = mock(StepContribution.class);
+
+    // When
+    RepeatStatus first = batchConfig.archiveTasklet()
+        .execute(contribution, mock(ChunkContext.class));
+    RepeatStatus second = batchConfig.archiveTasklet()
+        .execute(contribution, mock(ChunkContext.class));
+
+    // Then
+    assertThat(first).isEqualTo(RepeatStatus.CONTINUABLE);
+    assertThat(second).isEqualTo(RepeatStatus.FINISHED);
+    verify(contribution, times(1)).incrementWriteCount(ChatMessageArchiveService.CHUNK_SIZE);
+    verify(contribution, times(1)).incrementWriteCount(10);
+  }
+
+  @DisplayName("채팅 메시지 보관 - 보관 기준 월 이전까지 파티션 추가")
+  @Test
+  void archivePartitionTasklet_AddsPartitionsBeforeCutoffMonth() throws Exception {
+    // Given
+    LocalDateTime fixedNow = LocalDateTime.of(2024, 12, 12, 3, 0, 0);
+    YearMonth cutoffMonth = YearMonth.of(2024, 9);
+    when(timeProvider.now()).thenReturn(fixedNow);
+    when(chatMessageArchiveService.getCutoffMonth(fixedNow)).thenReturn(cutoffMonth);
+
+    // When
+    RepeatStatus status = batchConfig.archivePartitionTasklet()
+        .execute(null, mock(ChunkContext.class));
+
+    // Then
+    verify(chatMessageArchiveService, times(1)).addPartitionsBefore(cutoffMonth);
+    assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+  }
+}
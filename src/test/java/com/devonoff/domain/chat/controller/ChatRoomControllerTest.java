@@ -2,11 +2,15 @@ package com.devonoff.domain.chat.controller;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.devonoff.config.SecurityConfig;
+import com.devonoff.domain.chat.dto.ChatMessageCursorResponse;
 import com.devonoff.domain.chat.dto.ChatMessageDto;
 import com.devonoff.domain.chat.dto.ChatRoomDto;
+import com.devonoff.domain.chat.dto.ChatUnreadCountDto;
 import com.devonoff.domain.chat.entity.ChatMessage;
 import com.devonoff.domain.chat.entity.ChatRoom;
 import com.devonoff.domain.chat.service.ChatMessageService;
@@ -188,4 +192,68 @@ class ChatRoomControllerTest {
         .andExpect(status().isBadRequest());
   }
 
-}
\ No newline at end of file
+  @Test
+  @DisplayName("채팅 메시지 커서 조회 - 성공")
+  void testGetChatMessagesBefore_Success() throws Exception {
+    // Given
+    Long chatRoomId = 1L;
+    ChatMessageCursorResponse response = ChatMessageCursorResponse.builder()
+        .content(List.of(ChatMessageDto.builder().id(99L).content("Test Message 99").build()))
+        .nextBefore(99L)
+        .hasNext(true)
+        .build();
+
+    Mockito.when(chatMessageService.getChatMessagesBefore(chatRoomId, 100L)).thenReturn(response);
+
+    // When & Then
+    mockMvc.perform(get("/api/chat/{chatRoomId}/messages", chatRoomId)
+            .param("before", "100")
+            .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[0].id").value("99"))
+        .andExpect(jsonPath("$.nextBefore").value("99"))
+        .andExpect(jsonPath("$.hasNext").value(true));
+    Mockito.verify(chatMessageService, Mockito.never())
+        .getChatMessages(Mockito.any(), Mockito.any());
+  }
+
+  @Test
+  @DisplayName("안 읽은 메시지 수 조회 - 성공")
+  void testGetUnreadCounts_Success() throws Exception {
+    // Given
+    Mockito.when(chatMessageService.getUnreadCounts()).thenReturn(List.of(
+        ChatUnreadCountDto.builder().chatRoomId(1L).unreadCount(3L).build()));
+
+    // When & Then
+    mockMvc.perform(get("/api/chat/unread-counts")
+            .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].chatRoomId").value(1))
+        .andExpect(jsonPath("$[0].unreadCount").value(3));
+  }
+
+  @Test
+  @DisplayName("읽은 위치 변경 - 성공 (2^53 을 넘는 메시지 ID 를 문자열로 받음)")
+  void testUpdateReadCursor_Success_StringMessageId() throws Exception {
+    // When & Then
+    mockMvc.perform(put("/api/chat/{chatRoomId}/read-cursor", 1L)
+            .content("{\"lastReadMessageId\": \"372036854775807123\"}")
+            .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk());
+    Mockito.verify(chatMessageService).updateReadCursor(Mockito.eq(1L),
+        Mockito.argThat(request -> request.getLastReadMessageId() == 372036854775807123L));
+  }
+
+  @Test
+  @DisplayName("읽은 위치 변경 - 실패 (읽은 메시지 ID 누락)")
+  void testUpdateReadCursor_Fail_MissingMessageId() throws Exception {
+    // When & Then
+    mockMvc.perform(put("/api/chat/{chatRoomId}/read-cursor", 1L)
+            .content("{}")
+            .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isBadRequest());
+    Mockito.verify(chatMessageService, Mockito.never())
+        .updateReadCursor(Mockito.any(), Mockito.any());
+  }
+
+}
@@ -0,0 +1,149 @@
+package com.devonoff.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.devonoff.domain.chat.repository.ChatMessageArchiveRepository;
+import com.devonoff.domain.chat.repository.ChatMessageRepository;
+import com.devonoff.domain.chat.util.ChatMessageIdGenerator;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageArchiveServiceTest {
+
+  @InjectMocks
+  private ChatMessageArchiveService chatMessageArchiveService;
+
+  @Mock
+  private ChatMessageRepository chatMessageRepository;
+
+  @Mock
+  private ChatMessageArchiveRepository chatMessageArchiveRepository;
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  @DisplayName("보관 - 기준 월 이전에 작성된 메시지를 조회한 ID 만 복사 후 삭제")
+  void testArchiveChunk_Success() {
+    // given
+    YearMonth cutoffMonth = YearMonth.of(2024, 9);
+    long cutoffId = firstIdOf(cutoffMonth);
+    List<Long> ids = List.of(3L, 5L, 8L);
+
+    given(chatMessageRepository.findIdsBefore(eq(cutoffId),
+        eq(LocalDateTime.of(2024, 9, 1, 0, 0)),
+        eq(PageRequest.of(0, ChatMessageArchiveService.CHUNK_SIZE))))
+        .willReturn(ids);
+    given(chatMessageRepository.bulkDeleteByIds(eq(ids))).willReturn(3);
+
+    // when
+    int archived = chatMessageArchiveService.archiveChunk(cutoffMonth);
+
+    // then
+    verify(chatMessageArchiveRepository, times(1)).copyFromChatMessage(eq(ids));
+    verify(chatMessageRepository, times(1)).bulkDeleteByIds(eq(ids));
+    assertThat(archived).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("보관 - 사이에 보관 기간이 지나지 않은 자동 증가 ID 가 있어도 조회한 ID 만 옮김")
+  @SuppressWarnings("unchecked")
+  void testArchiveChunk_LegacyIdsNotYetExpired_Skipped() {
+    // given
+    YearMonth cutoffMonth = YearMonth.of(2024, 9);
+    // 자동 증가 ID 4, 6, 7 은 기준 월 이후에 작성되어 조회되지 않음
+    List<Long> ids = List.of(3L, 5L, 8L);
+
+    given(chatMessageRepository.findIdsBefore(eq(firstIdOf(cutoffMonth)), any(), any()))
+        .willReturn(ids);
+    given(chatMessageRepository.bulkDeleteByIds(eq(ids))).willReturn(3);
+
+    // when
+    chatMessageArchiveService.archiveChunk(cutoffMonth);
+
+    // then
+    ArgumentCaptor<List<Long>> captor = ArgumentCaptor.forClass(List.class);
+    verify(chatMessageRepository).bulkDeleteByIds(captor.capture());
+    assertThat(captor.getValue()).containsExactly(3L, 5L, 8L);
+    verify(chatMessageArchiveRepository).copyFromChatMessage(eq(ids));
+  }
+
+  @Test
+  @DisplayName("보관 - 옮길 메시지가 없으면 아무것도 하지 않음")
+  void testArchiveChunk_NothingToArchive() {
+    // given
+    YearMonth cutoffMonth = YearMonth.of(2024, 9);
+
+    given(chatMessageRepository.findIdsBefore(eq(firstIdOf(cutoffMonth)), any(), any()))
+        .willReturn(List.of());
+
+    // when
+    int archived = chatMessageArchiveService.archiveChunk(cutoffMonth);
+
+    // then
+    verifyNoInteractions(chatMessageArchiveRepository);
+    verify(chatMessageRepository, never()).bulkDeleteByIds(any());
+    assertThat(archived).isZero();
+  }
+
+  @Test
+  @DisplayName("파티션 추가 - 마지막 파티션 다음 달부터 기준 월 전달까지 추가")
+  void testAddPartitionsBefore_AddsMissingMonths() {
+    // given
+    given(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("chat_message_archive")))
+        .willReturn(List.of("p202405", "p202406"));
+
+    // when
+    chatMessageArchiveService.addPartitionsBefore(YearMonth.of(2024, 9));
+
+    // then
+    ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+    verify(jdbcTemplate, times(2)).execute(captor.capture());
+    assertThat(captor.getAllValues()).containsExactly(
+        "ALTER TABLE chat_message_archive ADD PARTITION (PARTITION p202407 VALUES LESS THAN ("
+            + firstIdOf(YearMonth.of(2024, 8)) + "))",
+        "ALTER TABLE chat_message_archive ADD PARTITION (PARTITION p202408 VALUES LESS THAN ("
+            + firstIdOf(YearMonth.of(2024, 9)) + "))");
+  }
+
+  @Test
+  @DisplayName("파티션 추가 - 파티션이 없는 테이블이면 기준 월 전달까지를 첫 파티션으로 적용")
+  void testAddPartitionsBefore_NotPartitioned() {
+    // given
+    given(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("chat_message_archive")))
+        .willReturn(List.of());
+
+    // when
+    chatMessageArchiveService.addPartitionsBefore(YearMonth.of(2024, 9));
+
+    // then
+    verify(jdbcTemplate, times(1)).execute(
+        "ALTER TABLE chat_message_archive PARTITION BY RANGE (id) (PARTITION p202408 "
+            + "VALUES LESS THAN (" + firstIdOf(YearMonth.of(2024, 9)) + "))");
+  }
+
+  private static long firstIdOf(YearMonth month) {
+    return ChatMessageIdGenerator.firstIdAt(month.atDay(1).atStartOfDay(ZoneId.systemDefault())
+        .toInstant().toEpochMilli());
+  }
+}
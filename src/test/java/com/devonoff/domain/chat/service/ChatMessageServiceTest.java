@@ -3,39 +3,55 @@ package com.devonoff.domain.chat.service;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
+import com.devonoff.domain.chat.dto.ChatMessageCursorResponse;
 import com.devonoff.domain.chat.dto.ChatMessageDto;
 import com.devonoff.domain.chat.dto.ChatMessageRequest;
+import com.devonoff.domain.chat.dto.ChatMessageSummary;
+import com.devonoff.domain.chat.dto.ChatReadCursorRequest;
+import com.devonoff.domain.chat.dto.ChatUnreadCountDto;
 import com.devonoff.domain.chat.entity.ChatMessage;
 import com.devonoff.domain.chat.entity.ChatRoom;
+import com.devonoff.domain.chat.repository.ChatMessageArchiveRepository;
 import com.devonoff.domain.chat.repository.ChatMessageRepository;
 import com.devonoff.domain.chat.repository.ChatRoomRepository;
+import com.devonoff.domain.chat.util.ChatMessageIdGenerator;
+import com.devonoff.domain.chat.util.ChatMessageRecentBuffer;
+import com.devonoff.domain.chat.util.ChatMessageRecentBuffer.RecentMessages;
+import com.devonoff.domain.chat.util.ChatMessageWriter;
+import com.devonoff.domain.chat.util.ChatUnreadCounter;
 import com.devonoff.domain.student.repository.StudentRepository;
 import com.devonoff.domain.study.entity.Study;
+import com.devonoff.domain.user.dto.UserDto;
 import com.devonoff.domain.user.entity.User;
 import com.devonoff.domain.user.repository.UserRepository;
 import com.devonoff.domain.user.service.AuthService;
 import com.devonoff.exception.CustomException;
 import com.devonoff.type.ErrorCode;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 
 @ExtendWith(MockitoExtension.class)
 class ChatMessageServiceTest {
@@ -49,6 +65,9 @@ class ChatMessageServiceTest {
   @Mock
   private ChatMessageRepository chatMessageRepository;
 
+  @Mock
+  private ChatMessageArchiveRepository chatMessageArchiveRepository;
+
   @Mock
   private StudentRepository studentRepository;
 
@@ -58,12 +77,23 @@ class ChatMessageServiceTest {
   @Mock
   private AuthService authService;
 
+  @Mock
+  private ChatMessageIdGenerator chatMessageIdGenerator;
+
+  @Mock
+  private ChatMessageWriter chatMessageWriter;
+
+  @Mock
+  private ChatMessageRecentBuffer chatMessageRecentBuffer;
+
+  @Mock
+  private ChatUnreadCounter chatUnreadCounter;
+
   @Test
   @DisplayName("채팅 메시지 저장 - 성공")
   void testCreateChatMessage_Success() {
     // given
     Long chatRoomId = 1L;
-    Long senderId = 1L;
     ChatMessageRequest chatMessageRequest = ChatMessageRequest.builder()
         .senderId(1L)
         .content("Test Message")
@@ -72,182 +102,166 @@ class ChatMessageServiceTest {
     Study study = Study.builder().id(1L).studyName("Test Study").build();
     ChatRoom chatRoom = ChatRoom.builder().id(1L).studyName("Test Study").study(study).build();
     User user = User.builder().id(1L).build();
-    ChatMessage chatMessage = ChatMessage.builder()
-        .id(1L)
-        .chatRoom(chatRoom)
-        .sender(user)
-        .content("Test Message")
-        .createdAt(LocalDateTime.now())
-        .build();
 
-    given(chatRoomRepository.findById(eq(chatRoomId))).willReturn(Optional.of(chatRoom));
-    given(studentRepository.existsByUserIdAndStudyId(eq(senderId), eq(chatRoom.getStudy().getId())))
-        .willReturn(true);
-    given(userRepository.findById(eq(senderId))).willReturn(Optional.of(user));
-    given(chatMessageRepository.save(any(ChatMessage.class))).willReturn(chatMessage);
+    given(chatRoomRepository.getReferenceById(eq(chatRoomId))).willReturn(chatRoom);
+    given(chatMessageIdGenerator.nextId()).willReturn(1L);
 
     // when
-    ChatMessageDto chatMessageDto = chatMessageService.createChatMessage(chatRoomId,
+    ChatMessageDto chatMessageDto = chatMessageService.createChatMessage(chatRoomId, user,
         chatMessageRequest);
 
     // then
-    verify(chatRoomRepository, times(1)).findById(eq(chatRoomId));
-    verify(studentRepository, times(1))
-        .existsByUserIdAndStudyId(eq(senderId), eq(chatRoom.getStudy().getId()));
-    verify(userRepository, times(1)).findById(eq(senderId));
-    verify(chatMessageRepository, times(1)).save(any(ChatMessage.class));
-
+    // 채팅방 존재/발신자/참여 여부는 STOMP 세션에서 확인하므로 메시지마다 조회하지 않음
+    verify(chatRoomRepository, times(1)).getReferenceById(eq(chatRoomId));
+    verify(chatRoomRepository, never()).findById(any());
+    verify(studentRepository, never()).existsByUserIdAndStudyId(any(), any());
+    verify(userRepository, never()).findById(any());
+    // 저장은 지연 저장 큐를 거침
+    ArgumentCaptor<ChatMessage> captor = ArgumentCaptor.forClass(ChatMessage.class);
+    verify(chatMessageWriter, times(1)).enqueue(captor.capture());
+    verify(chatMessageRepository, never()).save(any(ChatMessage.class));
+
+    assertThat(captor.getValue().getId()).isEqualTo(1L);
+    assertThat(captor.getValue().getChatRoom().getId()).isEqualTo(chatRoomId);
+    assertThat(captor.getValue().getCreatedAt()).isEqualTo(chatMessageDto.getCreatedAt());
     assertThat(chatMessageDto.getId()).isEqualTo(1L);
     assertThat(chatMessageDto.getUser().getId()).isEqualTo(1L);
     assertThat(chatMessageDto.getContent()).isEqualTo("Test Message");
+    // 안 읽은 메시지로 기록하고 보낸 사람은 읽은 것으로 처리
+    verify(chatUnreadCounter, times(1)).recordMessage(eq(chatRoomId), eq(1L));
+    verify(chatUnreadCounter, times(1)).markRead(eq(1L), eq(chatRoomId), eq(1L));
   }
 
   @Test
-  @DisplayName("채팅 메시지 저장 - 실패 (존재하지 않는 채팅방)")
-  void testCreateChatMessage_Fail_ChatRoomNotFound() {
+  @DisplayName("채팅 메시지 내역 조회 - 성공 (최근 메시지 버퍼)")
+  void testGetChatMessages_Success() {
     // given
     Long chatRoomId = 1L;
-    Long senderId = 1L;
-    ChatMessageRequest chatMessageRequest = ChatMessageRequest.builder()
-        .senderId(1L)
-        .content("Test Message")
-        .build();
+    Long loginUserId = 1L;
 
-    given(chatRoomRepository.findById(eq(chatRoomId))).willReturn(Optional.empty());
+    Study study = Study.builder().id(1L).studyName("Test Study").build();
+    ChatRoom chatRoom = ChatRoom.builder().id(1L).studyName("Test Study").study(study).build();
+
+    List<ChatMessageDto> recent = chatMessageDtos(3, 1);
+
+    given(chatRoomRepository.findById(eq(chatRoomId))).willReturn(Optional.of(chatRoom));
+    given(authService.getLoginUserId()).willReturn(1L);
+    given(studentRepository.existsByUserIdAndStudyId(eq(loginUserId), eq(chatRoomId)))
+        .willReturn(true);
+    given(chatMessageRecentBuffer.get(eq(chatRoomId))).willReturn(new RecentMessages(recent, 3));
 
     // when
-    CustomException customException = assertThrows(CustomException.class,
-        () -> chatMessageService.createChatMessage(chatRoomId, chatMessageRequest));
+    Page<ChatMessageDto> responseChatMessages = chatMessageService.getChatMessages(chatRoomId, 0);
 
     // then
     verify(chatRoomRepository, times(1)).findById(eq(chatRoomId));
+    verify(authService, times(1)).getLoginUserId();
+    verify(studentRepository, times(1))
+        .existsByUserIdAndStudyId(eq(loginUserId), eq(chatRoomId));
+    verifyNoInteractions(chatMessageRepository);
 
-    assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.CHAT_ROOM_NOT_FOUND);
-    assertThat(customException.getErrorMessage()).isEqualTo("채팅방을 찾을 수 없습니다.");
+    assertThat(responseChatMessages.getContent()).extracting(ChatMessageDto::getId)
+        .containsExactly(3L, 2L, 1L);
+    assertThat(responseChatMessages.getTotalElements()).isEqualTo(3);
   }
 
   @Test
-  @DisplayName("채팅 메시지 저장 - 실패 (해당 스터디 참여자가 아닌 경우)")
-  void testCreateChatMessage_Fail_DoesNotStudentOfStudy() {
+  @DisplayName("채팅 메시지 내역 조회 - 성공 (버퍼가 비어 있으면 DB 에서 채움)")
+  void testGetChatMessages_Success_FillBuffer() {
     // given
     Long chatRoomId = 1L;
-    Long senderId = 1L;
-    ChatMessageRequest chatMessageRequest = ChatMessageRequest.builder()
-        .senderId(1L)
-        .content("Test Message")
-        .build();
 
     Study study = Study.builder().id(1L).studyName("Test Study").build();
     ChatRoom chatRoom = ChatRoom.builder().id(1L).studyName("Test Study").study(study).build();
+    List<ChatMessageSummary> chatMessageList = chatMessageSummaries(2, 1);
 
     given(chatRoomRepository.findById(eq(chatRoomId))).willReturn(Optional.of(chatRoom));
-    given(studentRepository.existsByUserIdAndStudyId(eq(senderId), eq(chatRoom.getStudy().getId())))
-        .willReturn(false);
+    given(authService.getLoginUserId()).willReturn(1L);
+    given(studentRepository.existsByUserIdAndStudyId(eq(1L), eq(1L))).willReturn(true);
+    given(chatMessageRecentBuffer.get(eq(chatRoomId))).willReturn(null);
+    given(chatMessageRepository.findSummariesBefore(eq(chatRoomId), eq(Long.MAX_VALUE),
+        eq(PageRequest.of(0, ChatMessageRecentBuffer.CAPACITY)))).willReturn(chatMessageList);
+    given(chatMessageRepository.countByChatRoomId(eq(chatRoomId))).willReturn(2L);
+    given(chatMessageRecentBuffer.fill(eq(chatRoomId), anyList(), eq(2L)))
+        .willAnswer(invocation -> new RecentMessages(invocation.getArgument(1), 2L));
 
     // when
-    CustomException customException = assertThrows(CustomException.class,
-        () -> chatMessageService.createChatMessage(chatRoomId, chatMessageRequest));
+    Page<ChatMessageDto> responseChatMessages = chatMessageService.getChatMessages(chatRoomId, 0);
 
     // then
-    verify(chatRoomRepository, times(1)).findById(eq(chatRoomId));
-    verify(studentRepository, times(1))
-        .existsByUserIdAndStudyId(eq(senderId), eq(chatRoom.getStudy().getId()));
-
-    assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.DOES_NOT_STUDENT_OF_STUDY);
-    assertThat(customException.getErrorMessage()).isEqualTo("해당 스터디 참가자가 아닙니다.");
+    assertThat(responseChatMessages.getContent()).extracting(ChatMessageDto::getId)
+        .containsExactly(2L, 1L);
+    assertThat(responseChatMessages.getTotalElements()).isEqualTo(2);
   }
 
   @Test
-  @DisplayName("채팅 메시지 저장 - 실패 (존재하지 않는 유저)")
-  void testCreateChatMessage_Fail_UserNotFound() {
+  @DisplayName("채팅 메시지 내역 조회 - 성공 (버퍼보다 오래된 페이지는 keyset 조회)")
+  void testGetChatMessages_Success_OlderThanBuffer() {
     // given
     Long chatRoomId = 1L;
-    Long senderId = 1L;
-    ChatMessageRequest chatMessageRequest = ChatMessageRequest.builder()
-        .senderId(1L)
-        .content("Test Message")
-        .build();
+    int capacity = ChatMessageRecentBuffer.CAPACITY;
 
     Study study = Study.builder().id(1L).studyName("Test Study").build();
     ChatRoom chatRoom = ChatRoom.builder().id(1L).studyName("Test Study").study(study).build();
 
+    // 버퍼: ID 1000 ~ 901
+    List<ChatMessageDto> recent = chatMessageDtos(capacity, 1000 - capacity + 1);
+    int page = capacity / 20 + 1; // 버퍼 다음의 두 번째 페이지
+    List<ChatMessageSummary> older = chatMessageSummaries(1, 880);
+
     given(chatRoomRepository.findById(eq(chatRoomId))).willReturn(Optional.of(chatRoom));
-    given(studentRepository.existsByUserIdAndStudyId(eq(senderId), eq(chatRoom.getStudy().getId())))
-        .willReturn(true);
-    given(userRepository.findById(eq(senderId))).willReturn(Optional.empty());
+    given(authService.getLoginUserId()).willReturn(1L);
+    given(studentRepository.existsByUserIdAndStudyId(eq(1L), eq(1L))).willReturn(true);
+    given(chatMessageRecentBuffer.get(eq(chatRoomId)))
+        .willReturn(new RecentMessages(recent, 1000));
+    given(chatMessageRepository.findSummariesBefore(eq(chatRoomId), eq(901L),
+        eq(PageRequest.of(1, 20)))).willReturn(older);
 
     // when
-    CustomException customException = assertThrows(CustomException.class,
-        () -> chatMessageService.createChatMessage(chatRoomId, chatMessageRequest));
+    Page<ChatMessageDto> responseChatMessages =
+        chatMessageService.getChatMessages(chatRoomId, page);
 
     // then
-    verify(chatRoomRepository, times(1)).findById(eq(chatRoomId));
-    verify(studentRepository, times(1))
-        .existsByUserIdAndStudyId(eq(senderId), eq(chatRoom.getStudy().getId()));
-    verify(userRepository, times(1)).findById(eq(senderId));
-
-    assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.USER_NOT_FOUND);
-    assertThat(customException.getErrorMessage()).isEqualTo("사용자를 찾을 수 없습니다.");
+    assertThat(responseChatMessages.getContent()).extracting(ChatMessageDto::getId)
+        .containsExactly(880L);
+    assertThat(responseChatMessages.getTotalElements()).isEqualTo(1000);
+    verify(chatMessageRepository, never()).countByChatRoomId(any());
   }
 
   @Test
-  @DisplayName("채팅 메시지 내역 조회 - 성공")
-  void testGetChatMessages_Success() {
+  @DisplayName("채팅 메시지 내역 조회 - 성공 (chat_message 이후 페이지는 보관 테이블에서 조회)")
+  void testGetChatMessages_Success_FromArchive() {
     // given
     Long chatRoomId = 1L;
-    Long loginUserId = 1L;
-    Pageable pageable = PageRequest.of(0, 20, Sort.by("createdAt").descending());
+    int capacity = ChatMessageRecentBuffer.CAPACITY;
 
     Study study = Study.builder().id(1L).studyName("Test Study").build();
     ChatRoom chatRoom = ChatRoom.builder().id(1L).studyName("Test Study").study(study).build();
-    User user = User.builder().id(1L).build();
 
-    List<ChatMessage> chatMessageList = List.of(
-        ChatMessage.builder()
-            .id(1L)
-            .content("Test Message 1")
-            .createdAt(LocalDateTime.now())
-            .sender(user)
-            .chatRoom(chatRoom)
-            .build(),
-        ChatMessage.builder()
-            .id(2L)
-            .content("Test Message 2")
-            .createdAt(LocalDateTime.now())
-            .sender(user)
-            .chatRoom(chatRoom)
-            .build(),
-        ChatMessage.builder()
-            .id(3L)
-            .content("Test Message 3")
-            .createdAt(LocalDateTime.now())
-            .sender(user)
-            .chatRoom(chatRoom)
-            .build()
-    );
-
-    Page<ChatMessage> chatMessagePage = new PageImpl<>(chatMessageList);
+    // 버퍼: ID 1000 ~ 901, chat_message: 버퍼 이전 10 개, 보관 테이블: ID 800 이하
+    List<ChatMessageDto> recent = chatMessageDtos(capacity, 1000 - capacity + 1);
+    int page = capacity / 20 + 1; // 버퍼 이후 21 ~ 40 번째 메시지
 
     given(chatRoomRepository.findById(eq(chatRoomId))).willReturn(Optional.of(chatRoom));
     given(authService.getLoginUserId()).willReturn(1L);
-    given(studentRepository.existsByUserIdAndStudyId(eq(loginUserId), eq(chatRoomId)))
-        .willReturn(true);
-    given(chatMessageRepository.findAllByChatRoom(eq(chatRoom), eq(pageable)))
-        .willReturn(chatMessagePage);
+    given(studentRepository.existsByUserIdAndStudyId(eq(1L), eq(1L))).willReturn(true);
+    given(chatMessageRecentBuffer.get(eq(chatRoomId)))
+        .willReturn(new RecentMessages(recent, 1000));
+    given(chatMessageRepository.findSummariesBefore(eq(chatRoomId), eq(901L),
+        eq(PageRequest.of(1, 20)))).willReturn(List.of());
+    given(chatMessageRepository.countByChatRoomIdAndIdLessThan(eq(chatRoomId), eq(901L)))
+        .willReturn(10L);
+    given(chatMessageArchiveRepository.findSummariesBefore(eq(chatRoomId), eq(901L),
+        eq(PageRequest.of(0, 30)))).willReturn(chatMessageSummaries(30, 771));
 
     // when
-    Page<ChatMessageDto> responseChatMessages = chatMessageService.getChatMessages(chatRoomId, 0);
+    Page<ChatMessageDto> responseChatMessages =
+        chatMessageService.getChatMessages(chatRoomId, page);
 
     // then
-    verify(chatRoomRepository, times(1)).findById(eq(chatRoomId));
-    verify(authService, times(1)).getLoginUserId();
-    verify(studentRepository, times(1))
-        .existsByUserIdAndStudyId(eq(loginUserId), eq(chatRoomId));
-    verify(chatMessageRepository, times(1))
-        .findAllByChatRoom(eq(chatRoom), eq(pageable));
-
-    assertThat(responseChatMessages).isNotNull();
-    assertThat(responseChatMessages.getSize()).isEqualTo(3);
+    assertThat(responseChatMessages.getContent()).hasSize(20);
+    assertThat(responseChatMessages.getContent().get(0).getId()).isEqualTo(790L);
+    assertThat(responseChatMessages.getContent().get(19).getId()).isEqualTo(771L);
   }
 
   @Test
@@ -297,4 +311,193 @@ class ChatMessageServiceTest {
     assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.DOES_NOT_STUDENT_OF_STUDY);
     assertThat(customException.getErrorMessage()).isEqualTo("해당 스터디 참가자가 아닙니다.");
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("채팅 메시지 커서 조회 - 성공 (버퍼 안의 페이지는 DB 조회 없음)")
+  void testGetChatMessagesBefore_Success_FromBuffer() {
+    // given
+    Long chatRoomId = 1L;
+
+    Study study = Study.builder().id(1L).studyName("Test Study").build();
+    ChatRoom chatRoom = ChatRoom.builder().id(1L).studyName("Test Study").study(study).build();
+
+    // 버퍼: ID 1000 ~ 901
+    List<ChatMessageDto> recent = chatMessageDtos(ChatMessageRecentBuffer.CAPACITY, 901);
+
+    given(chatRoomRepository.findById(eq(chatRoomId))).willReturn(Optional.of(chatRoom));
+    given(authService.getLoginUserId()).willReturn(1L);
+    given(studentRepository.existsByUserIdAndStudyId(eq(1L), eq(1L))).willReturn(true);
+    given(chatMessageRecentBuffer.get(eq(chatRoomId)))
+        .willReturn(new RecentMessages(recent, 1000));
+
+    // when
+    ChatMessageCursorResponse response =
+        chatMessageService.getChatMessagesBefore(chatRoomId, 990L);
+
+    // then
+    assertThat(response.getContent()).hasSize(20);
+    assertThat(response.getContent().get(0).getId()).isEqualTo(989L);
+    assertThat(response.getNextBefore()).isEqualTo(970L);
+    assertThat(response.isHasNext()).isTrue();
+    verifyNoInteractions(chatMessageRepository);
+    verify(chatMessageRecentBuffer, never()).fill(any(), anyList(), anyLong());
+  }
+
+  @Test
+  @DisplayName("채팅 메시지 커서 조회 - 성공 (버퍼에 없는 부분은 프로젝션 조회, 메시지 수 조회 없음)")
+  void testGetChatMessagesBefore_Success_FromDatabase() {
+    // given
+    Long chatRoomId = 1L;
+
+    Study study = Study.builder().id(1L).studyName("Test Study").build();
+    ChatRoom chatRoom = ChatRoom.builder().id(1L).studyName("Test Study").study(study).build();
+
+    // 버퍼: ID 1000 ~ 901, DB: 905 이전 메시지 중 남은 16 개 요청
+    List<ChatMessageDto> recent = chatMessageDtos(ChatMessageRecentBuffer.CAPACITY, 901);
+
+    given(chatRoomRepository.findById(eq(chatRoomId))).willReturn(Optional.of(chatRoom));
+    given(authService.getLoginUserId()).willReturn(1L);
+    given(studentRepository.existsByUserIdAndStudyId(eq(1L), eq(1L))).willReturn(true);
+    given(chatMessageRecentBuffer.get(eq(chatRoomId)))
+        .willReturn(new RecentMessages(recent, 1000));
+    given(chatMessageRepository.findSummariesBefore(eq(chatRoomId), eq(901L),
+        eq(PageRequest.of(0, 17)))).willReturn(chatMessageSummaries(10, 891));
+
+    // when
+    ChatMessageCursorResponse response =
+        chatMessageService.getChatMessagesBefore(chatRoomId, 905L);
+
+    // then
+    assertThat(response.getContent()).extracting(ChatMessageDto::getId)
+        .containsExactlyElementsOf(LongStream.rangeClosed(891, 904)
+            .map(i -> 904 + 891 - i).boxed().toList());
+    assertThat(response.getContent().get(4).getUser().getNickname()).isEqualTo("nickname");
+    assertThat(response.getNextBefore()).isNull();
+    assertThat(response.isHasNext()).isFalse();
+    verify(chatMessageRepository, never()).countByChatRoomId(any());
+  }
+
+  @Test
+  @DisplayName("채팅 메시지 커서 조회 - 성공 (chat_message 에 없는 부분은 보관 테이블에서 이어서 조회)")
+  void testGetChatMessagesBefore_Success_ContinuesIntoArchive() {
+    // given
+    Long chatRoomId = 1L;
+
+    Study study = Study.builder().id(1L).studyName("Test Study").build();
+    ChatRoom chatRoom = ChatRoom.builder().id(1L).studyName("Test Study").study(study).build();
+
+    given(chatRoomRepository.findById(eq(chatRoomId))).willReturn(Optional.of(chatRoom));
+    given(authService.getLoginUserId()).willReturn(1L);
+    given(studentRepository.existsByUserIdAndStudyId(eq(1L), eq(1L))).willReturn(true);
+    given(chatMessageRecentBuffer.get(eq(chatRoomId))).willReturn(null);
+    given(chatMessageRepository.findSummariesBefore(eq(chatRoomId), eq(200L),
+        eq(PageRequest.of(0, 21)))).willReturn(chatMessageSummaries(5, 101));
+    given(chatMessageArchiveRepository.findSummariesBefore(eq(chatRoomId), eq(200L),
+        eq(PageRequest.of(0, 16)))).willReturn(chatMessageSummaries(16, 50));
+
+    // when
+    ChatMessageCursorResponse response =
+        chatMessageService.getChatMessagesBefore(chatRoomId, 200L);
+
+    // then
+    assertThat(response.getContent()).hasSize(20);
+    assertThat(response.getContent().get(4).getId()).isEqualTo(101L);
+    assertThat(response.getContent().get(5).getId()).isEqualTo(65L);
+    assertThat(response.getNextBefore()).isEqualTo(51L);
+    assertThat(response.isHasNext()).isTrue();
+    verify(chatMessageRepository, never()).countByChatRoomIdAndIdLessThan(any(), any());
+  }
+
+  @Test
+  @DisplayName("채팅 메시지 커서 조회 - 실패 (해당 스터디 참여자가 아닌 경우)")
+  void testGetChatMessagesBefore_Fail_DoesNotStudentOfStudy() {
+    // given
+    Long chatRoomId = 1L;
+
+    Study study = Study.builder().id(1L).studyName("Test Study").build();
+    ChatRoom chatRoom = ChatRoom.builder().id(1L).studyName("Test Study").study(study).build();
+
+    given(chatRoomRepository.findById(eq(chatRoomId))).willReturn(Optional.of(chatRoom));
+    given(authService.getLoginUserId()).willReturn(1L);
+    given(studentRepository.existsByUserIdAndStudyId(eq(1L), eq(1L))).willReturn(false);
+
+    // when
+    CustomException customException = assertThrows(CustomException.class,
+        () -> chatMessageService.getChatMessagesBefore(chatRoomId, Long.MAX_VALUE));
+
+    // then
+    assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.DOES_NOT_STUDENT_OF_STUDY);
+    verifyNoInteractions(chatMessageRepository, chatMessageRecentBuffer);
+  }
+
+  @Test
+  @DisplayName("안 읽은 메시지 수 조회 - 성공 (참여 중인 채팅방 전체를 한 번에 조회)")
+  void testGetUnreadCounts_Success() {
+    // given
+    Long loginUserId = 1L;
+    Map<Long, Long> unreadCounts = new LinkedHashMap<>();
+    unreadCounts.put(10L, 3L);
+    unreadCounts.put(20L, 0L);
+
+    given(authService.getLoginUserId()).willReturn(loginUserId);
+    given(chatRoomRepository.findAllIdsByStudentUserId(eq(loginUserId)))
+        .willReturn(List.of(10L, 20L));
+    given(chatUnreadCounter.getUnreadCounts(eq(loginUserId), eq(List.of(10L, 20L))))
+        .willReturn(unreadCounts);
+
+    // when
+    List<ChatUnreadCountDto> response = chatMessageService.getUnreadCounts();
+
+    // then
+    assertThat(response).extracting(ChatUnreadCountDto::getChatRoomId)
+        .containsExactly(10L, 20L);
+    assertThat(response).extracting(ChatUnreadCountDto::getUnreadCount)
+        .containsExactly(3L, 0L);
+    verifyNoInteractions(chatMessageRepository, chatMessageArchiveRepository);
+  }
+
+  @Test
+  @DisplayName("읽은 위치 변경 - 실패 (해당 스터디 참여자가 아닌 경우)")
+  void testUpdateReadCursor_Fail_DoesNotStudentOfStudy() {
+    // given
+    Long chatRoomId = 1L;
+
+    Study study = Study.builder().id(1L).studyName("Test Study").build();
+    ChatRoom chatRoom = ChatRoom.builder().id(1L).studyName("Test Study").study(study).build();
+
+    given(chatRoomRepository.findById(eq(chatRoomId))).willReturn(Optional.of(chatRoom));
+    given(authService.getLoginUserId()).willReturn(1L);
+    given(studentRepository.existsByUserIdAndStudyId(eq(1L), eq(1L))).willReturn(false);
+
+    // when
+    CustomException customException = assertThrows(CustomException.class,
+        () -> chatMessageService.updateReadCursor(chatRoomId,
+            ChatReadCursorRequest.builder().lastReadMessageId(100L).build()));
+
+    // then
+    assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.DOES_NOT_STUDENT_OF_STUDY);
+    verifyNoInteractions(chatUnreadCounter);
+  }
+
+  // 최신순 메시지 프로젝션 (ID: firstId + count - 1 ~ firstId)
+  private static List<ChatMessageSummary> chatMessageSummaries(int count, long firstId) {
+    return LongStream.range(0, count)
+        .map(i -> firstId + count - 1 - i)
+        .mapToObj(id -> new ChatMessageSummary(id, "Test Message " + id, LocalDateTime.now(),
+            1L, "nickname", null))
+        .toList();
+  }
+
+  // 최신순 메시지 DTO (ID: firstId + count - 1 ~ firstId)
+  private static List<ChatMessageDto> chatMessageDtos(int count, long firstId) {
+    return LongStream.range(0, count)
+        .map(i -> firstId + count - 1 - i)
+        .mapToObj(id -> ChatMessageDto.builder()
+            .id(id)
+            .user(UserDto.builder().id(1L).build())
+            .content("Test Message " + id)
+            .createdAt(LocalDateTime.now())
+            .build())
+        .toList();
+  }
+}
@@ -0,0 +1,239 @@
+package com.devonoff.domain.chat.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.devonoff.common.event.StudentRemovedEvent;
+import com.devonoff.common.event.UserWithdrawnEvent;
+import com.devonoff.domain.chat.entity.ChatRoom;
+import com.devonoff.domain.chat.repository.ChatRoomRepository;
+import com.devonoff.domain.student.repository.StudentRepository;
+import com.devonoff.domain.study.entity.Study;
+import com.devonoff.domain.user.entity.User;
+import com.devonoff.exception.CustomException;
+import com.devonoff.type.ErrorCode;
+import com.devonoff.util.JwtProvider;
+import io.jsonwebtoken.MalformedJwtException;
+import java.util.Collections;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+@ExtendWith(MockitoExtension.class)
+class ChatChannelInterceptorTest {
+
+  private static final String SESSION_ID = "session-1";
+  private static final String TOKEN = "access-token";
+  private static final Long USER_ID = 1L;
+  private static final Long CHAT_ROOM_ID = 10L;
+  private static final Long STUDY_ID = 100L;
+
+  @Mock
+  private JwtProvider jwtProvider;
+
+  @Mock
+  private ChatRoomRepository chatRoomRepository;
+
+  @Mock
+  private StudentRepository studentRepository;
+
+  private final MessageChannel channel = mock(MessageChannel.class);
+
+  private ChatSessionRegistry chatSessionRegistry;
+  private ChatChannelInterceptor chatChannelInterceptor;
+
+  @BeforeEach
+  void setUp() {
+    chatSessionRegistry = new ChatSessionRegistry();
+    chatChannelInterceptor = new ChatChannelInterceptor(jwtProvider, chatSessionRegistry,
+        chatRoomRepository, studentRepository);
+  }
+
+  @Test
+  @DisplayName("CONNECT - 토큰을 검증하고 세션 사용자로 등록")
+  void connect_ValidToken_RegistersSession() {
+    // given
+    UsernamePasswordAuthenticationToken authentication = authentication();
+    given(jwtProvider.validateToken(TOKEN)).willReturn(true);
+    given(jwtProvider.getAuthentication(TOKEN)).willReturn(authentication);
+
+    // when
+    Message<?> message = chatChannelInterceptor.preSend(connect("Bearer " + TOKEN), channel);
+
+    // then
+    StompHeaderAccessor accessor =
+        MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+    assertThat(accessor.getUser()).isEqualTo(authentication);
+    assertThat(chatSessionRegistry.getSession(SESSION_ID).getUserId()).isEqualTo(USER_ID);
+  }
+
+  @Test
+  @DisplayName("CONNECT - 실패 (유효하지 않은 토큰)")
+  void connect_InvalidToken_Fail() {
+    // given
+    given(jwtProvider.validateToken(TOKEN)).willThrow(new MalformedJwtException("malformed"));
+
+    // when
+    CustomException customException = assertThrows(CustomException.class,
+        () -> chatChannelInterceptor.preSend(connect("Bearer " + TOKEN), channel));
+
+    // then
+    assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.INVALID_TOKEN);
+    assertThat(chatSessionRegistry.getSession(SESSION_ID)).isNull();
+  }
+
+  @Test
+  @DisplayName("SEND - 채팅방 참여 여부는 세션당 한 번만 DB 에서 확인")
+  void send_Member_ChecksDatabaseOnce() {
+    // given
+    chatSessionRegistry.register(SESSION_ID, USER_ID);
+    given(chatRoomRepository.findById(CHAT_ROOM_ID)).willReturn(Optional.of(chatRoom()));
+    given(studentRepository.existsByUserIdAndStudyId(USER_ID, STUDY_ID)).willReturn(true);
+
+    // when
+    for (int i = 0; i < 3; i++) {
+      chatChannelInterceptor.preSend(send("/app/chat/" + CHAT_ROOM_ID + "/send-messages"),
+          channel);
+    }
+    chatChannelInterceptor.preSend(subscribe("/topic/chat/" + CHAT_ROOM_ID), channel);
+
+    // then
+    verify(chatRoomRepository, times(1)).findById(CHAT_ROOM_ID);
+    verify(studentRepository, times(1)).existsByUserIdAndStudyId(USER_ID, STUDY_ID);
+  }
+
+  @Test
+  @DisplayName("SEND - 실패 (인증되지 않은 세션)")
+  void send_UnauthenticatedSession_Fail() {
+    // when
+    CustomException customException = assertThrows(CustomException.class,
+        () -> chatChannelInterceptor.preSend(
+            send("/app/chat/" + CHAT_ROOM_ID + "/send-messages"), channel));
+
+    // then
+    assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.CHAT_ACCESS_DENIED);
+    verifyNoInteractions(chatRoomRepository, studentRepository);
+  }
+
+  @Test
+  @DisplayName("SUBSCRIBE - 실패 (해당 스터디 참여자가 아닌 경우)")
+  void subscribe_NotMember_Fail() {
+    // given
+    chatSessionRegistry.register(SESSION_ID, USER_ID);
+    given(chatRoomRepository.findById(CHAT_ROOM_ID)).willReturn(Optional.of(chatRoom()));
+    given(studentRepository.existsByUserIdAndStudyId(USER_ID, STUDY_ID)).willReturn(false);
+
+    // when
+    CustomException customException = assertThrows(CustomException.class,
+        () -> chatChannelInterceptor.preSend(subscribe("/topic/chat/" + CHAT_ROOM_ID), channel));
+
+    // then
+    assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.DOES_NOT_STUDENT_OF_STUDY);
+    assertThat(chatSessionRegistry.getSession(SESSION_ID).isMemberOf(CHAT_ROOM_ID)).isFalse();
+  }
+
+  @Test
+  @DisplayName("참가자 제거 이벤트 이후에는 참여 여부를 다시 확인")
+  void studentRemoved_EvictsMembership() {
+    // given
+    chatSessionRegistry.register(SESSION_ID, USER_ID);
+    given(chatRoomRepository.findById(CHAT_ROOM_ID)).willReturn(Optional.of(chatRoom()));
+    given(studentRepository.existsByUserIdAndStudyId(USER_ID, STUDY_ID))
+        .willReturn(true, false);
+    chatChannelInterceptor.preSend(send("/app/chat/" + CHAT_ROOM_ID + "/send-messages"),
+        channel);
+
+    // when
+    chatSessionRegistry.handleStudentRemoved(new StudentRemovedEvent(USER_ID, STUDY_ID));
+
+    // then
+    CustomException customException = assertThrows(CustomException.class,
+        () -> chatChannelInterceptor.preSend(
+            send("/app/chat/" + CHAT_ROOM_ID + "/send-messages"), channel));
+    assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.DOES_NOT_STUDENT_OF_STUDY);
+    verify(studentRepository, times(2)).existsByUserIdAndStudyId(USER_ID, STUDY_ID);
+  }
+
+  @Test
+  @DisplayName("회원 탈퇴 이벤트 이후에는 채팅 프레임 거부")
+  void userWithdrawn_RemovesSession() {
+    // given
+    chatSessionRegistry.register(SESSION_ID, USER_ID);
+
+    // when
+    chatSessionRegistry.handleUserWithdrawn(new UserWithdrawnEvent(USER_ID));
+
+    // then
+    CustomException customException = assertThrows(CustomException.class,
+        () -> chatChannelInterceptor.preSend(subscribe("/topic/chat/" + CHAT_ROOM_ID), channel));
+    assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.CHAT_ACCESS_DENIED);
+    assertThat(chatSessionRegistry.sessionCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("채팅 이외의 목적지(시그널링)는 인증 없이 통과")
+  void send_SignalingDestination_PassesThrough() {
+    // when
+    chatChannelInterceptor.preSend(connect(null), channel);
+    chatChannelInterceptor.preSend(send("/app/peer/offer/key/room"), channel);
+    chatChannelInterceptor.preSend(subscribe("/topic/peer/offer/key/room"), channel);
+
+    // then
+    verify(jwtProvider, never()).validateToken(anyString());
+    verifyNoInteractions(chatRoomRepository, studentRepository);
+  }
+
+  private static Message<byte[]> connect(String authorization) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+    if (authorization != null) {
+      accessor.setNativeHeader("Authorization", authorization);
+    }
+    return message(accessor);
+  }
+
+  private static Message<byte[]> send(String destination) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+    accessor.setDestination(destination);
+    return message(accessor);
+  }
+
+  private static Message<byte[]> subscribe(String destination) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+    accessor.setDestination(destination);
+    return message(accessor);
+  }
+
+  private static Message<byte[]> message(StompHeaderAccessor accessor) {
+    accessor.setSessionId(SESSION_ID);
+    accessor.setLeaveMutable(true);
+    return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+  }
+
+  private static UsernamePasswordAuthenticationToken authentication() {
+    User user = User.builder().id(USER_ID).nickname("testNickname").build();
+    return new UsernamePasswordAuthenticationToken(user, null, Collections.emptyList());
+  }
+
+  private static ChatRoom chatRoom() {
+    Study study = Study.builder().id(STUDY_ID).build();
+    return ChatRoom.builder().id(CHAT_ROOM_ID).study(study).build();
+  }
+}
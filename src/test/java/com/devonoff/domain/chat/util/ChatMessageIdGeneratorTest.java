@@ -0,0 +1,101 @@
+package com.devonoff.domain.chat.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+class ChatMessageIdGeneratorTest {
+
+  // 2024-11-01T00:00:00Z
+  private static final long NOW = 1730419200000L;
+  private static final int SEQUENCE_SIZE = 1 << 12;
+
+  private ChatMessageIdGenerator generator;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    given(valueOperations.increment("ChatMessage:workerId")).willReturn(1029L);
+    generator = new ChatMessageIdGenerator(redisTemplate);
+    generator.init();
+  }
+
+  @DisplayName("서버 번호는 발급받은 번호의 하위 10비트를 사용한다")
+  @Test
+  void init_UsesLowerBitsOfIssuedWorkerId() {
+    assertThat(generator.getWorkerId()).isEqualTo(5L);
+  }
+
+  @DisplayName("같은 밀리초와 다음 밀리초에 발급한 ID 는 항상 증가한다")
+  @Test
+  void nextId_Increases() {
+    // When
+    long first = generator.nextId(NOW);
+    long second = generator.nextId(NOW);
+    long third = generator.nextId(NOW + 1);
+
+    // Then
+    assertThat(second).isEqualTo(first + 1);
+    assertThat(third).isGreaterThan(second);
+  }
+
+  @DisplayName("한 밀리초의 순번을 모두 쓰면 다음 밀리초로 넘어가 계속 증가한다")
+  @Test
+  void nextId_SequenceWrapsIntoNextMillisecond() {
+    // Given
+    long last = generator.nextId(NOW);
+    for (int i = 1; i < SEQUENCE_SIZE; i++) {
+      long id = generator.nextId(NOW);
+      assertThat(id).isGreaterThan(last);
+      last = id;
+    }
+
+    // When
+    long wrapped = generator.nextId(NOW);
+    long next = generator.nextId(NOW + 1);
+
+    // Then
+    assertThat(wrapped).isGreaterThan(last);
+    assertThat(wrapped).isGreaterThanOrEqualTo(ChatMessageIdGenerator.firstIdAt(NOW + 1));
+    assertThat(next).isGreaterThan(wrapped);
+  }
+
+  @DisplayName("시계가 뒤로 가도 마지막 시각 기준으로 계속 증가한다")
+  @Test
+  void nextId_ClockMovesBackwards() {
+    // Given
+    long before = generator.nextId(NOW);
+
+    // When
+    long afterRollback = generator.nextId(NOW - 5_000L);
+    long recovered = generator.nextId(NOW + 1);
+
+    // Then
+    assertThat(afterRollback).isGreaterThan(before);
+    assertThat(afterRollback).isLessThan(ChatMessageIdGenerator.firstIdAt(NOW + 1));
+    assertThat(recovered).isGreaterThan(afterRollback);
+  }
+
+  @DisplayName("firstIdAt 은 그 밀리초에 발급한 ID 이하이고 이전 밀리초에 발급한 ID 보다 크다")
+  @Test
+  void firstIdAt_MatchesIssuedIds() {
+    // When
+    long previous = generator.nextId(NOW - 1);
+    long issued = generator.nextId(NOW);
+
+    // Then
+    assertThat(ChatMessageIdGenerator.firstIdAt(NOW)).isLessThanOrEqualTo(issued);
+    assertThat(ChatMessageIdGenerator.firstIdAt(NOW)).isGreaterThan(previous);
+    assertThat(ChatMessageIdGenerator.firstIdAt(NOW + 1)).isGreaterThan(issued);
+    assertThat(ChatMessageIdGenerator.firstIdAt(0L)).isZero();
+  }
+}
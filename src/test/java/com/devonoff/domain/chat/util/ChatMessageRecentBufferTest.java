@@ -0,0 +1,59 @@
+package com.devonoff.domain.chat.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devonoff.domain.chat.dto.ChatMessageDto;
+import com.devonoff.domain.chat.util.ChatMessageRecentBuffer.RecentMessages;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChatMessageRecentBufferTest {
+
+  private static final int CAPACITY = ChatMessageRecentBuffer.CAPACITY;
+
+  @DisplayName("버퍼를 채울 때 아직 DB 에 저장되지 않은 메시지를 합치고 메시지 수에 더한다")
+  @Test
+  void merge_IncludesMessagesNotYetFlushed() {
+    // Given
+    List<ChatMessageDto> loaded = messages(5, 1); // DB: 1 ~ 5
+    List<ChatMessageDto> buffered = messages(3, 5); // 버퍼: 5 ~ 7 (6, 7 은 저장 대기 중)
+
+    // When
+    RecentMessages merged = ChatMessageRecentBuffer.merge(loaded, 5, buffered);
+
+    // Then
+    assertThat(merged.getMessages()).extracting(ChatMessageDto::getId)
+        .containsExactly(7L, 6L, 5L, 4L, 3L, 2L, 1L);
+    assertThat(merged.getTotal()).isEqualTo(7);
+  }
+
+  @DisplayName("DB 조회 범위보다 오래된 버퍼 메시지는 메시지 수에 더하지 않고 CAPACITY 개까지만 남긴다")
+  @Test
+  void merge_KeepsNewestCapacityMessages() {
+    // Given
+    List<ChatMessageDto> loaded = messages(CAPACITY, 1_001); // DB 최근 CAPACITY 개
+    List<ChatMessageDto> buffered = List.of(message(900L), message(2_000L));
+
+    // When
+    RecentMessages merged = ChatMessageRecentBuffer.merge(loaded, 5_000, buffered);
+
+    // Then
+    assertThat(merged.getMessages()).hasSize(CAPACITY);
+    assertThat(merged.getMessages().get(0).getId()).isEqualTo(2_000L);
+    assertThat(merged.getMessages()).extracting(ChatMessageDto::getId).doesNotContain(900L);
+    assertThat(merged.getTotal()).isEqualTo(5_001);
+  }
+
+  // 최신순 메시지 (ID: firstId + count - 1 ~ firstId)
+  private static List<ChatMessageDto> messages(int count, long firstId) {
+    return LongStream.range(0, count)
+        .mapToObj(i -> message(firstId + count - 1 - i))
+        .toList();
+  }
+
+  private static ChatMessageDto message(Long id) {
+    return ChatMessageDto.builder().id(id).content("message " + id).build();
+  }
+}
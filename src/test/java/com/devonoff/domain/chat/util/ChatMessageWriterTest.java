@@ -0,0 +1,237 @@
+package com.devonoff.domain.chat.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.devonoff.domain.chat.entity.ChatMessage;
+import com.devonoff.domain.chat.entity.ChatRoom;
+import com.devonoff.domain.user.entity.User;
+import com.devonoff.exception.CustomException;
+import com.devonoff.type.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class ChatMessageWriterTest {
+
+  private JdbcTemplate jdbcTemplate;
+  private PlatformTransactionManager transactionManager;
+  private StringRedisTemplate stringRedisTemplate;
+  private ListOperations<String, String> listOperations;
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+  // 저장된 배치 (호출마다 복사본 저장)
+  private final List<List<Long>> flushedBatches = new CopyOnWriteArrayList<>();
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    jdbcTemplate = mock(JdbcTemplate.class);
+    transactionManager = mock(PlatformTransactionManager.class);
+    stringRedisTemplate = mock(StringRedisTemplate.class);
+    listOperations = mock(ListOperations.class);
+    given(stringRedisTemplate.opsForList()).willReturn(listOperations);
+    recordBatches(null, null);
+  }
+
+  @DisplayName("종료 시 큐에 남은 메시지까지 flush-size 이하의 배치로 모두 저장한다")
+  @Test
+  void stop_FlushesAllPendingMessagesInBatches() {
+    // Given
+    ChatMessageWriter writer = writer(1_000, 10, 20, 100);
+    writer.start();
+
+    // When
+    for (long id = 1; id <= 95; id++) {
+      writer.enqueue(chatMessage(id));
+    }
+    writer.stop();
+
+    // Then
+    List<Long> flushedIds = flushedBatches.stream().flatMap(List::stream).toList();
+    assertThat(flushedIds)
+        .containsExactlyElementsOf(LongStream.rangeClosed(1, 95).boxed().toList());
+    assertThat(flushedBatches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(10));
+    assertThat(writer.isRunning()).isFalse();
+    assertThat(writer.pendingCount()).isZero();
+  }
+
+  @DisplayName("큐가 가득 차면 기다린 뒤 거절하고, 이미 받은 메시지는 유실하지 않는다")
+  @Test
+  void enqueue_QueueFull_Rejects() throws InterruptedException {
+    // Given
+    CountDownLatch flushStarted = new CountDownLatch(1);
+    CountDownLatch releaseFlush = new CountDownLatch(1);
+    recordBatches(flushStarted, releaseFlush);
+
+    ChatMessageWriter writer = writer(1, 1, 10, 10);
+    writer.start();
+
+    writer.enqueue(chatMessage(1L)); // 저장 스레드가 꺼내 저장 중 (DB 지연)
+    assertThat(flushStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    writer.enqueue(chatMessage(2L)); // 큐를 가득 채움
+
+    // When
+    CustomException customException = assertThrows(CustomException.class,
+        () -> writer.enqueue(chatMessage(3L)));
+
+    // Then
+    assertThat(customException.getErrorCode()).isEqualTo(ErrorCode.CHAT_MESSAGE_QUEUE_FULL);
+
+    releaseFlush.countDown();
+    writer.stop();
+    assertThat(flushedBatches.stream().flatMap(List::stream).toList()).containsExactly(1L, 2L);
+  }
+
+  @DisplayName("저장 스레드가 동작하지 않으면 호출한 스레드에서 바로 저장한다")
+  @Test
+  void enqueue_NotRunning_InsertsImmediately() {
+    // Given
+    ChatMessageWriter writer = writer(10, 10, 20, 10);
+
+    // When
+    writer.enqueue(chatMessage(7L));
+
+    // Then
+    assertThat(flushedBatches).containsExactly(List.of(7L));
+  }
+
+  @DisplayName("종료와 동시에 들어온 메시지도 큐에 남겨 두지 않고 모두 저장한다")
+  @Test
+  void enqueue_ConcurrentWithStop_NoMessageLost() throws InterruptedException {
+    // Given
+    ChatMessageWriter writer = writer(10_000, 50, 5, 100);
+    writer.start();
+    int threads = 8;
+    int perThread = 2_000;
+    CountDownLatch started = new CountDownLatch(threads);
+    List<Thread> senders = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      long base = (long) t * perThread;
+      Thread sender = new Thread(() -> {
+        started.countDown();
+        for (long id = base + 1; id <= base + perThread; id++) {
+          writer.enqueue(chatMessage(id));
+        }
+      });
+      senders.add(sender);
+      sender.start();
+    }
+
+    // When
+    started.await(5, TimeUnit.SECONDS);
+    writer.stop();
+    for (Thread sender : senders) {
+      sender.join(10_000L);
+    }
+
+    // Then
+    List<Long> flushedIds = flushedBatches.stream().flatMap(List::stream).toList();
+    assertThat(flushedIds).containsExactlyInAnyOrderElementsOf(
+        LongStream.rangeClosed(1, (long) threads * perThread).boxed().toList());
+    assertThat(writer.pendingCount()).isZero();
+  }
+
+  @DisplayName("재시도해도 저장하지 못한 배치는 버리지 않고 Redis 에 옮겨 둔다")
+  @Test
+  @SuppressWarnings("unchecked")
+  void flush_Failure_DefersBatchToRedis() throws Exception {
+    // Given
+    doThrow(new DataAccessResourceFailureException("down")).when(jdbcTemplate)
+        .batchUpdate(anyString(), anyList(), anyInt(),
+            any(ParameterizedPreparedStatementSetter.class));
+    ChatMessageWriter writer = writer(10, 10, 20, 10);
+    writer.start();
+
+    // When
+    writer.enqueue(chatMessage(7L));
+    writer.stop();
+
+    // Then
+    ArgumentCaptor<Collection<String>> deferred = ArgumentCaptor.forClass(Collection.class);
+    verify(listOperations).rightPushAll(eq(ChatMessageWriter.FAILED_KEY), deferred.capture());
+    assertThat(deferred.getValue()).hasSize(1);
+    ChatMessage restored = objectMapper.readValue(deferred.getValue().iterator().next(),
+        ChatMessageWriter.FailedMessage.class).toEntity();
+    assertThat(restored.getId()).isEqualTo(7L);
+    assertThat(restored.getChatRoom().getId()).isEqualTo(1L);
+  }
+
+  @DisplayName("Redis 에 옮겨 둔 메시지를 다시 저장한다")
+  @Test
+  void retryFailed_InsertsDeferredMessages() throws Exception {
+    // Given
+    given(listOperations.leftPop(ChatMessageWriter.FAILED_KEY, 10)).willReturn(List.of(
+        objectMapper.writeValueAsString(ChatMessageWriter.FailedMessage.of(chatMessage(7L))),
+        objectMapper.writeValueAsString(ChatMessageWriter.FailedMessage.of(chatMessage(8L)))));
+    ChatMessageWriter writer = writer(10, 10, 20, 10);
+
+    // When
+    writer.retryFailed();
+
+    // Then
+    assertThat(flushedBatches).containsExactly(List.of(7L, 8L));
+    verify(listOperations, never()).rightPushAll(anyString(), anyCollection());
+  }
+
+  @SuppressWarnings("unchecked")
+  private void recordBatches(CountDownLatch flushStarted, CountDownLatch releaseFlush) {
+    doAnswer(invocation -> {
+      Collection<ChatMessage> batch = invocation.getArgument(1);
+      List<Long> ids = new ArrayList<>();
+      batch.forEach(chatMessage -> ids.add(chatMessage.getId()));
+      if (flushStarted != null) {
+        flushStarted.countDown();
+        releaseFlush.await(5, TimeUnit.SECONDS);
+      }
+      flushedBatches.add(ids);
+      return new int[0][];
+    }).when(jdbcTemplate).batchUpdate(anyString(), anyList(), anyInt(),
+        any(ParameterizedPreparedStatementSetter.class));
+  }
+
+  private ChatMessageWriter writer(int queueCapacity, int flushSize, long flushIntervalMillis,
+      long offerTimeoutMillis) {
+    return new ChatMessageWriter(jdbcTemplate, transactionManager, stringRedisTemplate,
+        objectMapper, new SimpleMeterRegistry(), queueCapacity, flushSize, flushIntervalMillis,
+        offerTimeoutMillis);
+  }
+
+  private static ChatMessage chatMessage(Long id) {
+    return ChatMessage.builder()
+        .id(id)
+        .content("message " + id)
+        .createdAt(LocalDateTime.now())
+        .sender(User.builder().id(1L).build())
+        .chatRoom(ChatRoom.builder().id(1L).build())
+        .build();
+  }
+}
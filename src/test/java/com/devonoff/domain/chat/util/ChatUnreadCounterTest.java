@@ -0,0 +1,95 @@
+package com.devonoff.domain.chat.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class ChatUnreadCounterTest {
+
+  @InjectMocks
+  private ChatUnreadCounter chatUnreadCounter;
+
+  @Mock
+  private StringRedisTemplate stringRedisTemplate;
+
+  @DisplayName("읽은 위치를 여러 번 바꾸면 채팅방별 가장 뒤의 위치만 사용자당 한 번에 저장한다")
+  @Test
+  @SuppressWarnings("unchecked")
+  void flush_WritesOnlyLatestCursorPerRoom() {
+    // Given
+    chatUnreadCounter.markRead(1L, 10L, 100L);
+    chatUnreadCounter.markRead(1L, 10L, 130L);
+    chatUnreadCounter.markRead(1L, 10L, 120L); // 늦게 도착한 이전 위치
+    chatUnreadCounter.markRead(1L, 20L, 7L);
+
+    // When
+    chatUnreadCounter.flush();
+
+    // Then
+    ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+    verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class),
+        eq(List.of("ChatUser:readCursor:1")), args.capture());
+    assertThat(pairs(args.getAllValues())).containsExactlyInAnyOrder(
+        "10=" + ChatUnreadCounter.pad(130L), "20=" + ChatUnreadCounter.pad(7L));
+    assertThat(chatUnreadCounter.pendingUserCount()).isZero();
+  }
+
+  @DisplayName("저장에 실패한 읽은 위치는 남겨 두었다가 다음 flush 에서 다시 저장한다")
+  @Test
+  @SuppressWarnings("unchecked")
+  void flush_Failure_KeepsPendingCursor() {
+    // Given
+    chatUnreadCounter.markRead(1L, 10L, 100L);
+    given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+        .willThrow(new IllegalStateException("redis down"))
+        .willReturn(1L);
+
+    // When
+    chatUnreadCounter.flush();
+
+    // Then
+    assertThat(chatUnreadCounter.pendingUserCount()).isEqualTo(1);
+
+    // When
+    chatUnreadCounter.flush();
+    chatUnreadCounter.flush(); // 저장할 위치가 없으면 Redis 호출 없음
+
+    // Then
+    verify(stringRedisTemplate, times(2)).execute(any(RedisScript.class), anyList(),
+        any(Object[].class));
+    assertThat(chatUnreadCounter.pendingUserCount()).isZero();
+  }
+
+  @DisplayName("메시지 ID 는 사전순 비교가 ID 순이 되도록 0 을 채운다")
+  @Test
+  void pad_PreservesNumericOrder() {
+    assertThat(ChatUnreadCounter.pad(99L).compareTo(ChatUnreadCounter.pad(100L))).isNegative();
+    assertThat(ChatUnreadCounter.pad(Long.MAX_VALUE)).hasSize(19);
+  }
+
+  // 스크립트 인자 (TTL, 채팅방 ID, 위치, ...) -> "채팅방 ID=위치"
+  private static List<String> pairs(List<Object[]> captured) {
+    Object[] args = captured.get(captured.size() - 1);
+    return IntStream.range(0, (args.length - 1) / 2)
+        .mapToObj(i -> args[1 + i * 2] + "=" + args[2 + i * 2])
+        .collect(Collectors.toList());
+  }
+}
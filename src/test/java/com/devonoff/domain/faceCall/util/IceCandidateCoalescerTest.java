@@ -0,0 +1,92 @@
+package com.devonoff.domain.faceCall.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class IceCandidateCoalescerTest {
+
+  private static final String DESTINATION = "/topic/peer/iceCandidate/alice/7";
+
+  @Mock
+  private SimpMessagingTemplate messagingTemplate;
+
+  private IceCandidateCoalescer coalescer;
+
+  @AfterEach
+  void tearDown() {
+    if (coalescer != null) {
+      coalescer.shutdown();
+    }
+  }
+
+  @Test
+  @DisplayName("꺼져 있으면 모으지 않음 (컨트롤러에서 바로 전송)")
+  void testOffer_Disabled() {
+    // given
+    coalescer = coalescer(false, 10L, 3);
+
+    // when
+    boolean buffered = coalescer.offer("alice", "7", "c1");
+
+    // then
+    assertThat(buffered).isFalse();
+    verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+  }
+
+  @Test
+  @DisplayName("max-batch 개가 모이면 바로 JSON 배열과 개수 헤더로 전송")
+  void testOffer_MaxBatch_SentImmediately() {
+    // given
+    coalescer = coalescer(true, 60_000L, 3);
+
+    // when
+    coalescer.offer("alice", "7", "c1");
+    coalescer.offer("alice", "7", "c2");
+    coalescer.offer("alice", "7", "c3");
+
+    // then
+    verify(messagingTemplate).convertAndSend(eq(DESTINATION), eq(List.of("c1", "c2", "c3")),
+        eq(Map.<String, Object>of(IceCandidateCoalescer.COUNT_HEADER, "3")));
+    assertThat(coalescer.pendingDestinationCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("window 가 지나면 모인 후보 전송 (1개면 기존 형식)")
+  void testOffer_WindowElapsed_Sent() {
+    // given
+    coalescer = coalescer(true, 10L, 16);
+
+    // when
+    coalescer.offer("alice", "7", "c1");
+    coalescer.offer("bob", "7", "c2");
+    coalescer.offer("bob", "7", "c3");
+
+    // then
+    verify(messagingTemplate, timeout(1000)).convertAndSend(DESTINATION, "c1");
+    verify(messagingTemplate, timeout(1000)).convertAndSend(
+        eq("/topic/peer/iceCandidate/bob/7"), eq(List.of("c2", "c3")),
+        eq(Map.<String, Object>of(IceCandidateCoalescer.COUNT_HEADER, "2")));
+  }
+
+  private IceCandidateCoalescer coalescer(boolean enabled, long windowMillis, int maxBatch) {
+    return new IceCandidateCoalescer(messagingTemplate, new SimpleMeterRegistry(), enabled,
+        windowMillis, maxBatch);
+  }
+}
@@ -0,0 +1,139 @@
+package com.devonoff.domain.faceCall.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+/**
+ * ICE 후보 묶어 보내기 벤치마크 (./gradlew benchmark)
+ * <p>
+ * 여러 통화가 동시에 연결되며 각 피어가 ICE 후보를 짧은 간격으로 보내는 상황을 재현합니다. 브로커 전달과 클라이언트
+ * 깨우기 비용은 프레임마다 고정 시간을 쓰는 단일 스레드로 흉내 내며, 묶어 보내기 끔/켬에 따라 전달 프레임 수와 피어마다
+ * 첫 후보를 보낸 뒤 마지막 후보를 받기까지의 시간(연결 준비 시간)을 비교합니다.
+ */
+@Tag("benchmark")
+class IceCandidateCoalescingBenchmarkTest {
+
+  private static final int PEERS = 200;
+  private static final int CANDIDATES_PER_PEER = 20;
+  private static final long CANDIDATE_INTERVAL_MICROS = 200L;
+  private static final long FRAME_COST_MICROS = 50L;
+  private static final int MAX_BATCH = 16;
+
+  @Test
+  void benchmarkIceCandidateCoalescing() throws Exception {
+    System.out.printf("%-16s %-10s %-12s %-12s %-12s%n",
+        "mode", "frames", "per-frame", "p50(ms)", "p99(ms)");
+    run("off", false, 0L);
+    run("window=5ms", true, 5L);
+    run("window=10ms", true, 10L);
+  }
+
+  private void run(String mode, boolean enabled, long windowMillis) throws Exception {
+    DispatchChannel channel = new DispatchChannel();
+    SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate(channel);
+    messagingTemplate.setMessageConverter(new CompositeMessageConverter(
+        List.of(new StringMessageConverter(), new MappingJackson2MessageConverter())));
+    IceCandidateCoalescer coalescer = new IceCandidateCoalescer(messagingTemplate,
+        new SimpleMeterRegistry(), enabled, windowMillis, MAX_BATCH);
+
+    ExecutorService peers = Executors.newFixedThreadPool(16);
+    CountDownLatch start = new CountDownLatch(1);
+    for (int peer = 0; peer < PEERS; peer++) {
+      String nickname = "peer" + peer;
+      peers.execute(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        channel.startedAt.put("/topic/peer/iceCandidate/" + nickname + "/1", System.nanoTime());
+        for (int i = 0; i < CANDIDATES_PER_PEER; i++) {
+          String candidate = "candidate:" + i + " 1 udp 2122260223 192.168.0." + i + " 5000"
+              + " typ host generation 0";
+          // 컨트롤러와 같은 처리 (모으지 않으면 바로 전송)
+          if (!coalescer.offer(nickname, "1", candidate)) {
+            messagingTemplate.convertAndSend("/topic/peer/iceCandidate/" + nickname + "/1",
+                candidate);
+          }
+          LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(CANDIDATE_INTERVAL_MICROS));
+        }
+      });
+    }
+
+    start.countDown();
+    assertThat(channel.completed.await(1, TimeUnit.MINUTES)).isTrue();
+    peers.shutdown();
+    coalescer.shutdown();
+    channel.dispatcher.shutdown();
+
+    List<Long> latencies = new ArrayList<>(channel.setupNanos);
+    Collections.sort(latencies);
+    System.out.printf("%-16s %-10d %-12.1f %-12.2f %-12.2f%n", mode, channel.frames.get(),
+        (double) PEERS * CANDIDATES_PER_PEER / channel.frames.get(),
+        percentileMillis(latencies, 0.5), percentileMillis(latencies, 0.99));
+  }
+
+  private static double percentileMillis(List<Long> sorted, double percentile) {
+    int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+    return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+  }
+
+  /**
+   * 프레임마다 FRAME_COST_MICROS 를 쓰는 단일 스레드 전달 (브로커 -> 구독자)
+   */
+  private static class DispatchChannel implements MessageChannel {
+
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor();
+    private final AtomicInteger frames = new AtomicInteger();
+    private final Map<String, Long> startedAt = new ConcurrentHashMap<>();
+    private final Map<String, Integer> received = new ConcurrentHashMap<>();
+    private final List<Long> setupNanos = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch completed = new CountDownLatch(PEERS);
+
+    @Override
+    public boolean send(Message<?> message, long timeout) {
+      dispatcher.execute(() -> deliver(message));
+      return true;
+    }
+
+    private void deliver(Message<?> message) {
+      long spinUntil = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(FRAME_COST_MICROS);
+      while (System.nanoTime() < spinUntil) {
+        Thread.onSpinWait();
+      }
+      frames.incrementAndGet();
+
+      SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+      String count = accessor.getFirstNativeHeader(IceCandidateCoalescer.COUNT_HEADER);
+      String destination = accessor.getDestination();
+      int total = received.merge(destination, count == null ? 1 : Integer.parseInt(count),
+          Integer::sum);
+      if (total == CANDIDATES_PER_PEER) {
+        setupNanos.add(System.nanoTime() - startedAt.get(destination));
+        completed.countDown();
+      }
+    }
+  }
+}
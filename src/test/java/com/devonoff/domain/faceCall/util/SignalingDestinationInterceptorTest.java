@@ -0,0 +1,66 @@
+package com.devonoff.domain.faceCall.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+class SignalingDestinationInterceptorTest {
+
+  private final MessageChannel channel = mock(MessageChannel.class);
+  private final StudySessionRegistry studySessionRegistry = new StudySessionRegistry();
+  private final SignalingDestinationInterceptor interceptor =
+      new SignalingDestinationInterceptor(studySessionRegistry);
+
+  @Test
+  @DisplayName("이전 캠 키 구독/전송 - 세션의 스터디 목적지로 변환")
+  void testPreSend_LegacyDestination_RewrittenToStudy() {
+    // given
+    studySessionRegistry.join("s-1", "7", "alice");
+
+    // when
+    Message<?> subscribe = interceptor.preSend(
+        frame(StompCommand.SUBSCRIBE, "s-1", "/topic/call/key"), channel);
+    Message<?> send = interceptor.preSend(
+        frame(StompCommand.SEND, "s-1", "/app/send/key"), channel);
+
+    // then
+    assertThat(destination(subscribe)).isEqualTo("/topic/call/key/7");
+    assertThat(destination(send)).isEqualTo("/app/send/key/7");
+    assertThat(StompHeaderAccessor.wrap(send).getSessionId()).isEqualTo("s-1");
+  }
+
+  @Test
+  @DisplayName("스터디를 모르는 세션, 스터디 목적지, 다른 목적지는 그대로 둠")
+  void testPreSend_NotRewritten() {
+    // given
+    studySessionRegistry.join("s-1", "7", "alice");
+    Message<byte[]> unknownSession = frame(StompCommand.SUBSCRIBE, "s-2", "/topic/call/key");
+    Message<byte[]> studyDestination = frame(StompCommand.SEND, "s-1", "/app/call/key/7");
+    Message<byte[]> otherDestination = frame(StompCommand.SEND, "s-1", "/app/chat/1/read");
+
+    // when & then
+    assertThat(interceptor.preSend(unknownSession, channel)).isSameAs(unknownSession);
+    assertThat(interceptor.preSend(studyDestination, channel)).isSameAs(studyDestination);
+    assertThat(interceptor.preSend(otherDestination, channel)).isSameAs(otherDestination);
+  }
+
+  private static String destination(Message<?> message) {
+    return StompHeaderAccessor.wrap(message).getDestination();
+  }
+
+  private static Message<byte[]> frame(StompCommand command, String sessionId,
+      String destination) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+    accessor.setSessionId(sessionId);
+    accessor.setDestination(destination);
+    accessor.setLeaveMutable(true);
+    return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+  }
+}
@@ -0,0 +1,185 @@
+package com.devonoff.domain.faceCall.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.core.MessagePostProcessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class StudyAlarmSchedulerTest {
+
+  private static final String KEY = StudyAlarmScheduler.SCHEDULE_KEY;
+
+  @Mock
+  private StringRedisTemplate stringRedisTemplate;
+
+  @Mock
+  private ZSetOperations<String, String> zSetOperations;
+
+  @Mock
+  private SimpMessagingTemplate messagingTemplate;
+
+  @Mock
+  private RedisMessageListenerContainer redisContainer;
+
+  private final StudySessionRegistry studySessionRegistry = new StudySessionRegistry();
+  private StudyAlarmScheduler studyAlarmScheduler;
+
+  @BeforeEach
+  void setUp() {
+    studyAlarmScheduler = new StudyAlarmScheduler(stringRedisTemplate, messagingTemplate,
+        studySessionRegistry, redisContainer);
+  }
+
+  @AfterEach
+  void tearDown() {
+    studyAlarmScheduler.shutdown();
+  }
+
+  @Test
+  @DisplayName("예약 - 정렬 집합에 저장하고 예약한 초에 실행해 알림 채널로 발행")
+  @SuppressWarnings("unchecked")
+  void testSchedule_FiresAtDueSecond() {
+    // given
+    given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+    given(zSetOperations.addIfAbsent(eq(KEY), eq("End:7"), anyDouble())).willReturn(true);
+    given(zSetOperations.rangeByScoreWithScores(eq(KEY), anyDouble(), anyDouble()))
+        .willReturn(Set.of());
+    given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+        .willReturn(1L);
+
+    // when
+    boolean scheduled = studyAlarmScheduler.schedule("End:7", 5L);
+    ArgumentCaptor<Double> dueAt = ArgumentCaptor.forClass(Double.class);
+    verify(zSetOperations).addIfAbsent(eq(KEY), eq("End:7"), dueAt.capture());
+    long due = dueAt.getValue().longValue();
+    studyAlarmScheduler.tick(due - 1);
+
+    // then
+    assertThat(scheduled).isTrue();
+    assertThat(studyAlarmScheduler.pendingCount()).isEqualTo(1);
+    verify(stringRedisTemplate, never()).convertAndSend(anyString(), any());
+
+    studyAlarmScheduler.tick(due);
+    verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)),
+        eq("End:7"), eq(String.valueOf(due)));
+    verify(stringRedisTemplate).convertAndSend(StudyAlarmScheduler.CHANNEL, "End:7");
+    assertThat(studyAlarmScheduler.pendingCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("재시작 - 저장된 예약 중 시간이 지난 예약은 바로 실행")
+  @SuppressWarnings("unchecked")
+  void testTick_OverdueStoredAlarm_FiredImmediately() {
+    // given
+    long now = System.currentTimeMillis() / 1000L;
+    given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+    given(zSetOperations.rangeByScoreWithScores(eq(KEY), anyDouble(), anyDouble()))
+        .willReturn(Set.of(new DefaultTypedTuple<>("Alarm:7", (double) (now - 3))));
+    given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+        .willReturn(1L);
+
+    // when
+    studyAlarmScheduler.tick(now);
+
+    // then
+    verify(stringRedisTemplate).convertAndSend(StudyAlarmScheduler.CHANNEL, "Alarm:7");
+  }
+
+  @Test
+  @DisplayName("다른 서버가 먼저 실행한 예약은 발행하지 않음")
+  @SuppressWarnings("unchecked")
+  void testTick_ClaimedByOtherServer_NotPublished() {
+    // given
+    long now = System.currentTimeMillis() / 1000L;
+    given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+    given(zSetOperations.rangeByScoreWithScores(eq(KEY), anyDouble(), anyDouble()))
+        .willReturn(Set.of(new DefaultTypedTuple<>("End:7", (double) now)));
+    given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+        .willReturn(0L);
+
+    // when
+    studyAlarmScheduler.tick(now);
+
+    // then
+    verify(stringRedisTemplate, never()).convertAndSend(anyString(), any());
+  }
+
+  @Test
+  @DisplayName("시작 - 배포 전 방식의 알림 키를 남은 시간 그대로 정렬 집합으로 옮김")
+  @SuppressWarnings("unchecked")
+  void testMigrateLegacyAlarms_MovesExpiringKeys() {
+    // given
+    Cursor<String> alarmKeys = mock(Cursor.class);
+    given(alarmKeys.hasNext()).willReturn(true, false);
+    given(alarmKeys.next()).willReturn("Alarm:7");
+    Cursor<String> endKeys = mock(Cursor.class);
+    given(endKeys.hasNext()).willReturn(true, true, false);
+    given(endKeys.next()).willReturn("End:7", "End:8");
+    given(stringRedisTemplate.scan(any(ScanOptions.class))).willReturn(alarmKeys, endKeys);
+    // End:8 은 만료 시간이 없거나 다른 서버가 먼저 옮김
+    given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any()))
+        .willReturn(1L, 1L, 0L);
+
+    // when
+    int migrated = studyAlarmScheduler.migrateLegacyAlarms(1000L);
+
+    // then
+    assertThat(migrated).isEqualTo(2);
+    verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("Alarm:7", KEY)),
+        eq("1000"));
+    verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("End:7", KEY)),
+        eq("1000"));
+    verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("End:8", KEY)),
+        eq("1000"));
+    verify(alarmKeys).close();
+    verify(endKeys).close();
+  }
+
+  @Test
+  @DisplayName("알림 채널 수신 - 이 서버에 참여 중인 스터디원에게만 전송")
+  void testOnMessage_SentToLocalMembers() {
+    // given
+    studySessionRegistry.join("s-1", "7", "alice");
+    studySessionRegistry.join("s-2", "8", "bob");
+
+    // when
+    studyAlarmScheduler.onMessage(new DefaultMessage(
+        StudyAlarmScheduler.CHANNEL.getBytes(StandardCharsets.UTF_8),
+        "End:7".getBytes(StandardCharsets.UTF_8)), null);
+
+    // then
+    verify(messagingTemplate).convertAndSend(eq("/topic/alarm/7/alice"), anyString(),
+        any(MessagePostProcessor.class));
+    verifyNoMoreInteractions(messagingTemplate);
+  }
+}
@@ -0,0 +1,85 @@
+package com.devonoff.domain.faceCall.util;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.devonoff.domain.faceCall.util.StudyRoomMetadataCache.StudyRoomMetadata;
+import java.time.LocalTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StudyManagerTest {
+
+  @Mock
+  private StudyRoomMetadataCache studyRoomMetadataCache;
+
+  @Mock
+  private TimeManager timeManager;
+
+  private StudySessionRegistry studySessionRegistry;
+  private StudyManager studyManager;
+
+  @BeforeEach
+  void setUp() {
+    studySessionRegistry = spy(new StudySessionRegistry());
+    studyManager = new StudyManager(studySessionRegistry, studyRoomMetadataCache, timeManager);
+  }
+
+  @Test
+  @DisplayName("참여 - 스터디 전원이 모이면 타이머 시작")
+  void testAddUser_AllMembersJoined_StartsTimer() {
+    // given
+    given(studyRoomMetadataCache.get("1"))
+        .willReturn(new StudyRoomMetadata(2, LocalTime.of(23, 0)));
+
+    // when
+    studyManager.addUser("1", "alice", "s1");
+    studyManager.addUser("1", "alice", "s2"); // 같은 사용자의 다른 탭
+    studyManager.addUser("1", "bob", "s3");
+
+    // then
+    verify(studyRoomMetadataCache, times(2)).get("1");
+    verify(timeManager, times(1)).startTimer("1");
+  }
+
+  @Test
+  @DisplayName("퇴장 - 전원이 모여 있던 방에서 사용자가 나가면 타이머 종료")
+  void testRemoveUser_FromFullRoom_EndsTimer() {
+    // given
+    given(studyRoomMetadataCache.get("1"))
+        .willReturn(new StudyRoomMetadata(2, LocalTime.of(23, 0)));
+    studyManager.addUser("1", "alice", "s1");
+    studyManager.addUser("1", "alice", "s2");
+    studyManager.addUser("1", "bob", "s3");
+
+    // when
+    studyManager.removeUser("s1"); // 다른 탭이 남아 있음
+    studyManager.removeUser("s2");
+    studyManager.removeUser("s2"); // 중복 퇴장 이벤트
+    studyManager.removeUser("s3");
+
+    // then
+    verify(timeManager, times(1)).endTimer("1");
+    verify(studySessionRegistry, times(3)).leave(anyString());
+  }
+
+  @Test
+  @DisplayName("퇴장 - 화상 채팅에 참여하지 않은 세션이면 아무것도 하지 않음")
+  void testRemoveUser_UnknownSession() {
+    // when
+    studyManager.removeUser("unknown");
+
+    // then
+    verify(studyRoomMetadataCache, never()).get(anyString());
+    verify(timeManager, never()).endTimer(anyString());
+  }
+}
@@ -0,0 +1,88 @@
+package com.devonoff.domain.faceCall.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.devonoff.common.event.StudyChangedEvent;
+import com.devonoff.domain.faceCall.util.StudyRoomMetadataCache.StudyRoomMetadata;
+import com.devonoff.domain.study.entity.Study;
+import com.devonoff.domain.study.repository.StudyRepository;
+import com.devonoff.exception.CustomException;
+import com.devonoff.type.ErrorCode;
+import java.time.LocalTime;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StudyRoomMetadataCacheTest {
+
+  @Mock
+  private StudyRepository studyRepository;
+
+  @InjectMocks
+  private StudyRoomMetadataCache studyRoomMetadataCache;
+
+  @Test
+  @DisplayName("방 정보 조회 - 처음 한 번만 스터디 조회")
+  void testGet_LoadedOnce() {
+    // given
+    given(studyRepository.findById(1L)).willReturn(Optional.of(study(2, 22)));
+
+    // when
+    studyRoomMetadataCache.get("1");
+    StudyRoomMetadata metadata = studyRoomMetadataCache.get("1");
+
+    // then
+    assertThat(metadata.getTotalParticipants()).isEqualTo(2);
+    assertThat(metadata.getEndTime()).isEqualTo(LocalTime.of(22, 0));
+    verify(studyRepository, times(1)).findById(1L);
+  }
+
+  @Test
+  @DisplayName("방 정보 조회 - 스터디 변경 이벤트 후 다시 조회")
+  void testGet_AfterStudyChanged_Reloaded() {
+    // given
+    given(studyRepository.findById(1L))
+        .willReturn(Optional.of(study(2, 22)), Optional.of(study(3, 23)));
+    studyRoomMetadataCache.get("1");
+
+    // when
+    studyRoomMetadataCache.onStudyChanged(new StudyChangedEvent(1L));
+    StudyRoomMetadata metadata = studyRoomMetadataCache.get("1");
+
+    // then
+    assertThat(metadata.getTotalParticipants()).isEqualTo(3);
+    assertThat(metadata.getEndTime()).isEqualTo(LocalTime.of(23, 0));
+    verify(studyRepository, times(2)).findById(1L);
+  }
+
+  @Test
+  @DisplayName("방 정보 조회 실패 - 스터디 없음")
+  void testGet_StudyNotFound() {
+    // given
+    given(studyRepository.findById(1L)).willReturn(Optional.empty());
+
+    // when
+    CustomException exception = assertThrows(CustomException.class,
+        () -> studyRoomMetadataCache.get("1"));
+
+    // then
+    assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.STUDY_NOT_FOUND);
+  }
+
+  private static Study study(int totalParticipants, int endHour) {
+    return Study.builder()
+        .id(1L)
+        .totalParticipants(totalParticipants)
+        .endTime(LocalTime.of(endHour, 0))
+        .build();
+  }
+}
@@ -0,0 +1,84 @@
+package com.devonoff.domain.faceCall.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 화상 채팅 세션 정보 동시성 스트레스 테스트 (./gradlew benchmark)
+ * <p>
+ * 여러 스레드가 적은 수의 스터디/닉네임에 몰아서 연결/해제를 수백만 번 반복합니다. 같은 닉네임의 여러 탭, 중복 해제
+ * 이벤트, 방이 비는 순간의 재참여가 섞여도 모든 연결을 끊으면 세션과 방이 남지 않고, 새 참여자 수와 퇴장한 참여자 수가
+ * 같아야 합니다.
+ */
+@Tag("benchmark")
+class StudySessionRegistryStressTest {
+
+  private static final int THREADS = 8;
+  private static final int CYCLES_PER_THREAD = 500_000;
+  private static final int STUDIES = 16;
+  private static final int NICKNAMES = 32;
+  private static final int OPEN_SESSIONS_PER_THREAD = 8; // 스레드마다 동시에 열어 두는 세션 수
+
+  @Test
+  void connectDisconnect_Concurrent_LeavesNothingBehind() throws Exception {
+    StudySessionRegistry registry = new StudySessionRegistry();
+    AtomicLong joinedMembers = new AtomicLong();
+    AtomicLong leftMembers = new AtomicLong();
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+
+    List<Future<?>> futures = new ArrayList<>();
+    for (int t = 0; t < THREADS; t++) {
+      int thread = t;
+      futures.add(executor.submit(() -> {
+        start.await();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String[] open = new String[OPEN_SESSIONS_PER_THREAD];
+        for (int i = 0; i < CYCLES_PER_THREAD; i++) {
+          int slot = i % OPEN_SESSIONS_PER_THREAD;
+          if (open[slot] != null) {
+            leftMembers.addAndGet(Math.min(registry.leave(open[slot]), 1));
+            if (random.nextInt(10) == 0) {
+              registry.leave(open[slot]); // 중복 해제 이벤트
+            }
+          }
+          String sessionId = thread + "-" + i;
+          int joined = registry.join(sessionId, String.valueOf(random.nextInt(STUDIES)),
+              "user" + random.nextInt(NICKNAMES));
+          joinedMembers.addAndGet(Math.min(joined, 1));
+          open[slot] = sessionId;
+        }
+        for (String sessionId : open) {
+          leftMembers.addAndGet(Math.min(registry.leave(sessionId), 1));
+        }
+        return null;
+      }));
+    }
+
+    long startedAt = System.nanoTime();
+    start.countDown();
+    for (Future<?> future : futures) {
+      future.get(5, TimeUnit.MINUTES);
+    }
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    executor.shutdown();
+
+    System.out.printf("%d connect/disconnect cycles in %dms (%.0f cycles/s)%n",
+        (long) THREADS * CYCLES_PER_THREAD, elapsedMillis,
+        THREADS * CYCLES_PER_THREAD * 1000.0 / Math.max(elapsedMillis, 1));
+    assertThat(registry.sessionCount()).isZero();
+    assertThat(registry.roomCount()).isZero();
+    assertThat(leftMembers.get()).isEqualTo(joinedMembers.get());
+  }
+}
@@ -0,0 +1,100 @@
+package com.devonoff.domain.faceCall.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StudySessionRegistryTest {
+
+  private final StudySessionRegistry registry = new StudySessionRegistry();
+
+  @Test
+  @DisplayName("참여 - 처음 참여한 닉네임이면 참여 후 인원 반환")
+  void testJoin_NewMember() {
+    // when
+    int first = registry.join("s1", "1", "alice");
+    int second = registry.join("s2", "1", "bob");
+
+    // then
+    assertThat(first).isEqualTo(1);
+    assertThat(second).isEqualTo(2);
+    assertThat(registry.memberCount("1")).isEqualTo(2);
+    assertThat(registry.getSession("s2").getNickname()).isEqualTo("bob");
+  }
+
+  @Test
+  @DisplayName("참여 - 같은 닉네임의 추가 세션, 이미 등록된 세션이면 0 반환")
+  void testJoin_ExistingMemberOrSession() {
+    // given
+    registry.join("s1", "1", "alice");
+
+    // when
+    int anotherTab = registry.join("s2", "1", "alice");
+    int duplicated = registry.join("s1", "1", "alice");
+
+    // then
+    assertThat(anotherTab).isZero();
+    assertThat(duplicated).isZero();
+    assertThat(registry.memberCount("1")).isEqualTo(1);
+    assertThat(registry.sessionCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("퇴장 - 닉네임의 마지막 세션이 나갈 때만 퇴장 전 인원 반환")
+  void testLeave_LastSessionOfMember() {
+    // given
+    registry.join("s1", "1", "alice");
+    registry.join("s2", "1", "alice");
+    registry.join("s3", "1", "bob");
+
+    // when
+    int firstTab = registry.leave("s1");
+    int lastTab = registry.leave("s2");
+
+    // then
+    assertThat(firstTab).isZero();
+    assertThat(lastTab).isEqualTo(2);
+    assertThat(registry.memberCount("1")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("퇴장 - 같은 세션으로 여러 번 나가도 한 번만 처리하고, 빈 방은 삭제")
+  void testLeave_Twice_RemovesEmptyRoom() {
+    // given
+    registry.join("s1", "1", "alice");
+
+    // when
+    int first = registry.leave("s1");
+    int second = registry.leave("s1");
+    int unknown = registry.leave("unknown");
+
+    // then
+    assertThat(first).isEqualTo(1);
+    assertThat(second).isZero();
+    assertThat(unknown).isZero();
+    assertThat(registry.sessionCount()).isZero();
+    assertThat(registry.roomCount()).isZero();
+    assertThat(registry.getSession("s1")).isNull();
+  }
+
+  @Test
+  @DisplayName("참여자 순회 - 스터디별 닉네임을 한 번씩 순회, 없는 스터디는 순회하지 않음")
+  void testForEachMember() {
+    // given
+    registry.join("s1", "1", "alice");
+    registry.join("s2", "1", "alice");
+    registry.join("s3", "1", "bob");
+    registry.join("s4", "2", "carol");
+
+    // when
+    List<String> members = new ArrayList<>();
+    registry.forEachMember("1", members::add);
+    registry.forEachMember("3", members::add);
+
+    // then
+    assertThat(members).containsExactlyInAnyOrder("alice", "bob");
+  }
+}
@@ -0,0 +1,106 @@
+package com.devonoff.domain.faceCall.util;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.devonoff.domain.studyTimeline.util.StudyTimelineWriter;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class TimeManagerTest {
+
+  @Mock
+  private StringRedisTemplate stringRedisTemplate;
+
+  @Mock
+  private StudyTimelineWriter studyTimelineWriter;
+
+  @Mock
+  private HashOperations<String, Object, Object> hashOperations;
+
+  @InjectMocks
+  private TimeManager timeManager;
+
+  @Test
+  @DisplayName("재시작 후 다시 모이면 저장된 시작 시각부터 이어서 기록")
+  @SuppressWarnings("unchecked")
+  void testStartTimer_ResumesStoredStart() {
+    // given
+    long storedAt = System.currentTimeMillis() - 60_000L;
+    given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+        .willReturn(String.valueOf(storedAt));
+    given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any()))
+        .willReturn(String.valueOf(storedAt));
+
+    // when
+    timeManager.startTimer("1");
+    timeManager.endTimer("1");
+
+    // then
+    verify(studyTimelineWriter).enqueue(eq(1L), eq(toLocalDateTime(storedAt)),
+        any(LocalDateTime.class));
+  }
+
+  @Test
+  @DisplayName("Redis 에 저장하지 못해도 이 서버의 시작 시각으로 기록")
+  @SuppressWarnings("unchecked")
+  void testEndTimer_RedisFailure_UsesLocalStart() {
+    // given
+    given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+        .willThrow(new RedisConnectionFailureException("down"));
+    given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any()))
+        .willThrow(new RedisConnectionFailureException("down"));
+
+    // when
+    timeManager.startTimer("1");
+    timeManager.endTimer("1");
+
+    // then
+    verify(studyTimelineWriter).enqueue(eq(1L), any(LocalDateTime.class),
+        any(LocalDateTime.class));
+  }
+
+  @Test
+  @DisplayName("확인 시각이 오래된 기록은 마지막 확인 시각에 끝난 구간으로 저장")
+  @SuppressWarnings("unchecked")
+  void testHeartbeat_StaleTimer_Expired() {
+    // given
+    long now = System.currentTimeMillis();
+    long startedAt = now - 3_600_000L;
+    long heartbeatAt = now - 600_000L;
+    given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+    given(hashOperations.entries(TimeManager.HEARTBEAT_KEY))
+        .willReturn(Map.of("7", String.valueOf(heartbeatAt), "8", String.valueOf(now)));
+    given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), eq("7"),
+        eq(String.valueOf(heartbeatAt)))).willReturn(String.valueOf(startedAt));
+
+    // when
+    timeManager.heartbeat();
+
+    // then
+    verify(studyTimelineWriter).enqueue(7L, toLocalDateTime(startedAt),
+        toLocalDateTime(heartbeatAt));
+    verify(studyTimelineWriter, never()).enqueue(eq(8L), any(), any());
+  }
+
+  private static LocalDateTime toLocalDateTime(long epochMillis) {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+  }
+}
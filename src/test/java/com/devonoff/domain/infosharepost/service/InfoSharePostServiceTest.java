@@ -8,6 +8,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -17,6 +18,7 @@ import com.devonoff.domain.infosharepost.entity.InfoShareComment;
 import com.devonoff.domain.infosharepost.entity.InfoSharePost;
 import com.devonoff.domain.infosharepost.repository.InfoShareCommentRepository;
 import com.devonoff.domain.infosharepost.repository.InfoSharePostRepository;
+import com.devonoff.domain.infosharepost.util.InfoSharePostTitleIndex;
 import com.devonoff.domain.infosharepost.repository.InfoShareReplyRepository;
 import com.devonoff.domain.photo.service.PhotoService;
 import com.devonoff.domain.infosharepost.dto.InfoShareCommentDto;
@@ -73,6 +75,9 @@ class InfoSharePostServiceTest {
   @Mock
   private AuthService authService;
 
+  @Mock
+  private InfoSharePostTitleIndex infoSharePostTitleIndex;
+
   @BeforeEach
   void setUp() {
     MockitoAnnotations.openMocks(this);
@@ -147,26 +152,24 @@ class InfoSharePostServiceTest {
   @DisplayName("정보공유 게시글 삭제 - 성공")
   void testDeleteInfoSharePost_Success() {
     // given
-    InfoSharePost post = InfoSharePost.builder().user(User.builder().id(1L).build()).build();
-
-    List<InfoShareComment> commentList = List.of(
-        InfoShareComment.builder().id(1L).infoSharePost(post).build(),
-        InfoShareComment.builder().id(2L).infoSharePost(post).build()
-    );
+    InfoSharePost post = InfoSharePost.builder().id(1L).thumbnailImgUrl("thumbnail-url")
+        .user(User.builder().id(1L).build()).build();
 
     when(infoSharePostRepository.findById(1L)).thenReturn(Optional.of(post));
     when(authService.getLoginUserId()).thenReturn(1L); // Mock 로그인 사용자 ID
-    doNothing().when(photoService).delete(anyString());
-    when(infoShareCommentRepository.findAllByInfoSharePost(eq(post)))
-        .thenReturn(commentList);
-    doNothing().when(infoShareReplyRepository).deleteAllByComment(any(InfoShareComment.class));
-    doNothing().when(infoShareCommentRepository).deleteAllByInfoSharePost(eq(post));
+    when(infoShareReplyRepository.bulkDeleteByInfoSharePostId(eq(1L))).thenReturn(3);
+    when(infoShareCommentRepository.bulkDeleteByInfoSharePostId(eq(1L))).thenReturn(2);
 
     // when
     infoSharePostService.deleteInfoSharePost(1L);
 
     // then
+    verify(infoShareReplyRepository).bulkDeleteByInfoSharePostId(eq(1L));
+    verify(infoShareCommentRepository).bulkDeleteByInfoSharePostId(eq(1L));
+    verify(infoShareReplyRepository, never()).deleteAllByComment(any(InfoShareComment.class));
     verify(infoSharePostRepository).deleteById(1L);
+    verify(photoService).deleteAfterCommit(eq("thumbnail-url"));
+    verify(photoService, never()).delete(anyString());
   }
 
   @Test
@@ -340,6 +343,50 @@ class InfoSharePostServiceTest {
     assertEquals(2, infoSharePostComments.getSize());
   }
 
+  @Test
+  @DisplayName("정보공유 게시글 댓글 조회 - 답글은 한 번에 조회해 댓글별로 묶는다")
+  void testGetInfoSharePostComments_GroupRepliesByComment() {
+    // given
+    Long postId = 1L;
+
+    Pageable pageable = PageRequest.of(0, 12, Sort.by("createdAt").ascending());
+
+    User user1 = User.builder().id(1L).nickname("testUser1").build();
+    User user2 = User.builder().id(2L).nickname("testUser2").build();
+    InfoSharePost infoSharePost =
+        InfoSharePost.builder().id(postId).title("Test Title").user(user1).build();
+
+    // 엔티티의 답글 목록(replies)은 설정하지 않음 (지연 로딩에 의존하지 않는지 확인)
+    InfoShareComment comment1 = InfoShareComment.builder()
+        .id(1L).infoSharePost(infoSharePost).user(user1).build();
+    InfoShareComment comment2 = InfoShareComment.builder()
+        .id(2L).infoSharePost(infoSharePost).user(user2).build();
+    List<InfoShareComment> commentList = List.of(comment1, comment2);
+
+    List<InfoShareReply> replyList = List.of(
+        InfoShareReply.builder().id(1L).comment(comment1).user(user2).content("reply1").build(),
+        InfoShareReply.builder().id(2L).comment(comment1).user(user1).content("reply2").build());
+
+    when(infoSharePostRepository.findById(eq(postId))).thenReturn(Optional.of(infoSharePost));
+    when(infoShareCommentRepository.findAllByInfoSharePost(eq(infoSharePost), eq(pageable)))
+        .thenReturn(new PageImpl<>(commentList, pageable, 2));
+    when(infoShareReplyRepository.findAllByCommentInOrderByIdAsc(eq(commentList)))
+        .thenReturn(replyList);
+
+    // when
+    Page<InfoShareCommentResponse> comments =
+        infoSharePostService.getInfoSharePostComments(postId, 0);
+
+    // then
+    verify(infoShareReplyRepository, times(1)).findAllByCommentInOrderByIdAsc(eq(commentList));
+
+    InfoShareCommentResponse first = comments.getContent().get(0);
+    assertEquals(2, first.getReplies().size());
+    assertEquals("reply1", first.getReplies().get(0).getContent());
+    assertEquals("testUser2", first.getReplies().get(0).getUser().getNickname());
+    assertEquals(0, comments.getContent().get(1).getReplies().size());
+  }
+
   @Test
   @DisplayName("정보공유 게시글 댓글 조회 - 실패 (존재하지 않느 게시글)")
   void testGetInfoSharePostComment_Fail_PostNotFound() {
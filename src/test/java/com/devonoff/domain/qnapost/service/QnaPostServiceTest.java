@@ -29,6 +29,7 @@ import com.devonoff.domain.qnapost.entity.QnaReply;
 import com.devonoff.domain.qnapost.repository.QnaCommentRepository;
 import com.devonoff.domain.qnapost.repository.QnaPostRepository;
 import com.devonoff.domain.qnapost.repository.QnaReplyRepository;
+import com.devonoff.domain.qnapost.util.QnaPostTitleIndex;
 import com.devonoff.domain.user.entity.User;
 import com.devonoff.domain.user.repository.UserRepository;
 import com.devonoff.domain.user.service.AuthService;
@@ -50,6 +51,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 class QnaPostServiceTest {
 
@@ -71,6 +74,9 @@ class QnaPostServiceTest {
   @Mock
   private AuthService authService;
 
+  @Mock
+  private QnaPostTitleIndex qnaPostTitleIndex;
+
   @InjectMocks
   private QnaPostService qnaPostService;
 
@@ -147,6 +153,44 @@ class QnaPostServiceTest {
     verify(qnaPostRepository, times(1)).findAllByOrderByCreatedAtDesc(pageable);
   }
 
+  @DisplayName("getQnaPostList 성공 - 제목 인덱스 후보로 조회")
+  @Test
+  void getQnaPostList_Success_TitleIndex() {
+    // Given
+    Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt"));
+    List<Long> candidateIds = List.of(3L, 1L);
+
+    when(qnaPostTitleIndex.findCandidateIds("스터디")).thenReturn(Optional.of(candidateIds));
+    when(qnaPostRepository.findByIdInOrderByCreatedAtDesc(candidateIds, pageable))
+        .thenReturn(new PageImpl<>(Collections.emptyList()));
+
+    // When
+    Page<QnaPostDto> result = qnaPostService.getQnaPostList(pageable, " 스터디 ");
+
+    // Then
+    assertThat(result.getContent()).isEmpty();
+    verify(qnaPostRepository).findByIdInOrderByCreatedAtDesc(candidateIds, pageable);
+    verify(qnaPostRepository, never()).findByTitleContainingOrderByCreatedAtDesc(any(), any());
+  }
+
+  @DisplayName("getQnaPostList 성공 - 제목 인덱스 사용 불가 시 LIKE 검색")
+  @Test
+  void getQnaPostList_Success_TitleIndexUnavailable() {
+    // Given
+    Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    when(qnaPostTitleIndex.findCandidateIds("스터디")).thenReturn(Optional.empty());
+    when(qnaPostRepository.findByTitleContainingOrderByCreatedAtDesc("스터디", pageable))
+        .thenReturn(new PageImpl<>(Collections.emptyList()));
+
+    // When
+    Page<QnaPostDto> result = qnaPostService.getQnaPostList(pageable, "스터디");
+
+    // Then
+    assertThat(result.getContent()).isEmpty();
+    verify(qnaPostRepository).findByTitleContainingOrderByCreatedAtDesc("스터디", pageable);
+  }
+
   // =======================================================================
   // getQnaPostByUserIdList 테스트
   // =======================================================================
@@ -285,6 +329,40 @@ class QnaPostServiceTest {
     ));
   }
 
+  @Test
+  @DisplayName("질의응답 게시글 삭제 - 성공 (댓글/대댓글 일괄 삭제, 썸네일은 커밋 후 삭제)")
+  void testDeleteQnaPost_Success() {
+    // given
+    Long qnaPostId = 1L;
+    User user = User.builder().id(1L).nickname("testUser").build();
+    QnaPost qnaPost = QnaPost.builder()
+        .id(qnaPostId)
+        .title("Test Title")
+        .thumbnailUrl("thumbnail-url")
+        .user(user)
+        .build();
+
+    SecurityContextHolder.getContext()
+        .setAuthentication(new UsernamePasswordAuthenticationToken("1", null));
+    when(userRepository.findById(eq(1L))).thenReturn(Optional.of(user));
+    when(qnaPostRepository.findById(eq(qnaPostId))).thenReturn(Optional.of(qnaPost));
+
+    // when
+    try {
+      qnaPostService.deleteQnaPost(qnaPostId);
+    } finally {
+      SecurityContextHolder.clearContext();
+    }
+
+    // then
+    verify(qnaReplyRepository, times(1)).bulkDeleteByQnaPostId(eq(qnaPostId));
+    verify(qnaCommentRepository, times(1)).bulkDeleteByQnaPostId(eq(qnaPostId));
+    verify(qnaReplyRepository, never()).deleteAllByComment(any(QnaComment.class));
+    verify(qnaPostRepository, times(1)).delete(eq(qnaPost));
+    verify(photoService, times(1)).deleteAfterCommit(eq("thumbnail-url"));
+    verify(photoService, never()).delete(any());
+  }
+
   @Test
   @DisplayName("질의응답 게시글 댓글 생성 - 성공")
   void testCreateQnaPostComment_Success() {
@@ -438,6 +516,45 @@ class QnaPostServiceTest {
     assertEquals(2, qnaPostComments.getSize());
   }
 
+  @Test
+  @DisplayName("질의응답 게시글 댓글 조회 - 답글은 한 번에 조회해 댓글별로 묶는다")
+  void testGetQnaPostComments_GroupRepliesByComment() {
+    // given
+    Long postId = 1L;
+
+    Pageable pageable = PageRequest.of(0, 12, Sort.by("createdAt").ascending());
+
+    User user1 = User.builder().id(1L).nickname("testUser1").build();
+    User user2 = User.builder().id(2L).nickname("testUser2").build();
+    QnaPost qnaPost = QnaPost.builder().id(postId).title("Test Title").user(user1).build();
+
+    // 엔티티의 답글 목록(replies)은 설정하지 않음 (지연 로딩에 의존하지 않는지 확인)
+    QnaComment comment1 = QnaComment.builder().id(1L).qnaPost(qnaPost).user(user1).build();
+    QnaComment comment2 = QnaComment.builder().id(2L).qnaPost(qnaPost).user(user2).build();
+    List<QnaComment> commentList = List.of(comment1, comment2);
+
+    List<QnaReply> replyList = List.of(
+        QnaReply.builder().id(1L).comment(comment1).user(user2).content("reply1").build(),
+        QnaReply.builder().id(2L).comment(comment1).user(user1).content("reply2").build());
+
+    when(qnaPostRepository.findById(eq(postId))).thenReturn(Optional.of(qnaPost));
+    when(qnaCommentRepository.findAllByQnaPost(eq(qnaPost), eq(pageable)))
+        .thenReturn(new PageImpl<>(commentList, pageable, 2));
+    when(qnaReplyRepository.findAllByCommentInOrderByIdAsc(eq(commentList))).thenReturn(replyList);
+
+    // when
+    Page<QnaCommentResponse> comments = qnaPostService.getQnaPostComments(postId, 0);
+
+    // then
+    verify(qnaReplyRepository, times(1)).findAllByCommentInOrderByIdAsc(eq(commentList));
+
+    QnaCommentResponse first = comments.getContent().get(0);
+    assertEquals(2, first.getReplies().size());
+    assertEquals("reply1", first.getReplies().get(0).getContent());
+    assertEquals("testUser2", first.getReplies().get(0).getUser().getNickname());
+    assertEquals(0, comments.getContent().get(1).getReplies().size());
+  }
+
   @Test
   @DisplayName("질의응답 게시글 댓글 조회 - 실패 (존재하지 않느 게시글)")
   void testGetQnaPostComment_Fail_PostNotFound() {
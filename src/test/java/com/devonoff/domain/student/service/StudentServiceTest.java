@@ -2,10 +2,12 @@ package com.devonoff.domain.student.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.devonoff.common.event.StudentRemovedEvent;
 import com.devonoff.domain.student.entity.Student;
 import com.devonoff.domain.student.repository.StudentRepository;
 import com.devonoff.domain.study.entity.Study;
@@ -20,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class StudentServiceTest {
@@ -33,6 +36,9 @@ class StudentServiceTest {
   @Mock
   private StudyRepository studyRepository;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @Test
   @DisplayName("스터디에서 특정 참가자 삭제 성공")
   void removeStudent_Success() {
@@ -64,6 +70,9 @@ class StudentServiceTest {
     verify(studentRepository).delete(student);
     verify(studentRepository).countParticipantsByStudy(study);
     verify(studyRepository).save(study);
+    verify(eventPublisher).publishEvent(argThat((Object event) ->
+        event instanceof StudentRemovedEvent removed
+            && removed.getUserId().equals(100L) && removed.getStudyId().equals(studyId)));
   }
 
   @Test
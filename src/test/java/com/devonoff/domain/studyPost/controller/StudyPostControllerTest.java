@@ -2,6 +2,7 @@ package com.devonoff.domain.studyPost.controller;
 
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -26,7 +27,9 @@ import com.devonoff.domain.studyPost.dto.StudyCommentDto;
 import com.devonoff.domain.studyPost.dto.StudyCommentRequest;
 import com.devonoff.domain.studyPost.dto.StudyCommentResponse;
 import com.devonoff.domain.studyPost.dto.StudyPostCreateRequest;
+import com.devonoff.domain.studyPost.dto.StudyPostCursorResponse;
 import com.devonoff.domain.studyPost.dto.StudyPostDto;
+import com.devonoff.domain.studyPost.dto.StudyPostFacetResponse;
 import com.devonoff.domain.studyPost.dto.StudyPostUpdateRequest;
 import com.devonoff.domain.studyPost.dto.StudyReplyDto;
 import com.devonoff.domain.studyPost.dto.StudyReplyRequest;
@@ -273,6 +276,65 @@ class StudyPostControllerTest {
         .andExpect(jsonPath("$.content[0].user.id").value(11L));
   }
 
+  @DisplayName("스터디 모집글 커서 검색 성공")
+  @Test
+  void searchStudyPostsByCursor_Success() throws Exception {
+    // Given
+    StudyPostDto studyPostDto = new StudyPostDto();
+    studyPostDto.setId(1L);
+    studyPostDto.setTitle("코딩 테스트 준비");
+
+    StudyPostCursorResponse response = StudyPostCursorResponse.builder()
+        .content(List.of(studyPostDto))
+        .nextCursor("next-cursor")
+        .hasNext(true)
+        .build();
+
+    when(studyPostService.searchStudyPostsByCursor(any(), eq("cursor"), eq(1), eq(false)))
+        .thenReturn(response);
+
+    // When & Then
+    mockMvc.perform(get("/api/study-posts/search/cursor")
+            .param("meetingType", "ONLINE")
+            .param("title", "코테")
+            .param("cursor", "cursor")
+            .param("size", "1")
+            .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content", hasSize(1)))
+        .andExpect(jsonPath("$.content[0].id").value(1L))
+        .andExpect(jsonPath("$.nextCursor").value("next-cursor"))
+        .andExpect(jsonPath("$.hasNext").value(true))
+        .andExpect(jsonPath("$.totalCount").value(nullValue()));
+  }
+
+  @DisplayName("스터디 모집글 검색 패싯 개수 조회 성공")
+  @Test
+  void getStudyPostFacets_Success() throws Exception {
+    // Given
+    StudyPostFacetResponse facets = StudyPostFacetResponse.empty();
+    facets.setTotalCount(5L);
+    facets.getSubjects().put(StudySubject.PROJECT, 5L);
+    facets.getDifficulties().put(StudyDifficulty.MEDIUM, 2L);
+    facets.getMeetingTypes().put(StudyMeetingType.ONLINE, 4L);
+    facets.getDays().put("화", 1L);
+
+    when(studyPostService.getStudyPostFacets(any())).thenReturn(facets);
+
+    // When & Then
+    mockMvc.perform(get("/api/study-posts/search/facets")
+            .param("subject", "PROJECT")
+            .param("status", "RECRUITING")
+            .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.totalCount").value(5))
+        .andExpect(jsonPath("$.subjects.PROJECT").value(5))
+        .andExpect(jsonPath("$.subjects.ETC").value(0))
+        .andExpect(jsonPath("$.difficulties.MEDIUM").value(2))
+        .andExpect(jsonPath("$.meetingTypes.ONLINE").value(4))
+        .andExpect(jsonPath("$.days.화").value(1));
+  }
+
   @DisplayName("스터디 모집글 생성 성공")
   @Test
   void createStudyPost_Success() throws Exception {
@@ -0,0 +1,172 @@
+package com.devonoff.domain.studyPost.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.devonoff.config.JpaAuditingConfiguration;
+import com.devonoff.config.QueryDslConfig;
+import com.devonoff.domain.studyPost.dto.StudyCommentResponse;
+import com.devonoff.domain.studyPost.dto.StudyReplyDto;
+import com.devonoff.domain.studyPost.entity.StudyComment;
+import com.devonoff.domain.studyPost.entity.StudyPost;
+import com.devonoff.domain.studyPost.entity.StudyReply;
+import com.devonoff.domain.studyPost.util.StudyPostBitmapIndex;
+import com.devonoff.domain.studyPost.util.StudyPostGeoIndex;
+import com.devonoff.domain.studyPost.util.StudyPostTitleIndex;
+import com.devonoff.domain.user.entity.User;
+import com.devonoff.type.LoginType;
+import com.devonoff.type.StudyDifficulty;
+import com.devonoff.type.StudyMeetingType;
+import com.devonoff.type.StudyPostStatus;
+import com.devonoff.type.StudySubject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 스터디 모집글 댓글 트리 조회 쿼리 수 검증 (답글/작성자 지연 로딩으로 인한 N+1 회귀 방지)
+ */
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:devonoff;MODE=MySQL;NON_KEYWORDS=USER,VALUE",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.database=h2",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.sql.init.mode=never",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({QueryDslConfig.class, JpaAuditingConfiguration.class, StudyPostGeoIndex.class,
+    StudyPostTitleIndex.class, StudyPostBitmapIndex.class})
+class StudyCommentRepositoryQueryCountTest {
+
+  private static final int USER_COUNT = 6;
+  private static final int COMMENT_COUNT = 15;
+  private static final int REPLIES_PER_COMMENT = 3;
+
+  @Autowired
+  private StudyCommentRepository studyCommentRepository;
+
+  @Autowired
+  private StudyReplyRepository studyReplyRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private StudyPost studyPost;
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    List<User> users = new ArrayList<>();
+    for (int i = 0; i < USER_COUNT; i++) {
+      User user = User.builder()
+          .nickname("사용자" + i)
+          .email("user" + i + "@devonoff.com")
+          .password("password")
+          .isActive(true)
+          .loginType(LoginType.GENERAL)
+          .build();
+      entityManager.persist(user);
+      users.add(user);
+    }
+
+    studyPost = studyPost(users.get(0));
+    entityManager.persist(studyPost);
+
+    for (int i = 0; i < COMMENT_COUNT; i++) {
+      StudyComment comment = StudyComment.builder()
+          .studyPost(studyPost)
+          .isSecret(false)
+          .content("댓글 " + i)
+          .user(users.get(i % USER_COUNT))
+          .build();
+      entityManager.persist(comment);
+
+      for (int j = 0; j < REPLIES_PER_COMMENT; j++) {
+        entityManager.persist(StudyReply.builder()
+            .comment(comment)
+            .isSecret(false)
+            .content("답글 " + i + "-" + j)
+            .user(users.get((i + j + 1) % USER_COUNT))
+            .build());
+      }
+    }
+    entityManager.flush();
+    entityManager.clear();
+
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @DisplayName("댓글 한 페이지는 답글 수와 관계없이 댓글/count/답글 쿼리 3번으로 구성한다")
+  @Test
+  void commentTree_BoundedQueriesPerPage() {
+    // Given
+    StudyPost post = entityManager.getReference(StudyPost.class, studyPost.getId());
+
+    // When
+    Page<StudyComment> comments = studyCommentRepository.findAllByStudyPost(post,
+        PageRequest.of(0, 12, Sort.by("createdAt").ascending()));
+    Map<Long, List<StudyReplyDto>> repliesByCommentId = studyReplyRepository
+        .findAllByCommentInOrderByIdAsc(comments.getContent()).stream()
+        .map(StudyReplyDto::fromEntity)
+        .collect(Collectors.groupingBy(StudyReplyDto::getCommentId));
+    List<StudyCommentResponse> responses = comments.map(comment ->
+        StudyCommentResponse.fromEntity(comment,
+            repliesByCommentId.getOrDefault(comment.getId(), Collections.emptyList())))
+        .getContent();
+
+    // Then
+    assertEquals(12, responses.size());
+    assertEquals(COMMENT_COUNT, comments.getTotalElements());
+    responses.forEach(response -> {
+      assertEquals(REPLIES_PER_COMMENT, response.getReplies().size());
+      response.getReplies().forEach(reply -> assertEquals(response.getId(), reply.getCommentId()));
+    });
+    assertEquals(3, statistics.getPrepareStatementCount());
+  }
+
+  private StudyPost studyPost(User author) {
+    return StudyPost.builder()
+        .title("스터디 모집글")
+        .studyName("스터디")
+        .subject(StudySubject.PROJECT)
+        .difficulty(StudyDifficulty.MEDIUM)
+        .dayType(3)
+        .startDate(LocalDate.of(2024, 12, 10))
+        .endDate(LocalDate.of(2024, 12, 20))
+        .startTime(LocalTime.of(18, 0))
+        .endTime(LocalTime.of(20, 0))
+        .meetingType(StudyMeetingType.ONLINE)
+        .recruitmentPeriod(LocalDate.of(2024, 12, 5))
+        .description("설명")
+        .status(StudyPostStatus.RECRUITING)
+        .maxParticipants(5)
+        .currentParticipants(0)
+        .user(author)
+        .build();
+  }
+}
@@ -0,0 +1,160 @@
+package com.devonoff.domain.studyPost.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import com.devonoff.config.JpaAuditingConfiguration;
+import com.devonoff.config.QueryDslConfig;
+import com.devonoff.domain.studyPost.dto.StudyPostDto;
+import com.devonoff.domain.studyPost.entity.StudyPost;
+import com.devonoff.domain.studyPost.util.StudyPostBitmapIndex;
+import com.devonoff.domain.studyPost.util.StudyPostGeoIndex;
+import com.devonoff.domain.studyPost.util.StudyPostTitleIndex;
+import com.devonoff.domain.user.entity.User;
+import com.devonoff.type.LoginType;
+import com.devonoff.type.StudyDifficulty;
+import com.devonoff.type.StudyMeetingType;
+import com.devonoff.type.StudyPostStatus;
+import com.devonoff.type.StudySubject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 스터디 모집글 목록 조회 쿼리 수 검증 (작성자 지연 로딩으로 인한 N+1 회귀 방지)
+ */
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:devonoff;MODE=MySQL;NON_KEYWORDS=USER,VALUE",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.database=h2",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.sql.init.mode=never",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({QueryDslConfig.class, JpaAuditingConfiguration.class, StudyPostGeoIndex.class,
+    StudyPostTitleIndex.class, StudyPostBitmapIndex.class})
+class StudyPostRepositoryQueryCountTest {
+
+  private static final int AUTHOR_COUNT = 5;
+  private static final int POSTS_PER_AUTHOR = 3;
+
+  @Autowired
+  private StudyPostRepository studyPostRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private final List<User> authors = new ArrayList<>();
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    for (int i = 0; i < AUTHOR_COUNT; i++) {
+      User author = User.builder()
+          .nickname("작성자" + i)
+          .email("author" + i + "@devonoff.com")
+          .password("password")
+          .isActive(true)
+          .loginType(LoginType.GENERAL)
+          .build();
+      entityManager.persist(author);
+      authors.add(author);
+
+      for (int j = 0; j < POSTS_PER_AUTHOR; j++) {
+        entityManager.persist(studyPost(author, "스터디 모집글 " + i + "-" + j));
+      }
+    }
+    entityManager.flush();
+    entityManager.clear();
+
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @DisplayName("검색 결과 한 페이지는 조회 쿼리 1번으로 작성자까지 가져온다")
+  @Test
+  void findStudyPostsByFilters_SingleQueryPerPage() {
+    // When
+    Page<StudyPostDto> result = studyPostRepository.findStudyPostsByFilters(
+        StudyMeetingType.ONLINE, null, null, null, 0, StudyPostStatus.RECRUITING,
+        null, null, PageRequest.of(0, 20));
+
+    // Then
+    assertEquals(AUTHOR_COUNT * POSTS_PER_AUTHOR, result.getContent().size());
+    result.getContent().forEach(studyPost -> assertNotNull(studyPost.getUser().getNickname()));
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  @DisplayName("다음 페이지가 있으면 조회 쿼리 1번과 count 쿼리 1번만 실행한다")
+  @Test
+  void findStudyPostsByFilters_QueryAndCount() {
+    // When
+    Page<StudyPostDto> result = studyPostRepository.findStudyPostsByFilters(
+        null, null, null, null, 0, null, null, null, PageRequest.of(0, 4));
+
+    // Then
+    assertEquals(4, result.getContent().size());
+    assertEquals(AUTHOR_COUNT * POSTS_PER_AUTHOR, result.getTotalElements());
+    result.getContent().forEach(studyPost -> assertNotNull(studyPost.getUser().getNickname()));
+    assertEquals(2, statistics.getPrepareStatementCount());
+  }
+
+  @DisplayName("작성자별 모집글 목록도 조회 쿼리 1번으로 가져온다")
+  @Test
+  void findStudyPostDtosByUserId_SingleQueryPerPage() {
+    // Given
+    User author = authors.get(0);
+
+    // When
+    Page<StudyPostDto> result =
+        studyPostRepository.findStudyPostDtosByUserId(author.getId(), PageRequest.of(0, 12));
+
+    // Then
+    assertEquals(POSTS_PER_AUTHOR, result.getContent().size());
+    result.getContent().forEach(studyPost ->
+        assertEquals(author.getNickname(), studyPost.getUser().getNickname()));
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  private StudyPost studyPost(User author, String title) {
+    return StudyPost.builder()
+        .title(title)
+        .studyName("스터디")
+        .subject(StudySubject.PROJECT)
+        .difficulty(StudyDifficulty.MEDIUM)
+        .dayType(3)
+        .startDate(LocalDate.of(2024, 12, 10))
+        .endDate(LocalDate.of(2024, 12, 20))
+        .startTime(LocalTime.of(18, 0))
+        .endTime(LocalTime.of(20, 0))
+        .meetingType(StudyMeetingType.ONLINE)
+        .recruitmentPeriod(LocalDate.of(2024, 12, 5))
+        .description("설명")
+        .status(StudyPostStatus.RECRUITING)
+        .maxParticipants(5)
+        .currentParticipants(0)
+        .user(author)
+        .build();
+  }
+}
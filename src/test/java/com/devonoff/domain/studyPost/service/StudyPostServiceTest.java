@@ -1,12 +1,17 @@
 package com.devonoff.domain.studyPost.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -23,7 +28,11 @@ import com.devonoff.domain.studyPost.dto.StudyCommentDto;
 import com.devonoff.domain.studyPost.dto.StudyCommentRequest;
 import com.devonoff.domain.studyPost.dto.StudyCommentResponse;
 import com.devonoff.domain.studyPost.dto.StudyPostCreateRequest;
+import com.devonoff.domain.studyPost.dto.StudyPostCursor;
+import com.devonoff.domain.studyPost.dto.StudyPostCursorResponse;
 import com.devonoff.domain.studyPost.dto.StudyPostDto;
+import com.devonoff.domain.studyPost.dto.StudyPostFacetResponse;
+import com.devonoff.domain.studyPost.dto.StudyPostSearchCondition;
 import com.devonoff.domain.studyPost.dto.StudyPostUpdateRequest;
 import com.devonoff.domain.studyPost.dto.StudyReplyDto;
 import com.devonoff.domain.studyPost.dto.StudyReplyRequest;
@@ -33,6 +42,8 @@ import com.devonoff.domain.studyPost.entity.StudyReply;
 import com.devonoff.domain.studyPost.repository.StudyCommentRepository;
 import com.devonoff.domain.studyPost.repository.StudyPostRepository;
 import com.devonoff.domain.studyPost.repository.StudyReplyRepository;
+import com.devonoff.domain.studyPost.util.StudyPostFacetCache;
+import com.devonoff.domain.studyPost.util.StudyPostSearchCache;
 import com.devonoff.domain.studySignup.entity.StudySignup;
 import com.devonoff.domain.studySignup.repository.StudySignupRepository;
 import com.devonoff.domain.user.entity.User;
@@ -47,10 +58,12 @@ import com.devonoff.type.StudySignupStatus;
 import com.devonoff.type.StudySubject;
 import com.devonoff.util.DayTypeUtils;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -96,6 +109,12 @@ class StudyPostServiceTest {
   @Mock
   private StudyService studyService;
 
+  @Mock
+  private StudyPostFacetCache studyPostFacetCache;
+
+  @Mock
+  private StudyPostSearchCache studyPostSearchCache;
+
   @InjectMocks
   private StudyPostService studyPostService;
 
@@ -190,10 +209,12 @@ class StudyPostServiceTest {
     StudyPost studyPost2 = StudyPost.builder().id(2L).title("스터디 모집글 2").dayType(2).user(user)
         .build();
 
-    Page<StudyPost> studyPostPage = new PageImpl<>(List.of(studyPost1, studyPost2), pageable, 2);
+    Page<StudyPostDto> studyPostPage = new PageImpl<>(
+        List.of(StudyPostDto.fromEntity(studyPost1), StudyPostDto.fromEntity(studyPost2)),
+        pageable, 2);
 
     when(authService.getLoginUserId()).thenReturn(userId);
-    when(studyPostRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable)).thenReturn(studyPostPage);
+    when(studyPostRepository.findStudyPostDtosByUserId(userId, pageable)).thenReturn(studyPostPage);
 
     // When
     Page<StudyPostDto> result = studyPostService.getStudyPostsByUserId(userId, pageable);
@@ -207,7 +228,7 @@ class StudyPostServiceTest {
     assertIterableEquals(List.of("화"), result.getContent().get(1).getDayType());
 
     verify(authService, times(1)).getLoginUserId();
-    verify(studyPostRepository, times(1)).findByUserIdOrderByCreatedAtDesc(userId, pageable);
+    verify(studyPostRepository, times(1)).findStudyPostDtosByUserId(userId, pageable);
   }
 
   @DisplayName("스터디 모집글 상세 조회(userId) 실패 - 유저 없음")
@@ -257,6 +278,9 @@ class StudyPostServiceTest {
     Page<StudyPostDto> mockPage = new PageImpl<>(List.of(studyPostDto), pageable, 1);
 
     // When
+    when(studyPostSearchCache.get(any(), eq(pageable), any()))
+        .thenAnswer(invocation ->
+            invocation.<Supplier<Page<StudyPostDto>>>getArgument(2).get());
     Mockito.when(
             studyPostRepository.findStudyPostsByFilters(eq(meetingType), eq(title), eq(subject),
                 eq(difficulty), eq(dayType), eq(status), eq(latitude), eq(longitude), eq(pageable)))
@@ -277,6 +301,184 @@ class StudyPostServiceTest {
         "Difficulty should match");
   }
 
+  @DisplayName("스터디 모집글 검색 성공 - 캐시 키와 같은 정규화한 제목으로 조회")
+  @Test
+  void searchStudyPosts_Success_LoadsWithNormalizedTitle() {
+    // Given
+    Pageable pageable = PageRequest.of(0, 12);
+    Page<StudyPostDto> mockPage = new PageImpl<>(List.of(), pageable, 0);
+
+    when(studyPostSearchCache.get(any(), eq(pageable), any()))
+        .thenAnswer(invocation ->
+            invocation.<Supplier<Page<StudyPostDto>>>getArgument(2).get());
+    when(studyPostRepository.findStudyPostsByFilters(isNull(), isNull(), isNull(), isNull(),
+        eq(0), isNull(), isNull(), isNull(), eq(pageable)))
+        .thenReturn(mockPage);
+    when(studyPostRepository.findStudyPostsByFilters(isNull(), eq("java"), isNull(), isNull(),
+        eq(0), isNull(), isNull(), isNull(), eq(pageable)))
+        .thenReturn(mockPage);
+
+    // When
+    studyPostService.searchStudyPosts(null, "   ", null, null, 0, null, null, null, pageable);
+    studyPostService.searchStudyPosts(null, " Java ", null, null, 0, null, null, null,
+        pageable);
+
+    // Then
+    verify(studyPostSearchCache).get(eq(StudyPostSearchCondition.builder().build()),
+        eq(pageable), any());
+    verify(studyPostSearchCache).get(eq(StudyPostSearchCondition.builder().title("java").build()),
+        eq(pageable), any());
+    verify(studyPostRepository, never()).findStudyPostsByFilters(any(), eq("   "), any(), any(),
+        anyInt(), any(), any(), any(), any());
+  }
+
+  @DisplayName("스터디 모집글 검색 성공 - 거리순 검색은 캐시를 사용하지 않음")
+  @Test
+  void searchStudyPosts_Success_DistanceSortBypassesCache() {
+    // Given
+    Pageable pageable = PageRequest.of(0, 12);
+    Page<StudyPostDto> mockPage = new PageImpl<>(List.of(), pageable, 0);
+
+    when(studyPostRepository.findStudyPostsByFilters(eq(StudyMeetingType.HYBRID), isNull(),
+        isNull(), isNull(), eq(0), isNull(), eq(37.5665), eq(126.9780), eq(pageable)))
+        .thenReturn(mockPage);
+
+    // When
+    Page<StudyPostDto> result = studyPostService.searchStudyPosts(StudyMeetingType.HYBRID, null,
+        null, null, 0, null, 37.5665, 126.9780, pageable);
+
+    // Then
+    assertEquals(0, result.getTotalElements());
+    verify(studyPostSearchCache, never()).get(any(), any(), any());
+  }
+
+  @DisplayName("스터디 모집글 커서 검색 성공 - 다음 페이지 존재")
+  @Test
+  void searchStudyPostsByCursor_Success_HasNext() {
+    // Given
+    StudyPostSearchCondition condition = StudyPostSearchCondition.builder()
+        .meetingType(StudyMeetingType.ONLINE)
+        .build();
+
+    StudyPostDto first = new StudyPostDto();
+    first.setId(3L);
+    first.setCreatedAt(LocalDateTime.of(2024, 12, 3, 10, 0));
+    StudyPostDto second = new StudyPostDto();
+    second.setId(2L);
+    second.setCreatedAt(LocalDateTime.of(2024, 12, 2, 10, 0));
+    StudyPostDto third = new StudyPostDto();
+    third.setId(1L);
+    third.setCreatedAt(LocalDateTime.of(2024, 12, 1, 10, 0));
+
+    when(studyPostRepository.findStudyPostsByCursor(eq(condition), isNull(), eq(3)))
+        .thenReturn(List.of(first, second, third));
+
+    // When
+    StudyPostCursorResponse result =
+        studyPostService.searchStudyPostsByCursor(condition, null, 2, false);
+
+    // Then
+    assertEquals(2, result.getContent().size());
+    assertTrue(result.isHasNext());
+    assertNull(result.getTotalCount());
+
+    StudyPostCursor nextCursor = StudyPostCursor.decode(result.getNextCursor());
+    assertEquals(2L, nextCursor.getId());
+    assertEquals(LocalDateTime.of(2024, 12, 2, 10, 0), nextCursor.getCreatedAt());
+    verify(studyPostRepository, never()).countStudyPostsByFilters(any());
+  }
+
+  @DisplayName("스터디 모집글 커서 검색 성공 - 마지막 페이지, 전체 개수 포함")
+  @Test
+  void searchStudyPostsByCursor_Success_LastPageWithCount() {
+    // Given
+    StudyPostSearchCondition condition = StudyPostSearchCondition.builder()
+        .meetingType(StudyMeetingType.HYBRID)
+        .latitude(37.5665)
+        .longitude(126.9780)
+        .build();
+    String cursor = StudyPostCursor.ofDistance(1.5, 10L).encode();
+
+    StudyPostDto studyPostDto = new StudyPostDto();
+    studyPostDto.setId(11L);
+    studyPostDto.setLatitude(37.58);
+    studyPostDto.setLongitude(126.98);
+
+    when(studyPostRepository.findStudyPostsByCursor(eq(condition),
+        any(StudyPostCursor.class), eq(13)))
+        .thenReturn(List.of(studyPostDto));
+    when(studyPostRepository.countStudyPostsByFilters(condition)).thenReturn(11L);
+
+    // When
+    StudyPostCursorResponse result =
+        studyPostService.searchStudyPostsByCursor(condition, cursor, 12, true);
+
+    // Then
+    assertEquals(1, result.getContent().size());
+    assertFalse(result.isHasNext());
+    assertNull(result.getNextCursor());
+    assertEquals(11L, result.getTotalCount());
+  }
+
+  @DisplayName("스터디 모집글 커서 검색 실패 - 잘못된 커서")
+  @Test
+  void searchStudyPostsByCursor_Fail_InvalidCursor() {
+    // Given
+    StudyPostSearchCondition condition = StudyPostSearchCondition.builder().build();
+
+    // When
+    CustomException exception = assertThrows(CustomException.class,
+        () -> studyPostService.searchStudyPostsByCursor(condition, "not-a-cursor", 12, false));
+
+    // Then
+    assertEquals(ErrorCode.INVALID_CURSOR, exception.getErrorCode());
+    verify(studyPostRepository, never()).findStudyPostsByCursor(any(), any(), anyInt());
+  }
+
+  @DisplayName("스터디 모집글 커서 검색 실패 - 정렬 기준이 다른 커서")
+  @Test
+  void searchStudyPostsByCursor_Fail_CursorSortMismatch() {
+    // Given
+    StudyPostSearchCondition condition = StudyPostSearchCondition.builder().build();
+    String distanceCursor = StudyPostCursor.ofDistance(1.5, 10L).encode();
+
+    // When
+    CustomException exception = assertThrows(CustomException.class,
+        () -> studyPostService.searchStudyPostsByCursor(condition, distanceCursor, 12, false));
+
+    // Then
+    assertEquals(ErrorCode.INVALID_CURSOR, exception.getErrorCode());
+  }
+
+  @DisplayName("스터디 모집글 검색 패싯 개수 조회 성공")
+  @Test
+  void getStudyPostFacets_Success() {
+    // Given
+    StudyPostSearchCondition condition = StudyPostSearchCondition.builder()
+        .subject(StudySubject.PROJECT)
+        .build();
+
+    StudyPostFacetResponse facets = StudyPostFacetResponse.empty();
+    facets.setTotalCount(3L);
+    facets.getSubjects().put(StudySubject.PROJECT, 3L);
+    facets.getDays().put("월", 2L);
+
+    when(studyPostFacetCache.get(eq(condition), any()))
+        .thenAnswer(invocation ->
+            invocation.<Supplier<StudyPostFacetResponse>>getArgument(1).get());
+    when(studyPostRepository.countStudyPostFacets(condition)).thenReturn(facets);
+
+    // When
+    StudyPostFacetResponse result = studyPostService.getStudyPostFacets(condition);
+
+    // Then
+    assertEquals(3L, result.getTotalCount());
+    assertEquals(3L, result.getSubjects().get(StudySubject.PROJECT));
+    assertEquals(0L, result.getSubjects().get(StudySubject.ETC));
+    assertEquals(2L, result.getDays().get("월"));
+    verify(studyPostRepository, times(1)).countStudyPostFacets(condition);
+  }
+
   @DisplayName("스터디 모집글 생성 성공")
   @Test
   void createStudyPost_Success() {
@@ -924,6 +1126,46 @@ class StudyPostServiceTest {
     assertEquals(2, qnaPostComments.getSize());
   }
 
+  @Test
+  @DisplayName("스터디 모집 게시글 댓글 조회 - 답글은 한 번에 조회해 댓글별로 묶는다")
+  void testGetStudyPostComments_GroupRepliesByComment() {
+    // given
+    Long postId = 1L;
+
+    Pageable pageable = PageRequest.of(0, 12, Sort.by("createdAt").ascending());
+
+    User user1 = User.builder().id(1L).nickname("testUser1").build();
+    User user2 = User.builder().id(2L).nickname("testUser2").build();
+    StudyPost studyPost = StudyPost.builder().id(postId).title("Test Title").user(user1).build();
+
+    // 엔티티의 답글 목록(replies)은 설정하지 않음 (지연 로딩에 의존하지 않는지 확인)
+    StudyComment comment1 = StudyComment.builder().id(1L).studyPost(studyPost).user(user1).build();
+    StudyComment comment2 = StudyComment.builder().id(2L).studyPost(studyPost).user(user2).build();
+    List<StudyComment> commentList = List.of(comment1, comment2);
+
+    List<StudyReply> replyList = List.of(
+        StudyReply.builder().id(1L).comment(comment1).user(user2).content("reply1").build(),
+        StudyReply.builder().id(2L).comment(comment1).user(user1).content("reply2").build());
+
+    when(studyPostRepository.findById(eq(postId))).thenReturn(Optional.of(studyPost));
+    when(studyCommentRepository.findAllByStudyPost(eq(studyPost), eq(pageable)))
+        .thenReturn(new PageImpl<>(commentList, pageable, 2));
+    when(studyReplyRepository.findAllByCommentInOrderByIdAsc(eq(commentList)))
+        .thenReturn(replyList);
+
+    // when
+    Page<StudyCommentResponse> comments = studyPostService.getStudyPostComments(postId, 0);
+
+    // then
+    verify(studyReplyRepository, times(1)).findAllByCommentInOrderByIdAsc(eq(commentList));
+
+    StudyCommentResponse first = comments.getContent().get(0);
+    assertEquals(2, first.getReplies().size());
+    assertEquals("reply1", first.getReplies().get(0).getContent());
+    assertEquals("testUser2", first.getReplies().get(0).getUser().getNickname());
+    assertEquals(0, comments.getContent().get(1).getReplies().size());
+  }
+
   @Test
   @DisplayName("스터디 모집 게시글 댓글 조회 - 실패 (존재하지 않느 게시글)")
   void testGetQnaPostComment_Fail_PostNotFound() {
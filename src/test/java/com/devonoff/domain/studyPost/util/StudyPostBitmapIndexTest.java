@@ -0,0 +1,307 @@
+package com.devonoff.domain.studyPost.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devonoff.config.JpaAuditingConfiguration;
+import com.devonoff.config.QueryDslConfig;
+import com.devonoff.domain.studyPost.dto.StudyPostSearchCondition;
+import com.devonoff.domain.studyPost.entity.QStudyPost;
+import com.devonoff.domain.studyPost.entity.StudyPost;
+import com.devonoff.domain.studyPost.event.StudyPostChangedEvent;
+import com.devonoff.domain.studyPost.event.StudyPostSnapshot;
+import com.devonoff.domain.user.entity.User;
+import com.devonoff.type.LoginType;
+import com.devonoff.type.StudyDifficulty;
+import com.devonoff.type.StudyMeetingType;
+import com.devonoff.type.StudyPostStatus;
+import com.devonoff.type.StudySubject;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 비트맵 인덱스 필터 결과를 같은 조건의 DB 조회 결과와 비교
+ */
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:devonoff;MODE=MySQL;NON_KEYWORDS=USER,VALUE",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.database=h2",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.sql.init.mode=never"
+})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({QueryDslConfig.class, JpaAuditingConfiguration.class})
+class StudyPostBitmapIndexTest {
+
+  private static final int POST_COUNT = 300;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private JPAQueryFactory queryFactory;
+
+  private User author;
+
+  @BeforeEach
+  void setUp() {
+    author = User.builder()
+        .nickname("작성자")
+        .email("author@devonoff.com")
+        .password("password")
+        .isActive(true)
+        .loginType(LoginType.GENERAL)
+        .build();
+    entityManager.persist(author);
+  }
+
+  @DisplayName("모든 조건 조합에서 비트맵 필터 결과가 DB 조회 결과와 같다")
+  @Test
+  void filter_MatchesSql() {
+    // Given
+    Random random = new Random(42);
+    for (int i = 0; i < POST_COUNT; i++) {
+      boolean hasLocation = random.nextBoolean();
+      persist(pick(random, StudyMeetingType.values()), pick(random, StudySubject.values()),
+          pick(random, StudyDifficulty.values()), pick(random, StudyPostStatus.values()),
+          1 + random.nextInt(127), hasLocation ? 37.5 : null, hasLocation ? 127.0 : null);
+    }
+    StudyPostBitmapIndex index = loadedIndex(queryFactory);
+
+    // When & Then
+    int compared = 0;
+    for (StudyMeetingType meetingType : withNull(StudyMeetingType.values())) {
+      for (StudySubject subject : withNull(StudySubject.values())) {
+        for (StudyDifficulty difficulty : withNull(StudyDifficulty.values())) {
+          for (StudyPostStatus status : withNull(StudyPostStatus.values())) {
+            for (int dayType : new int[]{0, 1, 5, 96, 127, 128}) {
+              StudyPostSearchCondition condition = StudyPostSearchCondition.builder()
+                  .meetingType(meetingType)
+                  .subject(subject)
+                  .difficulty(difficulty)
+                  .status(status)
+                  .dayType(dayType)
+                  .latitude(dayType == 5 ? 37.0 : null)
+                  .longitude(dayType == 5 ? 127.0 : null)
+                  .build();
+              assertThat(toIds(index.filter(condition).orElseThrow()))
+                  .as("%s", condition)
+                  .isEqualTo(sqlIds(condition));
+              compared++;
+            }
+          }
+        }
+      }
+    }
+    assertThat(compared).isEqualTo((StudyMeetingType.values().length + 1)
+        * (StudySubject.values().length + 1) * (StudyDifficulty.values().length + 1)
+        * (StudyPostStatus.values().length + 1) * 6);
+  }
+
+  @DisplayName("여러 조건을 함께 주면 모든 조건과 요일 비트를 만족하는 모집글만 남는다")
+  @Test
+  void filter_CombinedCriteria() {
+    // Given
+    Long matched = persist(StudyMeetingType.HYBRID, StudySubject.PROJECT, StudyDifficulty.LOW,
+        StudyPostStatus.RECRUITING, 1 | 4 | 16, 37.5, 127.0);
+    persist(StudyMeetingType.HYBRID, StudySubject.PROJECT, StudyDifficulty.LOW,
+        StudyPostStatus.RECRUITING, 1 | 16, 37.5, 127.0); // 수요일 없음
+    persist(StudyMeetingType.HYBRID, StudySubject.PROJECT, StudyDifficulty.LOW,
+        StudyPostStatus.RECRUITING, 1 | 4 | 16, null, null); // 좌표 없음
+    persist(StudyMeetingType.HYBRID, StudySubject.PROJECT, StudyDifficulty.HIGH,
+        StudyPostStatus.RECRUITING, 1 | 4 | 16, 37.5, 127.0); // 난이도 다름
+    persist(StudyMeetingType.ONLINE, StudySubject.PROJECT, StudyDifficulty.LOW,
+        StudyPostStatus.RECRUITING, 1 | 4 | 16, 37.5, 127.0); // 모임 방식 다름
+    StudyPostBitmapIndex index = loadedIndex(queryFactory);
+
+    // When
+    BitSet result = index.filter(StudyPostSearchCondition.builder()
+        .meetingType(StudyMeetingType.HYBRID)
+        .subject(StudySubject.PROJECT)
+        .difficulty(StudyDifficulty.LOW)
+        .status(StudyPostStatus.RECRUITING)
+        .dayType(1 | 4)
+        .latitude(37.0)
+        .longitude(127.0)
+        .build()).orElseThrow();
+
+    // Then
+    assertThat(toIds(result)).containsExactly(matched);
+  }
+
+  @DisplayName("초기 적재 도중 이벤트로 반영된 모집글은 적재 시 조회한 이전 값으로 덮어쓰지 않는다")
+  @Test
+  void load_TouchedWhileLoading_NotOverwritten() {
+    // Given
+    Long updatedId = persist(StudyMeetingType.ONLINE, StudySubject.PROJECT,
+        StudyDifficulty.LOW, StudyPostStatus.RECRUITING, 1, null, null);
+    Long removedId = persist(StudyMeetingType.ONLINE, StudySubject.PROJECT,
+        StudyDifficulty.LOW, StudyPostStatus.RECRUITING, 1, null, null);
+    Long untouchedId = persist(StudyMeetingType.ONLINE, StudySubject.PROJECT,
+        StudyDifficulty.LOW, StudyPostStatus.RECRUITING, 1, null, null);
+
+    StudyPostBitmapIndex[] holder = new StudyPostBitmapIndex[1];
+    // 첫 조회 직전(적재 중)에 모집 완료 변경과 삭제 이벤트가 먼저 도착
+    JPAQueryFactory racingFactory = new JPAQueryFactory(entityManager) {
+      private boolean fired = false;
+
+      @Override
+      public JPAQuery<Tuple> select(Expression<?>... exprs) {
+        if (!fired) {
+          fired = true;
+          holder[0].onStudyPostChanged(new StudyPostChangedEvent(null,
+              snapshot(updatedId, StudyPostStatus.CLOSED)));
+          holder[0].onStudyPostChanged(new StudyPostChangedEvent(
+              snapshot(removedId, StudyPostStatus.RECRUITING), null));
+        }
+        return super.select(exprs);
+      }
+    };
+    holder[0] = new StudyPostBitmapIndex(racingFactory);
+
+    // When
+    holder[0].load();
+
+    // Then
+    StudyPostBitmapIndex index = holder[0];
+    assertThat(index.isReady()).isTrue();
+    assertThat(toIds(index.filter(status(StudyPostStatus.CLOSED)).orElseThrow()))
+        .containsExactly(updatedId);
+    assertThat(toIds(index.filter(status(StudyPostStatus.RECRUITING)).orElseThrow()))
+        .containsExactly(untouchedId);
+    assertThat(index.size()).isEqualTo(2);
+  }
+
+  @DisplayName("int 범위를 넘는 모집글 ID 가 들어오면 인덱스를 더 이상 사용하지 않는다")
+  @Test
+  void onStudyPostChanged_IdOverflow_DisablesIndex() {
+    // Given
+    persist(StudyMeetingType.ONLINE, StudySubject.PROJECT, StudyDifficulty.LOW,
+        StudyPostStatus.RECRUITING, 1, null, null);
+    StudyPostBitmapIndex index = loadedIndex(queryFactory);
+    assertThat(index.filter(status(StudyPostStatus.RECRUITING))).isPresent();
+
+    // When
+    index.onStudyPostChanged(new StudyPostChangedEvent(null,
+        snapshot((long) Integer.MAX_VALUE, StudyPostStatus.RECRUITING)));
+
+    // Then
+    assertThat(index.isReady()).isFalse();
+    assertThat(index.filter(status(StudyPostStatus.RECRUITING))).isEmpty();
+    assertThat(index.countFacets(status(StudyPostStatus.RECRUITING), null)).isEmpty();
+  }
+
+  private StudyPostBitmapIndex loadedIndex(JPAQueryFactory factory) {
+    entityManager.flush();
+    entityManager.clear();
+    StudyPostBitmapIndex index = new StudyPostBitmapIndex(factory);
+    index.load();
+    assertThat(index.isReady()).isTrue();
+    return index;
+  }
+
+  private Long persist(StudyMeetingType meetingType, StudySubject subject,
+      StudyDifficulty difficulty, StudyPostStatus status, int dayType, Double latitude,
+      Double longitude) {
+    StudyPost studyPost = StudyPost.builder()
+        .title("스터디 모집글")
+        .studyName("스터디")
+        .subject(subject)
+        .difficulty(difficulty)
+        .dayType(dayType)
+        .startDate(LocalDate.of(2024, 12, 10))
+        .endDate(LocalDate.of(2024, 12, 20))
+        .startTime(LocalTime.of(18, 0))
+        .endTime(LocalTime.of(20, 0))
+        .meetingType(meetingType)
+        .recruitmentPeriod(LocalDate.of(2024, 12, 5))
+        .description("설명")
+        .status(status)
+        .latitude(latitude)
+        .longitude(longitude)
+        .maxParticipants(5)
+        .currentParticipants(0)
+        .user(author)
+        .build();
+    entityManager.persist(studyPost);
+    return studyPost.getId();
+  }
+
+  private Set<Long> sqlIds(StudyPostSearchCondition condition) {
+    QStudyPost studyPost = QStudyPost.studyPost;
+    BooleanBuilder where = new BooleanBuilder();
+    if (condition.getMeetingType() != null) {
+      where.and(studyPost.meetingType.eq(condition.getMeetingType()));
+    }
+    if (condition.getSubject() != null) {
+      where.and(studyPost.subject.eq(condition.getSubject()));
+    }
+    if (condition.getDifficulty() != null) {
+      where.and(studyPost.difficulty.eq(condition.getDifficulty()));
+    }
+    if (condition.getStatus() != null) {
+      where.and(studyPost.status.eq(condition.getStatus()));
+    }
+    if (condition.getDayType() != 0) {
+      where.and(Expressions.booleanTemplate("function('bitand', {0}, {1}) = {1}",
+          studyPost.dayType, condition.getDayType()));
+    }
+    if (condition.isDistanceSort()) {
+      where.and(studyPost.latitude.isNotNull().and(studyPost.longitude.isNotNull()));
+    }
+    return new HashSet<>(queryFactory.select(studyPost.id).from(studyPost).where(where).fetch());
+  }
+
+  private static Set<Long> toIds(BitSet bitSet) {
+    return bitSet.stream().mapToObj(Long::valueOf).collect(Collectors.toSet());
+  }
+
+  private static StudyPostSearchCondition status(StudyPostStatus status) {
+    return StudyPostSearchCondition.builder().status(status).build();
+  }
+
+  private static StudyPostSnapshot snapshot(Long id, StudyPostStatus status) {
+    return StudyPostSnapshot.builder()
+        .id(id)
+        .meetingType(StudyMeetingType.ONLINE)
+        .subject(StudySubject.PROJECT)
+        .difficulty(StudyDifficulty.LOW)
+        .dayType(1)
+        .status(status)
+        .build();
+  }
+
+  private static <E> E pick(Random random, E[] values) {
+    return values[random.nextInt(values.length)];
+  }
+
+  private static <E> List<E> withNull(E[] values) {
+    List<E> result = new ArrayList<>(Arrays.asList(values));
+    result.add(null);
+    return result;
+  }
+}
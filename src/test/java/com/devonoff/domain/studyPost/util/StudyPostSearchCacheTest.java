@@ -0,0 +1,255 @@
+package com.devonoff.domain.studyPost.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.devonoff.domain.studyPost.dto.StudyPostDto;
+import com.devonoff.domain.studyPost.dto.StudyPostSearchCondition;
+import com.devonoff.domain.studyPost.event.StudyPostChangedEvent;
+import com.devonoff.domain.studyPost.event.StudyPostSnapshot;
+import com.devonoff.type.StudyMeetingType;
+import com.devonoff.type.StudyPostStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+class StudyPostSearchCacheTest {
+
+  private static final String VERSION_KEY = "StudyPostSearch:version";
+  private static final String ONLINE_VERSION_KEY = VERSION_KEY + ":meetingType:ONLINE";
+  private static final String HYBRID_VERSION_KEY = VERSION_KEY + ":meetingType:HYBRID";
+  private static final String RECRUITING_VERSION_KEY = VERSION_KEY + ":status:RECRUITING";
+
+  @Mock
+  private RedisTemplate<String, Object> redisTemplate;
+
+  @Mock
+  private ValueOperations<String, Object> valueOperations;
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+  private final Pageable pageable = PageRequest.of(0, 20);
+  private final AtomicInteger loads = new AtomicInteger();
+  private StudyPostSearchCache studyPostSearchCache;
+
+  @BeforeEach
+  void setUp() {
+    studyPostSearchCache = new StudyPostSearchCache(redisTemplate, objectMapper,
+        new SimpleMeterRegistry());
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+  }
+
+  @Test
+  @DisplayName("조회 - L1 에 있으면 Redis 와 DB 를 조회하지 않음")
+  void testGet_L1Hit() {
+    // given
+    StudyPostSearchCondition condition = condition(StudyMeetingType.ONLINE);
+    studyPostSearchCache.get(condition, pageable, loader(1L));
+
+    // when
+    Page<StudyPostDto> page = studyPostSearchCache.get(condition, pageable, loader(2L));
+
+    // then
+    assertThat(page.getContent()).extracting(StudyPostDto::getId).containsExactly(1L);
+    assertThat(loads.get()).isEqualTo(1);
+    verify(valueOperations).get(ONLINE_VERSION_KEY);
+  }
+
+  @Test
+  @DisplayName("조회 - 빈 제목은 제목 조건이 없는 검색, 앞뒤 공백/대소문자만 다른 제목은 같은 검색으로 캐시 적중")
+  void testGet_NormalizedTitleHitsCache() {
+    // given
+    StudyPostSearchCondition unfiltered = StudyPostSearchCondition.builder().build().normalize();
+    StudyPostSearchCondition java = titleCondition("java");
+    studyPostSearchCache.get(unfiltered, pageable, loader(1L));
+    studyPostSearchCache.get(java, pageable, loader(2L));
+
+    // when
+    Page<StudyPostDto> blank = studyPostSearchCache.get(titleCondition("   "), pageable,
+        loader(3L));
+    Page<StudyPostDto> padded = studyPostSearchCache.get(titleCondition(" Java "), pageable,
+        loader(4L));
+
+    // then
+    assertThat(blank.getContent()).extracting(StudyPostDto::getId).containsExactly(1L);
+    assertThat(padded.getContent()).extracting(StudyPostDto::getId).containsExactly(2L);
+    assertThat(loads.get()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("조회 - L2 는 검색 조건 값의 현재 버전 키의 결과만 사용")
+  void testGet_L2HitOnCurrentVersion() throws Exception {
+    // given
+    given(valueOperations.get(ONLINE_VERSION_KEY)).willReturn(3);
+    given(valueOperations.get(startsWith("StudyPostSearch:page:3:"))).willReturn(
+        objectMapper.writeValueAsString(new StudyPostSearchCache.CachedPage(
+            List.of(StudyPostDto.builder().id(7L).build()), 1L)));
+
+    // when
+    Page<StudyPostDto> page = studyPostSearchCache.get(condition(StudyMeetingType.ONLINE),
+        pageable, loader(1L));
+
+    // then
+    assertThat(page.getContent()).extracting(StudyPostDto::getId).containsExactly(7L);
+    assertThat(page.getTotalElements()).isEqualTo(1L);
+    assertThat(loads.get()).isZero();
+  }
+
+  @Test
+  @DisplayName("조회 - 캐시에 없으면 DB 에서 조회해 조회 전에 읽은 버전 키에 저장")
+  void testGet_MissStoresUnderReadVersion() {
+    // given
+    given(valueOperations.get(ONLINE_VERSION_KEY)).willReturn(5);
+    given(valueOperations.get(startsWith("StudyPostSearch:page:5:"))).willReturn(null);
+
+    // when
+    studyPostSearchCache.get(condition(StudyMeetingType.ONLINE), pageable, loader(1L));
+
+    // then
+    assertThat(loads.get()).isEqualTo(1);
+    verify(valueOperations).set(startsWith("StudyPostSearch:page:5:"), anyString(),
+        eq(Duration.ofMinutes(10)));
+  }
+
+  @Test
+  @DisplayName("조회 - Redis 를 사용할 수 없으면 DB 결과를 L1 에만 저장")
+  void testGet_RedisUnavailable() {
+    // given
+    given(valueOperations.get(ONLINE_VERSION_KEY))
+        .willThrow(new RedisConnectionFailureException("down"));
+    StudyPostSearchCondition condition = condition(StudyMeetingType.ONLINE);
+
+    // when
+    studyPostSearchCache.get(condition, pageable, loader(1L));
+    studyPostSearchCache.get(condition, pageable, loader(2L));
+
+    // then
+    assertThat(loads.get()).isEqualTo(1);
+    verify(valueOperations, never()).set(anyString(), any(), any(Duration.class));
+  }
+
+  @Test
+  @DisplayName("변경 - 조건에 맞는 L1 결과만 지우고 변경된 모집글의 조건 값과 전체 L2 버전만 올림")
+  void testOnStudyPostChanged_EvictsAffectedAndBumpsVersion() {
+    // given
+    StudyPostSearchCondition online = condition(StudyMeetingType.ONLINE);
+    StudyPostSearchCondition hybrid = condition(StudyMeetingType.HYBRID);
+    studyPostSearchCache.get(online, pageable, loader(1L));
+    studyPostSearchCache.get(hybrid, pageable, loader(2L));
+
+    // when
+    studyPostSearchCache.onStudyPostChanged(
+        new StudyPostChangedEvent(null, snapshot(StudyMeetingType.ONLINE)));
+    studyPostSearchCache.get(online, pageable, loader(3L));
+    studyPostSearchCache.get(hybrid, pageable, loader(4L));
+
+    // then
+    assertThat(loads.get()).isEqualTo(3); // online 만 다시 조회
+    verify(valueOperations).increment(VERSION_KEY);
+    verify(valueOperations).increment(ONLINE_VERSION_KEY);
+    verify(valueOperations).increment(RECRUITING_VERSION_KEY);
+    verify(valueOperations, never()).increment(HYBRID_VERSION_KEY);
+    verify(redisTemplate, never()).opsForHash();
+  }
+
+  @Test
+  @DisplayName("변경 - 진행 방식이 바뀌면 변경 전/후 값의 L2 버전을 모두 올림")
+  void testOnStudyPostChanged_BumpsBeforeAndAfterValues() {
+    // when
+    studyPostSearchCache.onStudyPostChanged(new StudyPostChangedEvent(
+        snapshot(StudyMeetingType.ONLINE), snapshot(StudyMeetingType.HYBRID)));
+
+    // then
+    verify(valueOperations).increment(VERSION_KEY);
+    verify(valueOperations).increment(ONLINE_VERSION_KEY);
+    verify(valueOperations).increment(HYBRID_VERSION_KEY);
+    verify(valueOperations).increment(RECRUITING_VERSION_KEY);
+  }
+
+  @Test
+  @DisplayName("조회 - 다른 조건 값의 모집글이 변경되어도 L2 결과는 그대로 사용")
+  void testGet_L2HitAfterUnrelatedChange() throws Exception {
+    // given
+    given(valueOperations.get(HYBRID_VERSION_KEY)).willReturn(2);
+    given(valueOperations.get(startsWith("StudyPostSearch:page:2:HYBRID|"))).willReturn(
+        objectMapper.writeValueAsString(new StudyPostSearchCache.CachedPage(
+            List.of(StudyPostDto.builder().id(7L).build()), 1L)));
+    studyPostSearchCache.onStudyPostChanged(
+        new StudyPostChangedEvent(null, snapshot(StudyMeetingType.ONLINE)));
+
+    // when
+    Page<StudyPostDto> page = studyPostSearchCache.get(condition(StudyMeetingType.HYBRID),
+        pageable, loader(1L));
+
+    // then
+    assertThat(page.getContent()).extracting(StudyPostDto::getId).containsExactly(7L);
+    assertThat(loads.get()).isZero();
+    verify(valueOperations, never()).increment(HYBRID_VERSION_KEY);
+  }
+
+  @Test
+  @DisplayName("변경 - 다른 서버에서 전달받은 이벤트는 L1 만 지우고 L2 버전은 올리지 않음")
+  void testOnStudyPostChanged_Relayed() {
+    // given
+    StudyPostSearchCondition online = condition(StudyMeetingType.ONLINE);
+    studyPostSearchCache.get(online, pageable, loader(1L));
+
+    // when
+    studyPostSearchCache.onStudyPostChanged(
+        new StudyPostChangedEvent(snapshot(StudyMeetingType.ONLINE), null, true));
+    studyPostSearchCache.get(online, pageable, loader(2L));
+
+    // then
+    assertThat(loads.get()).isEqualTo(2);
+    verify(valueOperations, never()).increment(anyString());
+  }
+
+  private Supplier<Page<StudyPostDto>> loader(Long id) {
+    return () -> {
+      loads.incrementAndGet();
+      return new PageImpl<>(List.of(StudyPostDto.builder().id(id).build()), pageable, 1L);
+    };
+  }
+
+  private static StudyPostSearchCondition condition(StudyMeetingType meetingType) {
+    return StudyPostSearchCondition.builder()
+        .meetingType(meetingType)
+        .status(StudyPostStatus.RECRUITING)
+        .build();
+  }
+
+  private static StudyPostSearchCondition titleCondition(String title) {
+    return StudyPostSearchCondition.builder().title(title).build().normalize();
+  }
+
+  private static StudyPostSnapshot snapshot(StudyMeetingType meetingType) {
+    return StudyPostSnapshot.builder()
+        .id(1L)
+        .meetingType(meetingType)
+        .status(StudyPostStatus.RECRUITING)
+        .dayType(0)
+        .build();
+  }
+}
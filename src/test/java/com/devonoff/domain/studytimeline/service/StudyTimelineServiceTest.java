@@ -1,9 +1,7 @@
 package com.devonoff.domain.studytimeline.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -16,8 +14,6 @@ import com.devonoff.domain.studyTimeline.dto.StudyTimelineDto;
 import com.devonoff.domain.studyTimeline.entity.StudyTimeline;
 import com.devonoff.domain.studyTimeline.repository.StudyTimelineRepository;
 import com.devonoff.domain.studyTimeline.service.StudyTimelineService;
-import com.devonoff.domain.totalstudytime.entity.TotalStudyTime;
-import com.devonoff.domain.totalstudytime.repository.TotalStudyTimeRepository;
 import com.devonoff.domain.user.service.AuthService;
 import com.devonoff.exception.CustomException;
 import com.devonoff.type.ErrorCode;
@@ -40,9 +36,6 @@ class StudyTimelineServiceTest {
   @Mock
   private StudyTimelineRepository studyTimelineRepository;
 
-  @Mock
-  private TotalStudyTimeRepository totalStudyTimeRepository;
-
   @Mock
   private StudyRepository studyRepository;
 
@@ -112,48 +105,4 @@ class StudyTimelineServiceTest {
     verify(studentRepository, times(1)).existsByUserIdAndStudyId(userId, studyId);
     verifyNoInteractions(studyRepository);
   }
-
-  @Test
-  @DisplayName("학습시간을 누적시간에 추가 - 성공")
-  void testSaveStudyTimeline_Success() {
-    Long studyId = 1L;
-    LocalDateTime startedAt = LocalDateTime.now().minusHours(1);
-    LocalDateTime endedAt = LocalDateTime.now();
-    TotalStudyTime totalStudyTime = TotalStudyTime.builder().studyId(studyId).totalStudyTime(3600L)
-        .build();
-    when(totalStudyTimeRepository.findById(studyId)).thenReturn(Optional.of(totalStudyTime));
-    when(studyTimelineRepository.save(any(StudyTimeline.class))).thenAnswer(
-        invocation -> invocation.getArgument(0));
-
-    StudyTimeline savedStudyTimeline = studyTimelineService.saveStudyTimeline(studyId, startedAt,
-        endedAt);
-
-    assertNotNull(savedStudyTimeline);
-    assertEquals(studyId, savedStudyTimeline.getStudyId());
-    assertEquals(startedAt, savedStudyTimeline.getStartedAt());
-    assertEquals(endedAt, savedStudyTimeline.getEndedAt());
-    assertEquals(7200L, totalStudyTime.getTotalStudyTime()); // Updated to 2 hours
-
-    verify(totalStudyTimeRepository, times(1)).findById(studyId);
-    verify(totalStudyTimeRepository, times(1)).save(totalStudyTime);
-    verify(studyTimelineRepository, times(1)).save(any(StudyTimeline.class));
-  }
-
-  @Test
-  @DisplayName("학습시간을 누적시간에 추가 - 실패 (존재하지 않는 스터디)")
-  void testSaveStudyTimeline_StudyNotFound() {
-    Long studyId = 1L;
-    LocalDateTime startedAt = LocalDateTime.now().minusHours(1);
-    LocalDateTime endedAt = LocalDateTime.now();
-
-    when(totalStudyTimeRepository.findById(studyId)).thenReturn(Optional.empty());
-
-    CustomException exception = assertThrows(CustomException.class, () -> {
-      studyTimelineService.saveStudyTimeline(studyId, startedAt, endedAt);
-    });
-
-    assertEquals(ErrorCode.STUDY_NOT_FOUND, exception.getErrorCode());
-    verify(totalStudyTimeRepository, times(1)).findById(studyId);
-    verifyNoInteractions(studyTimelineRepository);
-  }
-}
\ No newline at end of file
+}
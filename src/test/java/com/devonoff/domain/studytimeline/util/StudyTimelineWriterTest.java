@@ -0,0 +1,122 @@
+package com.devonoff.domain.studytimeline.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.devonoff.domain.studyTimeline.util.StudyTimelineWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class StudyTimelineWriterTest {
+
+  private static final LocalDateTime START = LocalDateTime.of(2024, 11, 1, 20, 0);
+
+  private JdbcTemplate jdbcTemplate;
+  private PlatformTransactionManager transactionManager;
+  // 저장된 진행 기록 수, 스터디별 증가한 총 시간(초)
+  private final AtomicInteger insertedCount = new AtomicInteger();
+  private final Map<Long, Long> incrementedSeconds = new ConcurrentHashMap<>();
+  // total_study_time 행이 없는 스터디 (UPDATE 0건)
+  private final Set<Long> missingStudyIds = ConcurrentHashMap.newKeySet();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    jdbcTemplate = mock(JdbcTemplate.class);
+    transactionManager = mock(PlatformTransactionManager.class);
+    doAnswer(invocation -> {
+      Collection<?> batch = invocation.getArgument(1);
+      insertedCount.addAndGet(batch.size());
+      return new int[0][];
+    }).when(jdbcTemplate).batchUpdate(startsWith("INSERT"), anyList(), anyInt(),
+        any(ParameterizedPreparedStatementSetter.class));
+    doAnswer(invocation -> {
+      List<Object[]> increments = invocation.getArgument(1);
+      int[] counts = new int[increments.size()];
+      for (int i = 0; i < counts.length; i++) {
+        Long studyId = (Long) increments.get(i)[1];
+        if (!missingStudyIds.contains(studyId)) {
+          incrementedSeconds.merge(studyId, (Long) increments.get(i)[0], Long::sum);
+          counts[i] = 1;
+        }
+      }
+      return counts;
+    }).when(jdbcTemplate).batchUpdate(startsWith("UPDATE"), anyList());
+  }
+
+  @DisplayName("종료 시 큐에 남은 진행 구간을 모두 저장하고 총 시간은 스터디별로 합쳐 늘린다")
+  @Test
+  void stop_FlushesAllIntervals() {
+    // Given
+    StudyTimelineWriter writer = writer(100);
+    writer.start();
+
+    // When
+    writer.enqueue(1L, START, START.plusMinutes(60));
+    writer.enqueue(1L, START, START.plusMinutes(30));
+    writer.enqueue(2L, START, START.plusMinutes(120));
+    writer.stop();
+
+    // Then
+    assertThat(insertedCount.get()).isEqualTo(3);
+    assertThat(incrementedSeconds).containsExactlyInAnyOrderEntriesOf(
+        Map.of(1L, 90 * 60L, 2L, 120 * 60L));
+    assertThat(writer.isRunning()).isFalse();
+    assertThat(writer.pendingCount()).isZero();
+  }
+
+  @DisplayName("저장 스레드가 동작하지 않으면 호출한 스레드에서 바로 저장한다")
+  @Test
+  void enqueue_NotRunning_InsertsImmediately() {
+    // Given
+    StudyTimelineWriter writer = writer(100);
+
+    // When
+    writer.enqueue(7L, START, START.plusSeconds(45));
+
+    // Then
+    assertThat(insertedCount.get()).isEqualTo(1);
+    assertThat(incrementedSeconds).containsExactly(Map.entry(7L, 45L));
+  }
+
+  @DisplayName("총 공부 시간 행이 없는 스터디는 재시도하지 않고 진행 기록만 저장한 뒤 따로 센다")
+  @Test
+  void enqueue_MissingTotalStudyTime_CountedWithoutRetry() {
+    // Given
+    StudyTimelineWriter writer = writer(100);
+    missingStudyIds.add(9L);
+
+    // When
+    writer.enqueue(9L, START, START.plusMinutes(10));
+    writer.enqueue(7L, START, START.plusMinutes(5));
+
+    // Then
+    assertThat(insertedCount.get()).isEqualTo(2);
+    assertThat(incrementedSeconds).containsExactly(Map.entry(7L, 5 * 60L));
+    assertThat(meterRegistry.counter("study.timeline.write_behind.missing_total").count())
+        .isEqualTo(1.0);
+  }
+
+  private StudyTimelineWriter writer(int queueCapacity) {
+    return new StudyTimelineWriter(jdbcTemplate, transactionManager, meterRegistry,
+        queueCapacity, 10, 20);
+  }
+}
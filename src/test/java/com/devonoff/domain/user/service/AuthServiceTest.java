@@ -12,6 +12,7 @@ import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.devonoff.common.event.UserWithdrawnEvent;
 import com.devonoff.domain.redis.repository.AuthRedisRepository;
 import com.devonoff.domain.student.entity.Student;
 import com.devonoff.domain.student.repository.StudentRepository;
@@ -47,6 +48,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -94,6 +96,9 @@ class AuthServiceTest {
   @Mock
   private UserDetails userDetails;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @BeforeEach
   void setUp() {
     MockitoAnnotations.openMocks(this);
@@ -899,6 +904,7 @@ class AuthServiceTest {
     verify(authRedisRepository, times(1))
         .deleteData(eq("test@email.com-refreshToken"));
     verify(userRepository, times(1)).save(eq(user));
+    verify(eventPublisher, times(1)).publishEvent(any(UserWithdrawnEvent.class));
 
     assertThat(user.getNickname()).isEqualTo("탈퇴한 회원");
     assertThat(user.getEmail()).isEqualTo("deleted@email.com");
@@ -953,6 +959,7 @@ class AuthServiceTest {
     verify(authRedisRepository, times(1))
         .deleteData(eq("test@email.com-refreshToken"));
     verify(userRepository, times(1)).save(eq(user));
+    verify(eventPublisher, times(1)).publishEvent(any(UserWithdrawnEvent.class));
 
     assertThat(user.getNickname()).isEqualTo("탈퇴한 회원");
     assertThat(user.getEmail()).isEqualTo("deleted@email.com");
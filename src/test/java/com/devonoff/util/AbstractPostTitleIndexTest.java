@@ -0,0 +1,81 @@
+package com.devonoff.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AbstractPostTitleIndexTest {
+
+  @Test
+  @DisplayName("구성 전에는 empty (LIKE 조회로 대체)")
+  void testFindCandidateIds_NotLoaded() {
+    // given
+    TestTitleIndex index = new TestTitleIndex(Map.of(1L, "스터디"));
+
+    // when & then
+    assertThat(index.findCandidateIds("스터디")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("후보가 1000개를 넘으면 empty (LIKE 조회로 대체)")
+  void testFindCandidateIds_TooManyCandidates() {
+    // given
+    Map<Long, String> titles = new TreeMap<>();
+    for (long id = 1; id <= 1_001; id++) {
+      titles.put(id, "스터디 " + id);
+    }
+    titles.put(2_000L, "자바");
+    TestTitleIndex index = new TestTitleIndex(titles);
+    index.load();
+
+    // when & then
+    assertThat(index.findCandidateIds("스터디")).isEmpty();
+    assertThat(index.findCandidateIds("스터디 1001")).contains(List.of(1_001L));
+    assertThat(index.findCandidateIds("자바")).contains(List.of(2_000L));
+  }
+
+  @Test
+  @DisplayName("구성 중에 먼저 반영된 변경은 조회 결과로 덮어쓰지 않음")
+  void testLoad_TouchedWhileLoading() {
+    // given
+    TestTitleIndex index = new TestTitleIndex(Map.of(1L, "이전 제목", 2L, "삭제될 제목"));
+    index.beforeLoad = () -> {
+      index.apply(1L, "새 제목");
+      index.apply(2L, null);
+    };
+
+    // when
+    index.load();
+
+    // then
+    assertThat(index.findCandidateIds("새 제목")).contains(List.of(1L));
+    assertThat(index.findCandidateIds("이전")).contains(List.of());
+    assertThat(index.findCandidateIds("삭제")).contains(List.of());
+  }
+
+  private static class TestTitleIndex extends AbstractPostTitleIndex {
+
+    private final TreeMap<Long, String> titles;
+    private Runnable beforeLoad = () -> {
+    };
+
+    private TestTitleIndex(Map<Long, String> titles) {
+      this.titles = new TreeMap<>(titles);
+    }
+
+    @Override
+    protected Map<Long, String> loadTitles(long afterId, int limit) {
+      beforeLoad.run();
+      Map<Long, String> chunk = new LinkedHashMap<>();
+      titles.tailMap(afterId, false).entrySet().stream()
+          .limit(limit)
+          .forEach(entry -> chunk.put(entry.getKey(), entry.getValue()));
+      return chunk;
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package com.devonoff.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 요일 비트 플래그 변환 JMH 벤치마크 (./gradlew jmh -PjmhIncludes=DayTypeUtilsBenchmark)
+ * <p>
+ * legacy* 는 기존 Stream/Map 기반 구현이며, 할당량은 -prof gc 옵션으로 함께 비교할 수 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DayTypeUtilsBenchmark {
+
+  private static final Map<String, Integer> LEGACY_DAY_MAP = Map.of(
+      "월", 1, "화", 2, "수", 4, "목", 8, "금", 16, "토", 32, "일", 64);
+  private static final List<String> LEGACY_WEEK = List.of("월", "화", "수", "목", "금", "토", "일");
+
+  private final List<String> requestDays = List.of("월", "수", "금");
+
+  @Benchmark
+  public void decodeDays(Blackhole blackhole) {
+    for (int dayType = 0; dayType <= DayTypeUtils.ALL_DAYS; dayType++) {
+      blackhole.consume(DayTypeUtils.decodeDays(dayType));
+    }
+  }
+
+  @Benchmark
+  public void legacyDecodeDays(Blackhole blackhole) {
+    for (int dayType = 0; dayType <= DayTypeUtils.ALL_DAYS; dayType++) {
+      blackhole.consume(legacyDecodeDays(dayType));
+    }
+  }
+
+  @Benchmark
+  public int encodeDaysFromRequest() {
+    return DayTypeUtils.encodeDaysFromRequest(requestDays);
+  }
+
+  @Benchmark
+  public int legacyEncodeDaysFromRequest() {
+    return legacyEncodeDaysFromRequest(requestDays);
+  }
+
+  private static List<String> legacyDecodeDays(int dayType) {
+    return LEGACY_WEEK.stream()
+        .filter(day -> (dayType & LEGACY_DAY_MAP.get(day)) != 0)
+        .collect(Collectors.toList());
+  }
+
+  private static int legacyEncodeDaysFromRequest(List<String> dayType) {
+    return dayType.stream()
+        .filter(LEGACY_DAY_MAP::containsKey)
+        .mapToInt(LEGACY_DAY_MAP::get)
+        .reduce(0, (a, b) -> a | b);
+  }
+}
@@ -0,0 +1,143 @@
+package com.devonoff.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DayTypeUtilsTest {
+
+  @Test
+  @DisplayName("요일 목록을 비트 플래그로 변환 (알 수 없는 요일과 null 은 무시)")
+  void testEncodeDaysFromRequest() {
+    // given
+    List<String> days = Arrays.asList("월", "수", "일", "월", "없음", null);
+
+    // when
+    int encoded = DayTypeUtils.encodeDaysFromRequest(days);
+
+    // then
+    assertThat(encoded).isEqualTo(1 | 4 | 64);
+    assertThat(DayTypeUtils.encodeDaysFromRequest(List.of())).isZero();
+    assertThat(DayTypeUtils.encodeDaysFromRequest(null)).isZero();
+  }
+
+  @Test
+  @DisplayName("비트 플래그를 월요일부터 순서대로 요일 목록으로 변환 (범위 밖 비트는 무시)")
+  void testDecodeDays() {
+    assertThat(DayTypeUtils.decodeDays(1 | 4 | 64)).containsExactly("월", "수", "일");
+    assertThat(DayTypeUtils.decodeDays(DayTypeUtils.ALL_DAYS))
+        .containsExactly("월", "화", "수", "목", "금", "토", "일");
+    assertThat(DayTypeUtils.decodeDays(0)).isEmpty();
+    assertThat(DayTypeUtils.decodeDays(128 | 2)).containsExactly("화");
+  }
+
+  @Test
+  @DisplayName("모든 조합에서 변환 후 다시 변환하면 같은 값")
+  void testEncodeDecode_RoundTrip() {
+    for (int dayType = 0; dayType <= DayTypeUtils.ALL_DAYS; dayType++) {
+      assertThat(DayTypeUtils.encodeDaysFromRequest(DayTypeUtils.decodeDays(dayType)))
+          .isEqualTo(dayType);
+    }
+  }
+
+  @Test
+  @DisplayName("반환한 요일 목록은 공유되므로 수정할 수 없고, 복사하면 수정 가능")
+  void testDecodeDays_SharedUnmodifiableList() {
+    // given
+    List<String> days = DayTypeUtils.decodeDays(1 | 2);
+
+    // when, then
+    assertThat(DayTypeUtils.decodeDays(1 | 2)).isSameAs(days);
+    assertThatThrownBy(() -> days.add("수")).isInstanceOf(UnsupportedOperationException.class);
+
+    List<String> copy = new ArrayList<>(days);
+    copy.add("수");
+    assertThat(copy).containsExactly("월", "화", "수");
+    assertThat(DayTypeUtils.decodeDays(1 | 2)).containsExactly("월", "화");
+  }
+
+  @Test
+  @DisplayName("요일 이름과 DayOfWeek 의 비트 값이 같음")
+  void testDayBit() {
+    assertThat(DayTypeUtils.dayBit(DayOfWeek.MONDAY)).isEqualTo(DayTypeUtils.dayBit("월"))
+        .isEqualTo(1);
+    assertThat(DayTypeUtils.dayBit(DayOfWeek.SUNDAY)).isEqualTo(DayTypeUtils.dayBit("일"))
+        .isEqualTo(64);
+    assertThat(DayTypeUtils.dayBit("없음")).isZero();
+    assertThat(DayTypeUtils.dayBit((String) null)).isZero();
+  }
+
+  @Test
+  @DisplayName("요일 수, 포함 여부, 겹침 여부 계산 (범위 밖 비트는 무시)")
+  void testCountContainsOverlaps() {
+    assertThat(DayTypeUtils.countDays(1 | 4 | 64)).isEqualTo(3);
+    assertThat(DayTypeUtils.countDays(DayTypeUtils.ALL_DAYS)).isEqualTo(7);
+    assertThat(DayTypeUtils.countDays(0)).isZero();
+    assertThat(DayTypeUtils.countDays(128 | 256 | 1)).isEqualTo(1);
+
+    assertThat(DayTypeUtils.contains(1 | 64, DayOfWeek.SUNDAY)).isTrue();
+    assertThat(DayTypeUtils.contains(1 | 64, DayOfWeek.TUESDAY)).isFalse();
+
+    assertThat(DayTypeUtils.overlaps(1 | 4, 4 | 16)).isTrue();
+    assertThat(DayTypeUtils.overlaps(1 | 4, 2 | 16)).isFalse();
+    assertThat(DayTypeUtils.overlaps(128 | 1, 128 | 2)).isFalse();
+    assertThat(DayTypeUtils.overlaps(0, DayTypeUtils.ALL_DAYS)).isFalse();
+  }
+
+  @Test
+  @DisplayName("다음 진행일 - 기준일이 진행 요일이면 기준일, 아니면 가장 가까운 이후 날짜")
+  void testNextOccurrence() {
+    // given
+    LocalDate wednesday = LocalDate.of(2026, 10, 14);
+
+    // when, then
+    assertThat(DayTypeUtils.nextOccurrence(4, wednesday)).isEqualTo(wednesday);
+    assertThat(DayTypeUtils.nextOccurrence(1 | 16, wednesday))
+        .isEqualTo(LocalDate.of(2026, 10, 16)); // 금
+    assertThat(DayTypeUtils.nextOccurrence(DayTypeUtils.ALL_DAYS, wednesday))
+        .isEqualTo(wednesday);
+  }
+
+  @Test
+  @DisplayName("다음 진행일 - 이번 주에 남은 진행 요일이 없으면 다음 주로 넘어감")
+  void testNextOccurrence_WrapsAroundWeek() {
+    // given
+    LocalDate saturday = LocalDate.of(2026, 10, 17);
+    LocalDate sunday = LocalDate.of(2026, 10, 18);
+
+    // when, then
+    assertThat(DayTypeUtils.nextOccurrence(1, saturday))
+        .isEqualTo(LocalDate.of(2026, 10, 19)); // 월
+    assertThat(DayTypeUtils.nextOccurrence(2 | 4, sunday))
+        .isEqualTo(LocalDate.of(2026, 10, 20)); // 화
+    assertThat(DayTypeUtils.nextOccurrence(4, LocalDate.of(2026, 10, 15)))
+        .isEqualTo(LocalDate.of(2026, 10, 21)); // 목 -> 다음 주 수
+    // 모든 기준 요일, 모든 요일 조합에서 하루씩 확인한 결과와 같음
+    for (int dayType = 1; dayType <= DayTypeUtils.ALL_DAYS; dayType++) {
+      for (int offset = 0; offset < 7; offset++) {
+        LocalDate from = saturday.plusDays(offset);
+        LocalDate expected = from;
+        while (!DayTypeUtils.contains(dayType, expected.getDayOfWeek())) {
+          expected = expected.plusDays(1);
+        }
+        assertThat(DayTypeUtils.nextOccurrence(dayType, from)).isEqualTo(expected);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("다음 진행일 - 선택된 요일이 없으면 null (범위 밖 비트만 있어도 null)")
+  void testNextOccurrence_NoDays() {
+    LocalDate from = LocalDate.of(2026, 10, 14);
+
+    assertThat(DayTypeUtils.nextOccurrence(0, from)).isNull();
+    assertThat(DayTypeUtils.nextOccurrence(128, from)).isNull();
+  }
+}
@@ -0,0 +1,98 @@
+package com.devonoff.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.devonoff.util.GeoGridIndex.Neighbor;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 스터디 모집글 거리 정렬 벤치마크 (./gradlew benchmark)
+ * <p>
+ * 기존 SQL 경로는 매칭되는 모든 행에 대해 acos 거리식을 계산한 뒤 정렬(filesort)하므로, 같은 거리식을 전체 데이터에
+ * 계산하고 정렬하는 방식으로 재현해 격자 인덱스의 k-최근접 조회와 비교합니다.
+ */
+@Tag("benchmark")
+class GeoGridIndexBenchmarkTest {
+
+  private static final int[] DATA_SIZES = {10_000, 100_000, 1_000_000};
+  private static final int PAGE_SIZE = 12;
+  private static final int WARMUP_QUERIES = 20;
+  private static final int MEASURED_QUERIES = 50;
+
+  @Test
+  void benchmarkNearestStudyPosts() {
+    System.out.printf("%-10s %-16s %-16s %-10s%n", "posts", "sql-path(ms)", "grid-index(ms)", "speedup");
+
+    for (int size : DATA_SIZES) {
+      Random random = new Random(size);
+      double[][] coordinates = randomCoordinates(random, size);
+
+      GeoGridIndex index = new GeoGridIndex(0.01);
+      for (int i = 0; i < size; i++) {
+        index.put(i + 1, coordinates[i][0], coordinates[i][1]);
+      }
+
+      double[][] queries = randomCoordinates(random, WARMUP_QUERIES + MEASURED_QUERIES);
+
+      for (int i = 0; i < WARMUP_QUERIES; i++) {
+        List<Long> expected = linearScanNearest(coordinates, queries[i], PAGE_SIZE);
+        List<Long> actual = index.nearest(queries[i][0], queries[i][1], PAGE_SIZE).stream()
+            .map(Neighbor::getId)
+            .toList();
+        assertEquals(expected, actual);
+      }
+
+      long linearNanos = 0;
+      long indexNanos = 0;
+      for (int i = WARMUP_QUERIES; i < queries.length; i++) {
+        long start = System.nanoTime();
+        linearScanNearest(coordinates, queries[i], PAGE_SIZE);
+        linearNanos += System.nanoTime() - start;
+
+        start = System.nanoTime();
+        index.nearest(queries[i][0], queries[i][1], PAGE_SIZE);
+        indexNanos += System.nanoTime() - start;
+      }
+
+      double linearMillis = linearNanos / 1_000_000.0 / MEASURED_QUERIES;
+      double indexMillis = indexNanos / 1_000_000.0 / MEASURED_QUERIES;
+      System.out.printf("%-10d %-16.3f %-16.3f x%-10.1f%n",
+          size, linearMillis, indexMillis, linearMillis / indexMillis);
+    }
+  }
+
+  /**
+   * 전국에 흩어진 모집글 중 70% 가 수도권에 몰려 있는 분포
+   */
+  private static double[][] randomCoordinates(Random random, int size) {
+    double[][] coordinates = new double[size][2];
+    for (int i = 0; i < size; i++) {
+      if (random.nextDouble() < 0.7) {
+        coordinates[i][0] = 37.3 + random.nextDouble() * 0.5;
+        coordinates[i][1] = 126.7 + random.nextDouble() * 0.6;
+      } else {
+        coordinates[i][0] = 33.2 + random.nextDouble() * 5.3;
+        coordinates[i][1] = 125.1 + random.nextDouble() * 4.4;
+      }
+    }
+    return coordinates;
+  }
+
+  private static List<Long> linearScanNearest(double[][] coordinates, double[] query, int k) {
+    Neighbor[] neighbors = new Neighbor[coordinates.length];
+    for (int i = 0; i < coordinates.length; i++) {
+      neighbors[i] = new Neighbor(i + 1, GeoGridIndex.distanceKm(
+          query[0], query[1], coordinates[i][0], coordinates[i][1]));
+    }
+    Arrays.sort(neighbors, Comparator.comparingDouble(Neighbor::getDistanceKm)
+        .thenComparingLong(Neighbor::getId));
+    return Arrays.stream(neighbors, 0, Math.min(k, neighbors.length))
+        .map(Neighbor::getId)
+        .toList();
+  }
+}
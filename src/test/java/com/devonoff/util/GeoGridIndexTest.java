@@ -0,0 +1,206 @@
+package com.devonoff.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.devonoff.util.GeoGridIndex.Neighbor;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GeoGridIndexTest {
+
+  private static final double CELL_SIZE = 0.01;
+
+  @Test
+  @DisplayName("k-최근접 조회는 가까운 순서이고, 거리가 같으면 ID 오름차순")
+  void testNearest_OrdersByDistanceThenId() {
+    // given
+    GeoGridIndex index = new GeoGridIndex(CELL_SIZE);
+    index.put(5, 37.51, 127.0);
+    index.put(3, 37.51, 127.0); // 5 와 같은 위치
+    index.put(9, 37.5, 127.03);
+    index.put(1, 37.5, 127.001);
+
+    // when
+    List<Long> ids = ids(index.nearest(37.5, 127.0, 3));
+
+    // then
+    assertThat(ids).containsExactly(1L, 3L, 5L);
+  }
+
+  @Test
+  @DisplayName("커서로 이어 조회한 페이지를 합치면 한 번에 조회한 결과와 같음")
+  void testNearest_CursorPagesMatchSingleQuery() {
+    // given
+    GeoGridIndex index = new GeoGridIndex(CELL_SIZE);
+    double[][] coordinates = randomCoordinates(new Random(7), 300, 37.3, 37.7, 126.8, 127.2);
+    for (int i = 0; i < coordinates.length; i++) {
+      index.put(i, coordinates[i][0], coordinates[i][1]);
+    }
+
+    // when
+    List<Neighbor> paged = new ArrayList<>();
+    Neighbor after = null;
+    for (int page = 0; page < 5; page++) {
+      List<Neighbor> neighbors = index.nearest(37.5, 127.0, 12, after);
+      paged.addAll(neighbors);
+      after = neighbors.get(neighbors.size() - 1);
+    }
+
+    // then
+    assertThat(ids(paged)).containsExactlyElementsOf(ids(index.nearest(37.5, 127.0, 60)));
+  }
+
+  @Test
+  @DisplayName("반경 조회는 반경과 거리가 같은 좌표를 포함하고 바깥 좌표는 제외")
+  void testWithinRadius_IncludesEdge() {
+    // given
+    GeoGridIndex index = new GeoGridIndex(CELL_SIZE);
+    index.put(1, 37.5, 127.0);
+    index.put(2, 37.52, 127.03);
+    index.put(3, 37.6, 127.1);
+    double edge = GeoGridIndex.distanceKm(37.5, 127.0, 37.52, 127.03);
+
+    // when, then
+    assertThat(ids(index.withinRadius(37.5, 127.0, edge))).containsExactly(1L, 2L);
+    assertThat(ids(index.withinRadius(37.5, 127.0, edge - 1e-6))).containsExactly(1L);
+    assertThat(index.withinRadius(37.5, 127.0, -1)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("날짜 변경선 건너편의 가까운 좌표를 찾음 (격자에서는 먼 셀)")
+  void testNearestAndWithinRadius_AcrossAntimeridian() {
+    // given
+    GeoGridIndex index = indexWithFiller();
+    index.put(1, 0, -179.995); // 약 1.1km
+    index.put(2, 0, 179.95); // 약 5km
+
+    // when, then
+    assertThat(ids(index.nearest(0, 179.995, 1))).containsExactly(1L);
+    assertThat(ids(index.nearest(0, 179.995, 2))).containsExactly(1L, 2L);
+    assertThat(ids(index.withinRadius(0, 179.995, 2))).containsExactly(1L);
+  }
+
+  @Test
+  @DisplayName("극점 건너편의 가까운 좌표를 찾음 (경도가 반대쪽인 셀)")
+  void testNearestAndWithinRadius_AcrossPole() {
+    // given
+    GeoGridIndex index = indexWithFiller();
+    index.put(1, 89.99, 180 - CELL_SIZE); // 극점 건너편, 약 2.2km
+    index.put(2, 89.99, 90); // 약 1.6km
+    index.put(3, 89.9, 0); // 약 10km
+
+    // when, then
+    assertThat(ids(index.nearest(89.99, 0, 3))).containsExactly(2L, 1L, 3L);
+    assertThat(ids(index.withinRadius(89.99, 0, 3))).containsExactly(2L, 1L);
+  }
+
+  @Test
+  @DisplayName("극점과 날짜 변경선 근처 무작위 좌표에서 전체 탐색 결과와 같음")
+  void testNearestAndWithinRadius_MatchLinearScanNearEdges() {
+    Random random = new Random(42);
+    double[][][] regions = {
+        randomCoordinates(random, 1000, 89, 90, -180, 180),
+        randomCoordinates(random, 1000, -90, -89, -180, 180),
+        randomCoordinates(random, 1000, -3, 3, 177, 180),
+    };
+    double[][] queries = {{89.7, 10}, {-89.95, -120}, {0.5, 179.99}};
+
+    for (int region = 0; region < regions.length; region++) {
+      // given
+      double[][] coordinates = regions[region];
+      GeoGridIndex index = new GeoGridIndex(CELL_SIZE);
+      for (int i = 0; i < coordinates.length; i++) {
+        index.put(i, coordinates[i][0], coordinates[i][1]);
+      }
+      // 날짜 변경선 반대편(-180 ~ -177)에도 같은 수의 좌표
+      if (region == 2) {
+        double[][] west = randomCoordinates(random, 1000, -3, 3, -180, -177);
+        for (int i = 0; i < west.length; i++) {
+          index.put(coordinates.length + i, west[i][0], west[i][1]);
+        }
+        coordinates = concat(coordinates, west);
+      }
+      double latitude = queries[region][0];
+      double longitude = queries[region][1];
+      List<Long> expected = linearScan(coordinates, latitude, longitude);
+      double radius = GeoGridIndex.distanceKm(latitude, longitude,
+          coordinates[expected.get(30).intValue()][0],
+          coordinates[expected.get(30).intValue()][1]);
+
+      // when, then
+      assertThat(ids(index.nearest(latitude, longitude, 20)))
+          .containsExactlyElementsOf(expected.subList(0, 20));
+      assertThat(ids(index.withinRadius(latitude, longitude, radius)))
+          .containsExactlyElementsOf(expected.subList(0, 31));
+    }
+  }
+
+  @Test
+  @DisplayName("같은 ID 로 다시 등록하면 위치가 바뀌고, 삭제한 좌표는 조회되지 않음")
+  void testPutAndRemove() {
+    // given
+    GeoGridIndex index = new GeoGridIndex(CELL_SIZE);
+    index.put(1, 37.5, 127.0);
+    index.put(2, 37.6, 127.1);
+
+    // when
+    index.put(2, 37.5001, 127.0001);
+    index.remove(1);
+
+    // then
+    assertThat(index.size()).isEqualTo(1);
+    assertThat(index.contains(1)).isFalse();
+    assertThat(ids(index.nearest(37.5, 127.0, 5))).containsExactly(2L);
+    assertThat(index.withinRadius(37.6, 127.1, 1)).isEmpty();
+
+    index.clear();
+    assertThat(index.size()).isZero();
+    assertThat(index.nearest(37.5, 127.0, 5)).isEmpty();
+  }
+
+  // 먼 곳에 좌표가 있는 셀을 채워, 빈 셀이 많은 링에서 전체 셀을 훑는 경로로 바로 넘어가지 않도록 함
+  private static GeoGridIndex indexWithFiller() {
+    GeoGridIndex index = new GeoGridIndex(CELL_SIZE);
+    for (int i = 0; i < 500; i++) {
+      index.put(1_000 + i, 10 + (i / 25) * 0.1, 100 + (i % 25) * 0.1);
+    }
+    return index;
+  }
+
+  private static List<Long> ids(List<Neighbor> neighbors) {
+    return neighbors.stream().map(Neighbor::getId).toList();
+  }
+
+  private static List<Long> linearScan(double[][] coordinates, double latitude,
+      double longitude) {
+    return IntStream.range(0, coordinates.length)
+        .boxed()
+        .sorted(Comparator.<Integer>comparingDouble(i -> GeoGridIndex.distanceKm(
+                latitude, longitude, coordinates[i][0], coordinates[i][1]))
+            .thenComparingInt(i -> i))
+        .map(Integer::longValue)
+        .toList();
+  }
+
+  private static double[][] randomCoordinates(Random random, int size, double minLatitude,
+      double maxLatitude, double minLongitude, double maxLongitude) {
+    double[][] coordinates = new double[size][2];
+    for (int i = 0; i < size; i++) {
+      coordinates[i][0] = minLatitude + (maxLatitude - minLatitude) * random.nextDouble();
+      coordinates[i][1] = minLongitude + (maxLongitude - minLongitude) * random.nextDouble();
+    }
+    return coordinates;
+  }
+
+  private static double[][] concat(double[][] first, double[][] second) {
+    double[][] result = new double[first.length + second.length][];
+    System.arraycopy(first, 0, result, 0, first.length);
+    System.arraycopy(second, 0, result, first.length, second.length);
+    return result;
+  }
+}
@@ -0,0 +1,62 @@
+package com.devonoff.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LruCacheTest {
+
+  @Test
+  @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거")
+  void testPut_EvictsLeastRecentlyUsed() {
+    // given
+    LruCache<String, Integer> cache = new LruCache<>(2, 60_000L);
+    cache.put("a", 1);
+    cache.put("b", 2);
+    cache.get("a"); // a 를 최근 사용으로 갱신
+
+    // when
+    cache.put("c", 3);
+
+    // then
+    assertThat(cache.get("a")).isEqualTo(1);
+    assertThat(cache.get("b")).isNull();
+    assertThat(cache.get("c")).isEqualTo(3);
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("만료된 항목은 조회되지 않고 제거")
+  void testGet_Expired() {
+    // given
+    LruCache<String, Integer> cache = new LruCache<>(2, -1L);
+    cache.put("a", 1);
+
+    // when
+    Integer value = cache.get("a");
+
+    // then
+    assertThat(value).isNull();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("조건에 맞는 키만 제거하고 제거한 수 반환")
+  void testRemoveIf() {
+    // given
+    LruCache<Integer, String> cache = new LruCache<>(10, 60_000L);
+    for (int i = 0; i < 5; i++) {
+      cache.put(i, "v" + i);
+    }
+
+    // when
+    int removed = cache.removeIf(key -> key % 2 == 0);
+
+    // then
+    assertThat(removed).isEqualTo(3);
+    assertThat(cache.get(1)).isEqualTo("v1");
+    assertThat(cache.get(2)).isNull();
+    assertThat(cache.size()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,118 @@
+package com.devonoff.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NgramTitleIndexTest {
+
+  private NgramTitleIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new NgramTitleIndex();
+    index.put(1L, "스터디 모집");
+    index.put(2L, "자바 스터디");
+    index.put(3L, "닭강정 맛집");
+    index.put(4L, "Spring Boot 질문");
+    index.put(5L, "자바스크립트");
+  }
+
+  @Test
+  @DisplayName("부분 일치 - 제목 중간의 검색어도 찾고 최신 ID 순으로 반환")
+  void testSearch_Contains() {
+    // when
+    Optional<List<Long>> result = index.search("스터디", 10);
+
+    // then
+    assertThat(result).contains(List.of(2L, 1L));
+  }
+
+  @Test
+  @DisplayName("정규화 - 대소문자, 앞뒤 공백, 조합형 한글(NFD)과 무관하게 일치")
+  void testSearch_Normalized() {
+    // given
+    String decomposed = Normalizer.normalize("모집", Normalizer.Form.NFD);
+
+    // when & then
+    assertThat(index.search("  SPRING boot ", 10)).contains(List.of(4L));
+    assertThat(index.search(decomposed, 10)).contains(List.of(1L));
+    assertThat(index.search("디 모", 10)).contains(List.of(1L));
+  }
+
+  @Test
+  @DisplayName("일치하는 제목이 없으면 빈 목록")
+  void testSearch_NoMatch() {
+    // when & then
+    assertThat(index.search("파이썬", 10)).contains(List.of());
+    assertThat(index.search("모집 스터디", 10)).contains(List.of());
+  }
+
+  @Test
+  @DisplayName("입력 중인 마지막 글자 - 부분 일치가 없을 때만 완성될 글자의 접두어로 일치")
+  void testSearch_PartialLastCharacter() {
+    // when & then
+    assertThat(index.search("슽", 10)).contains(List.of(2L, 1L)); // 스터 입력 중
+    assertThat(index.search("달", 10)).contains(List.of(3L)); // 닭 입력 중
+    assertThat(index.search("자바ㅅ", 10)).contains(List.of(5L)); // 바로 다음 글자 초성
+    assertThat(index.search("ㅈ", 10)).contains(List.of(5L, 4L, 3L, 2L, 1L));
+  }
+
+  @Test
+  @DisplayName("입력 중인 마지막 글자 - 부분 일치가 있으면 LIKE 조회와 같은 결과만 반환")
+  void testSearch_ContainedMatchesTakePrecedence() {
+    // when
+    // "자바" 는 "자박", "자반" 등의 입력 중 글자이기도 하지만 부분 일치 결과가 있음
+    Optional<List<Long>> result = index.search("자바", 10);
+
+    // then
+    assertThat(result).contains(List.of(5L, 2L));
+  }
+
+  @Test
+  @DisplayName("결과가 최대 개수를 넘으면 empty (LIKE 조회로 대체)")
+  void testSearch_TooManyMatches() {
+    // when & then
+    assertThat(index.search("스", 2)).isEmpty();
+    assertThat(index.search("스", 3)).contains(List.of(5L, 2L, 1L));
+  }
+
+  @Test
+  @DisplayName("입력 중인 글자로 찾은 결과가 최대 개수를 넘으면 LIKE 조회와 같은 빈 목록")
+  void testSearch_TooManyPartialMatches() {
+    // when
+    Optional<List<Long>> result = index.search("ㅈ", 2);
+
+    // then
+    assertThat(result).contains(List.of());
+  }
+
+  @Test
+  @DisplayName("수정과 삭제 - 이전 제목의 n-gram 은 더 이상 일치하지 않음")
+  void testPutAndRemove() {
+    // when
+    index.put(1L, "코틀린 모집");
+    index.remove(2L);
+
+    // then
+    assertThat(index.search("스터디", 10)).contains(List.of());
+    assertThat(index.search("코틀린", 10)).contains(List.of(1L));
+    assertThat(index.size()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("빈 검색어나 빈 제목은 인덱스를 사용하지 않음")
+  void testBlank() {
+    // when
+    index.put(6L, "   ");
+
+    // then
+    assertThat(index.search(" ", 10)).isEmpty();
+    assertThat(index.size()).isEqualTo(5);
+  }
+}
@@ -0,0 +1,65 @@
+package com.devonoff.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+  @Test
+  @DisplayName("휠 범위 안과 상위 휠의 작업 모두 정확한 시간에 실행")
+  void testAdvance_FiresAtExpiration() {
+    // given
+    TimingWheel<Long> wheel = new TimingWheel<>(60, 1_000L);
+    long[] expirations = {1_001L, 1_059L, 1_060L, 1_061L, 4_600L, 90_000L};
+    for (long expiration : expirations) {
+      wheel.add(expiration, expiration);
+    }
+
+    // when
+    List<String> fired = new ArrayList<>();
+    for (long now = 1_001L; now <= 90_000L; now++) {
+      long current = now;
+      wheel.advance(now, expiration -> fired.add(expiration + "@" + current));
+    }
+
+    // then
+    assertThat(fired).containsExactly("1001@1001", "1059@1059", "1060@1060", "1061@1061",
+        "4600@4600", "90000@90000");
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("이미 실행할 시간이면 넣지 않음")
+  void testAdd_AlreadyExpired() {
+    // given
+    TimingWheel<String> wheel = new TimingWheel<>(60, 1_000L);
+
+    // when & then
+    assertThat(wheel.add(999L, "past")).isFalse();
+    assertThat(wheel.add(1_000L, "now")).isFalse();
+    assertThat(wheel.add(1_001L, "next")).isTrue();
+    assertThat(wheel.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("여러 칸을 한 번에 진행해도 지난 작업 모두 실행")
+  void testAdvance_SkippedTicks() {
+    // given
+    TimingWheel<String> wheel = new TimingWheel<>(60, 1_000L);
+    wheel.add(1_010L, "a");
+    wheel.add(1_200L, "b");
+    wheel.add(1_500L, "c");
+
+    // when
+    List<String> fired = new ArrayList<>();
+    wheel.advance(1_300L, fired::add);
+
+    // then
+    assertThat(fired).containsExactly("a", "b");
+    assertThat(wheel.size()).isEqualTo(1);
+  }
+}